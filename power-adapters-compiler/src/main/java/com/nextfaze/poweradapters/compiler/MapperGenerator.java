@@ -0,0 +1,186 @@
+package com.nextfaze.poweradapters.compiler;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.BINDER;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.GENERATE_MAPPER;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.HEADER;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.annotation;
+
+/**
+ * Generates a mapper that selects between a fixed set of binders with a sequence of {@code instanceof} checks against
+ * their item types, rather than the class lookups performed by {@code MapperBuilder} at runtime.
+ */
+final class MapperGenerator {
+
+    private static final String BINDER_TYPE = BINDER + "<?, ?>";
+
+    private final PowerAdaptersProcessor mProcessor;
+    private final Types mTypes;
+    private final TypeElement mType;
+
+    MapperGenerator(PowerAdaptersProcessor processor, TypeElement type) {
+        mProcessor = processor;
+        mTypes = processor.env().getTypeUtils();
+        mType = type;
+    }
+
+    void generate() {
+        AnnotationMirror mirror = annotation(mType, GENERATE_MAPPER);
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> values =
+                (List<? extends AnnotationValue>) mProcessor.annotationValue(mirror, "value");
+        if (values.isEmpty()) {
+            mProcessor.error(mType, "@GenerateMapper requires at least one binder");
+            return;
+        }
+        List<TypeMirror> binders = new ArrayList<>();
+        List<TypeMirror> itemTypes = new ArrayList<>();
+        for (AnnotationValue value : values) {
+            if (!(value.getValue() instanceof TypeMirror)) {
+                // The class couldn't be resolved, which the compiler reports itself.
+                return;
+            }
+            TypeMirror binder = (TypeMirror) value.getValue();
+            TypeMirror itemType = itemType(binder);
+            if (itemType == null) {
+                return;
+            }
+            for (int i = 0; i < itemTypes.size(); i++) {
+                if (mTypes.isSubtype(itemType, itemTypes.get(i))) {
+                    mProcessor.error(mType, binder + " can never be used, because its item type " + itemType +
+                            " is already handled by " + binders.get(i));
+                    return;
+                }
+            }
+            binders.add(binder);
+            itemTypes.add(itemType);
+        }
+        String packageName = mProcessor.packageName(mType);
+        String name = mProcessor.generatedName(mType, "Mapper");
+        mProcessor.write(mType, packageName, name, source(packageName, name, binders, itemTypes));
+    }
+
+    /** Returns the erased item type of the specified binder, or {@code null} after reporting an error. */
+    private TypeMirror itemType(TypeMirror binder) {
+        TypeElement element = (TypeElement) mTypes.asElement(binder);
+        if (!element.getTypeParameters().isEmpty()) {
+            mProcessor.error(mType, binder + " must not be generic");
+            return null;
+        }
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            mProcessor.error(mType, binder + " must not be private");
+            return null;
+        }
+        TypeMirror itemType = binderTypeArgument(binder);
+        if (itemType == null || itemType.getKind() != TypeKind.DECLARED) {
+            mProcessor.error(mType, binder + " must specify the type of item it binds");
+            return null;
+        }
+        return mTypes.erasure(itemType);
+    }
+
+    private TypeMirror binderTypeArgument(TypeMirror type) {
+        if (mTypes.isSameType(mTypes.erasure(type), mTypes.erasure(mProcessor.type(BINDER)))) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            return arguments.isEmpty() ? null : arguments.get(0);
+        }
+        for (TypeMirror supertype : mTypes.directSupertypes(type)) {
+            TypeMirror argument = binderTypeArgument(supertype);
+            if (argument != null) {
+                return argument;
+            }
+        }
+        return null;
+    }
+
+    private String source(String packageName,
+                          String name,
+                          List<TypeMirror> binders,
+                          List<TypeMirror> itemTypes) {
+        List<String> fields = fieldNames(binders);
+        StringBuilder source = new StringBuilder(HEADER);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("public final class ").append(name)
+                .append(" extends com.nextfaze.poweradapters.binding.AbstractMapper {\n\n");
+        for (int i = 0; i < binders.size(); i++) {
+            source.append("    private final ").append(binders.get(i)).append(" ").append(field(fields, i))
+                    .append(";\n");
+        }
+        source.append("    private final java.util.List<").append(BINDER_TYPE).append("> mAllBinders;\n\n");
+
+        // Constructor
+        source.append("    public ").append(name).append("(");
+        for (int i = 0; i < binders.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(binders.get(i)).append(" ").append(fields.get(i));
+        }
+        source.append(") {\n");
+        for (int i = 0; i < binders.size(); i++) {
+            String param = fields.get(i);
+            source.append("        if (").append(param).append(" == null) {\n")
+                    .append("            throw new NullPointerException(\"").append(param).append("\");\n")
+                    .append("        }\n")
+                    .append("        ").append(field(fields, i)).append(" = ").append(param).append(";\n");
+        }
+        source.append("        mAllBinders = java.util.Collections.unmodifiableList(java.util.Arrays.<")
+                .append(BINDER_TYPE).append(">asList(");
+        for (int i = 0; i < binders.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append(field(fields, i));
+        }
+        source.append("));\n")
+                .append("    }\n\n");
+
+        // getBinder
+        source.append("    @Override\n")
+                .append("    public ").append(BINDER_TYPE).append(" getBinder(Object item, int position) {\n");
+        for (int i = 0; i < binders.size(); i++) {
+            source.append("        if (item instanceof ").append(itemTypes.get(i)).append(") {\n")
+                    .append("            return ").append(field(fields, i)).append(";\n")
+                    .append("        }\n");
+        }
+        source.append("        return null;\n")
+                .append("    }\n\n");
+
+        // getAllBinders
+        source.append("    @Override\n")
+                .append("    public java.util.Collection<? extends ").append(BINDER_TYPE).append("> getAllBinders() {\n")
+                .append("        return mAllBinders;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    /** Returns unique parameter names derived from the simple name of each binder. */
+    private List<String> fieldNames(List<TypeMirror> binders) {
+        Set<String> used = new HashSet<>();
+        List<String> names = new ArrayList<>();
+        for (TypeMirror binder : binders) {
+            String simpleName = mTypes.asElement(binder).getSimpleName().toString();
+            String base = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+            String name = base;
+            for (int i = 2; !used.add(name); i++) {
+                name = base + i;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    private static String field(List<String> names, int index) {
+        String name = names.get(index);
+        return "m" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.nextfaze.poweradapters.compiler;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates view holders for classes with {@code @BindView} fields, and mappers for types annotated with {@code
+ * GenerateMapper}. The annotations are referenced by name, so this processor doesn't depend on the Android library.
+ */
+public final class PowerAdaptersProcessor extends AbstractProcessor {
+
+    static final String BIND_VIEW = "com.nextfaze.poweradapters.binding.BindView";
+    static final String GENERATE_MAPPER = "com.nextfaze.poweradapters.binding.GenerateMapper";
+    static final String VIEW_HOLDER = "com.nextfaze.poweradapters.binding.ViewHolder";
+    static final String BINDER = "com.nextfaze.poweradapters.binding.Binder";
+    static final String VIEW = "android.view.View";
+
+    static final String HEADER = "// Generated by power-adapters-compiler. Do not modify!\n";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(BIND_VIEW, GENERATE_MAPPER));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement bindView = processingEnv.getElementUtils().getTypeElement(BIND_VIEW);
+        if (bindView != null) {
+            for (Map.Entry<TypeElement, List<VariableElement>> entry : bindViewFields(roundEnv, bindView).entrySet()) {
+                new ViewHolderGenerator(this, entry.getKey()).generate();
+            }
+        }
+        TypeElement generateMapper = processingEnv.getElementUtils().getTypeElement(GENERATE_MAPPER);
+        if (generateMapper != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(generateMapper)) {
+                new MapperGenerator(this, (TypeElement) element).generate();
+            }
+        }
+        return true;
+    }
+
+    /** Returns the fields annotated with {@code @BindView}, grouped by declaring class in source order. */
+    private static Map<TypeElement, List<VariableElement>> bindViewFields(RoundEnvironment roundEnv,
+                                                                         TypeElement bindView) {
+        Map<TypeElement, List<VariableElement>> fields = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(bindView)) {
+            if (element.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            TypeElement declaringClass = (TypeElement) element.getEnclosingElement();
+            List<VariableElement> classFields = fields.get(declaringClass);
+            if (classFields == null) {
+                classFields = new ArrayList<>();
+                fields.put(declaringClass, classFields);
+            }
+            classFields.add((VariableElement) element);
+        }
+        return fields;
+    }
+
+    /** Returns the mirror of the specified annotation on the element, or {@code null} if it isn't present. */
+    static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /** Returns the value of the specified annotation member, including defaults. */
+    Object annotationValue(AnnotationMirror mirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException("No member " + name + " in " + mirror);
+    }
+
+    TypeMirror type(String qualifiedName) {
+        return processingEnv.getElementUtils().getTypeElement(qualifiedName).asType();
+    }
+
+    /**
+     * Returns the name of a class generated for the specified type, in the same package. Nested types are named after
+     * each enclosing type, such as {@code Outer_Inner_Suffix}.
+     */
+    String generatedName(TypeElement type, String suffix) {
+        StringBuilder name = new StringBuilder(suffix);
+        Element element = type;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            name.insert(0, element.getSimpleName() + "_");
+            element = element.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    String packageName(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+    }
+
+    void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /** Writes the source of a generated class, reporting an error against the originating element on failure. */
+    void write(Element originatingElement, String packageName, String simpleName, String source) {
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, originatingElement);
+            Writer writer = file.openWriter();
+            try {
+                writer.write(source);
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            error(originatingElement, "Unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    ProcessingEnvironment env() {
+        return processingEnv;
+    }
+}
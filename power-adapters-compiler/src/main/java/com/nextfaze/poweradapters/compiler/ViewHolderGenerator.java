@@ -0,0 +1,166 @@
+package com.nextfaze.poweradapters.compiler;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.BIND_VIEW;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.HEADER;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.VIEW;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.VIEW_HOLDER;
+import static com.nextfaze.poweradapters.compiler.PowerAdaptersProcessor.annotation;
+
+/**
+ * Generates a subclass of a view holder that assigns its {@code @BindView} fields, including those declared by
+ * superclasses, in its constructor.
+ */
+final class ViewHolderGenerator {
+
+    private static final String VIEW_LOOKUP = "com.nextfaze.poweradapters.internal.ViewLookup";
+
+    private final PowerAdaptersProcessor mProcessor;
+    private final Types mTypes;
+    private final TypeElement mType;
+
+    ViewHolderGenerator(PowerAdaptersProcessor processor, TypeElement type) {
+        mProcessor = processor;
+        mTypes = processor.env().getTypeUtils();
+        mType = type;
+    }
+
+    void generate() {
+        if (!validateType()) {
+            return;
+        }
+        List<VariableElement> fields = new ArrayList<>();
+        boolean valid = true;
+        for (TypeElement type = mType; type != null; type = superclass(type)) {
+            // Superclass fields come first, so views are assigned in declaration order.
+            List<VariableElement> typeFields = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (annotation(field, BIND_VIEW) != null) {
+                    valid &= validateField(field);
+                    typeFields.add(field);
+                }
+            }
+            fields.addAll(0, typeFields);
+        }
+        if (valid) {
+            String packageName = mProcessor.packageName(mType);
+            String name = mProcessor.generatedName(mType, "ViewHolder");
+            mProcessor.write(mType, packageName, name, source(packageName, name, fields));
+        }
+    }
+
+    private boolean validateType() {
+        Element enclosing = mType.getEnclosingElement();
+        if (mType.getKind() != ElementKind.CLASS) {
+            mProcessor.error(mType, "@BindView fields may only be declared in classes");
+            return false;
+        }
+        if (mType.getModifiers().contains(Modifier.PRIVATE) || mType.getModifiers().contains(Modifier.FINAL)) {
+            mProcessor.error(mType, "Classes with @BindView fields must not be private or final");
+            return false;
+        }
+        if (mType.getNestingKind() == NestingKind.LOCAL || mType.getNestingKind() == NestingKind.ANONYMOUS ||
+                (mType.getNestingKind() == NestingKind.MEMBER && !mType.getModifiers().contains(Modifier.STATIC) &&
+                        enclosing.getKind() != ElementKind.INTERFACE)) {
+            mProcessor.error(mType, "Classes with @BindView fields must be top level or static nested classes");
+            return false;
+        }
+        if (!mType.getTypeParameters().isEmpty()) {
+            mProcessor.error(mType, "Classes with @BindView fields must not be generic");
+            return false;
+        }
+        if (!mTypes.isSubtype(mType.asType(), mProcessor.type(VIEW_HOLDER))) {
+            mProcessor.error(mType, "Classes with @BindView fields must extend " + VIEW_HOLDER);
+            return false;
+        }
+        if (!hasViewConstructor()) {
+            mProcessor.error(mType, "Classes with @BindView fields must have a non-private constructor taking a View");
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasViewConstructor() {
+        TypeMirror view = mProcessor.type(VIEW);
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(mType.getEnclosedElements())) {
+            if (!constructor.getModifiers().contains(Modifier.PRIVATE) &&
+                    constructor.getParameters().size() == 1 &&
+                    mTypes.isSameType(constructor.getParameters().get(0).asType(), view)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean validateField(VariableElement field) {
+        if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.STATIC) ||
+                field.getModifiers().contains(Modifier.FINAL)) {
+            mProcessor.error(field, "@BindView fields must not be private, static, or final");
+            return false;
+        }
+        if (!field.getModifiers().contains(Modifier.PUBLIC) && !field.getModifiers().contains(Modifier.PROTECTED) &&
+                !mProcessor.packageName(field).equals(mProcessor.packageName(mType))) {
+            mProcessor.error(field, "@BindView field is not accessible from " + mType.getQualifiedName());
+            return false;
+        }
+        if (!mTypes.isSubtype(field.asType(), mProcessor.type(VIEW))) {
+            mProcessor.error(field, "@BindView fields must be a View or subclass of View");
+            return false;
+        }
+        // An id that couldn't be resolved is reported by the compiler itself.
+        return mProcessor.annotationValue(annotation(field, BIND_VIEW), "value") instanceof Integer;
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private String source(String packageName, String name, List<VariableElement> fields) {
+        TypeMirror view = mProcessor.type(VIEW);
+        StringBuilder ids = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            VariableElement field = fields.get(i);
+            int id = (Integer) mProcessor.annotationValue(annotation(field, BIND_VIEW), "value");
+            ids.append(i == 0 ? "" : ", ").append("0x").append(Integer.toHexString(id));
+            assignments.append("        this.").append(field.getSimpleName()).append(" = ");
+            if (!mTypes.isSameType(field.asType(), view)) {
+                assignments.append("(").append(mTypes.erasure(field.asType())).append(") ");
+            }
+            assignments.append("views[").append(i).append("];\n");
+        }
+        StringBuilder source = new StringBuilder(HEADER);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("public final class ").append(name).append(" extends ").append(mType.getQualifiedName())
+                .append(" {\n\n")
+                .append("    private static final ").append(VIEW_LOOKUP).append(" LOOKUP = new ").append(VIEW_LOOKUP)
+                .append("(").append(ids).append(");\n\n")
+                .append("    public ").append(name).append("(").append(VIEW).append(" view) {\n")
+                .append("        super(view);\n")
+                .append("        ").append(VIEW).append("[] views = LOOKUP.find(view);\n")
+                .append(assignments)
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+}
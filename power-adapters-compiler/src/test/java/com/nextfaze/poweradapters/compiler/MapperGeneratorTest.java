@@ -0,0 +1,168 @@
+package com.nextfaze.poweradapters.compiler;
+
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.compiler.TestCompiler.compile;
+import static com.nextfaze.poweradapters.compiler.TestCompiler.lines;
+import static com.nextfaze.poweradapters.compiler.TestCompiler.source;
+
+public final class MapperGeneratorTest {
+
+    private static final JavaFileObject BINDERS = source("test.Binders",
+            "package test;",
+            "import android.view.View;",
+            "import com.nextfaze.poweradapters.binding.Binder;",
+            "class Binders {",
+            "    static abstract class BaseBinder<T> implements Binder<T, View> {",
+            "    }",
+            "    static class StringBinder extends BaseBinder<String> {",
+            "    }",
+            "    static class IntegerBinder implements Binder<Integer, View> {",
+            "    }",
+            "    static class CharSequenceBinder implements Binder<CharSequence, View> {",
+            "    }",
+            "    static class GenericBinder<T> implements Binder<T, View> {",
+            "    }",
+            "    static class ArrayBinder implements Binder<String[], View> {",
+            "    }",
+            "}");
+
+    @Test
+    public void generatesMapperCheckingItemTypesInOrder() throws Exception {
+        TestCompiler.Result result = mapper("Binders.StringBinder.class, Binders.IntegerBinder.class");
+        assertThat(result.errors).isEmpty();
+        assertThat(result.success).isTrue();
+        assertThat(result.generated("test.Adapter_Mapper")).isEqualTo(lines(
+                "// Generated by power-adapters-compiler. Do not modify!",
+                "package test;",
+                "",
+                "public final class Adapter_Mapper extends com.nextfaze.poweradapters.binding.AbstractMapper {",
+                "",
+                "    private final test.Binders.StringBinder mStringBinder;",
+                "    private final test.Binders.IntegerBinder mIntegerBinder;",
+                "    private final java.util.List<com.nextfaze.poweradapters.binding.Binder<?, ?>> mAllBinders;",
+                "",
+                "    public Adapter_Mapper(test.Binders.StringBinder stringBinder, " +
+                        "test.Binders.IntegerBinder integerBinder) {",
+                "        if (stringBinder == null) {",
+                "            throw new NullPointerException(\"stringBinder\");",
+                "        }",
+                "        mStringBinder = stringBinder;",
+                "        if (integerBinder == null) {",
+                "            throw new NullPointerException(\"integerBinder\");",
+                "        }",
+                "        mIntegerBinder = integerBinder;",
+                "        mAllBinders = java.util.Collections.unmodifiableList(java.util.Arrays." +
+                        "<com.nextfaze.poweradapters.binding.Binder<?, ?>>asList(mStringBinder, mIntegerBinder));",
+                "    }",
+                "",
+                "    @Override",
+                "    public com.nextfaze.poweradapters.binding.Binder<?, ?> getBinder(Object item, int position) {",
+                "        if (item instanceof java.lang.String) {",
+                "            return mStringBinder;",
+                "        }",
+                "        if (item instanceof java.lang.Integer) {",
+                "            return mIntegerBinder;",
+                "        }",
+                "        return null;",
+                "    }",
+                "",
+                "    @Override",
+                "    public java.util.Collection<? extends com.nextfaze.poweradapters.binding.Binder<?, ?>> " +
+                        "getAllBinders() {",
+                "        return mAllBinders;",
+                "    }",
+                "}"));
+    }
+
+    @Test
+    public void binderNamesMadeUnique() throws Exception {
+        TestCompiler.Result result = compile(BINDERS,
+                source("test.Other",
+                        "package test;",
+                        "import android.view.View;",
+                        "import com.nextfaze.poweradapters.binding.Binder;",
+                        "class Other {",
+                        "    static class StringBinder implements Binder<Integer, View> {",
+                        "    }",
+                        "}"),
+                adapter("Binders.StringBinder.class, Other.StringBinder.class"));
+        assertThat(result.success).isTrue();
+        assertThat(result.generated("test.Adapter_Mapper"))
+                .contains("public Adapter_Mapper(test.Binders.StringBinder stringBinder, " +
+                        "test.Other.StringBinder stringBinder2) {");
+    }
+
+    @Test
+    public void noBindersIsError() throws Exception {
+        assertError(mapper(""), "@GenerateMapper requires at least one binder");
+    }
+
+    @Test
+    public void genericBinderIsError() throws Exception {
+        // Only parameterized binders satisfy the annotation's declared type, so the compiler rejects the raw class.
+        TestCompiler.Result result = mapper("Binders.GenericBinder.class");
+        assertThat(result.success).isFalse();
+        assertThat(result.generated("test.Adapter_Mapper")).isNull();
+    }
+
+    @Test
+    public void privateBinderIsError() throws Exception {
+        TestCompiler.Result result = compile(BINDERS, source("test.Outer",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.Binder;",
+                "import com.nextfaze.poweradapters.binding.GenerateMapper;",
+                "class Outer {",
+                "    private static class PrivateBinder implements Binder<Long, View> {",
+                "    }",
+                "    @GenerateMapper(PrivateBinder.class)",
+                "    static class Adapter {",
+                "    }",
+                "}"));
+        assertThat(result.errors).containsExactly("test.Outer.PrivateBinder must not be private");
+        assertThat(result.generated("test.Outer_Adapter_Mapper")).isNull();
+    }
+
+    @Test
+    public void unresolvedBinderReportedByCompilerOnly() throws Exception {
+        TestCompiler.Result result = mapper("Binders.MissingBinder.class");
+        assertThat(result.errors).hasSize(1);
+        assertThat(result.generated("test.Adapter_Mapper")).isNull();
+    }
+
+    @Test
+    public void nonDeclaredItemTypeIsError() throws Exception {
+        assertError(mapper("Binders.ArrayBinder.class"),
+                "test.Binders.ArrayBinder must specify the type of item it binds");
+    }
+
+    @Test
+    public void binderShadowedByEarlierBinderIsError() throws Exception {
+        assertError(mapper("Binders.CharSequenceBinder.class, Binders.StringBinder.class"),
+                "test.Binders.StringBinder can never be used, because its item type java.lang.String is already " +
+                        "handled by test.Binders.CharSequenceBinder");
+    }
+
+    private static void assertError(TestCompiler.Result result, String error) throws Exception {
+        assertThat(result.errors).containsExactly(error);
+        assertThat(result.generated("test.Adapter_Mapper")).isNull();
+    }
+
+    /** Compiles a type annotated with {@code @GenerateMapper} specifying the binder classes. */
+    private static TestCompiler.Result mapper(String binders) throws Exception {
+        return compile(BINDERS, adapter(binders));
+    }
+
+    private static JavaFileObject adapter(String binders) {
+        return source("test.Adapter",
+                "package test;",
+                "import com.nextfaze.poweradapters.binding.GenerateMapper;",
+                "@GenerateMapper({" + binders + "})",
+                "class Adapter {",
+                "}");
+    }
+}
@@ -0,0 +1,146 @@
+package com.nextfaze.poweradapters.compiler;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compiles sources with {@link PowerAdaptersProcessor}. The processor references the Android and library types by
+ * name, so minimal stand-ins for them are compiled alongside the test sources.
+ */
+final class TestCompiler {
+
+    private static final List<JavaFileObject> LIBRARY = Arrays.asList(
+            source("android.view.View",
+                    "package android.view;",
+                    "public class View {",
+                    "}"),
+            source("android.widget.TextView",
+                    "package android.widget;",
+                    "public class TextView extends android.view.View {",
+                    "}"),
+            source("com.nextfaze.poweradapters.binding.BindView",
+                    "package com.nextfaze.poweradapters.binding;",
+                    "@java.lang.annotation.Target(java.lang.annotation.ElementType.FIELD)",
+                    "public @interface BindView {",
+                    "    int value();",
+                    "}"),
+            source("com.nextfaze.poweradapters.binding.GenerateMapper",
+                    "package com.nextfaze.poweradapters.binding;",
+                    "@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE)",
+                    "public @interface GenerateMapper {",
+                    "    Class<? extends Binder<?, ?>>[] value();",
+                    "}"),
+            source("com.nextfaze.poweradapters.binding.Binder",
+                    "package com.nextfaze.poweradapters.binding;",
+                    "public interface Binder<T, V extends android.view.View> {",
+                    "}"),
+            source("com.nextfaze.poweradapters.binding.AbstractMapper",
+                    "package com.nextfaze.poweradapters.binding;",
+                    "public abstract class AbstractMapper {",
+                    "    public abstract Binder<?, ?> getBinder(Object item, int position);",
+                    "    public abstract java.util.Collection<? extends Binder<?, ?>> getAllBinders();",
+                    "}"),
+            source("com.nextfaze.poweradapters.binding.ViewHolder",
+                    "package com.nextfaze.poweradapters.binding;",
+                    "public class ViewHolder {",
+                    "    public ViewHolder(android.view.View view) {",
+                    "    }",
+                    "}"),
+            source("com.nextfaze.poweradapters.internal.ViewLookup",
+                    "package com.nextfaze.poweradapters.internal;",
+                    "public final class ViewLookup {",
+                    "    public ViewLookup(int... ids) {",
+                    "    }",
+                    "    public android.view.View[] find(android.view.View root) {",
+                    "        return null;",
+                    "    }",
+                    "}")
+    );
+
+    private TestCompiler() {
+        throw new AssertionError();
+    }
+
+    /** Returns an in-memory source file for the specified top level type. */
+    static JavaFileObject source(String qualifiedName, String... lines) {
+        final String content = lines(lines);
+        URI uri = URI.create("string:///" + qualifiedName.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    static Result compile(JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        File classes = Files.createTempDirectory("classes").toFile();
+        File generated = Files.createTempDirectory("generated").toFile();
+        List<JavaFileObject> units = new ArrayList<>(LIBRARY);
+        Collections.addAll(units, sources);
+        List<String> options = Arrays.asList("-d", classes.getPath(), "-s", generated.getPath());
+        try {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+            task.setProcessors(Collections.singletonList(new PowerAdaptersProcessor()));
+            boolean success = task.call();
+            List<String> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+            return new Result(success, errors, generated);
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    /** Joins the lines of a source file. */
+    static String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append('\n');
+        }
+        return builder.toString();
+    }
+
+    static final class Result {
+
+        final boolean success;
+        final List<String> errors;
+
+        private final File mGeneratedDir;
+
+        Result(boolean success, List<String> errors, File generatedDir) {
+            this.success = success;
+            this.errors = errors;
+            mGeneratedDir = generatedDir;
+        }
+
+        /** Returns the generated source of the specified type, or {@code null} if it wasn't generated. */
+        String generated(String qualifiedName) throws IOException {
+            File file = new File(mGeneratedDir, qualifiedName.replace('.', File.separatorChar) + ".java");
+            if (!file.exists()) {
+                return null;
+            }
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        }
+    }
+}
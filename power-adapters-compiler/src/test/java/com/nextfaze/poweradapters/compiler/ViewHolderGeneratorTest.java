@@ -0,0 +1,250 @@
+package com.nextfaze.poweradapters.compiler;
+
+import org.junit.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.compiler.TestCompiler.compile;
+import static com.nextfaze.poweradapters.compiler.TestCompiler.lines;
+import static com.nextfaze.poweradapters.compiler.TestCompiler.source;
+
+public final class ViewHolderGeneratorTest {
+
+    @Test
+    public void generatesViewHolderAssigningFields() throws Exception {
+        TestCompiler.Result result = compile(source("test.TweetViewHolder",
+                "package test;",
+                "import android.view.View;",
+                "import android.widget.TextView;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                "class TweetViewHolder extends ViewHolder {",
+                "    @BindView(0x7f010001) TextView textView;",
+                "    @BindView(0x7f010002) View container;",
+                "    TweetViewHolder(View view) {",
+                "        super(view);",
+                "    }",
+                "}"));
+        assertThat(result.errors).isEmpty();
+        assertThat(result.success).isTrue();
+        assertThat(result.generated("test.TweetViewHolder_ViewHolder")).isEqualTo(lines(
+                "// Generated by power-adapters-compiler. Do not modify!",
+                "package test;",
+                "",
+                "public final class TweetViewHolder_ViewHolder extends test.TweetViewHolder {",
+                "",
+                "    private static final com.nextfaze.poweradapters.internal.ViewLookup LOOKUP = " +
+                        "new com.nextfaze.poweradapters.internal.ViewLookup(0x7f010001, 0x7f010002);",
+                "",
+                "    public TweetViewHolder_ViewHolder(android.view.View view) {",
+                "        super(view);",
+                "        android.view.View[] views = LOOKUP.find(view);",
+                "        this.textView = (android.widget.TextView) views[0];",
+                "        this.container = views[1];",
+                "    }",
+                "}"));
+    }
+
+    @Test
+    public void superclassFieldsAssignedFirst() throws Exception {
+        TestCompiler.Result result = compile(
+                source("test.BaseViewHolder",
+                        "package test;",
+                        "import android.view.View;",
+                        "import com.nextfaze.poweradapters.binding.BindView;",
+                        "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                        "class BaseViewHolder extends ViewHolder {",
+                        "    @BindView(1) View base;",
+                        "    BaseViewHolder(View view) {",
+                        "        super(view);",
+                        "    }",
+                        "}"),
+                source("test.SubViewHolder",
+                        "package test;",
+                        "import android.view.View;",
+                        "import com.nextfaze.poweradapters.binding.BindView;",
+                        "class SubViewHolder extends BaseViewHolder {",
+                        "    @BindView(2) View sub;",
+                        "    SubViewHolder(View view) {",
+                        "        super(view);",
+                        "    }",
+                        "}"));
+        assertThat(result.success).isTrue();
+        String generated = result.generated("test.SubViewHolder_ViewHolder");
+        assertThat(generated).contains("new com.nextfaze.poweradapters.internal.ViewLookup(0x1, 0x2);");
+        assertThat(generated).contains(lines(
+                "        this.base = views[0];",
+                "        this.sub = views[1];"));
+    }
+
+    @Test
+    public void nestedClassNamedAfterEnclosingClasses() throws Exception {
+        TestCompiler.Result result = compile(source("test.Outer",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                "class Outer {",
+                "    static class Inner extends ViewHolder {",
+                "        @BindView(1) View view;",
+                "        Inner(View view) {",
+                "            super(view);",
+                "        }",
+                "    }",
+                "}"));
+        assertThat(result.success).isTrue();
+        assertThat(result.generated("test.Outer_Inner_ViewHolder"))
+                .contains("public final class Outer_Inner_ViewHolder extends test.Outer.Inner {");
+    }
+
+    @Test
+    public void privateFieldIsError() throws Exception {
+        assertError(field("private View view;"), "@BindView fields must not be private, static, or final");
+    }
+
+    @Test
+    public void staticFieldIsError() throws Exception {
+        assertError(field("static View view;"), "@BindView fields must not be private, static, or final");
+    }
+
+    @Test
+    public void nonViewFieldIsError() throws Exception {
+        assertError(field("String view;"), "@BindView fields must be a View or subclass of View");
+    }
+
+    @Test
+    public void unresolvedIdReportedByCompilerOnly() throws Exception {
+        TestCompiler.Result result = compile(source("test.TestViewHolder",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                "class TestViewHolder extends ViewHolder {",
+                "    @BindView(R.id.missing) View view;",
+                "    TestViewHolder(View view) {",
+                "        super(view);",
+                "    }",
+                "}"));
+        assertThat(result.errors).hasSize(1);
+        assertThat(result.generated("test.TestViewHolder_ViewHolder")).isNull();
+    }
+
+    @Test
+    public void inaccessibleSuperclassFieldIsError() throws Exception {
+        TestCompiler.Result result = compile(
+                source("base.BaseViewHolder",
+                        "package base;",
+                        "import android.view.View;",
+                        "import com.nextfaze.poweradapters.binding.BindView;",
+                        "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                        "public class BaseViewHolder extends ViewHolder {",
+                        "    @BindView(1) View base;",
+                        "    public BaseViewHolder(View view) {",
+                        "        super(view);",
+                        "    }",
+                        "}"),
+                source("test.SubViewHolder",
+                        "package test;",
+                        "import android.view.View;",
+                        "import com.nextfaze.poweradapters.binding.BindView;",
+                        "class SubViewHolder extends base.BaseViewHolder {",
+                        "    @BindView(2) View sub;",
+                        "    SubViewHolder(View view) {",
+                        "        super(view);",
+                        "    }",
+                        "}"));
+        assertThat(result.success).isFalse();
+        assertThat(result.errors).containsExactly("@BindView field is not accessible from test.SubViewHolder");
+    }
+
+    @Test
+    public void finalClassIsError() throws Exception {
+        assertError(viewHolder("final class TestViewHolder extends ViewHolder {", "TestViewHolder(View view) {"),
+                "Classes with @BindView fields must not be private or final");
+    }
+
+    @Test
+    public void innerClassIsError() throws Exception {
+        TestCompiler.Result result = compile(source("test.Outer",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                "class Outer {",
+                "    class Inner extends ViewHolder {",
+                "        @BindView(1) View view;",
+                "        Inner(View view) {",
+                "            super(view);",
+                "        }",
+                "    }",
+                "}"));
+        assertThat(result.errors)
+                .containsExactly("Classes with @BindView fields must be top level or static nested classes");
+    }
+
+    @Test
+    public void genericClassIsError() throws Exception {
+        assertError(viewHolder("class TestViewHolder<T> extends ViewHolder {", "TestViewHolder(View view) {"),
+                "Classes with @BindView fields must not be generic");
+    }
+
+    @Test
+    public void classNotExtendingViewHolderIsError() throws Exception {
+        assertError(viewHolder("class TestViewHolder {", "TestViewHolder(View view) {"),
+                "Classes with @BindView fields must extend com.nextfaze.poweradapters.binding.ViewHolder");
+    }
+
+    @Test
+    public void missingViewConstructorIsError() throws Exception {
+        assertError(viewHolder("class TestViewHolder extends ViewHolder {", "private TestViewHolder(View view) {"),
+                "Classes with @BindView fields must have a non-private constructor taking a View");
+    }
+
+    @Test
+    public void enumIsError() throws Exception {
+        TestCompiler.Result result = compile(source("test.TestEnum",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "enum TestEnum {",
+                "    VALUE;",
+                "    @BindView(1) View view;",
+                "}"));
+        assertThat(result.errors).containsExactly("@BindView fields may only be declared in classes");
+    }
+
+    private static void assertError(TestCompiler.Result result, String error) throws Exception {
+        assertThat(result.errors).containsExactly(error);
+        assertThat(result.generated("test.TestViewHolder_ViewHolder")).isNull();
+    }
+
+    /** Compiles a valid view holder with a single {@code @BindView} field declared as specified. */
+    private static TestCompiler.Result field(String declaration) throws Exception {
+        return compile(source("test.TestViewHolder",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                "class TestViewHolder extends ViewHolder {",
+                "    @BindView(1) " + declaration,
+                "    TestViewHolder(View view) {",
+                "        super(view);",
+                "    }",
+                "}"));
+    }
+
+    /** Compiles a view holder with a single valid field, declared and constructed as specified. */
+    private static TestCompiler.Result viewHolder(String declaration, String constructor) throws Exception {
+        boolean viewHolder = declaration.contains("extends ViewHolder");
+        return compile(source("test.TestViewHolder",
+                "package test;",
+                "import android.view.View;",
+                "import com.nextfaze.poweradapters.binding.BindView;",
+                "import com.nextfaze.poweradapters.binding.ViewHolder;",
+                declaration,
+                "    @BindView(1) View view;",
+                "    " + constructor,
+                viewHolder ? "        super(view);" : "",
+                "    }",
+                "}"));
+    }
+}
@@ -0,0 +1,243 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * An immutable sequence of data change operations, in the order they occurred. Operations are packed into a single
+ * array rather than allocated individually, and adjacent operations of the same kind are merged where possible.
+ * @see RxData#changeBatches(com.nextfaze.poweradapters.data.Data)
+ */
+public final class ChangeBatch {
+
+    /** The entire data set changed. Position and count are {@code 0}. */
+    public static final int TYPE_DATA_SET_CHANGED = 0;
+    public static final int TYPE_CHANGE = 1;
+    public static final int TYPE_INSERT = 2;
+    public static final int TYPE_REMOVE = 3;
+    public static final int TYPE_MOVE = 4;
+
+    /** The number of ints each operation occupies: type, position, count, to position. */
+    private static final int STRIDE = 4;
+
+    @NonNull
+    private final int[] mOperations;
+
+    private final int mSize;
+
+    private ChangeBatch(@NonNull int[] operations, int size) {
+        mOperations = operations;
+        mSize = size;
+    }
+
+    /** Returns the number of operations in this batch. */
+    public int size() {
+        return mSize;
+    }
+
+    /** Returns the type of the operation at the specified index, one of the {@code TYPE_} constants. */
+    public int getType(int index) {
+        return mOperations[offset(index)];
+    }
+
+    /** Returns the position of the operation at the specified index. For moves, this is the from position. */
+    public int getPosition(int index) {
+        return mOperations[offset(index) + 1];
+    }
+
+    public int getCount(int index) {
+        return mOperations[offset(index) + 2];
+    }
+
+    /** Returns the to position of the move operation at the specified index, or {@code 0} for other operations. */
+    public int getToPosition(int index) {
+        return mOperations[offset(index) + 3];
+    }
+
+    /** Replays the operations of this batch to the specified observer, in order. */
+    public void dispatch(@NonNull DataObserver observer) {
+        for (int i = 0; i < mSize; i++) {
+            int count = getCount(i);
+            switch (getType(i)) {
+                case TYPE_DATA_SET_CHANGED:
+                    observer.onChanged();
+                    break;
+                case TYPE_CHANGE:
+                    observer.onItemRangeChanged(getPosition(i), count);
+                    break;
+                case TYPE_INSERT:
+                    observer.onItemRangeInserted(getPosition(i), count);
+                    break;
+                case TYPE_REMOVE:
+                    observer.onItemRangeRemoved(getPosition(i), count);
+                    break;
+                case TYPE_MOVE:
+                    observer.onItemRangeMoved(getPosition(i), getToPosition(i), count);
+                    break;
+            }
+        }
+    }
+
+    private int offset(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + mSize);
+        }
+        return index * STRIDE;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ChangeBatch changeBatch = (ChangeBatch) o;
+        if (mSize != changeBatch.mSize) {
+            return false;
+        }
+        for (int i = 0; i < mSize * STRIDE; i++) {
+            if (mOperations[i] != changeBatch.mOperations[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mSize;
+        for (int i = 0; i < mSize * STRIDE; i++) {
+            result = 31 * result + mOperations[i];
+        }
+        return result;
+    }
+
+    /**
+     * Accumulates operations, merging each with the last where possible. Once {@code maxSize} operations have
+     * accumulated, they're replaced by a single data set change.
+     */
+    static final class Builder {
+
+        private final int mMaxSize;
+
+        @NonNull
+        private int[] mOperations = new int[STRIDE * 4];
+
+        private int mSize;
+
+        Builder(int maxSize) {
+            mMaxSize = maxSize;
+        }
+
+        boolean isEmpty() {
+            return mSize == 0;
+        }
+
+        void changed() {
+            mSize = 0;
+            append(TYPE_DATA_SET_CHANGED, 0, 0, 0);
+        }
+
+        void change(int positionStart, int itemCount) {
+            if (itemCount <= 0 || lastType() == TYPE_DATA_SET_CHANGED) {
+                return;
+            }
+            int last = (mSize - 1) * STRIDE;
+            if (lastType() == TYPE_INSERT &&
+                    positionStart >= mOperations[last + 1] &&
+                    positionStart + itemCount <= mOperations[last + 1] + mOperations[last + 2]) {
+                // Already covered by an insertion.
+                return;
+            }
+            if (lastType() == TYPE_CHANGE &&
+                    positionStart <= mOperations[last + 1] + mOperations[last + 2] &&
+                    positionStart + itemCount >= mOperations[last + 1]) {
+                int end = max(mOperations[last + 1] + mOperations[last + 2], positionStart + itemCount);
+                mOperations[last + 1] = min(mOperations[last + 1], positionStart);
+                mOperations[last + 2] = end - mOperations[last + 1];
+                return;
+            }
+            append(TYPE_CHANGE, positionStart, itemCount, 0);
+        }
+
+        void insert(int positionStart, int itemCount) {
+            if (itemCount <= 0 || lastType() == TYPE_DATA_SET_CHANGED) {
+                return;
+            }
+            int last = (mSize - 1) * STRIDE;
+            if (lastType() == TYPE_INSERT &&
+                    positionStart >= mOperations[last + 1] &&
+                    positionStart <= mOperations[last + 1] + mOperations[last + 2]) {
+                mOperations[last + 2] += itemCount;
+                return;
+            }
+            append(TYPE_INSERT, positionStart, itemCount, 0);
+        }
+
+        void remove(int positionStart, int itemCount) {
+            if (itemCount <= 0 || lastType() == TYPE_DATA_SET_CHANGED) {
+                return;
+            }
+            int last = (mSize - 1) * STRIDE;
+            if (lastType() == TYPE_REMOVE &&
+                    (positionStart == mOperations[last + 1] || positionStart + itemCount == mOperations[last + 1])) {
+                mOperations[last + 1] = min(mOperations[last + 1], positionStart);
+                mOperations[last + 2] += itemCount;
+                return;
+            }
+            if (lastType() == TYPE_INSERT &&
+                    positionStart >= mOperations[last + 1] &&
+                    positionStart + itemCount <= mOperations[last + 1] + mOperations[last + 2]) {
+                // Removal of elements inserted in this same batch.
+                mOperations[last + 2] -= itemCount;
+                if (mOperations[last + 2] == 0) {
+                    mSize--;
+                }
+                return;
+            }
+            append(TYPE_REMOVE, positionStart, itemCount, 0);
+        }
+
+        void move(int fromPosition, int toPosition, int itemCount) {
+            if (itemCount <= 0 || lastType() == TYPE_DATA_SET_CHANGED) {
+                return;
+            }
+            append(TYPE_MOVE, fromPosition, itemCount, toPosition);
+        }
+
+        /** Returns the accumulated operations as a batch, and clears this builder. */
+        @NonNull
+        ChangeBatch build() {
+            ChangeBatch batch = new ChangeBatch(Arrays.copyOf(mOperations, mSize * STRIDE), mSize);
+            mSize = 0;
+            return batch;
+        }
+
+        private int lastType() {
+            return mSize > 0 ? mOperations[(mSize - 1) * STRIDE] : -1;
+        }
+
+        private void append(int type, int position, int count, int toPosition) {
+            if (mSize >= mMaxSize) {
+                changed();
+                return;
+            }
+            int offset = mSize * STRIDE;
+            if (offset + STRIDE > mOperations.length) {
+                mOperations = Arrays.copyOf(mOperations, mOperations.length * 2);
+            }
+            mOperations[offset] = type;
+            mOperations[offset + 1] = position;
+            mOperations[offset + 2] = count;
+            mOperations[offset + 3] = toPosition;
+            mSize++;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.data.Data;
+import com.nextfaze.poweradapters.data.internal.FrameScheduler;
+import lombok.NonNull;
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.nextfaze.poweradapters.data.rx.ThreadUtils.assertUiThread;
+
+/**
+ * Accumulates the change notifications of a {@link Data} into a {@link ChangeBatch}, emitted at the start of the next
+ * frame. While the subscriber hasn't requested another batch, notifications keep accumulating into the pending one.
+ */
+final class ChangeBatchOnSubscribe implements Observable.OnSubscribe<ChangeBatch> {
+
+    @NonNull
+    private final Data<?> mData;
+
+    private final int mMaxBatchSize;
+
+    ChangeBatchOnSubscribe(@NonNull Data<?> data, int maxBatchSize) {
+        mData = data;
+        mMaxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void call(final Subscriber<? super ChangeBatch> subscriber) {
+        assertUiThread();
+        final Emitter emitter = new Emitter(subscriber);
+        mData.registerDataObserver(emitter);
+        subscriber.add(new MainThreadSubscription() {
+            @Override
+            protected void onUnsubscribe() {
+                mData.unregisterDataObserver(emitter);
+                emitter.mFrameScheduler.cancel();
+            }
+        });
+        subscriber.setProducer(emitter);
+    }
+
+    private final class Emitter implements DataObserver, Producer {
+
+        @NonNull
+        private final Subscriber<? super ChangeBatch> mSubscriber;
+
+        /** Only accessed on the UI thread. */
+        @NonNull
+        private final ChangeBatch.Builder mBuilder = new ChangeBatch.Builder(mMaxBatchSize);
+
+        @NonNull
+        private final AtomicLong mRequested = new AtomicLong();
+
+        @NonNull
+        final FrameScheduler mFrameScheduler = new FrameScheduler(new Runnable() {
+            @Override
+            public void run() {
+                emit();
+            }
+        });
+
+        Emitter(@NonNull Subscriber<? super ChangeBatch> subscriber) {
+            mSubscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 0) {
+                throw new IllegalArgumentException("n < 0: " + n);
+            }
+            if (n == 0) {
+                return;
+            }
+            long requested;
+            long newRequested;
+            do {
+                requested = mRequested.get();
+                newRequested = requested + n;
+                if (newRequested < 0) {
+                    newRequested = Long.MAX_VALUE;
+                }
+            } while (!mRequested.compareAndSet(requested, newRequested));
+            // A batch may have accumulated while there was no demand.
+            mFrameScheduler.schedule();
+        }
+
+        @Override
+        public void onChanged() {
+            mBuilder.changed();
+            mFrameScheduler.schedule();
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            mBuilder.change(positionStart, itemCount);
+            mFrameScheduler.schedule();
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            mBuilder.insert(positionStart, itemCount);
+            mFrameScheduler.schedule();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            mBuilder.remove(positionStart, itemCount);
+            mFrameScheduler.schedule();
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            mBuilder.move(fromPosition, toPosition, itemCount);
+            mFrameScheduler.schedule();
+        }
+
+        private void emit() {
+            if (mSubscriber.isUnsubscribed() || mBuilder.isEmpty()) {
+                return;
+            }
+            long requested;
+            do {
+                requested = mRequested.get();
+                if (requested == 0) {
+                    // Keep accumulating until the subscriber requests more.
+                    return;
+                }
+            } while (requested != Long.MAX_VALUE && !mRequested.compareAndSet(requested, requested - 1));
+            mSubscriber.onNext(mBuilder.build());
+        }
+    }
+}
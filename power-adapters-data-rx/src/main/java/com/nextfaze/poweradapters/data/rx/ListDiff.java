@@ -0,0 +1,169 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.Math.min;
+
+/**
+ * Computes the operations transforming one list into another, using Myers' algorithm. Elements are compared using
+ * {@link Object#equals(Object)}. Each region where the lists differ results in a change of the overlapping elements,
+ * plus a removal or insertion of the remainder. Operations are ordered from the end of the list to the start, so
+ * positions of an operation are unaffected by those preceding it.
+ */
+final class ListDiff {
+
+    static final int CHANGE = 0;
+    static final int INSERT = 1;
+    static final int REMOVE = 2;
+
+    /** The number of ints each operation occupies: type, position, count, and position in the new list. */
+    static final int STRIDE = 4;
+
+    /** Beyond this many edits, differing regions are replaced wholesale rather than diffed further. */
+    private static final int MAX_EDITS = 1000;
+
+    private ListDiff() {
+    }
+
+    /**
+     * Returns the operations transforming {@code a} into {@code b}, packed into an array of {@link #STRIDE} ints
+     * each.
+     */
+    @NonNull
+    static int[] diff(@NonNull List<?> a, @NonNull List<?> b) {
+        int n = a.size();
+        int m = b.size();
+        // Trim common prefix and suffix, which are typical of incremental updates.
+        int start = 0;
+        while (start < n && start < m && a.get(start).equals(b.get(start))) {
+            start++;
+        }
+        int aEnd = n;
+        int bEnd = m;
+        while (aEnd > start && bEnd > start && a.get(aEnd - 1).equals(b.get(bEnd - 1))) {
+            aEnd--;
+            bEnd--;
+        }
+        int[] hunks = hunks(a.subList(start, aEnd), b.subList(start, bEnd));
+        // Emit operations for hunks in reverse, so positions of earlier hunks remain valid.
+        int[] ops = new int[hunks.length / 4 * 2 * STRIDE];
+        int size = 0;
+        for (int h = hunks.length - 4; h >= 0; h -= 4) {
+            int aStart = start + hunks[h];
+            int aCount = hunks[h + 1];
+            int bStart = start + hunks[h + 2];
+            int bCount = hunks[h + 3];
+            int changed = min(aCount, bCount);
+            size = put(ops, size, CHANGE, aStart, changed, bStart);
+            if (aCount > changed) {
+                size = put(ops, size, REMOVE, aStart + changed, aCount - changed, 0);
+            } else if (bCount > changed) {
+                size = put(ops, size, INSERT, aStart + changed, bCount - changed, bStart + changed);
+            }
+        }
+        return Arrays.copyOf(ops, size);
+    }
+
+    private static int put(@NonNull int[] ops, int size, int type, int position, int count, int bPosition) {
+        if (count <= 0) {
+            return size;
+        }
+        ops[size] = type;
+        ops[size + 1] = position;
+        ops[size + 2] = count;
+        ops[size + 3] = bPosition;
+        return size + STRIDE;
+    }
+
+    /**
+     * Returns the regions where the lists differ, in order, as groups of 4 ints: start in {@code a}, count in
+     * {@code a}, start in {@code b}, count in {@code b}.
+     */
+    @NonNull
+    private static int[] hunks(@NonNull List<?> a, @NonNull List<?> b) {
+        int n = a.size();
+        int m = b.size();
+        if (n == 0 && m == 0) {
+            return new int[0];
+        }
+        int limit = min(n + m, MAX_EDITS);
+        int offset = limit + 1;
+        int[] v = new int[2 * limit + 3];
+        // The furthest reaching x for each diagonal k, after each number of edits d, for k in [-d, d].
+        List<int[]> trace = new ArrayList<>();
+        int edits = -1;
+        search:
+        for (int d = 0; d <= limit; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+                int y = x - k;
+                while (x < n && y < m && a.get(x).equals(b.get(y))) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    edits = d;
+                    break search;
+                }
+            }
+            trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+        }
+        if (edits < 0) {
+            // Too different to be worth diffing.
+            return new int[] { 0, n, 0, m };
+        }
+        // Backtrack, recording each edit as the point it starts from, in reverse order.
+        int[] points = new int[edits * 3];
+        int x = n;
+        int y = m;
+        for (int d = edits; d > 0; d--) {
+            int[] previous = trace.get(d - 1);
+            int k = x - y;
+            boolean insertion = k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1]);
+            int previousK = insertion ? k + 1 : k - 1;
+            int previousX = previous[previousK + d - 1];
+            int previousY = previousX - previousK;
+            int i = (d - 1) * 3;
+            points[i] = insertion ? 1 : 0;
+            points[i + 1] = previousX;
+            points[i + 2] = previousY;
+            x = previousX;
+            y = previousY;
+        }
+        // Group edits that directly follow one another into hunks.
+        int[] hunks = new int[edits * 4];
+        int size = 0;
+        int endX = -1;
+        int endY = -1;
+        for (int i = 0; i < edits * 3; i += 3) {
+            boolean insertion = points[i] == 1;
+            int px = points[i + 1];
+            int py = points[i + 2];
+            if (px != endX || py != endY) {
+                hunks[size] = px;
+                hunks[size + 2] = py;
+                size += 4;
+            }
+            if (insertion) {
+                hunks[size - 1]++;
+                endX = px;
+                endY = py + 1;
+            } else {
+                hunks[size - 3]++;
+                endX = px + 1;
+                endY = py;
+            }
+        }
+        return Arrays.copyOf(hunks, size);
+    }
+}
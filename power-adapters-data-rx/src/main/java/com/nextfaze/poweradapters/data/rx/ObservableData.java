@@ -0,0 +1,179 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import android.support.annotation.Nullable;
+import com.nextfaze.poweradapters.data.Data;
+import lombok.NonNull;
+import rx.Observable;
+import rx.Subscription;
+import rx.android.schedulers.AndroidSchedulers;
+import rx.functions.Action1;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Presents the most recent list emitted by an {@link Observable}. Each list is diffed against the previous one on the
+ * computation scheduler, and the resulting notifications are applied on the main thread. The observable is only
+ * subscribed to while this data has observers.
+ */
+final class ObservableData<T> extends Data<T> {
+
+    @NonNull
+    private final Observable<? extends List<? extends T>> mObservable;
+
+    /** The presented elements. Never shared with the computation scheduler, which diffs its own copies. */
+    @NonNull
+    private List<T> mElements = new ArrayList<>();
+
+    @Nullable
+    private Subscription mSubscription;
+
+    /** Whether the current subscription has yet to deliver a list. */
+    private boolean mLoading;
+
+    ObservableData(@NonNull Observable<? extends List<? extends T>> observable) {
+        mObservable = observable;
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        return mElements.get(position);
+    }
+
+    @Override
+    public int size() {
+        return mElements.size();
+    }
+
+    @Override
+    public boolean isLoading() {
+        return mLoading;
+    }
+
+    @Override
+    public void invalidate() {
+        // The observable is resubscribed to whenever observation resumes, so there's nothing to invalidate.
+    }
+
+    @Override
+    public void refresh() {
+        if (mSubscription != null) {
+            unsubscribe();
+            subscribe();
+        }
+    }
+
+    @Override
+    public void reload() {
+        int size = mElements.size();
+        mElements = new ArrayList<>();
+        notifyItemRangeRemoved(0, size);
+        refresh();
+    }
+
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        subscribe();
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        unsubscribe();
+    }
+
+    private void subscribe() {
+        final List<T> baseline = new ArrayList<>(mElements);
+        mSubscription = mObservable
+                .onBackpressureLatest()
+                .observeOn(Schedulers.computation())
+                .map(new Func1<List<? extends T>, Update<T>>() {
+                    /** The list the next one is diffed against. Only accessed on the computation scheduler. */
+                    @NonNull
+                    private List<T> mPrevious = baseline;
+
+                    @Override
+                    public Update<T> call(List<? extends T> list) {
+                        List<T> elements = new ArrayList<T>(list);
+                        Update<T> update = new Update<>(elements, ListDiff.diff(mPrevious, elements));
+                        mPrevious = elements;
+                        return update;
+                    }
+                })
+                .observeOn(AndroidSchedulers.mainThread())
+                .subscribe(new Action1<Update<T>>() {
+                    @Override
+                    public void call(Update<T> update) {
+                        apply(update);
+                    }
+                }, new Action1<Throwable>() {
+                    @Override
+                    public void call(Throwable e) {
+                        setLoading(false);
+                        notifyError(e);
+                    }
+                });
+        setLoading(true);
+    }
+
+    private void unsubscribe() {
+        if (mSubscription != null) {
+            mSubscription.unsubscribe();
+            mSubscription = null;
+        }
+        setLoading(false);
+    }
+
+    private void apply(@NonNull Update<T> update) {
+        int[] ops = update.ops;
+        List<T> elements = update.elements;
+        for (int i = 0; i < ops.length; i += ListDiff.STRIDE) {
+            int position = ops[i + 1];
+            int count = ops[i + 2];
+            int elementsPosition = ops[i + 3];
+            switch (ops[i]) {
+                case ListDiff.CHANGE:
+                    for (int j = 0; j < count; j++) {
+                        mElements.set(position + j, elements.get(elementsPosition + j));
+                    }
+                    notifyItemRangeChanged(position, count);
+                    break;
+                case ListDiff.INSERT:
+                    mElements.addAll(position, elements.subList(elementsPosition, elementsPosition + count));
+                    notifyItemRangeInserted(position, count);
+                    break;
+                case ListDiff.REMOVE:
+                    mElements.subList(position, position + count).clear();
+                    notifyItemRangeRemoved(position, count);
+                    break;
+            }
+        }
+        setLoading(false);
+    }
+
+    private void setLoading(boolean loading) {
+        if (loading != mLoading) {
+            mLoading = loading;
+            notifyLoadingChanged();
+        }
+    }
+
+    private static final class Update<T> {
+
+        @NonNull
+        final List<T> elements;
+
+        /** Operations transforming the previous list into {@link #elements}, as computed by {@link ListDiff}. */
+        @NonNull
+        final int[] ops;
+
+        Update(@NonNull List<T> elements, @NonNull int[] ops) {
+            this.elements = elements;
+            this.ops = ops;
+        }
+    }
+}
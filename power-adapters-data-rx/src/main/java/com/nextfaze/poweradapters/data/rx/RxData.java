@@ -11,10 +11,14 @@ import lombok.NonNull;
 import rx.Observable;
 import rx.Subscriber;
 
+import java.util.List;
+
 import static com.nextfaze.poweradapters.data.rx.ThreadUtils.assertUiThread;
 
 public final class RxData {
 
+    private static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
     private RxData() {
     }
 
@@ -45,6 +49,19 @@ public final class RxData {
         });
     }
 
+    /**
+     * Returns a {@link Data} presenting the most recent list emitted by {@code observable}. Consecutive lists are
+     * diffed on the computation scheduler using {@link Object#equals(Object)}, so only the elements that actually
+     * differ are notified on the main thread. {@code observable} is subscribed to only while the returned data has
+     * observers. The data is loading until the first list is received from each subscription, and errors are
+     * forwarded to error observers.
+     */
+    @CheckResult
+    @NonNull
+    public static <T> Data<T> fromObservable(@NonNull Observable<? extends List<? extends T>> observable) {
+        return new ObservableData<>(observable);
+    }
+
     @CheckResult
     @NonNull
     public static Observable<ChangeEvent> changes(@NonNull final Data<?> data) {
@@ -149,6 +166,31 @@ public final class RxData {
         });
     }
 
+    /**
+     * Emits the change notifications of {@code data} in batches, at most one per frame. Supports backpressure: while
+     * no batch is requested, notifications are merged into the pending batch instead of being buffered. A batch
+     * exceeding {@value #DEFAULT_MAX_BATCH_SIZE} operations is collapsed into a single data set change.
+     */
+    @CheckResult
+    @NonNull
+    public static Observable<ChangeBatch> changeBatches(@NonNull Data<?> data) {
+        return changeBatches(data, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Emits the change notifications of {@code data} in batches, at most one per frame. A batch exceeding
+     * {@code maxBatchSize} operations is collapsed into a single data set change.
+     * @see #changeBatches(Data)
+     */
+    @CheckResult
+    @NonNull
+    public static Observable<ChangeBatch> changeBatches(@NonNull Data<?> data, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize <= 0");
+        }
+        return Observable.create(new ChangeBatchOnSubscribe(data, maxBatchSize));
+    }
+
     @CheckResult
     @NonNull
     public static Observable<Boolean> loading(@NonNull final Data<?> data) {
@@ -0,0 +1,204 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import com.nextfaze.poweradapters.data.Data;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+import rx.observers.TestSubscriber;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_CHANGE;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_DATA_SET_CHANGED;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_INSERT;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_REMOVE;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ChangeBatchOnSubscribeTest {
+
+    private TestData mData;
+    private TestSubscriber<ChangeBatch> mSubscriber;
+
+    @Before
+    public void setUp() throws Exception {
+        // Batches are emitted on frame callbacks, which run only when the main looper is pumped.
+        ShadowLooper.pauseMainLooper();
+        mData = new TestData();
+        mSubscriber = new TestSubscriber<>();
+        RxData.changeBatches(mData).subscribe(mSubscriber);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mSubscriber.unsubscribe();
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test
+    public void consecutiveNotificationsBatched() {
+        mData.insert(0, 2);
+        mData.insert(2, 1);
+        mData.change(5, 1);
+        assertThat(mSubscriber.getOnNextEvents()).isEmpty();
+        frame();
+        assertThat(mSubscriber.getOnNextEvents()).containsExactly(batch(
+                TYPE_INSERT, 0, 3,
+                TYPE_CHANGE, 5, 1));
+    }
+
+    @Test
+    public void notificationsAfterFrameInNextBatch() {
+        mData.insert(0, 1);
+        frame();
+        mData.remove(3, 2);
+        frame();
+        assertThat(mSubscriber.getOnNextEvents()).containsExactly(
+                batch(TYPE_INSERT, 0, 1),
+                batch(TYPE_REMOVE, 3, 2)).inOrder();
+    }
+
+    @Test
+    public void nothingEmittedWithoutNotifications() {
+        frame();
+        assertThat(mSubscriber.getOnNextEvents()).isEmpty();
+    }
+
+    @Test
+    public void notificationsAccumulateUntilRequested() {
+        TestSubscriber<ChangeBatch> subscriber = new TestSubscriber<>(0L);
+        RxData.changeBatches(mData).subscribe(subscriber);
+        mData.insert(0, 1);
+        frame();
+        assertThat(subscriber.getOnNextEvents()).isEmpty();
+        mData.insert(1, 1);
+        frame();
+        assertThat(subscriber.getOnNextEvents()).isEmpty();
+        subscriber.requestMore(1);
+        frame();
+        assertThat(subscriber.getOnNextEvents()).containsExactly(batch(TYPE_INSERT, 0, 2));
+        subscriber.unsubscribe();
+    }
+
+    @Test
+    public void payloadChangeDowngradedToPlainChange() {
+        mData.change(1, 2, "payload");
+        frame();
+        assertThat(mSubscriber.getOnNextEvents()).containsExactly(batch(TYPE_CHANGE, 1, 2));
+    }
+
+    @Test
+    public void unsubscribeUnregistersObserver() {
+        assertThat(mData.dataObserverCount()).isEqualTo(1);
+        mSubscriber.unsubscribe();
+        assertThat(mData.dataObserverCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void pendingBatchDroppedOnUnsubscribe() {
+        mData.insert(0, 1);
+        mSubscriber.unsubscribe();
+        frame();
+        assertThat(mSubscriber.getOnNextEvents()).isEmpty();
+    }
+
+    @Test
+    public void exceedingMaxBatchSizeCollapsesToDataSetChange() {
+        TestSubscriber<ChangeBatch> subscriber = new TestSubscriber<>();
+        RxData.changeBatches(mData, 2).subscribe(subscriber);
+        mData.insert(0, 1);
+        mData.insert(5, 1);
+        mData.insert(10, 1);
+        frame();
+        assertThat(subscriber.getOnNextEvents()).containsExactly(batch(TYPE_DATA_SET_CHANGED, 0, 0));
+        subscriber.unsubscribe();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaxBatchSizeThrows() {
+        RxData.changeBatches(mData, 0);
+    }
+
+    private static void frame() {
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    }
+
+    /** Returns a batch of the specified operations, each a type, position, and count. */
+    @NonNull
+    private static ChangeBatch batch(int... ops) {
+        ChangeBatch.Builder builder = new ChangeBatch.Builder(Integer.MAX_VALUE);
+        for (int i = 0; i < ops.length; i += 3) {
+            switch (ops[i]) {
+                case TYPE_DATA_SET_CHANGED:
+                    builder.changed();
+                    break;
+                case TYPE_CHANGE:
+                    builder.change(ops[i + 1], ops[i + 2]);
+                    break;
+                case TYPE_INSERT:
+                    builder.insert(ops[i + 1], ops[i + 2]);
+                    break;
+                case TYPE_REMOVE:
+                    builder.remove(ops[i + 1], ops[i + 2]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported type " + ops[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    private static final class TestData extends Data<Object> {
+
+        @Override
+        public Object get(int position, int flags) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public boolean isLoading() {
+            return false;
+        }
+
+        @Override
+        public void invalidate() {
+        }
+
+        @Override
+        public void refresh() {
+        }
+
+        @Override
+        public void reload() {
+        }
+
+        void change(int positionStart, int itemCount) {
+            notifyItemRangeChanged(positionStart, itemCount);
+        }
+
+        void change(int positionStart, int itemCount, @NonNull Object payload) {
+            notifyItemRangeChanged(positionStart, itemCount, payload);
+        }
+
+        void insert(int positionStart, int itemCount) {
+            notifyItemRangeInserted(positionStart, itemCount);
+        }
+
+        void remove(int positionStart, int itemCount) {
+            notifyItemRangeRemoved(positionStart, itemCount);
+        }
+
+        int dataObserverCount() {
+            return getDataObserverCount();
+        }
+    }
+}
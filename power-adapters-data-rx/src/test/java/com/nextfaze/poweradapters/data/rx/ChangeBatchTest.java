@@ -0,0 +1,256 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_CHANGE;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_DATA_SET_CHANGED;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_INSERT;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_MOVE;
+import static com.nextfaze.poweradapters.data.rx.ChangeBatch.TYPE_REMOVE;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ChangeBatchTest {
+
+    @NonNull
+    private final ChangeBatch.Builder mBuilder = new ChangeBatch.Builder(128);
+
+    @Test
+    public void adjacentInsertionsMerged() {
+        mBuilder.insert(2, 2);
+        mBuilder.insert(4, 3);
+        mBuilder.insert(2, 1);
+        assertOps(mBuilder.build(),
+                TYPE_INSERT, 2, 6, 0);
+    }
+
+    @Test
+    public void separateInsertionsNotMerged() {
+        mBuilder.insert(0, 1);
+        mBuilder.insert(5, 1);
+        assertOps(mBuilder.build(),
+                TYPE_INSERT, 0, 1, 0,
+                TYPE_INSERT, 5, 1, 0);
+    }
+
+    @Test
+    public void overlappingChangesMerged() {
+        mBuilder.change(2, 2);
+        mBuilder.change(4, 2);
+        mBuilder.change(1, 2);
+        assertOps(mBuilder.build(),
+                TYPE_CHANGE, 1, 5, 0);
+    }
+
+    @Test
+    public void separateChangesNotMerged() {
+        mBuilder.change(5, 1);
+        mBuilder.change(3, 1);
+        assertOps(mBuilder.build(),
+                TYPE_CHANGE, 5, 1, 0,
+                TYPE_CHANGE, 3, 1, 0);
+    }
+
+    @Test
+    public void changeOfInsertedElementsDropped() {
+        mBuilder.insert(2, 3);
+        mBuilder.change(3, 2);
+        assertOps(mBuilder.build(),
+                TYPE_INSERT, 2, 3, 0);
+    }
+
+    @Test
+    public void changeOverlappingInsertionKept() {
+        mBuilder.insert(2, 3);
+        mBuilder.change(4, 2);
+        assertOps(mBuilder.build(),
+                TYPE_INSERT, 2, 3, 0,
+                TYPE_CHANGE, 4, 2, 0);
+    }
+
+    @Test
+    public void removalsAtSamePositionMerged() {
+        mBuilder.remove(3, 2);
+        mBuilder.remove(3, 1);
+        assertOps(mBuilder.build(),
+                TYPE_REMOVE, 3, 3, 0);
+    }
+
+    @Test
+    public void removalsPrecedingEachOtherMerged() {
+        mBuilder.remove(3, 1);
+        mBuilder.remove(1, 2);
+        assertOps(mBuilder.build(),
+                TYPE_REMOVE, 1, 3, 0);
+    }
+
+    @Test
+    public void removalOfInsertedElementsShrinksInsertion() {
+        mBuilder.insert(2, 3);
+        mBuilder.remove(3, 1);
+        assertOps(mBuilder.build(),
+                TYPE_INSERT, 2, 2, 0);
+    }
+
+    @Test
+    public void removalOfAllInsertedElementsCancelsInsertion() {
+        mBuilder.change(0, 1);
+        mBuilder.insert(2, 1);
+        mBuilder.remove(2, 1);
+        assertOps(mBuilder.build(),
+                TYPE_CHANGE, 0, 1, 0);
+    }
+
+    @Test
+    public void movesNotMerged() {
+        mBuilder.move(0, 5, 1);
+        mBuilder.move(1, 6, 1);
+        assertOps(mBuilder.build(),
+                TYPE_MOVE, 0, 1, 5,
+                TYPE_MOVE, 1, 1, 6);
+    }
+
+    @Test
+    public void emptyRangesIgnored() {
+        mBuilder.change(0, 0);
+        mBuilder.insert(0, 0);
+        mBuilder.remove(0, 0);
+        mBuilder.move(0, 1, 0);
+        assertThat(mBuilder.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void dataSetChangeSupersedesOtherOperations() {
+        mBuilder.insert(0, 1);
+        mBuilder.changed();
+        mBuilder.remove(0, 1);
+        mBuilder.move(0, 1, 1);
+        assertOps(mBuilder.build(),
+                TYPE_DATA_SET_CHANGED, 0, 0, 0);
+    }
+
+    @Test
+    public void exceedingMaxSizeCollapsesToDataSetChange() {
+        ChangeBatch.Builder builder = new ChangeBatch.Builder(2);
+        builder.insert(0, 1);
+        builder.insert(5, 1);
+        assertThat(builder.build().size()).isEqualTo(2);
+        builder.insert(0, 1);
+        builder.insert(5, 1);
+        builder.insert(10, 1);
+        assertOps(builder.build(),
+                TYPE_DATA_SET_CHANGED, 0, 0, 0);
+    }
+
+    @Test
+    public void manyOperationsRetained() {
+        for (int i = 0; i < 100; i++) {
+            mBuilder.insert(i * 2, 1);
+        }
+        ChangeBatch batch = mBuilder.build();
+        assertThat(batch.size()).isEqualTo(100);
+        assertThat(batch.getPosition(99)).isEqualTo(198);
+    }
+
+    @Test
+    public void buildClearsBuilder() {
+        mBuilder.insert(0, 1);
+        mBuilder.build();
+        assertThat(mBuilder.isEmpty()).isTrue();
+        mBuilder.remove(0, 1);
+        assertOps(mBuilder.build(),
+                TYPE_REMOVE, 0, 1, 0);
+    }
+
+    @Test
+    public void dispatchReplaysInOrder() {
+        mBuilder.insert(0, 2);
+        mBuilder.change(5, 1);
+        mBuilder.remove(3, 1);
+        mBuilder.move(1, 4, 2);
+        ChangeBatch batch = mBuilder.build();
+        mBuilder.changed();
+        ChangeBatch changed = mBuilder.build();
+        RecordingDataObserver observer = new RecordingDataObserver();
+        batch.dispatch(observer);
+        changed.dispatch(observer);
+        assertThat(observer.mCalls).containsExactly(
+                "inserted 0 2",
+                "changed 5 1",
+                "removed 3 1",
+                "moved 1 4 2",
+                "changed").inOrder();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfRangeThrows() {
+        mBuilder.insert(0, 1);
+        mBuilder.build().getType(1);
+    }
+
+    @Test
+    public void equalBatchesAreEqual() {
+        mBuilder.insert(0, 1);
+        mBuilder.change(4, 1);
+        ChangeBatch a = mBuilder.build();
+        mBuilder.insert(0, 1);
+        mBuilder.change(4, 1);
+        ChangeBatch b = mBuilder.build();
+        mBuilder.insert(0, 1);
+        ChangeBatch c = mBuilder.build();
+        assertThat(a).isEqualTo(b);
+        assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        assertThat(a).isNotEqualTo(c);
+    }
+
+    private static void assertOps(@NonNull ChangeBatch batch, int... expected) {
+        int[] actual = new int[batch.size() * 4];
+        for (int i = 0; i < batch.size(); i++) {
+            actual[i * 4] = batch.getType(i);
+            actual[i * 4 + 1] = batch.getPosition(i);
+            actual[i * 4 + 2] = batch.getCount(i);
+            actual[i * 4 + 3] = batch.getToPosition(i);
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static final class RecordingDataObserver implements DataObserver {
+
+        @NonNull
+        final List<String> mCalls = new ArrayList<>();
+
+        @Override
+        public void onChanged() {
+            mCalls.add("changed");
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            mCalls.add("changed " + positionStart + " " + itemCount);
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            mCalls.add("inserted " + positionStart + " " + itemCount);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            mCalls.add("removed " + positionStart + " " + itemCount);
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            mCalls.add("moved " + fromPosition + " " + toPosition + " " + itemCount);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import lombok.NonNull;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.rx.ListDiff.CHANGE;
+import static com.nextfaze.poweradapters.data.rx.ListDiff.INSERT;
+import static com.nextfaze.poweradapters.data.rx.ListDiff.REMOVE;
+import static java.util.Arrays.asList;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ListDiffTest {
+
+    @Test
+    public void equalListsHaveNoOps() {
+        assertThat(ListDiff.diff(asList("a", "b", "c"), asList("a", "b", "c"))).isEmpty();
+    }
+
+    @Test
+    public void emptyListsHaveNoOps() {
+        assertThat(ListDiff.diff(Collections.emptyList(), Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    public void insertIntoEmpty() {
+        assertOps(Collections.emptyList(), asList("a", "b"),
+                INSERT, 0, 2, 0);
+    }
+
+    @Test
+    public void removeAll() {
+        assertOps(asList("a", "b"), Collections.emptyList(),
+                REMOVE, 0, 2, 0);
+    }
+
+    @Test
+    public void insertInMiddle() {
+        assertOps(asList("a", "b", "c"), asList("a", "x", "y", "b", "c"),
+                INSERT, 1, 2, 1);
+    }
+
+    @Test
+    public void removeFromMiddle() {
+        assertOps(asList("a", "b", "c", "d"), asList("a", "d"),
+                REMOVE, 1, 2, 0);
+    }
+
+    @Test
+    public void changeInMiddle() {
+        assertOps(asList("a", "b", "c"), asList("a", "x", "c"),
+                CHANGE, 1, 1, 1);
+    }
+
+    @Test
+    public void changeThenInsertInSameRegion() {
+        assertOps(asList("a", "b", "c"), asList("a", "x", "y", "c"),
+                CHANGE, 1, 1, 1,
+                INSERT, 2, 1, 2);
+    }
+
+    @Test
+    public void changeThenRemoveInSameRegion() {
+        assertOps(asList("a", "b", "c", "d"), asList("a", "x", "d"),
+                CHANGE, 1, 1, 1,
+                REMOVE, 2, 1, 0);
+    }
+
+    @Test
+    public void separateRegionsOrderedFromEnd() {
+        assertOps(asList("a", "b", "c", "d", "e"), asList("x", "b", "c", "e", "y"),
+                INSERT, 5, 1, 4,
+                REMOVE, 3, 1, 0,
+                CHANGE, 0, 1, 0);
+    }
+
+    @Test
+    public void randomListsTransformed() {
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            List<Integer> a = randomList(random);
+            List<Integer> b = randomList(random);
+            assertTransforms(a, b);
+        }
+    }
+
+    @Test
+    public void randomEditsTransformed() {
+        Random random = new Random(2);
+        for (int i = 0; i < 500; i++) {
+            List<Integer> a = randomList(random);
+            List<Integer> b = new ArrayList<>(a);
+            int edits = random.nextInt(5);
+            for (int j = 0; j < edits; j++) {
+                int position = b.isEmpty() ? 0 : random.nextInt(b.size());
+                switch (random.nextInt(3)) {
+                    case 0:
+                        b.add(position, random.nextInt(4));
+                        break;
+                    case 1:
+                        if (!b.isEmpty()) {
+                            b.remove(position);
+                        }
+                        break;
+                    default:
+                        if (!b.isEmpty()) {
+                            b.set(position, random.nextInt(4));
+                        }
+                        break;
+                }
+            }
+            assertTransforms(a, b);
+        }
+    }
+
+    @Test
+    public void fewEditsInLargeListsDiffedPrecisely() {
+        List<Integer> a = range(0, 5000);
+        List<Integer> b = new ArrayList<>(a);
+        b.remove(4000);
+        b.set(2500, -1);
+        b.add(1000, -2);
+        assertOps(a, b,
+                REMOVE, 4000, 1, 0,
+                CHANGE, 2500, 1, 2501,
+                INSERT, 1000, 1, 1000);
+    }
+
+    @Test
+    public void editsWithinLimitDiffedPrecisely() {
+        // Every other element replaced: 400 changes, each a removal and an insertion.
+        List<Integer> a = range(0, 800);
+        List<Integer> b = replaceEvens(a);
+        int[] ops = ListDiff.diff(a, b);
+        assertThat(ops.length).isEqualTo(400 * ListDiff.STRIDE);
+        assertThat(apply(a, b, ops)).isEqualTo(b);
+    }
+
+    @Test
+    public void tooManyEditsReplacesRegionWholesale() {
+        // 600 changes need 1200 edits, exceeding the limit, so the region is replaced despite the shared elements.
+        List<Integer> a = range(0, 1200);
+        List<Integer> b = replaceEvens(a);
+        // The shared suffix is still trimmed.
+        assertOps(a, b,
+                CHANGE, 0, 1199, 0);
+    }
+
+    @Test
+    public void tooManyEditsWithDifferentSizesReplacesRegionWholesale() {
+        List<Integer> a = range(0, 1500);
+        List<Integer> b = range(10000, 12000);
+        a.add(0, -1);
+        b.add(0, -1);
+        a.add(-2);
+        b.add(-2);
+        assertOps(a, b,
+                CHANGE, 1, 1500, 1,
+                INSERT, 1501, 500, 1501);
+    }
+
+    @Test
+    public void tooManyEditsInterleavedWithMatchesStillTransforms() {
+        Random random = new Random(3);
+        List<Integer> a = new ArrayList<>();
+        List<Integer> b = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            a.add(random.nextInt(8));
+            b.add(random.nextInt(8));
+        }
+        assertTransforms(a, b);
+    }
+
+    private static void assertOps(@NonNull List<?> a, @NonNull List<?> b, int... expected) {
+        int[] ops = ListDiff.diff(a, b);
+        assertThat(ops).isEqualTo(expected);
+        assertThat(apply(a, b, ops)).isEqualTo(b);
+    }
+
+    private static void assertTransforms(@NonNull List<?> a, @NonNull List<?> b) {
+        int[] ops = ListDiff.diff(a, b);
+        assertThat(ops.length % ListDiff.STRIDE).isEqualTo(0);
+        assertThat(apply(a, b, ops)).isEqualTo(b);
+    }
+
+    /** Applies the operations to a copy of {@code a}, the same way {@link ObservableData} does. */
+    @NonNull
+    private static List<Object> apply(@NonNull List<?> a, @NonNull List<?> b, @NonNull int[] ops) {
+        List<Object> list = new ArrayList<Object>(a);
+        for (int i = 0; i < ops.length; i += ListDiff.STRIDE) {
+            int position = ops[i + 1];
+            int count = ops[i + 2];
+            int bPosition = ops[i + 3];
+            assertThat(count).isGreaterThan(0);
+            switch (ops[i]) {
+                case CHANGE:
+                    for (int j = 0; j < count; j++) {
+                        list.set(position + j, b.get(bPosition + j));
+                    }
+                    break;
+                case INSERT:
+                    list.addAll(position, b.subList(bPosition, bPosition + count));
+                    break;
+                case REMOVE:
+                    list.subList(position, position + count).clear();
+                    break;
+                default:
+                    throw new AssertionError("Unknown operation " + ops[i]);
+            }
+        }
+        return list;
+    }
+
+    @NonNull
+    private static List<Integer> randomList(@NonNull Random random) {
+        int size = random.nextInt(20);
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // A small alphabet, so lists share plenty of elements.
+            list.add(random.nextInt(4));
+        }
+        return list;
+    }
+
+    /** Returns a copy of the list with the elements at even positions replaced by ones not already in it. */
+    @NonNull
+    private static List<Integer> replaceEvens(@NonNull List<Integer> list) {
+        List<Integer> replaced = new ArrayList<>(list);
+        for (int i = 0; i < replaced.size(); i += 2) {
+            replaced.set(i, -replaced.get(i) - 1);
+        }
+        return replaced;
+    }
+
+    @NonNull
+    private static List<Integer> range(int start, int end) {
+        List<Integer> list = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
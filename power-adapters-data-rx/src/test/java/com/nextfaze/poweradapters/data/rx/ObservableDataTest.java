@@ -0,0 +1,172 @@
+package com.nextfaze.poweradapters.data.rx;
+
+import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.data.ErrorObserver;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+import rx.subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ObservableDataTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private PublishSubject<List<String>> mSubject;
+    private ObservableData<String> mData;
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        // Lists are diffed on the computation scheduler, so hold the results on the main looper until pumped.
+        ShadowLooper.pauseMainLooper();
+        mSubject = PublishSubject.create();
+        mData = new ObservableData<>(mSubject);
+        mObserver = mock(DataObserver.class);
+        mData.registerDataObserver(mObserver);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mData.unregisterDataObserver(mObserver);
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test
+    public void loadingUntilFirstList() throws Exception {
+        assertThat(mData.isLoading()).isTrue();
+        emit("a", "b");
+        assertThat(mData.isLoading()).isFalse();
+    }
+
+    @Test
+    public void firstListInserted() throws Exception {
+        emit("a", "b", "c");
+        verify(mObserver).onItemRangeInserted(0, 3);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertionNotifiedAsInsert() throws Exception {
+        emit("a", "b", "c");
+        emit("a", "x", "y", "b", "c");
+        verify(mObserver).onItemRangeInserted(1, 2);
+    }
+
+    @Test
+    public void removalNotifiedAsRemove() throws Exception {
+        emit("a", "b", "c", "d");
+        emit("a", "d");
+        verify(mObserver).onItemRangeRemoved(1, 2);
+    }
+
+    @Test
+    public void replacementNotifiedAsChange() throws Exception {
+        emit("a", "b", "c");
+        emit("a", "x", "c");
+        verify(mObserver).onItemRangeChanged(1, 1);
+    }
+
+    @Test
+    public void separateEditsNotifiedIndividually() throws Exception {
+        emit("a", "b", "c", "d", "e");
+        emit("x", "b", "c", "e", "y");
+        verify(mObserver).onItemRangeInserted(0, 5);
+        verify(mObserver).onItemRangeInserted(5, 1);
+        verify(mObserver).onItemRangeRemoved(3, 1);
+        verify(mObserver).onItemRangeChanged(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void equalListNotNotified() throws Exception {
+        emit("a", "b", "c");
+        emit("a", "b", "c");
+        // Lists are applied in order, so once this one is presented the equal one was too.
+        emit("a", "x", "c");
+        verify(mObserver).onItemRangeInserted(0, 3);
+        verify(mObserver).onItemRangeChanged(1, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void errorNotified() throws Exception {
+        final List<Throwable> errors = new ArrayList<>();
+        mData.registerErrorObserver(new ErrorObserver() {
+            @Override
+            public void onError(@NonNull Throwable e) {
+                errors.add(e);
+            }
+        });
+        RuntimeException error = new RuntimeException();
+        mSubject.onError(error);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (errors.isEmpty()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            pump();
+        }
+        assertThat(errors).containsExactly(error);
+        assertThat(mData.isLoading()).isFalse();
+    }
+
+    @Test
+    public void unsubscribedWhenLastObserverUnregistered() throws Exception {
+        assertThat(mSubject.hasObservers()).isTrue();
+        mData.unregisterDataObserver(mObserver);
+        assertThat(mSubject.hasObservers()).isFalse();
+        assertThat(mData.isLoading()).isFalse();
+        mData.registerDataObserver(mObserver);
+    }
+
+    @Test
+    public void resubscriptionDiffedAgainstPresentedList() throws Exception {
+        emit("a", "b", "c");
+        mData.unregisterDataObserver(mObserver);
+        mData.registerDataObserver(mObserver);
+        assertThat(mData.isLoading()).isTrue();
+        emit("a", "x", "c");
+        verify(mObserver).onItemRangeInserted(0, 3);
+        verify(mObserver).onItemRangeChanged(1, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    /** Emits a list, then pumps the main looper until it's presented. */
+    private void emit(@NonNull String... elements) throws Exception {
+        List<String> list = asList(elements);
+        mSubject.onNext(list);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!contents().equals(list) || mData.isLoading()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            pump();
+        }
+    }
+
+    @NonNull
+    private List<String> contents() {
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < mData.size(); i++) {
+            contents.add(mData.get(i));
+        }
+        return contents;
+    }
+
+    private static void pump() throws InterruptedException {
+        ShadowLooper.runUiThreadTasks();
+        Thread.sleep(1);
+    }
+}
@@ -12,6 +12,8 @@ import java.util.List;
 /**
  * Simple mutable {@link Data} implementation backed by an {@link ArrayList}. Cannot contain {@code null} elements. Not
  * thread-safe.
+ * <p>
+ * Instances that return a non-null {@link #getKey()} share their loads through a {@link ResultCache}.
  * @param <T> The type of element this data contains.
  */
 public abstract class ArrayData<T> extends Data<T> implements Closeable {
@@ -20,9 +22,22 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
     @NonNull
     private final NotifyingArrayList<T> mData = new NotifyingArrayList<>(mDataObservable);
 
+    @NonNull
+    private final LoadScheduler mScheduler;
+
+    @NonNull
+    private final ResultCache mResultCache;
+
     @Nullable
     private Task<?> mTask;
 
+    /** The shared load in progress, if this instance has a key. */
+    @Nullable
+    private ResultCache.Request mRequest;
+
+    /** Indicates elements have been loaded at least once. */
+    private boolean mLoaded;
+
     /** Indicates the currently loaded data is invalid and needs to be reloaded next opportunity. */
     private boolean mDirty = true;
 
@@ -36,6 +51,21 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
     private int mAvailable = Integer.MAX_VALUE;
 
     protected ArrayData() {
+        this(LoadScheduler.getDefault());
+    }
+
+    /** @param scheduler The scheduler on which {@link #load()} will be invoked. */
+    protected ArrayData(@NonNull LoadScheduler scheduler) {
+        this(scheduler, ResultCache.getDefault());
+    }
+
+    /**
+     * @param scheduler The scheduler on which {@link #load()} will be invoked.
+     * @param resultCache The cache through which loads are shared, if {@link #getKey()} returns non-null.
+     */
+    protected ArrayData(@NonNull LoadScheduler scheduler, @NonNull ResultCache resultCache) {
+        mScheduler = scheduler;
+        mResultCache = resultCache;
     }
 
     @CallSuper
@@ -108,6 +138,13 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
         return mData;
     }
 
+    /** Returns a snapshot of the elements in {@code O(1)}. The elements are copied by the next change instead. */
+    @NonNull
+    @Override
+    public List<T> snapshot() {
+        return mData.snapshot();
+    }
+
     /** Called in a background thread to load the data set. */
     @NonNull
     protected abstract List<? extends T> load() throws Throwable;
@@ -117,6 +154,18 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
     protected void onClear() {
     }
 
+    /**
+     * Returns a key identifying the query performed by {@link #load()}, or {@code null} if loads shouldn't be shared.
+     * Instances with equal keys share a single load while loading concurrently, and a new instance presents a recently
+     * loaded result for its key without loading. Keys must implement {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}. Returns {@code null} by default.
+     * @see ResultCache
+     */
+    @Nullable
+    protected Object getKey() {
+        return null;
+    }
+
     @CallSuper
     @Override
     protected void onFirstDataObserverRegistered() {
@@ -124,16 +173,28 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
         if (mClear) {
             clear();
         }
+        updatePriority();
         loadDataIfAppropriate();
         updateLoading();
     }
 
+    @CallSuper
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        updatePriority();
+    }
+
     private void loadDataIfAppropriate() {
         // We only start loading the data if it's not already loading, and we're shown.
         // If we're not shown we don't care about the data.
         // Only load if data is marked as dirty.
-        if (mDirty && mTask == null && getDataObserverCount() > 0) {
-            // TODO: Replace use of Task with either a plain Thread or use of an Executor.
+        if (mDirty && mTask == null && mRequest == null && getDataObserverCount() > 0) {
+            Object key = getKey();
+            if (key != null) {
+                loadShared(key);
+                return;
+            }
             mTask = new Task<List<? extends T>>() {
                 @Override
                 protected List<? extends T> call() throws Throwable {
@@ -142,25 +203,66 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
 
                 @Override
                 protected void onSuccess(@NonNull List<? extends T> data) throws Throwable {
-                    onClear();
-                    mDirty = false;
-                    mClear = false;
-                    mData.replaceAll(data);
-                    setAvailable(0);
                     mTask = null;
-                    loadDataIfAppropriate();
-                    updateLoading();
+                    onLoadSuccess(data);
                 }
 
                 @Override
                 protected void onFailure(@NonNull Throwable e) throws Throwable {
                     mTask = null;
-                    updateLoading();
-                    notifyError(e);
+                    onLoadFailure(e);
                 }
             };
-            mTask.execute();
+            mTask.execute(mScheduler, getLoadPriority());
+        }
+    }
+
+    private void loadShared(@NonNull Object key) {
+        if (!mLoaded) {
+            // Present a recent result from another instance instead of loading.
+            @SuppressWarnings("unchecked")
+            List<? extends T> result = (List<? extends T>) mResultCache.get(key);
+            if (result != null) {
+                onLoadSuccess(result);
+                return;
+            }
         }
+        mRequest = mResultCache.load(key, new ResultCache.Loader() {
+            @NonNull
+            @Override
+            public List<?> load() throws Throwable {
+                return ArrayData.this.load();
+            }
+        }, mScheduler, getLoadPriority(), new ResultCache.Callback() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public void onSuccess(@NonNull List<?> result) {
+                mRequest = null;
+                onLoadSuccess((List<? extends T>) result);
+            }
+
+            @Override
+            public void onFailure(@NonNull Throwable e) {
+                mRequest = null;
+                onLoadFailure(e);
+            }
+        });
+    }
+
+    private void onLoadSuccess(@NonNull List<? extends T> data) {
+        onClear();
+        mDirty = false;
+        mClear = false;
+        mLoaded = true;
+        mData.replaceAll(data);
+        setAvailable(0);
+        loadDataIfAppropriate();
+        updateLoading();
+    }
+
+    private void onLoadFailure(@NonNull Throwable e) {
+        updateLoading();
+        notifyError(e);
     }
 
     private void cancelTask() {
@@ -168,10 +270,23 @@ public abstract class ArrayData<T> extends Data<T> implements Closeable {
             mTask.cancel();
             mTask = null;
         }
+        if (mRequest != null) {
+            mRequest.cancel();
+            mRequest = null;
+        }
+    }
+
+    private void updatePriority() {
+        if (mTask != null) {
+            mTask.setPriority(getLoadPriority());
+        }
+        if (mRequest != null) {
+            mRequest.setPriority(getLoadPriority());
+        }
     }
 
     private void updateLoading() {
-        setLoading(mTask != null);
+        setLoading(mTask != null || mRequest != null);
     }
 
     private void setLoading(final boolean loading) {
@@ -0,0 +1,204 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Variant of {@link TransformData} that memoizes the result of the function per inner position, retaining at most
+ * {@code cacheSize} results in least-recently-used order. Cached results are shifted or evicted in response to the
+ * change notifications of the wrapped data. Each result is also keyed by the identity of the inner element it was
+ * derived from, so a stale result is never returned even while unobserved.
+ */
+final class CachingTransformData<F, T> extends DataWrapper<T> {
+
+    @NonNull
+    private final Data<? extends F> mData;
+
+    @NonNull
+    private final Function<? super F, ? extends T> mFunction;
+
+    @NonNull
+    private final Cache<F, T> mCache;
+
+    CachingTransformData(@NonNull Data<? extends F> data,
+                         @NonNull Function<? super F, ? extends T> function,
+                         int cacheSize) {
+        super(data);
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be > 0");
+        }
+        mData = data;
+        mFunction = function;
+        mCache = new Cache<>(cacheSize);
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        // Always consult the inner data, so flags such as FLAG_PRESENTATION still reach it.
+        F f = mData.get(position, flags);
+        Entry<F, T> entry = mCache.get(position);
+        if (entry != null && entry.source == f) {
+            return entry.value;
+        }
+        T t = mFunction.apply(f);
+        mCache.put(position, new Entry<F, T>(f, t));
+        return t;
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        // We'll no longer receive notifications, so positions can't be maintained.
+        mCache.clear();
+    }
+
+    @Override
+    protected void forwardChanged() {
+        mCache.clear();
+        super.forwardChanged();
+    }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        mCache.remove(innerPositionStart, innerItemCount);
+        super.forwardItemRangeChanged(innerPositionStart, innerItemCount, payload);
+    }
+
+    @Override
+    protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
+        mCache.insert(innerPositionStart, innerItemCount);
+        super.forwardItemRangeInserted(innerPositionStart, innerItemCount);
+    }
+
+    @Override
+    protected void forwardItemRangeRemoved(int innerPositionStart, int innerItemCount) {
+        mCache.delete(innerPositionStart, innerItemCount);
+        super.forwardItemRangeRemoved(innerPositionStart, innerItemCount);
+    }
+
+    @Override
+    protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
+        mCache.move(innerFromPosition, innerToPosition, innerItemCount);
+        super.forwardItemRangeMoved(innerFromPosition, innerToPosition, innerItemCount);
+    }
+
+    private static final class Entry<F, T> {
+
+        @NonNull
+        final F source;
+
+        @NonNull
+        final T value;
+
+        Entry(@NonNull F source, @NonNull T value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+
+    /** LRU map of inner position to cached entry. Structural changes re-key entries, preserving access order. */
+    private static final class Cache<F, T> {
+
+        private final int mMaxSize;
+
+        @NonNull
+        private LinkedHashMap<Integer, Entry<F, T>> mMap;
+
+        Cache(int maxSize) {
+            mMaxSize = maxSize;
+            mMap = newMap();
+        }
+
+        Entry<F, T> get(int position) {
+            return mMap.get(position);
+        }
+
+        void put(int position, @NonNull Entry<F, T> entry) {
+            mMap.put(position, entry);
+        }
+
+        void clear() {
+            mMap.clear();
+        }
+
+        /** Evicts entries in the specified range, without shifting others. */
+        void remove(int positionStart, int itemCount) {
+            if (itemCount >= mMap.size()) {
+                Iterator<Integer> it = mMap.keySet().iterator();
+                while (it.hasNext()) {
+                    int position = it.next();
+                    if (position >= positionStart && position < positionStart + itemCount) {
+                        it.remove();
+                    }
+                }
+            } else {
+                for (int position = positionStart; position < positionStart + itemCount; position++) {
+                    mMap.remove(position);
+                }
+            }
+        }
+
+        void insert(int positionStart, int itemCount) {
+            if (mMap.isEmpty()) {
+                return;
+            }
+            LinkedHashMap<Integer, Entry<F, T>> map = newMap();
+            for (Map.Entry<Integer, Entry<F, T>> e : mMap.entrySet()) {
+                int position = e.getKey();
+                map.put(position >= positionStart ? position + itemCount : position, e.getValue());
+            }
+            mMap = map;
+        }
+
+        void delete(int positionStart, int itemCount) {
+            if (mMap.isEmpty()) {
+                return;
+            }
+            LinkedHashMap<Integer, Entry<F, T>> map = newMap();
+            for (Map.Entry<Integer, Entry<F, T>> e : mMap.entrySet()) {
+                int position = e.getKey();
+                if (position < positionStart) {
+                    map.put(position, e.getValue());
+                } else if (position >= positionStart + itemCount) {
+                    map.put(position - itemCount, e.getValue());
+                }
+            }
+            mMap = map;
+        }
+
+        void move(int fromPosition, int toPosition, int itemCount) {
+            if (mMap.isEmpty()) {
+                return;
+            }
+            LinkedHashMap<Integer, Entry<F, T>> map = newMap();
+            for (Map.Entry<Integer, Entry<F, T>> e : mMap.entrySet()) {
+                int position = e.getKey();
+                int newPosition;
+                if (position >= fromPosition && position < fromPosition + itemCount) {
+                    newPosition = position - fromPosition + toPosition;
+                } else {
+                    // Equivalent to removing the moved range, then inserting it at the destination.
+                    newPosition = position >= fromPosition + itemCount ? position - itemCount : position;
+                    newPosition = newPosition >= toPosition ? newPosition + itemCount : newPosition;
+                }
+                map.put(newPosition, e.getValue());
+            }
+            mMap = map;
+        }
+
+        @NonNull
+        private LinkedHashMap<Integer, Entry<F, T>> newMap() {
+            return new LinkedHashMap<Integer, Entry<F, T>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, Entry<F, T>> eldest) {
+                    return size() > mMaxSize;
+                }
+            };
+        }
+    }
+}
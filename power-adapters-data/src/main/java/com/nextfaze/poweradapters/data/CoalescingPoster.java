@@ -1,16 +1,30 @@
 package com.nextfaze.poweradapters.data;
 
 import android.os.Handler;
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static android.os.Looper.getMainLooper;
 
+/**
+ * Publishes changes from any thread to the main thread, posting at most one flush at a time. State changes are
+ * latest-value-wins cells, which can be written without allocating. Each flush delivers the final state of the cells
+ * written since the previous flush, after running any queued runnables.
+ */
 final class CoalescingPoster {
 
+    static final int CHANGE_LOADING = 1;
+    static final int CHANGE_AVAILABLE = 1 << 1;
+    static final int CHANGE_ERROR = 1 << 2;
+
+    /** Bit set when a flush has been posted, in addition to the pending change bits. */
+    private static final int POSTED = 1 << 31;
+
     @NonNull
     private final Handler mHandler = new Handler(getMainLooper());
 
@@ -26,24 +40,66 @@ final class CoalescingPoster {
     };
 
     @NonNull
-    private final AtomicBoolean mPosted = new AtomicBoolean();
+    private final Listener mListener;
+
+    /** Pending change bits, plus {@link #POSTED}. */
+    @NonNull
+    private final AtomicInteger mState = new AtomicInteger();
+
+    /** The most recent error posted since the last flush. */
+    @NonNull
+    private final AtomicReference<Throwable> mError = new AtomicReference<>();
+
+    CoalescingPoster(@NonNull Listener listener) {
+        mListener = listener;
+    }
 
     void post(@NonNull Runnable runnable) {
         mRunnableQueue.offer(runnable);
-        if (mPosted.compareAndSet(false, true)) {
+        postChanges(0);
+    }
+
+    /** Marks the specified changes as pending. Doesn't allocate. */
+    void postChanges(int changes) {
+        int state;
+        do {
+            state = mState.get();
+        } while (!mState.compareAndSet(state, state | changes | POSTED));
+        if ((state & POSTED) == 0) {
             mHandler.post(mFlushRunnable);
         }
     }
 
+    /** Replaces any pending error with the specified one. Doesn't allocate. */
+    void postError(@NonNull Throwable error) {
+        mError.set(error);
+        postChanges(CHANGE_ERROR);
+    }
+
     void dispose() {
         mHandler.removeCallbacks(mFlushRunnable);
     }
 
     private void flush() {
+        // Clear the state before reading anything, so writes from here on post another flush.
+        int changes = mState.getAndSet(0) & ~POSTED;
+        // An error whose change bit hasn't been set yet is left for the next flush.
+        Throwable error = (changes & CHANGE_ERROR) != 0 ? mError.getAndSet(null) : null;
+        if (error == null) {
+            // Already delivered by a previous flush, which raced with the write of its change bit.
+            changes &= ~CHANGE_ERROR;
+        }
         Runnable runnable;
         while ((runnable = mRunnableQueue.poll()) != null) {
             runnable.run();
         }
-        mPosted.set(false);
+        if (changes != 0) {
+            mListener.onChanges(changes, error);
+        }
+    }
+
+    interface Listener {
+        /** Called on the main thread with the changes posted since the last flush. */
+        void onChanges(int changes, @Nullable Throwable error);
     }
 }
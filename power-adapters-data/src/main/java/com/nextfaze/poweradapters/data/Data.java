@@ -3,6 +3,7 @@ package com.nextfaze.poweradapters.data;
 import android.os.Looper;
 import android.support.annotation.CallSuper;
 import android.support.annotation.CheckResult;
+import android.support.annotation.Nullable;
 import android.support.annotation.UiThread;
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.Predicate;
@@ -10,11 +11,14 @@ import com.nextfaze.poweradapters.internal.DataObservable;
 import lombok.NonNull;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
 import static com.nextfaze.poweradapters.data.ImmutableData.emptyImmutableData;
+import static java.util.Collections.unmodifiableList;
 
 /**
  * Provides access to a (possibly asynchronously loaded) list of elements.
@@ -65,7 +69,20 @@ public abstract class Data<T> implements Iterable<T> {
     };
 
     @NonNull
-    private final CoalescingPoster mPoster = new CoalescingPoster();
+    private final CoalescingPoster mPoster = new CoalescingPoster(new CoalescingPoster.Listener() {
+        @Override
+        public void onChanges(int changes, @Nullable Throwable error) {
+            if ((changes & CoalescingPoster.CHANGE_LOADING) != 0) {
+                mLoadingObservable.notifyLoadingChanged();
+            }
+            if ((changes & CoalescingPoster.CHANGE_AVAILABLE) != 0) {
+                mAvailableObservable.notifyAvailableChanged();
+            }
+            if (error != null) {
+                mErrorObservable.notifyError(error);
+            }
+        }
+    });
 
     /**
      * Retrieve the element at the specified position. Equivalent to calling {@link #get(int, int)} without any flags.
@@ -218,6 +235,11 @@ public abstract class Data<T> implements Iterable<T> {
         return mDataObservable.getObserverCount();
     }
 
+    /** The priority with which background loads of this instance should be scheduled. */
+    final int getLoadPriority() {
+        return getDataObserverCount() > 0 ? LoadScheduler.PRIORITY_OBSERVED : LoadScheduler.PRIORITY_UNOBSERVED;
+    }
+
     /** Returns the number of registered loading observers. */
     protected final int getLoadingObserverCount() {
         return mLoadingObservable.getObserverCount();
@@ -284,6 +306,29 @@ public abstract class Data<T> implements Iterable<T> {
         mDataObservable.notifyItemRangeChanged(positionStart, itemCount);
     }
 
+    /**
+     * Notify any registered observers that the item at <code>position</code> has changed, with a payload describing
+     * the change.
+     * @see #notifyItemRangeChanged(int, int, Object)
+     */
+    protected final void notifyItemChanged(int position, @Nullable Object payload) {
+        mDataObservable.notifyItemChanged(position, payload);
+    }
+
+    /**
+     * Notify any registered observers that the <code>itemCount</code> items starting at
+     * position <code>positionStart</code> have changed, with a payload describing the change. Observers that support
+     * payloads can then partially rebind the items.
+     * <p>
+     * Equivalent to {@link #notifyItemRangeChanged(int, int)} if {@code payload} is {@code null}.
+     * @param positionStart Position of the first item that has changed
+     * @param itemCount Number of items that have changed
+     * @param payload Describes what changed, or {@code null} to indicate a full rebind is required.
+     */
+    protected final void notifyItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+        mDataObservable.notifyItemRangeChanged(positionStart, itemCount, payload);
+    }
+
     /**
      * Notify any registered observers that the item reflected at <code>position</code>
      * has been newly inserted. The item previously at <code>position</code> is now at
@@ -381,45 +426,55 @@ public abstract class Data<T> implements Iterable<T> {
         mDataObservable.notifyItemRangeRemoved(positionStart, itemCount);
     }
 
-    /** Dispatch a available change notification on the UI thread. */
+    /**
+     * Dispatch a available change notification on the UI thread. When called from another thread, notifications are
+     * coalesced until the UI thread next runs, and the call doesn't allocate.
+     */
     protected final void notifyAvailableChanged() {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                mAvailableObservable.notifyAvailableChanged();
-            }
-        });
+        if (isUiThread()) {
+            mAvailableObservable.notifyAvailableChanged();
+        } else {
+            mPoster.postChanges(CoalescingPoster.CHANGE_AVAILABLE);
+        }
     }
 
-    /** Dispatch a loading change notification on the UI thread. */
+    /**
+     * Dispatch a loading change notification on the UI thread. When called from another thread, notifications are
+     * coalesced until the UI thread next runs, and the call doesn't allocate.
+     */
     protected final void notifyLoadingChanged() {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                mLoadingObservable.notifyLoadingChanged();
-            }
-        });
+        if (isUiThread()) {
+            mLoadingObservable.notifyLoadingChanged();
+        } else {
+            mPoster.postChanges(CoalescingPoster.CHANGE_LOADING);
+        }
     }
 
-    /** Dispatch an error notification on the UI thread. */
-    protected final void notifyError(@NonNull final Throwable e) {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                mErrorObservable.notifyError(e);
-            }
-        });
+    /**
+     * Dispatch an error notification on the UI thread. When called from another thread, only the most recent error is
+     * dispatched once the UI thread next runs.
+     */
+    protected final void notifyError(@NonNull Throwable e) {
+        if (isUiThread()) {
+            mErrorObservable.notifyError(e);
+        } else {
+            mPoster.postError(e);
+        }
     }
 
     /** Runs a task on the UI thread. If caller thread is the UI thread, the task is executed immediately. */
     protected final void runOnUiThread(@NonNull Runnable runnable) {
-        if (Looper.myLooper() == Looper.getMainLooper()) {
+        if (isUiThread()) {
             runnable.run();
         } else {
             mPoster.post(runnable);
         }
     }
 
+    private static boolean isUiThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
     @SuppressWarnings("unchecked")
     @CheckResult
     @NonNull
@@ -461,6 +516,68 @@ public abstract class Data<T> implements Iterable<T> {
         return new TransformData<>(this, function);
     }
 
+    /**
+     * Transforms this data by applying {@code function} to each element, memoizing up to {@code cacheSize} of the most
+     * recently accessed results. Use this instead of {@link #transform(Function)} when {@code function} is expensive.
+     * The function must be pure, since results are reused until the corresponding element changes.
+     * @throws IllegalArgumentException If {@code cacheSize <= 0}.
+     */
+    @CheckResult
+    @NonNull
+    public final <O> Data<O> transform(@NonNull Function<? super T, ? extends O> function, int cacheSize) {
+        return new CachingTransformData<>(this, function, cacheSize);
+    }
+
+    /**
+     * Groups adjacent elements with equal keys, as determined by {@code keyFunction}. Each group is presented as a
+     * {@link GroupHeader} row, followed by the elements of the group. Keys must implement {@link Object#equals(Object)}.
+     * Changes to this data update only the affected groups, so this data should typically be sorted by key already.
+     */
+    @CheckResult
+    @NonNull
+    public final <K> Data<Object> groupBy(@NonNull Function<? super T, ? extends K> keyFunction) {
+        return new GroupData<>(this, keyFunction);
+    }
+
+    /**
+     * Removes duplicate elements, as determined by {@link Object#equals(Object)}, keeping only the first occurrence of
+     * each.
+     */
+    @CheckResult
+    @NonNull
+    public final Data<T> distinct() {
+        return distinct(new Function<T, T>() {
+            @NonNull
+            @Override
+            public T apply(@NonNull T t) {
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Removes elements with duplicate keys, as determined by {@code keyFunction}, keeping only the first occurrence of
+     * each key. Keys must implement {@link Object#equals(Object)} and {@link Object#hashCode()}. Useful when
+     * consecutive pages of a remote collection overlap.
+     */
+    @CheckResult
+    @NonNull
+    public final Data<T> distinct(@NonNull Function<? super T, ?> keyFunction) {
+        return new DistinctData<>(this, keyFunction);
+    }
+
+    /**
+     * Returns a view of this data that can be searched by the text {@code textFunction} extracts from each element.
+     * Unlike {@linkplain #filter(Predicate) filtering} by a substring predicate, the text is indexed, so changing the
+     * query doesn't visit every element.
+     * @see SearchData#setQuery(String)
+     */
+    @CheckResult
+    @NonNull
+    public final SearchData<T> search(@NonNull Function<? super T, ? extends CharSequence> textFunction) {
+        return new SearchData<>(this, textFunction);
+    }
+
     @CheckResult
     @NonNull
     public final Data<T> offset(int offset) {
@@ -479,6 +596,17 @@ public abstract class Data<T> implements Iterable<T> {
         return new LimitData<>(this, limit);
     }
 
+    /**
+     * Returns a {@link Data} that presents the elements last persisted to {@code cache} while this data performs its
+     * first load, then notifies the difference once loaded. The elements of this data are persisted each time it
+     * finishes loading. Elements should implement {@link Object#equals(Object)}, so unchanged elements aren't rebound.
+     */
+    @CheckResult
+    @NonNull
+    public final Data<T> cache(@NonNull SnapshotCache<T> cache) {
+        return new SnapshotData<>(this, cache);
+    }
+
     /** Returns this {@link Data} as an immutable list. */
     @CheckResult
     @NonNull
@@ -486,11 +614,44 @@ public abstract class Data<T> implements Iterable<T> {
         return mList;
     }
 
+    /**
+     * Returns an immutable snapshot of the current elements, which is unaffected by subsequent changes to this data,
+     * and may be read from any thread. By default, copies the elements, but implementations backed by a copy-on-write
+     * list return a snapshot in {@code O(1)}.
+     */
+    @UiThread
+    @CheckResult
+    @NonNull
+    public List<T> snapshot() {
+        return unmodifiableList(new ArrayList<>(asList()));
+    }
+
     @NonNull
     public static <T> Data<T> emptyData() {
         return emptyImmutableData();
     }
 
+    /**
+     * Merges the specified data, each of which must already be sorted according to {@code comparator}, into a single
+     * sorted data. Unlike concatenating and then {@linkplain #sort(Comparator) sorting}, changes to a source are applied
+     * incrementally, without sorting again.
+     */
+    @SafeVarargs
+    @CheckResult
+    @NonNull
+    public static <T> Data<T> mergeSorted(@NonNull Comparator<? super T> comparator,
+                                          @NonNull Data<? extends T>... data) {
+        return mergeSorted(comparator, Arrays.asList(data));
+    }
+
+    /** @see #mergeSorted(Comparator, Data[]) */
+    @CheckResult
+    @NonNull
+    public static <T> Data<T> mergeSorted(@NonNull Comparator<? super T> comparator,
+                                          @NonNull List<? extends Data<? extends T>> data) {
+        return new MergeSortedData<>(comparator, new ArrayList<>(data));
+    }
+
     public interface Transformer<T, R> {
         @NonNull
         Data<R> transform(@NonNull Data<T> data);
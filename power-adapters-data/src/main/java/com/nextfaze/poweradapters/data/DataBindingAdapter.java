@@ -1,6 +1,8 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.SimpleDataObserver;
 import com.nextfaze.poweradapters.binding.Binder;
 import com.nextfaze.poweradapters.binding.BindingAdapter;
 import com.nextfaze.poweradapters.binding.Mapper;
@@ -11,7 +13,7 @@ import static com.nextfaze.poweradapters.binding.Mappers.singletonMapper;
 public final class DataBindingAdapter extends BindingAdapter {
 
     @NonNull
-    private final DataObserver mDataObserver = new DataObserver() {
+    private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
             notifyDataSetChanged();
@@ -22,6 +24,11 @@ public final class DataBindingAdapter extends BindingAdapter {
             notifyItemRangeChanged(positionStart, itemCount);
         }
 
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            notifyItemRangeChanged(positionStart, itemCount, payload);
+        }
+
         @Override
         public void onItemRangeInserted(int positionStart, int itemCount) {
             notifyItemRangeInserted(positionStart, itemCount);
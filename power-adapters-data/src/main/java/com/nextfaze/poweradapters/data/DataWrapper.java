@@ -1,6 +1,8 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.SimpleDataObserver;
 import lombok.NonNull;
 
 public abstract class DataWrapper<T> extends Data<T> {
@@ -9,7 +11,7 @@ public abstract class DataWrapper<T> extends Data<T> {
     private final Data<?> mData;
 
     @NonNull
-    private final DataObserver mDataObserver = new DataObserver() {
+    private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
             forwardChanged();
@@ -17,7 +19,12 @@ public abstract class DataWrapper<T> extends Data<T> {
 
         @Override
         public void onItemRangeChanged(int positionStart, int itemCount) {
-            forwardItemRangeChanged(positionStart, itemCount);
+            forwardItemRangeChanged(positionStart, itemCount, null);
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            forwardItemRangeChanged(positionStart, itemCount, payload);
         }
 
         @Override
@@ -160,6 +167,16 @@ public abstract class DataWrapper<T> extends Data<T> {
         notifyItemRangeChanged(innerToOuter(innerPositionStart), innerItemCount);
     }
 
+    /**
+     * Forwards a change accompanied by a payload. By default, discards the payload and delegates to {@link
+     * #forwardItemRangeChanged(int, int)}, so subclasses overriding only that method still see every change. Override
+     * this method to forward payloads.
+     * @param payload The payload of the change, or {@code null} if none was supplied.
+     */
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        forwardItemRangeChanged(innerPositionStart, innerItemCount);
+    }
+
     protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
         notifyItemRangeInserted(innerToOuter(innerPositionStart), innerItemCount);
     }
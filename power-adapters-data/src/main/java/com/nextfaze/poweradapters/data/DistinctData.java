@@ -0,0 +1,229 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+/**
+ * Presents only the first occurrence of each key among the elements of the wrapped data. Keys are held in a hash index,
+ * so determining if an inserted element is a duplicate doesn't require scanning the other elements. When the first
+ * occurrence of a key is removed or changed, the next occurrence is presented in its place. The other occurrences of a
+ * key are kept ordered by inner position, so neither finding the next occurrence nor removing one scans the others.
+ */
+final class DistinctData<T> extends DataWrapper<T> {
+
+    @NonNull
+    private final Data<? extends T> mData;
+
+    @NonNull
+    private final Function<? super T, ?> mKeyFunction;
+
+    /** An entry for each inner element, in inner order. Entries that are presented are marked. */
+    @NonNull
+    private final RankTree<Entry> mEntries = new RankTree<>();
+
+    @NonNull
+    private final HashMap<Object, Occurrences> mOccurrences = new HashMap<>();
+
+    /**
+     * Orders entries by inner position. Insertions and removals never reorder existing entries relative to each other,
+     * so sets ordered by this remain valid as the inner data changes.
+     */
+    @NonNull
+    private final Comparator<Entry> mInnerOrder = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry lhs, Entry rhs) {
+            return compareInts(mEntries.rank(lhs.node), mEntries.rank(rhs.node));
+        }
+    };
+
+    DistinctData(@NonNull Data<? extends T> data, @NonNull Function<? super T, ?> keyFunction) {
+        super(data);
+        mData = data;
+        mKeyFunction = keyFunction;
+    }
+
+    @Override
+    public int size() {
+        return mEntries.markedSize();
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        return mData.get(mEntries.rank(mEntries.selectMarked(position)), flags);
+    }
+
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        rebuild();
+        int itemCount = size();
+        if (itemCount > 0) {
+            notifyItemRangeInserted(0, itemCount);
+        }
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        clear();
+    }
+
+    @Override
+    protected void forwardChanged() {
+        rebuild();
+        notifyDataSetChanged();
+    }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
+            Entry entry = mEntries.get(innerPosition);
+            Object key = key(innerPosition);
+            if (entry.key.equals(key)) {
+                if (entry.node.marked) {
+                    notifyItemChanged(mEntries.markedRank(entry.node), payload);
+                }
+            } else {
+                remove(entry, true);
+                insert(innerPosition, key, true);
+            }
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
+        for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
+            insert(innerPosition, key(innerPosition), true);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeRemoved(int innerPositionStart, int innerItemCount) {
+        for (int i = 0; i < innerItemCount; i++) {
+            remove(mEntries.get(innerPositionStart), true);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
+        // A move can change which occurrence comes first, so treat as a removal followed by an insertion.
+        forwardItemRangeRemoved(innerFromPosition, innerItemCount);
+        forwardItemRangeInserted(innerToPosition, innerItemCount);
+    }
+
+    private void rebuild() {
+        clear();
+        int size = mData.size();
+        for (int innerPosition = 0; innerPosition < size; innerPosition++) {
+            insert(innerPosition, key(innerPosition), false);
+        }
+    }
+
+    private void clear() {
+        mEntries.clear();
+        mOccurrences.clear();
+    }
+
+    private void insert(int innerPosition, @NonNull Object key, boolean notify) {
+        Entry entry = new Entry(key);
+        entry.node = mEntries.insert(innerPosition, entry);
+        Occurrences occurrences = mOccurrences.get(key);
+        if (occurrences == null) {
+            mOccurrences.put(key, new Occurrences(entry));
+            present(entry, notify);
+        } else if (innerPosition < mEntries.rank(occurrences.first.node)) {
+            // The new entry precedes the current first occurrence, so takes its place.
+            Entry first = occurrences.first;
+            hide(first, notify);
+            occurrences.addDuplicate(first);
+            occurrences.first = entry;
+            present(entry, notify);
+        } else {
+            occurrences.addDuplicate(entry);
+        }
+    }
+
+    private void remove(@NonNull Entry entry, boolean notify) {
+        Occurrences occurrences = mOccurrences.get(entry.key);
+        if (entry != occurrences.first) {
+            // Must be removed from the set while its node still has a rank.
+            occurrences.duplicates.remove(entry);
+            mEntries.remove(entry.node);
+            return;
+        }
+        hide(entry, notify);
+        mEntries.remove(entry.node);
+        TreeSet<Entry> duplicates = occurrences.duplicates;
+        if (duplicates == null || duplicates.isEmpty()) {
+            mOccurrences.remove(entry.key);
+            return;
+        }
+        // Promote the earliest remaining duplicate.
+        occurrences.first = duplicates.pollFirst();
+        present(occurrences.first, notify);
+    }
+
+    private void present(@NonNull Entry entry, boolean notify) {
+        mEntries.setMarked(entry.node, true);
+        if (notify) {
+            notifyItemInserted(mEntries.markedRank(entry.node));
+        }
+    }
+
+    private void hide(@NonNull Entry entry, boolean notify) {
+        int outerPosition = mEntries.markedRank(entry.node);
+        mEntries.setMarked(entry.node, false);
+        if (notify) {
+            notifyItemRemoved(outerPosition);
+        }
+    }
+
+    @NonNull
+    private Object key(int innerPosition) {
+        return mKeyFunction.apply(mData.get(innerPosition));
+    }
+
+    private static int compareInts(int lhs, int rhs) {
+        return lhs < rhs ? -1 : (lhs == rhs ? 0 : 1);
+    }
+
+    private static final class Entry {
+
+        @NonNull
+        final Object key;
+
+        RankTree.Node<Entry> node;
+
+        Entry(@NonNull Object key) {
+            this.key = key;
+        }
+    }
+
+    /** All entries sharing a key. */
+    private final class Occurrences {
+
+        /** The presented entry, which is the earliest in inner order. */
+        @NonNull
+        Entry first;
+
+        /** Other entries in inner order, created when the key is first duplicated. */
+        @Nullable
+        TreeSet<Entry> duplicates;
+
+        Occurrences(@NonNull Entry first) {
+            this.first = first;
+        }
+
+        void addDuplicate(@NonNull Entry entry) {
+            if (duplicates == null) {
+                duplicates = new TreeSet<>(mInnerOrder);
+            }
+            duplicates.add(entry);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+
+/**
+ * Groups adjacent elements of the wrapped data with equal keys, presenting a {@link GroupHeader} row before each group,
+ * followed by the elements of the group. Inner changes are applied to the affected groups only: a group is split when
+ * an element with a different key is inserted into it, and neighbouring groups are joined when the elements separating
+ * them are removed.
+ */
+final class GroupData<T, K> extends DataWrapper<Object> {
+
+    @NonNull
+    private final Data<? extends T> mData;
+
+    @NonNull
+    private final Function<? super T, ? extends K> mKeyFunction;
+
+    /** Groups in order, each covering a contiguous range of inner positions. */
+    @NonNull
+    private final ArrayList<Group<K>> mGroups = new ArrayList<>();
+
+    /** The number of inner elements covered by the groups. */
+    private int mInnerSize;
+
+    GroupData(@NonNull Data<? extends T> data, @NonNull Function<? super T, ? extends K> keyFunction) {
+        super(data);
+        mData = data;
+        mKeyFunction = keyFunction;
+    }
+
+    @Override
+    public int size() {
+        return mInnerSize + mGroups.size();
+    }
+
+    @NonNull
+    @Override
+    public Object get(int position, int flags) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Position " + position + ", size " + size());
+        }
+        int g = groupAtOuterPosition(position);
+        Group<K> group = mGroups.get(g);
+        if (position == group.start + g) {
+            return group.header;
+        }
+        // Each group preceding the element, including its own, contributes one header row.
+        return mData.get(position - g - 1, flags);
+    }
+
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        rebuild();
+        int itemCount = size();
+        if (itemCount > 0) {
+            notifyItemRangeInserted(0, itemCount);
+        }
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        mGroups.clear();
+        mInnerSize = 0;
+    }
+
+    @Override
+    protected void forwardChanged() {
+        rebuild();
+        notifyDataSetChanged();
+    }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
+            change(innerPosition, payload);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
+        for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
+            insert(innerPosition, key(innerPosition));
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeRemoved(int innerPositionStart, int innerItemCount) {
+        for (int i = 0; i < innerItemCount; i++) {
+            remove(innerPositionStart);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
+        // The moved elements may change group, so treat as a removal followed by an insertion.
+        forwardItemRangeRemoved(innerFromPosition, innerItemCount);
+        forwardItemRangeInserted(innerToPosition, innerItemCount);
+    }
+
+    private void rebuild() {
+        mGroups.clear();
+        mInnerSize = mData.size();
+        Group<K> group = null;
+        for (int innerPosition = 0; innerPosition < mInnerSize; innerPosition++) {
+            K key = key(innerPosition);
+            if (group != null && group.key.equals(key)) {
+                group.count++;
+            } else {
+                group = new Group<>(key, innerPosition, 1);
+                mGroups.add(group);
+            }
+        }
+    }
+
+    private void insert(int innerPosition, @NonNull K key) {
+        int g = innerPosition < mInnerSize ? groupAtInnerPosition(innerPosition) : mGroups.size();
+        mInnerSize++;
+        if (g < mGroups.size() && mGroups.get(g).start < innerPosition) {
+            // Inserting within a group.
+            Group<K> group = mGroups.get(g);
+            int outerPosition = innerPosition + g + 1;
+            if (group.key.equals(key)) {
+                group.count++;
+                shift(g + 1, +1);
+                notifyItemInserted(outerPosition);
+            } else {
+                // Split the group around a new one.
+                int end = group.start + group.count;
+                group.count = innerPosition - group.start;
+                mGroups.add(g + 1, new Group<>(key, innerPosition, 1));
+                mGroups.add(g + 2, new Group<>(group.key, innerPosition + 1, end - innerPosition));
+                shift(g + 3, +1);
+                notifyItemRangeInserted(outerPosition, 3);
+            }
+            return;
+        }
+        // Inserting between the end of group g - 1 and the start of group g.
+        Group<K> before = g > 0 ? mGroups.get(g - 1) : null;
+        Group<K> after = g < mGroups.size() ? mGroups.get(g) : null;
+        if (before != null && before.key.equals(key)) {
+            before.count++;
+            shift(g, +1);
+            notifyItemInserted(innerPosition + g);
+        } else if (after != null && after.key.equals(key)) {
+            after.count++;
+            shift(g + 1, +1);
+            notifyItemInserted(innerPosition + g + 1);
+        } else {
+            mGroups.add(g, new Group<>(key, innerPosition, 1));
+            shift(g + 1, +1);
+            notifyItemRangeInserted(innerPosition + g, 2);
+        }
+    }
+
+    private void remove(int innerPosition) {
+        int g = groupAtInnerPosition(innerPosition);
+        Group<K> group = mGroups.get(g);
+        int outerPosition = innerPosition + g + 1;
+        mInnerSize--;
+        if (group.count > 1) {
+            group.count--;
+            shift(g + 1, -1);
+            notifyItemRemoved(outerPosition);
+            return;
+        }
+        mGroups.remove(g);
+        shift(g, -1);
+        notifyItemRangeRemoved(outerPosition - 1, 2);
+        // Join the neighbouring groups if they're no longer separated.
+        if (g > 0 && g < mGroups.size()) {
+            Group<K> before = mGroups.get(g - 1);
+            Group<K> after = mGroups.get(g);
+            if (before.key.equals(after.key)) {
+                before.count += after.count;
+                mGroups.remove(g);
+                notifyItemRemoved(after.start + g);
+            }
+        }
+    }
+
+    private void change(int innerPosition, @Nullable Object payload) {
+        K key = key(innerPosition);
+        int g = groupAtInnerPosition(innerPosition);
+        Group<K> group = mGroups.get(g);
+        if (group.key.equals(key)) {
+            notifyItemChanged(innerPosition + g + 1, payload);
+        } else if (group.count == 1 && !keyEquals(g - 1, key) && !keyEquals(g + 1, key)) {
+            // The element forms a group of its own either way, so just replace the group.
+            mGroups.set(g, new Group<>(key, innerPosition, 1));
+            notifyItemRangeChanged(innerPosition + g, 2);
+        } else {
+            remove(innerPosition);
+            insert(innerPosition, key);
+        }
+    }
+
+    private boolean keyEquals(int g, @NonNull K key) {
+        return g >= 0 && g < mGroups.size() && mGroups.get(g).key.equals(key);
+    }
+
+    /** Adds {@code delta} to the start of each group from index {@code g} onwards. */
+    private void shift(int g, int delta) {
+        for (int i = g; i < mGroups.size(); i++) {
+            mGroups.get(i).start += delta;
+        }
+    }
+
+    /** Returns the index of the group containing the specified inner position. */
+    private int groupAtInnerPosition(int innerPosition) {
+        int lo = 0;
+        int hi = mGroups.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (mGroups.get(mid).start <= innerPosition) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /** Returns the index of the group containing the specified outer position, which may be its header. */
+    private int groupAtOuterPosition(int outerPosition) {
+        int lo = 0;
+        int hi = mGroups.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (mGroups.get(mid).start + mid <= outerPosition) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    @NonNull
+    private K key(int innerPosition) {
+        return mKeyFunction.apply(mData.get(innerPosition));
+    }
+
+    private static final class Group<K> {
+
+        @NonNull
+        final K key;
+
+        @NonNull
+        final GroupHeader<K> header;
+
+        /** The inner position of the first element. */
+        int start;
+
+        int count;
+
+        Group(@NonNull K key, int start, int count) {
+            this.key = key;
+            this.header = new GroupHeader<>(key);
+            this.start = start;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.nextfaze.poweradapters.data;
+
+import lombok.NonNull;
+
+/**
+ * The header row preceding each group of elements in {@link Data} returned by {@link Data#groupBy(Function)}. A new
+ * header instance is created each time a group is formed, so headers may be used to identify groups.
+ * @param <K> The type of key the group was formed by.
+ */
+public final class GroupHeader<K> {
+
+    @NonNull
+    private final K mKey;
+
+    GroupHeader(@NonNull K key) {
+        mKey = key;
+    }
+
+    /** Returns the key shared by all elements of this group. */
+    @NonNull
+    public K getKey() {
+        return mKey;
+    }
+
+    @Override
+    public String toString() {
+        return "GroupHeader(" + mKey + ")";
+    }
+}
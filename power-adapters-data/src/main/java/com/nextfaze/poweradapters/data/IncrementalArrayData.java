@@ -8,47 +8,83 @@ import com.nextfaze.poweradapters.internal.NotifyingArrayList;
 import lombok.NonNull;
 
 import java.io.Closeable;
-import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
+import static java.lang.Math.ceil;
 import static java.lang.Math.max;
-import static java.lang.Thread.currentThread;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
 
 /**
  * Mutable {@link Data} implementation backed by an {@link ArrayList}, which is loaded incrementally until the source
  * has no more data. Cannot contain {@code null} elements. Not thread-safe.
+ * <p>
+ * Each increment is loaded as a separate job on a {@link LoadScheduler}, so no thread is held while waiting for the
+ * next increment to be requested.
+ * <p>
+ * By default the look-ahead adapts to how quickly elements are being presented and how long each {@link #load()}
+ * takes, so that the next increment is usually loaded by the time it's scrolled to. Several increments may also be
+ * loaded concurrently by overriding {@link #load(int)} and calling {@link #setMaxLoadsInFlight(int)}. Results are
+ * always applied in order.
  * @param <T> The type of element this data contains.
  */
 public abstract class IncrementalArrayData<T> extends Data<T> implements Closeable {
 
-    private static final ThreadFactory DEFAULT_THREAD_FACTORY = new NamedThreadFactory("Incremental Array Data Thread %d");
+    /** Upper bound of the adaptive look-ahead, in rows. */
+    private static final int MAX_ADAPTIVE_LOOK_AHEAD_ROW_COUNT = 1000;
+
+    /** Weight given to each new sample of the consumption rate, load latency, and increment size. */
+    private static final double SAMPLE_WEIGHT = 0.25;
+
+    /** Multiple of the expected consumption during one load that the adaptive look-ahead aims to stay ahead of. */
+    private static final double LOOK_AHEAD_HEADROOM = 2;
 
     @NonNull
     private final NotifyingArrayList<T> mData = new NotifyingArrayList<>(mDataObservable);
 
     @NonNull
-    private final ThreadFactory mThreadFactory;
+    private final LoadScheduler mScheduler;
 
+    /** Increments currently loading or awaiting application, in increment order. */
     @NonNull
-    private final Lock mLock = new ReentrantLock();
+    private final ArrayDeque<Increment> mIncrements = new ArrayDeque<>();
 
-    @NonNull
-    private final Condition mLoad = mLock.newCondition();
+    /** The minimum number of rows to look ahead before loading. */
+    private int mLookAheadRowCount = 5;
 
-    /** The number of rows to look ahead before loading. */
-    private volatile int mLookAheadRowCount = 5;
+    private boolean mAdaptiveLookAhead = true;
 
-    @Nullable
-    private Thread mThread;
+    private int mMaxLoadsInFlight = 1;
+
+    /** Index of the next increment to be loaded, relative to the start of loading. */
+    private int mNextIncrement;
+
+    /** Indicates loading has begun from the start, and hasn't since been canceled. */
+    private boolean mStarted;
+
+    /** Indicates the source has more elements to be loaded. */
+    private boolean mMoreAvailable;
 
-    /** Indicates the last attempt to load a page failed. */
-    private volatile boolean mError;
+    /** Indicates the last attempt to load an increment failed. */
+    private boolean mError;
+
+    /** The greatest position presented since elements were last cleared. */
+    private int mPresentedPosition = -1;
+
+    private long mPresentedNanos;
+
+    /** Smoothed rate at which rows are being presented, in rows per nanosecond. */
+    private double mConsumptionRate;
+
+    /** Smoothed duration of {@link #load(int)}, in nanoseconds. */
+    private double mLoadNanos;
+
+    /** Smoothed number of elements per increment. */
+    private double mIncrementSize;
 
     private boolean mLoading;
     private int mAvailable = Integer.MAX_VALUE;
@@ -56,20 +92,28 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     private boolean mClear;
 
     protected IncrementalArrayData() {
-        this(DEFAULT_THREAD_FACTORY);
+        this(LoadScheduler.getDefault());
     }
 
+    /** @param scheduler The scheduler on which each increment will be loaded. */
     @SuppressWarnings("WeakerAccess")
+    protected IncrementalArrayData(@NonNull LoadScheduler scheduler) {
+        mScheduler = scheduler;
+    }
+
+    /** @deprecated Use {@link #IncrementalArrayData(LoadScheduler)} instead. */
+    @Deprecated
     protected IncrementalArrayData(@NonNull ThreadFactory threadFactory) {
-        mThreadFactory = threadFactory;
+        this(new LoadScheduler(1, threadFactory));
     }
 
     @CallSuper
     @Override
     public void close() {
-        stopThread();
+        cancel();
         mData.clear();
         mData.trimToSize();
+        mPresentedPosition = -1;
     }
 
     @Override
@@ -82,8 +126,9 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     public final T get(int position, int flags) {
         // Requested end of data? Time to load more.
         // The presence of the presentation flag indicates this is a good time to continue loading elements.
-        if ((flags & FLAG_PRESENTATION) != 0 && position >= size() - 1 - mLookAheadRowCount) {
-            proceed();
+        if ((flags & FLAG_PRESENTATION) != 0) {
+            onPresented(position);
+            prefetch();
         }
         return mData.get(position);
     }
@@ -92,6 +137,7 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         mClear = false;
         onClear();
         mData.clear();
+        mPresentedPosition = -1;
     }
 
     @Override
@@ -102,10 +148,10 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
 
     @Override
     public final void refresh() {
-        stopThread();
+        cancel();
         mDirty = true;
-        if (!startThreadIfNeeded()) {
-            setLoading(false);
+        if (!startIfNeeded()) {
+            updateLoading();
         }
     }
 
@@ -115,10 +161,13 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         refresh();
     }
 
-    /** Load the next increment of elements. */
+    /** Load the next increment of elements, unless one is already loading. */
     @UiThread
     public final void loadNext() {
-        proceed();
+        mError = false;
+        if (mIncrements.isEmpty()) {
+            loadIncrementIfPossible();
+        }
     }
 
     @UiThread
@@ -126,12 +175,47 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         return mLookAheadRowCount;
     }
 
-    /** Set the number of rows to "look ahead" before loading automatically. A negative value disables look ahead. */
+    /**
+     * Set the minimum number of rows to "look ahead" before loading automatically. If adaptive look-ahead is enabled,
+     * the actual look-ahead may be larger. A negative value disables look ahead.
+     */
     @UiThread
     public final void setLookAheadRowCount(int lookAheadRowCount) {
         mLookAheadRowCount = lookAheadRowCount;
     }
 
+    @UiThread
+    public final boolean isAdaptiveLookAhead() {
+        return mAdaptiveLookAhead;
+    }
+
+    /**
+     * Sets whether the look-ahead is extended beyond {@link #getLookAheadRowCount()} based on the rate at which rows
+     * are being presented, and the time taken to load each increment. Enabled by default.
+     */
+    @UiThread
+    public final void setAdaptiveLookAhead(boolean adaptiveLookAhead) {
+        mAdaptiveLookAhead = adaptiveLookAhead;
+    }
+
+    @UiThread
+    public final int getMaxLoadsInFlight() {
+        return mMaxLoadsInFlight;
+    }
+
+    /**
+     * Sets the maximum number of increments that may be loading at the same time. Defaults to {@code 1}. Values
+     * greater than {@code 1} require {@link #load(int)} to be overridden, since increments are then loaded
+     * concurrently. Results are always applied in increment order.
+     */
+    @UiThread
+    public final void setMaxLoadsInFlight(int maxLoadsInFlight) {
+        if (maxLoadsInFlight <= 0) {
+            throw new IllegalArgumentException("Max loads in flight must be > 0");
+        }
+        mMaxLoadsInFlight = maxLoadsInFlight;
+    }
+
     @Override
     public final boolean isLoading() {
         return mLoading;
@@ -152,20 +236,33 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         return mData;
     }
 
+    /** Returns a snapshot of the elements in {@code O(1)}. The elements are copied by the next change instead. */
+    @NonNull
+    @Override
+    public List<T> snapshot() {
+        return mData.snapshot();
+    }
+
     @CallSuper
     @Override
     protected void onFirstDataObserverRegistered() {
         super.onFirstDataObserverRegistered();
+        updatePriority();
         if (mError) {
             // Last attempt to load an increment failed, so try again now we've become visible again.
-            proceed();
+            loadNext();
         }
         if (mClear) {
-            mClear = false;
-            onClear();
-            mData.clear();
+            clear();
         }
-        startThreadIfNeeded();
+        startIfNeeded();
+    }
+
+    @CallSuper
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        updatePriority();
     }
 
     /**
@@ -178,6 +275,19 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     @Nullable
     protected abstract Result<? extends T> load() throws Throwable;
 
+    /**
+     * Called from a worker thread to load the specified increment of items. Must be overridden if
+     * {@link #setMaxLoadsInFlight(int)} is greater than {@code 1}, in which case it may be called concurrently, and
+     * increments may be loaded speculatively beyond the end of the data set. By default, delegates to {@link #load()}.
+     * @param increment The zero-based index of the increment to load, relative to the start of loading.
+     * @see #load()
+     */
+    @WorkerThread
+    @Nullable
+    protected Result<? extends T> load(int increment) throws Throwable {
+        return load();
+    }
+
     /** Called prior to elements being cleared. Always called from the UI thread. */
     @UiThread
     protected void onClear() {
@@ -188,96 +298,155 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     protected void onLoadBegin() {
     }
 
-    private boolean startThreadIfNeeded() {
-        if (mDirty && mThread == null && getDataObserverCount() > 0) {
+    private boolean startIfNeeded() {
+        if (mDirty && !mStarted && getDataObserverCount() > 0) {
             mDirty = false;
+            mStarted = true;
+            mMoreAvailable = true;
+            mNextIncrement = 0;
             onLoadBegin();
-            setLoading(true);
-            mThread = mThreadFactory.newThread(new Runnable() {
-                @Override
-                public void run() {
-                    runLoadLoop();
-                }
-            });
-            mThread.start();
+            loadIncrementIfPossible();
             return true;
         }
         return false;
     }
 
-    private void stopThread() {
-        if (mThread != null) {
-            mThread.interrupt();
-            mThread = null;
+    private void cancel() {
+        mStarted = false;
+        cancelIncrements();
+    }
+
+    private void cancelIncrements() {
+        while (!mIncrements.isEmpty()) {
+            mIncrements.removeLast().task.cancel();
         }
     }
 
-    private void runLoadLoop() {
-        try {
-            loadLoop();
-        } catch (InterruptedException e) {
-            // Normal thread termination.
+    /** Records the presentation of the specified position, sampling the rate at which rows are being consumed. */
+    private void onPresented(int position) {
+        long now = nanoTime();
+        if (mPresentedPosition >= 0 && position > mPresentedPosition) {
+            long elapsed = now - mPresentedNanos;
+            if (elapsed > 0) {
+                mConsumptionRate = smooth(mConsumptionRate, (double) (position - mPresentedPosition) / elapsed);
+            }
+        }
+        if (position > mPresentedPosition || mPresentedPosition >= size()) {
+            mPresentedPosition = position;
+            mPresentedNanos = now;
         }
     }
 
-    /**
-     * Loads each increment until full range has been loading, halting in between increment until instructed to
-     * proceed.
-     */
-    private void loadLoop() throws InterruptedException {
-        boolean firstItem = true;
-        boolean moreAvailable = true;
-
-        // Loop until all loaded.
-        while (moreAvailable) {
-            // Thread interruptions terminate the loop.
-            if (currentThread().isInterrupted()) {
-                throw new InterruptedException();
+    /** Loads further increments while the presented position is within the look-ahead of the expected end. */
+    private void prefetch() {
+        if (mLookAheadRowCount < 0 || mPresentedPosition < 0) {
+            return;
+        }
+        int lookAhead = lookAheadRowCount();
+        while (mIncrements.size() < mMaxLoadsInFlight && mPresentedPosition >= expectedSize() - 1 - lookAhead) {
+            // Reaching the end also retries after an error.
+            mError = false;
+            if (!loadIncrementIfPossible()) {
+                break;
             }
-            try {
-                setLoading(true);
+        }
+    }
 
-                // Load next increment of items.
-                final Result<? extends T> result = load();
-                moreAvailable = result != null && result.getRemaining() > 0;
-                setAvailable(result != null ? result.getRemaining() : 0);
+    /** The number of rows expected once all increments in flight have been applied. */
+    private int expectedSize() {
+        int pending = 0;
+        if (!mIncrements.isEmpty()) {
+            pending = (int) ceil(max(1, mIncrementSize) * mIncrements.size());
+        }
+        return mData.size() + pending;
+    }
 
-                // If invalidated while shown, we lazily clear the data so the user doesn't see blank data while loading.
-                final boolean needToClear = firstItem;
-                firstItem = false;
-                runOnUiThread(new Runnable() {
-                    @Override
-                    public void run() {
-                        List<? extends T> elements =
-                                result != null ? result.getElements() : Collections.<T>emptyList();
-                        if (needToClear) {
-                            overwriteResult(elements);
-                        } else {
-                            appendResult(elements);
-                        }
-                        setLoading(false);
-                    }
-                });
-            } catch (InterruptedException e) {
-                throw e;
-            } catch (InterruptedIOException e) {
-                InterruptedException interruptedException = new InterruptedException();
-                interruptedException.initCause(e);
-                throw interruptedException;
-            } catch (final Throwable e) {
-                runOnUiThread(new Runnable() {
-                    @Override
-                    public void run() {
-                        notifyError(e);
-                    }
-                });
+    private int lookAheadRowCount() {
+        if (!mAdaptiveLookAhead) {
+            return mLookAheadRowCount;
+        }
+        int adaptive = (int) min(MAX_ADAPTIVE_LOOK_AHEAD_ROW_COUNT,
+                ceil(mConsumptionRate * mLoadNanos * LOOK_AHEAD_HEADROOM));
+        return max(mLookAheadRowCount, adaptive);
+    }
+
+    private boolean loadIncrementIfPossible() {
+        if (!mStarted || !mMoreAvailable || mError) {
+            return false;
+        }
+        final Increment increment = new Increment(mNextIncrement++);
+        increment.task = new Task<Result<? extends T>>() {
+            @Override
+            protected Result<? extends T> call() throws Throwable {
+                long start = nanoTime();
+                Result<? extends T> result = load(increment.index);
+                increment.loadNanos = nanoTime() - start;
+                return result;
+            }
+
+            @Override
+            protected void onSuccess(@Nullable Result<? extends T> result) throws Throwable {
+                // Canceled increments are removed, but a callback may have been posted before the cancellation.
+                if (mIncrements.contains(increment)) {
+                    increment.result = result != null ? result : Result.<T>noneRemaining();
+                    increment.done = true;
+                    applyIncrements();
+                }
+            }
+
+            @Override
+            protected void onFailure(@NonNull Throwable e) throws Throwable {
+                if (mIncrements.contains(increment)) {
+                    increment.error = e;
+                    increment.done = true;
+                    applyIncrements();
+                }
+            }
+        };
+        mIncrements.addLast(increment);
+        updateLoading();
+        increment.task.execute(mScheduler, getLoadPriority());
+        return true;
+    }
+
+    /** Applies completed increments in order, stopping at the first still loading. */
+    private void applyIncrements() {
+        while (!mIncrements.isEmpty() && mIncrements.peekFirst().done) {
+            Increment increment = mIncrements.removeFirst();
+            if (increment.error != null) {
+                // Discard later increments; they'll be loaded again once loading is explicitly resumed.
                 mError = true;
-                setLoading(false);
+                mNextIncrement = increment.index;
+                cancelIncrements();
+                updateLoading();
+                notifyError(increment.error);
+                return;
             }
+            Result<? extends T> result = increment.result;
+            mLoadNanos = smooth(mLoadNanos, increment.loadNanos);
+            mIncrementSize = smooth(mIncrementSize, result.getElements().size());
+            setAvailable(result.getRemaining());
+            if (increment.index == 0) {
+                // If invalidated while shown, we lazily clear the data so the user doesn't see blank data while loading.
+                overwriteResult(result.getElements());
+            } else {
+                appendResult(result.getElements());
+            }
+            if (result.getRemaining() <= 0) {
+                // Any later increments were speculative.
+                mMoreAvailable = false;
+                cancelIncrements();
+            }
+        }
+        updateLoading();
+        // Continue prefetching if the presented position is still within the look-ahead.
+        prefetch();
+    }
 
-            // Block until instructed to continue, even if an error occurred.
-            // In this case, loading must be explicitly resumed.
-            block();
+    private void updatePriority() {
+        int priority = getLoadPriority();
+        for (Increment increment : mIncrements) {
+            increment.task.setPriority(priority);
         }
     }
 
@@ -285,52 +454,51 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         mClear = false;
         onClear();
         mData.replaceAll(result);
+        mPresentedPosition = min(mPresentedPosition, mData.size() - 1);
     }
 
     private void appendResult(@NonNull List<? extends T> result) {
         mData.addAll(result);
     }
 
-    private void setLoading(final boolean loading) {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                if (mLoading != loading) {
-                    mLoading = loading;
-                    notifyLoadingChanged();
-                }
-            }
-        });
+    private void updateLoading() {
+        boolean loading = !mIncrements.isEmpty();
+        if (mLoading != loading) {
+            mLoading = loading;
+            notifyLoadingChanged();
+        }
     }
 
-    private void setAvailable(final int available) {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                if (mAvailable != available) {
-                    mAvailable = available;
-                    notifyAvailableChanged();
-                }
-            }
-        });
+    private void setAvailable(int available) {
+        if (mAvailable != available) {
+            mAvailable = available;
+            notifyAvailableChanged();
+        }
     }
 
-    private void block() throws InterruptedException {
-        mLock.lock();
-        try {
-            mLoad.await();
-        } finally {
-            mLock.unlock();
-        }
+    private static double smooth(double average, double sample) {
+        return average == 0 ? sample : average + (sample - average) * SAMPLE_WEIGHT;
     }
 
-    private void proceed() {
-        mError = false;
-        mLock.lock();
-        try {
-            mLoad.signal();
-        } finally {
-            mLock.unlock();
+    private final class Increment {
+
+        final int index;
+
+        Task<Result<? extends T>> task;
+
+        /** Written by the worker thread before the task's callbacks are posted. */
+        volatile long loadNanos;
+
+        @Nullable
+        Result<? extends T> result;
+
+        @Nullable
+        Throwable error;
+
+        boolean done;
+
+        Increment(int index) {
+            this.index = index;
         }
     }
 
@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 import static java.lang.Math.*;
@@ -56,9 +57,9 @@ final class LimitData<T> extends DataWrapper<T> {
     }
 
     @Override
-    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount) {
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
         if (innerItemCount > 0 && innerPositionStart < mLimit) {
-            notifyItemRangeChanged(innerPositionStart, min(innerItemCount, mLimit - innerPositionStart));
+            notifyItemRangeChanged(innerPositionStart, min(innerItemCount, mLimit - innerPositionStart), payload);
         }
     }
 
@@ -0,0 +1,199 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.ThreadFactory;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Executes the background loads of {@link ArrayData}, {@link IncrementalArrayData}, and {@link PagedData} instances,
+ * running at most a fixed number of loads concurrently. Loads of {@link Data} instances that currently have observers
+ * are run before loads of those that don't. Worker threads are created on demand, and terminate after being idle for
+ * a short period, so no threads are retained while nothing is loading.
+ * <p>
+ * All {@link Data} instances share the {@linkplain #getDefault() default scheduler}, unless constructed with their own.
+ * The default can be replaced with {@link #setDefault(LoadScheduler)}, which only affects instances created afterwards.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class LoadScheduler {
+
+    /** Priority of loads for {@link Data} with no observers. */
+    static final int PRIORITY_UNOBSERVED = 0;
+
+    /** Priority of loads for {@link Data} with observers. */
+    static final int PRIORITY_OBSERVED = 1;
+
+    private static final int DEFAULT_MAX_CONCURRENCY = max(2, min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final long KEEP_ALIVE_MILLIS = 30000;
+
+    @Nullable
+    private static LoadScheduler sDefault;
+
+    @NonNull
+    private final Object mLock = new Object();
+
+    /** Pending jobs in submission order. */
+    @NonNull
+    private final ArrayList<Job> mQueue = new ArrayList<>();
+
+    @NonNull
+    private final ThreadFactory mThreadFactory;
+
+    private final int mMaxConcurrency;
+
+    /** Total number of worker threads alive. */
+    private int mThreadCount;
+
+    /** Number of worker threads waiting for a job. */
+    private int mIdleCount;
+
+    /** Returns the scheduler shared by all {@link Data} instances not constructed with their own. */
+    @NonNull
+    public static LoadScheduler getDefault() {
+        synchronized (LoadScheduler.class) {
+            if (sDefault == null) {
+                sDefault = new LoadScheduler(DEFAULT_MAX_CONCURRENCY);
+            }
+            return sDefault;
+        }
+    }
+
+    /** Replaces the default scheduler. Only affects {@link Data} instances created after this call. */
+    public static void setDefault(@NonNull LoadScheduler scheduler) {
+        synchronized (LoadScheduler.class) {
+            sDefault = scheduler;
+        }
+    }
+
+    /** @param maxConcurrency The maximum number of loads that may run at the same time. */
+    public LoadScheduler(int maxConcurrency) {
+        this(maxConcurrency, new NamedThreadFactory("Data Load Thread %d"));
+    }
+
+    /**
+     * @param maxConcurrency The maximum number of loads that may run at the same time.
+     * @param threadFactory Used to create worker threads.
+     */
+    public LoadScheduler(int maxConcurrency, @NonNull ThreadFactory threadFactory) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be > 0");
+        }
+        mMaxConcurrency = maxConcurrency;
+        mThreadFactory = threadFactory;
+    }
+
+    public int getMaxConcurrency() {
+        return mMaxConcurrency;
+    }
+
+    /** Enqueues the runnable with the specified priority. Higher priorities run first. */
+    @NonNull
+    Job schedule(@NonNull Runnable runnable, int priority) {
+        Job job = new Job(runnable, priority);
+        synchronized (mLock) {
+            mQueue.add(job);
+            if (mIdleCount >= mQueue.size()) {
+                mLock.notify();
+            } else if (mThreadCount < mMaxConcurrency) {
+                mThreadCount++;
+                mThreadFactory.newThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        work();
+                    }
+                }).start();
+            } else if (mIdleCount > 0) {
+                mLock.notify();
+            }
+        }
+        return job;
+    }
+
+    private void work() {
+        while (true) {
+            Job job = take();
+            if (job == null) {
+                return;
+            }
+            try {
+                job.mRunnable.run();
+            } finally {
+                // Clear any interruption caused by cancellation, so it doesn't leak into the next job.
+                //noinspection ResultOfMethodCallIgnored
+                Thread.interrupted();
+            }
+        }
+    }
+
+    /** Blocks until a job is available, returning {@code null} if none become available within the keep-alive. */
+    @Nullable
+    private Job take() {
+        synchronized (mLock) {
+            long deadline = nanoTime() + MILLISECONDS.toNanos(KEEP_ALIVE_MILLIS);
+            while (mQueue.isEmpty()) {
+                long remaining = deadline - nanoTime();
+                if (remaining <= 0) {
+                    mThreadCount--;
+                    return null;
+                }
+                mIdleCount++;
+                try {
+                    NANOSECONDS.timedWait(mLock, remaining);
+                } catch (InterruptedException e) {
+                    // Workers are never interrupted while idle; keep waiting.
+                } finally {
+                    mIdleCount--;
+                }
+            }
+            // Highest priority first, then in submission order.
+            int index = 0;
+            for (int i = 1; i < mQueue.size(); i++) {
+                if (mQueue.get(i).mPriority > mQueue.get(index).mPriority) {
+                    index = i;
+                }
+            }
+            return mQueue.remove(index);
+        }
+    }
+
+    /** A handle to a scheduled runnable. */
+    final class Job {
+
+        @NonNull
+        private final Runnable mRunnable;
+
+        /** Guarded by {@link #mLock}. */
+        private int mPriority;
+
+        Job(@NonNull Runnable runnable, int priority) {
+            mRunnable = runnable;
+            mPriority = priority;
+        }
+
+        /** Changes the priority of this job, if it hasn't started yet. */
+        void setPriority(int priority) {
+            synchronized (mLock) {
+                mPriority = priority;
+            }
+        }
+
+        /**
+         * Removes this job from the queue if it hasn't started yet. Interrupting a running job is the responsibility
+         * of its runnable.
+         */
+        void cancel() {
+            synchronized (mLock) {
+                mQueue.remove(this);
+            }
+        }
+    }
+}
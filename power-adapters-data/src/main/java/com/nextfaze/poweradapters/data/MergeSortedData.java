@@ -0,0 +1,360 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import com.nextfaze.poweradapters.Predicate;
+import com.nextfaze.poweradapters.SimpleDataObserver;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Merges several {@link Data} instances, each already sorted according to the same {@link Comparator}, into a single
+ * sorted sequence. Elements that compare equal are ordered by source, then by position within the source. Changes to
+ * a source are applied incrementally: inserting or removing a single element costs {@code O(log n)}, where {@code n}
+ * is the total number of elements, and results in a single notification.
+ * <p>
+ * Loading is reported while any source is loading, {@link #available()} is the sum of all sources, and errors of any
+ * source are forwarded.
+ */
+final class MergeSortedData<T> extends Data<T> {
+
+    @NonNull
+    private final List<Source> mSources = new ArrayList<>();
+
+    @NonNull
+    private final Comparator<? super T> mComparator;
+
+    /** All elements, in merged order. */
+    @NonNull
+    private final RankTree<Entry<T>> mMerged = new RankTree<>();
+
+    @NonNull
+    private final LoadingObserver mLoadingObserver = new LoadingObserver() {
+        @Override
+        public void onLoadingChange() {
+            notifyLoadingChanged();
+        }
+    };
+
+    @NonNull
+    private final AvailableObserver mAvailableObserver = new AvailableObserver() {
+        @Override
+        public void onAvailableChange() {
+            notifyAvailableChanged();
+        }
+    };
+
+    @NonNull
+    private final ErrorObserver mErrorObserver = new ErrorObserver() {
+        @Override
+        public void onError(@NonNull Throwable e) {
+            notifyError(e);
+        }
+    };
+
+    private boolean mObservingLoading;
+    private boolean mObservingAvailable;
+    private boolean mObservingError;
+
+    MergeSortedData(@NonNull Comparator<? super T> comparator, @NonNull List<? extends Data<? extends T>> sources) {
+        mComparator = comparator;
+        for (int i = 0; i < sources.size(); i++) {
+            mSources.add(new Source(i, sources.get(i)));
+        }
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        Entry<T> entry = mMerged.get(position);
+        Source source = mSources.get(entry.source);
+        return source.mData.get(source.mEntries.rank(entry.sourceNode), flags);
+    }
+
+    @Override
+    public int size() {
+        return mMerged.size();
+    }
+
+    @Override
+    public boolean isLoading() {
+        for (Source source : mSources) {
+            if (source.mData.isLoading()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int available() {
+        long available = 0;
+        for (Source source : mSources) {
+            int sourceAvailable = source.mData.available();
+            if (sourceAvailable == UNKNOWN) {
+                return UNKNOWN;
+            }
+            available += sourceAvailable;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, available);
+    }
+
+    @Override
+    public void invalidate() {
+        for (Source source : mSources) {
+            source.mData.invalidate();
+        }
+    }
+
+    @Override
+    public void refresh() {
+        for (Source source : mSources) {
+            source.mData.refresh();
+        }
+    }
+
+    @Override
+    public void reload() {
+        for (Source source : mSources) {
+            source.mData.reload();
+        }
+    }
+
+    @Override
+    public void registerLoadingObserver(@NonNull LoadingObserver loadingObserver) {
+        super.registerLoadingObserver(loadingObserver);
+        updateLoadingObserver();
+    }
+
+    @Override
+    public void unregisterLoadingObserver(@NonNull LoadingObserver loadingObserver) {
+        super.unregisterLoadingObserver(loadingObserver);
+        updateLoadingObserver();
+    }
+
+    @Override
+    public void registerAvailableObserver(@NonNull AvailableObserver availableObserver) {
+        super.registerAvailableObserver(availableObserver);
+        updateAvailableObserver();
+    }
+
+    @Override
+    public void unregisterAvailableObserver(@NonNull AvailableObserver availableObserver) {
+        super.unregisterAvailableObserver(availableObserver);
+        updateAvailableObserver();
+    }
+
+    @Override
+    public void registerErrorObserver(@NonNull ErrorObserver errorObserver) {
+        super.registerErrorObserver(errorObserver);
+        updateErrorObserver();
+    }
+
+    @Override
+    public void unregisterErrorObserver(@NonNull ErrorObserver errorObserver) {
+        super.unregisterErrorObserver(errorObserver);
+        updateErrorObserver();
+    }
+
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        for (Source source : mSources) {
+            source.mData.registerDataObserver(source);
+        }
+        rebuild();
+        int itemCount = mMerged.size();
+        if (itemCount > 0) {
+            notifyItemRangeInserted(0, itemCount);
+        }
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        for (Source source : mSources) {
+            source.mData.unregisterDataObserver(source);
+        }
+        clear();
+    }
+
+    private void rebuild() {
+        clear();
+        for (Source source : mSources) {
+            source.insert(0, source.mData.size(), false);
+        }
+    }
+
+    private void clear() {
+        mMerged.clear();
+        for (Source source : mSources) {
+            source.mEntries.clear();
+        }
+    }
+
+    private void updateLoadingObserver() {
+        boolean observe = getLoadingObserverCount() > 0;
+        if (observe != mObservingLoading) {
+            mObservingLoading = observe;
+            for (Source source : mSources) {
+                if (observe) {
+                    source.mData.registerLoadingObserver(mLoadingObserver);
+                } else {
+                    source.mData.unregisterLoadingObserver(mLoadingObserver);
+                }
+            }
+        }
+    }
+
+    private void updateAvailableObserver() {
+        boolean observe = getAvailableObserverCount() > 0;
+        if (observe != mObservingAvailable) {
+            mObservingAvailable = observe;
+            for (Source source : mSources) {
+                if (observe) {
+                    source.mData.registerAvailableObserver(mAvailableObserver);
+                } else {
+                    source.mData.unregisterAvailableObserver(mAvailableObserver);
+                }
+            }
+        }
+    }
+
+    private void updateErrorObserver() {
+        boolean observe = getErrorObserverCount() > 0;
+        if (observe != mObservingError) {
+            mObservingError = observe;
+            for (Source source : mSources) {
+                if (observe) {
+                    source.mData.registerErrorObserver(mErrorObserver);
+                } else {
+                    source.mData.unregisterErrorObserver(mErrorObserver);
+                }
+            }
+        }
+    }
+
+    /** An element of a source, present in both the merged tree and the tree of its source. */
+    private static final class Entry<T> {
+
+        final int source;
+
+        /** The element as of the last notification from its source, used for ordering. */
+        @NonNull
+        T value;
+
+        RankTree.Node<Entry<T>> mergedNode;
+
+        RankTree.Node<Entry<T>> sourceNode;
+
+        Entry(int source, @NonNull T value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
+
+    private final class Source extends SimpleDataObserver {
+
+        private final int mIndex;
+
+        @NonNull
+        private final Data<? extends T> mData;
+
+        /** This source's entries, in source order. */
+        @NonNull
+        private final RankTree<Entry<T>> mEntries = new RankTree<>();
+
+        Source(int index, @NonNull Data<? extends T> data) {
+            mIndex = index;
+            mData = data;
+        }
+
+        @Override
+        public void onChanged() {
+            rebuild();
+            notifyDataSetChanged();
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            onItemRangeChanged(positionStart, itemCount, null);
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            for (int position = positionStart; position < positionStart + itemCount; position++) {
+                Entry<T> entry = mEntries.get(position);
+                int oldOuterPosition = mMerged.rank(entry.mergedNode);
+                mMerged.remove(entry.mergedNode);
+                entry.value = mData.get(position);
+                int newOuterPosition = mMerged.countLeading(precedes(entry.value, position));
+                if (newOuterPosition == oldOuterPosition) {
+                    entry.mergedNode = mMerged.insert(newOuterPosition, entry);
+                    notifyItemChanged(newOuterPosition, payload);
+                } else {
+                    notifyItemRemoved(oldOuterPosition);
+                    entry.mergedNode = mMerged.insert(newOuterPosition, entry);
+                    notifyItemInserted(newOuterPosition);
+                }
+            }
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            insert(positionStart, itemCount, true);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            for (int i = 0; i < itemCount; i++) {
+                Entry<T> entry = mEntries.get(positionStart);
+                int outerPosition = mMerged.rank(entry.mergedNode);
+                mEntries.remove(entry.sourceNode);
+                mMerged.remove(entry.mergedNode);
+                notifyItemRemoved(outerPosition);
+            }
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            // Moves within a sorted source are unusual; treat as a removal followed by an insertion.
+            onItemRangeRemoved(fromPosition, itemCount);
+            onItemRangeInserted(toPosition, itemCount);
+        }
+
+        void insert(int positionStart, int itemCount, boolean notify) {
+            for (int position = positionStart; position < positionStart + itemCount; position++) {
+                Entry<T> entry = new Entry<T>(mIndex, mData.get(position));
+                int outerPosition = mMerged.countLeading(precedes(entry.value, position));
+                entry.sourceNode = mEntries.insert(position, entry);
+                entry.mergedNode = mMerged.insert(outerPosition, entry);
+                if (notify) {
+                    notifyItemInserted(outerPosition);
+                }
+            }
+        }
+
+        /**
+         * Returns a predicate indicating if an entry precedes the specified value, were it to be placed at the
+         * specified position of this source.
+         */
+        @NonNull
+        private Predicate<Entry<T>> precedes(@NonNull final T value, final int position) {
+            return new Predicate<Entry<T>>() {
+                @Override
+                public boolean apply(Entry<T> entry) {
+                    int result = mComparator.compare(entry.value, value);
+                    if (result != 0) {
+                        return result < 0;
+                    }
+                    if (entry.source != mIndex) {
+                        return entry.source < mIndex;
+                    }
+                    return mEntries.rank(entry.sourceNode) < position;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.UiThread;
+import com.nextfaze.poweradapters.data.internal.FrameScheduler;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * {@link Data} that can be mutated from any thread. Mutations are enqueued without locking, and applied on the UI
+ * thread at the start of the next frame, so observers are notified at most once per frame. Adjacent mutations within a
+ * frame are merged into range notifications.
+ * <p>
+ * Mutations are applied in the order they were enqueued, and positions are interpreted against the elements as they
+ * will be once all previously enqueued mutations have been applied. Positions are validated when applied, so an
+ * out-of-bounds position causes an {@link IndexOutOfBoundsException} on the UI thread. Cannot contain {@code null}
+ * elements.
+ * @param <T> The type of element this data contains.
+ */
+public final class MutableData<T> extends Data<T> {
+
+    @NonNull
+    private final ArrayList<T> mElements = new ArrayList<>();
+
+    @NonNull
+    private final Queue<Op<T>> mOps = new ConcurrentLinkedQueue<>();
+
+    @NonNull
+    private final FrameScheduler mFrameScheduler = new FrameScheduler(new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    });
+
+    /** The notification being accumulated while applying mutations. */
+    private int mPendingType = NONE;
+    private int mPendingStart;
+    private int mPendingCount;
+
+    private static final int NONE = 0;
+    private static final int INSERT = 1;
+    private static final int REMOVE = 2;
+    private static final int CHANGE = 3;
+    private static final int MOVE = 4;
+    private static final int CLEAR = 5;
+    private static final int REMOVE_ELEMENT = 6;
+
+    public MutableData() {
+    }
+
+    public MutableData(@NonNull Collection<? extends T> elements) {
+        mElements.addAll(elements);
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        return mElements.get(position);
+    }
+
+    @Override
+    public int size() {
+        return mElements.size();
+    }
+
+    @Override
+    public boolean isLoading() {
+        return false;
+    }
+
+    @Override
+    public int available() {
+        return 0;
+    }
+
+    @Override
+    public void invalidate() {
+    }
+
+    @Override
+    public void refresh() {
+    }
+
+    @Override
+    public void reload() {
+    }
+
+    /** Appends the element. May be called from any thread. */
+    public void add(@NonNull T element) {
+        enqueue(new Op<>(INSERT, -1, 1, Collections.singletonList(element)));
+    }
+
+    /** Inserts the element at the specified position. May be called from any thread. */
+    public void add(int position, @NonNull T element) {
+        enqueue(new Op<>(INSERT, position, 1, Collections.singletonList(element)));
+    }
+
+    /** Appends the elements. May be called from any thread. */
+    public void addAll(@NonNull Collection<? extends T> elements) {
+        addAll(-1, elements);
+    }
+
+    /** Inserts the elements at the specified position. May be called from any thread. */
+    public void addAll(int position, @NonNull Collection<? extends T> elements) {
+        List<T> list = new ArrayList<>(elements);
+        if (!list.isEmpty()) {
+            enqueue(new Op<>(INSERT, position, list.size(), list));
+        }
+    }
+
+    /** Replaces the element at the specified position. May be called from any thread. */
+    public void set(int position, @NonNull T element) {
+        enqueue(new Op<>(CHANGE, position, 1, Collections.singletonList(element)));
+    }
+
+    /** Removes the element at the specified position. May be called from any thread. */
+    public void remove(int position) {
+        remove(position, 1);
+    }
+
+    /** Removes {@code count} elements starting at the specified position. May be called from any thread. */
+    public void remove(int position, int count) {
+        if (count > 0) {
+            enqueue(new Op<T>(REMOVE, position, count, null));
+        }
+    }
+
+    /**
+     * Removes the first element equal to the specified element, if any, at the time the removal is applied. May be
+     * called from any thread.
+     */
+    public void remove(@NonNull T element) {
+        enqueue(new Op<>(REMOVE_ELEMENT, -1, 1, Collections.singletonList(element)));
+    }
+
+    /** Moves {@code count} elements from one position to another. May be called from any thread. */
+    public void move(int fromPosition, int toPosition, int count) {
+        if (count > 0 && fromPosition != toPosition) {
+            enqueue(new Op<T>(MOVE, fromPosition, count, null, toPosition));
+        }
+    }
+
+    /** Removes all elements. May be called from any thread. */
+    public void clear() {
+        enqueue(new Op<T>(CLEAR, 0, 0, null));
+    }
+
+    /** Applies all pending mutations immediately, instead of waiting for the next frame. */
+    @UiThread
+    public void flush() {
+        mFrameScheduler.cancel();
+        Op<T> op;
+        while ((op = mOps.poll()) != null) {
+            apply(op);
+        }
+        dispatchPending();
+    }
+
+    private void enqueue(@NonNull Op<T> op) {
+        mOps.offer(op);
+        mFrameScheduler.schedule();
+    }
+
+    /**
+     * Applies a single mutation. Mutations that can't be merged into the accumulated notification cause it to be
+     * dispatched first, so observers always see notifications consistent with the elements.
+     */
+    private void apply(@NonNull Op<T> op) {
+        switch (op.type) {
+            case INSERT: {
+                int position = op.position < 0 ? mElements.size() : op.position;
+                if (position > mElements.size()) {
+                    throw new IndexOutOfBoundsException("Insert position " + position + ", size " + mElements.size());
+                }
+                boolean merged = mergeInsert(position, op.count);
+                if (!merged) {
+                    dispatchPending();
+                }
+                //noinspection ConstantConditions
+                mElements.addAll(position, op.elements);
+                if (!merged) {
+                    setPending(INSERT, position, op.count);
+                }
+                break;
+            }
+            case REMOVE:
+                checkRange(op.position, op.count);
+                applyRemove(op.position, op.count);
+                break;
+            case REMOVE_ELEMENT: {
+                //noinspection ConstantConditions
+                int position = mElements.indexOf(op.elements.get(0));
+                if (position >= 0) {
+                    applyRemove(position, 1);
+                }
+                break;
+            }
+            case CHANGE: {
+                checkRange(op.position, 1);
+                boolean merged = mergeChange(op.position, 1);
+                if (!merged) {
+                    dispatchPending();
+                }
+                //noinspection ConstantConditions
+                mElements.set(op.position, op.elements.get(0));
+                if (!merged) {
+                    setPending(CHANGE, op.position, 1);
+                }
+                break;
+            }
+            case MOVE: {
+                checkRange(op.position, op.count);
+                checkRange(op.toPosition, op.count);
+                dispatchPending();
+                List<T> range = mElements.subList(op.position, op.position + op.count);
+                List<T> moved = new ArrayList<>(range);
+                range.clear();
+                mElements.addAll(op.toPosition, moved);
+                notifyItemRangeMoved(op.position, op.toPosition, op.count);
+                break;
+            }
+            case CLEAR: {
+                dispatchPending();
+                int size = mElements.size();
+                mElements.clear();
+                if (size > 0) {
+                    notifyItemRangeRemoved(0, size);
+                }
+                break;
+            }
+        }
+    }
+
+    private void applyRemove(int position, int count) {
+        boolean merged = mergeRemove(position, count);
+        if (!merged) {
+            dispatchPending();
+        }
+        mElements.subList(position, position + count).clear();
+        if (!merged) {
+            setPending(REMOVE, position, count);
+        }
+    }
+
+    private void checkRange(int position, int count) {
+        if (position < 0 || position + count > mElements.size()) {
+            throw new IndexOutOfBoundsException("Range " + position + "+" + count + ", size " + mElements.size());
+        }
+    }
+
+    /** Merges an insertion into the accumulated notification, returning {@code false} if not possible. */
+    private boolean mergeInsert(int position, int count) {
+        if (mPendingType == INSERT && position >= mPendingStart && position <= mPendingStart + mPendingCount) {
+            mPendingCount += count;
+            return true;
+        }
+        return false;
+    }
+
+    /** Merges a removal into the accumulated notification, returning {@code false} if not possible. */
+    private boolean mergeRemove(int position, int count) {
+        if (mPendingType == REMOVE && (position == mPendingStart || position + count == mPendingStart)) {
+            mPendingStart = min(mPendingStart, position);
+            mPendingCount += count;
+            return true;
+        }
+        if (mPendingType == INSERT && position >= mPendingStart &&
+                position + count <= mPendingStart + mPendingCount) {
+            // Removal of elements inserted in this same frame.
+            mPendingCount -= count;
+            if (mPendingCount == 0) {
+                mPendingType = NONE;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /** Merges a change into the accumulated notification, returning {@code false} if not possible. */
+    private boolean mergeChange(int position, int count) {
+        if ((mPendingType == INSERT || mPendingType == CHANGE) &&
+                position >= mPendingStart && position + count <= mPendingStart + mPendingCount) {
+            // Already covered, either by a change or an insertion of this same frame.
+            return true;
+        }
+        if (mPendingType == CHANGE && position <= mPendingStart + mPendingCount && position + count >= mPendingStart) {
+            int end = max(mPendingStart + mPendingCount, position + count);
+            mPendingStart = min(mPendingStart, position);
+            mPendingCount = end - mPendingStart;
+            return true;
+        }
+        return false;
+    }
+
+    private void setPending(int type, int start, int count) {
+        mPendingType = type;
+        mPendingStart = start;
+        mPendingCount = count;
+    }
+
+    private void dispatchPending() {
+        int type = mPendingType;
+        mPendingType = NONE;
+        switch (type) {
+            case INSERT:
+                notifyItemRangeInserted(mPendingStart, mPendingCount);
+                break;
+            case REMOVE:
+                notifyItemRangeRemoved(mPendingStart, mPendingCount);
+                break;
+            case CHANGE:
+                notifyItemRangeChanged(mPendingStart, mPendingCount);
+                break;
+        }
+    }
+
+    private static final class Op<T> {
+
+        final int type;
+        final int position;
+        final int count;
+        final int toPosition;
+        final List<T> elements;
+
+        Op(int type, int position, int count, List<T> elements) {
+            this(type, position, count, elements, 0);
+        }
+
+        Op(int type, int position, int count, List<T> elements, int toPosition) {
+            this.type = type;
+            this.position = position;
+            this.count = count;
+            this.elements = elements;
+            this.toPosition = toPosition;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 import static java.lang.Math.*;
@@ -51,10 +52,10 @@ final class OffsetData<T> extends DataWrapper<T> {
     }
 
     @Override
-    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount) {
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
         if (innerPositionStart + innerItemCount > mOffset) {
             notifyItemRangeChanged(max(0, innerPositionStart - mOffset),
-                    min(innerItemCount, innerItemCount - mOffset + innerPositionStart));
+                    min(innerItemCount, innerItemCount - mOffset + innerPositionStart), payload);
         }
     }
 
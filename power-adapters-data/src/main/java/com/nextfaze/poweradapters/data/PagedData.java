@@ -0,0 +1,478 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.CallSuper;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import android.support.annotation.WorkerThread;
+import android.util.SparseArray;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * {@link Data} implementation that presents a large, fixed-size data set by loading it in pages of a fixed size, on
+ * demand. The full size of the data set is reported as soon as the first page has loaded, and positions that haven't
+ * been loaded yet are presented as placeholders, returned by {@link #getPlaceholder(int)}.
+ * <p>
+ * Pages are loaded when an element within them is requested with {@link #FLAG_PRESENTATION}, so the data set can be
+ * entered at any position. To bound memory usage, at most {@link #getMaxPageCount()} pages are retained. Once that
+ * limit is exceeded, the pages furthest from the most recently presented position are evicted, and revert to
+ * placeholders until they're presented again.
+ * <p>
+ * Cannot contain {@code null} elements. Not thread-safe.
+ * @param <T> The type of element this data contains.
+ */
+public abstract class PagedData<T> extends Data<T> implements Closeable {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_MAX_PAGE_COUNT = 10;
+
+    @NonNull
+    private final LoadScheduler mScheduler;
+
+    /** Loaded or loading pages, keyed by page index. */
+    @NonNull
+    private final SparseArray<Page<T>> mPages = new SparseArray<>();
+
+    private final int mPageSize;
+
+    private int mMaxPageCount;
+
+    private int mSize;
+
+    /** Incremented each time the loaded pages are invalidated. Pages loaded in a previous generation are stale. */
+    private int mGeneration;
+
+    /** The index of the page containing the most recently presented position. */
+    private int mPresentedPageIndex;
+
+    /** The number of page loads in progress. */
+    private int mLoadingCount;
+
+    /** Indicates the currently loaded data is invalid and needs to be reloaded next opportunity. */
+    private boolean mDirty = true;
+
+    /** Causes elements to be cleared next time we activate. */
+    private boolean mClear;
+
+    private boolean mLoading;
+
+    /** @see #available() */
+    private int mAvailable = Integer.MAX_VALUE;
+
+    protected PagedData() {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGE_COUNT);
+    }
+
+    /**
+     * @param pageSize The number of elements requested in each call to {@link #load(int, int)}.
+     * @param maxPageCount The maximum number of pages retained in memory at any one time.
+     */
+    protected PagedData(int pageSize, int maxPageCount) {
+        this(pageSize, maxPageCount, LoadScheduler.getDefault());
+    }
+
+    /**
+     * @param pageSize The number of elements requested in each call to {@link #load(int, int)}.
+     * @param maxPageCount The maximum number of pages retained in memory at any one time.
+     * @param scheduler The scheduler on which {@link #load(int, int)} will be invoked.
+     */
+    protected PagedData(int pageSize, int maxPageCount, @NonNull LoadScheduler scheduler) {
+        mScheduler = scheduler;
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be > 0");
+        }
+        mPageSize = pageSize;
+        setMaxPageCount(maxPageCount);
+    }
+
+    @CallSuper
+    @Override
+    public void close() {
+        cancelTasks();
+        mPages.clear();
+    }
+
+    @Override
+    public final int size() {
+        return mSize;
+    }
+
+    @NonNull
+    @Override
+    public final T get(int position, int flags) {
+        if (position < 0 || position >= mSize) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", size: " + mSize);
+        }
+        int pageIndex = position / mPageSize;
+        // The presence of the presentation flag indicates this is a good time to load the page, and its neighbours.
+        if ((flags & FLAG_PRESENTATION) != 0) {
+            mPresentedPageIndex = pageIndex;
+            loadPageIfNeeded(pageIndex);
+            int pageOffset = position - pageIndex * mPageSize;
+            int prefetchDistance = max(1, mPageSize / 4);
+            if (pageOffset >= mPageSize - prefetchDistance) {
+                loadPageIfNeeded(pageIndex + 1);
+            } else if (pageOffset < prefetchDistance) {
+                loadPageIfNeeded(pageIndex - 1);
+            }
+        }
+        Page<T> page = mPages.get(pageIndex);
+        if (page != null) {
+            T t = page.get(position - pageIndex * mPageSize);
+            if (t != null) {
+                return t;
+            }
+        }
+        return getPlaceholder(position);
+    }
+
+    /** Returns {@code true} if the element at the specified position has not been loaded yet. */
+    @UiThread
+    public final boolean isPlaceholder(int position) {
+        int pageIndex = position / mPageSize;
+        Page<T> page = mPages.get(pageIndex);
+        return page == null || page.get(position - pageIndex * mPageSize) == null;
+    }
+
+    public final void clear() {
+        mClear = false;
+        onClear();
+        cancelTasks();
+        mPages.clear();
+        setSize(0);
+        setAvailable(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public final void invalidate() {
+        cancelTasks();
+        mGeneration++;
+        mDirty = true;
+        mClear = true;
+        updateLoading();
+    }
+
+    @Override
+    public final void refresh() {
+        cancelTasks();
+        mGeneration++;
+        mDirty = true;
+        loadDataIfAppropriate();
+        updateLoading();
+    }
+
+    @Override
+    public final void reload() {
+        clear();
+        refresh();
+    }
+
+    @Override
+    public final boolean isLoading() {
+        return mLoading;
+    }
+
+    @Override
+    public final int available() {
+        return mAvailable;
+    }
+
+    public final int getPageSize() {
+        return mPageSize;
+    }
+
+    @UiThread
+    public final int getMaxPageCount() {
+        return mMaxPageCount;
+    }
+
+    /** Set the maximum number of pages retained in memory. Must be at least {@code 1}. */
+    @UiThread
+    public final void setMaxPageCount(int maxPageCount) {
+        if (maxPageCount <= 0) {
+            throw new IllegalArgumentException("Max page count must be > 0");
+        }
+        mMaxPageCount = maxPageCount;
+        trimPages();
+    }
+
+    /**
+     * Called from a worker thread to load a page of elements.
+     * @param offset The position of the first element to be loaded.
+     * @param count The maximum number of elements to be loaded.
+     * @return A result containing up to {@code count} elements starting at {@code offset}, and the total size of the
+     * data set.
+     * @throws Throwable If any error occurs while trying to load.
+     */
+    @WorkerThread
+    @NonNull
+    protected abstract Result<? extends T> load(int offset, int count) throws Throwable;
+
+    /**
+     * Returns an element to be presented at the specified position while the real element has not been loaded.
+     * Always called from the UI thread.
+     */
+    @UiThread
+    @NonNull
+    protected abstract T getPlaceholder(int position);
+
+    /** Called prior to elements being cleared. Always called from the UI thread. */
+    @UiThread
+    protected void onClear() {
+    }
+
+    @CallSuper
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        if (mClear) {
+            clear();
+        }
+        // Pages that previously failed are retried now we've become visible again.
+        for (int i = 0; i < mPages.size(); i++) {
+            mPages.valueAt(i).failed = false;
+        }
+        updatePriority();
+        loadDataIfAppropriate();
+        updateLoading();
+    }
+
+    @CallSuper
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        updatePriority();
+    }
+
+    private void loadDataIfAppropriate() {
+        if (mDirty && getDataObserverCount() > 0) {
+            mDirty = false;
+            // If the size isn't known yet, the first page tells us.
+            loadPageIfNeeded(mSize > 0 ? clampPageIndex(mPresentedPageIndex) : 0);
+        }
+    }
+
+    private void loadPageIfNeeded(final int pageIndex) {
+        if (pageIndex < 0 || pageIndex > 0 && pageIndex * mPageSize >= mSize) {
+            return;
+        }
+        Page<T> page = mPages.get(pageIndex);
+        if (page == null) {
+            page = new Page<>();
+            mPages.put(pageIndex, page);
+        }
+        if (page.task != null || page.failed || page.elements != null && page.generation == mGeneration) {
+            return;
+        }
+        final Page<T> p = page;
+        final int generation = mGeneration;
+        final int offset = pageIndex * mPageSize;
+        page.task = new Task<Result<? extends T>>() {
+            @Override
+            protected Result<? extends T> call() throws Throwable {
+                return load(offset, mPageSize);
+            }
+
+            @Override
+            protected void onSuccess(@NonNull Result<? extends T> result) throws Throwable {
+                // The page was invalidated or dropped after this result was posted, so it's stale.
+                if (p.task != this) {
+                    return;
+                }
+                p.task = null;
+                p.elements = result.getElements();
+                p.generation = generation;
+                mLoadingCount--;
+                int oldSize = mSize;
+                setSize(result.getTotalSize());
+                mPresentedPageIndex = clampPageIndex(mPresentedPageIndex);
+                setAvailable(0);
+                int changeCount = min(offset + mPageSize, min(oldSize, mSize)) - offset;
+                if (changeCount > 0) {
+                    notifyItemRangeChanged(offset, changeCount);
+                }
+                trimPages();
+                updateLoading();
+            }
+
+            @Override
+            protected void onFailure(@NonNull Throwable e) throws Throwable {
+                if (p.task != this) {
+                    return;
+                }
+                p.task = null;
+                p.failed = true;
+                mLoadingCount--;
+                updateLoading();
+                notifyError(e);
+            }
+        };
+        mLoadingCount++;
+        page.task.execute(mScheduler, getLoadPriority());
+        updateLoading();
+    }
+
+    /** Evicts the loaded pages furthest from the presented page, until within the max page count. */
+    private void trimPages() {
+        while (true) {
+            int loadedCount = 0;
+            int furthestKey = -1;
+            int furthestDistance = -1;
+            for (int i = 0; i < mPages.size(); i++) {
+                if (mPages.valueAt(i).elements != null) {
+                    loadedCount++;
+                    int key = mPages.keyAt(i);
+                    int distance = abs(key - mPresentedPageIndex);
+                    if (distance > furthestDistance) {
+                        furthestDistance = distance;
+                        furthestKey = key;
+                    }
+                }
+            }
+            if (loadedCount <= mMaxPageCount) {
+                return;
+            }
+            Page<T> page = mPages.get(furthestKey);
+            page.elements = null;
+            if (page.task == null) {
+                mPages.remove(furthestKey);
+            }
+            int offset = furthestKey * mPageSize;
+            int changeCount = min(mPageSize, mSize - offset);
+            if (changeCount > 0) {
+                notifyItemRangeChanged(offset, changeCount);
+            }
+        }
+    }
+
+    private void setSize(int size) {
+        size = max(0, size);
+        int oldSize = mSize;
+        if (size == oldSize) {
+            return;
+        }
+        mSize = size;
+        if (size > oldSize) {
+            notifyItemRangeInserted(oldSize, size - oldSize);
+        } else {
+            // Drop any pages entirely beyond the new end.
+            for (int i = mPages.size() - 1; i >= 0; i--) {
+                int key = mPages.keyAt(i);
+                if (key > 0 && key * mPageSize >= size) {
+                    Page<T> page = mPages.valueAt(i);
+                    if (page.task != null) {
+                        page.task.cancel();
+                        page.task = null;
+                        mLoadingCount--;
+                    }
+                    mPages.removeAt(i);
+                }
+            }
+            notifyItemRangeRemoved(size, oldSize - size);
+        }
+    }
+
+    private int clampPageIndex(int pageIndex) {
+        return max(0, min(pageIndex, (mSize - 1) / mPageSize));
+    }
+
+    private void cancelTasks() {
+        for (int i = 0; i < mPages.size(); i++) {
+            Page<T> page = mPages.valueAt(i);
+            if (page.task != null) {
+                page.task.cancel();
+                page.task = null;
+            }
+            page.failed = false;
+        }
+        mLoadingCount = 0;
+    }
+
+    private void updatePriority() {
+        int priority = getLoadPriority();
+        for (int i = 0; i < mPages.size(); i++) {
+            Task<?> task = mPages.valueAt(i).task;
+            if (task != null) {
+                task.setPriority(priority);
+            }
+        }
+    }
+
+    private void updateLoading() {
+        setLoading(mLoadingCount > 0);
+    }
+
+    private void setLoading(boolean loading) {
+        if (mLoading != loading) {
+            mLoading = loading;
+            notifyLoadingChanged();
+        }
+    }
+
+    private void setAvailable(int available) {
+        if (mAvailable != available) {
+            mAvailable = available;
+            notifyAvailableChanged();
+        }
+    }
+
+    private static final class Page<T> {
+
+        /** The loaded elements, or {@code null} if not loaded or evicted. */
+        @Nullable
+        List<? extends T> elements;
+
+        /** The load in progress, if any. */
+        @Nullable
+        Task<?> task;
+
+        /** The generation in which the elements were loaded. */
+        int generation;
+
+        /** Indicates the last attempt to load this page failed. */
+        boolean failed;
+
+        @Nullable
+        T get(int pageOffset) {
+            if (elements == null || pageOffset >= elements.size()) {
+                return null;
+            }
+            return elements.get(pageOffset);
+        }
+    }
+
+    public static final class Result<T> {
+
+        @NonNull
+        private final List<? extends T> mElements;
+
+        /** The total number of elements in the data set. */
+        private final int mTotalSize;
+
+        public Result(@NonNull List<? extends T> elements, int totalSize) {
+            mElements = elements;
+            mTotalSize = max(0, totalSize);
+        }
+
+        @NonNull
+        public static <T> Result<T> empty() {
+            return new Result<>(Collections.<T>emptyList(), 0);
+        }
+
+        @NonNull
+        public List<? extends T> getElements() {
+            return mElements;
+        }
+
+        public int getTotalSize() {
+            return mTotalSize;
+        }
+    }
+}
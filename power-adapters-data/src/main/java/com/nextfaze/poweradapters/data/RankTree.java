@@ -0,0 +1,267 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import com.nextfaze.poweradapters.Predicate;
+import lombok.NonNull;
+
+import java.util.Random;
+
+/**
+ * A sequence of values supporting insertion, removal, and lookup by index in {@code O(log n)} expected time. Nodes
+ * are stable handles, whose current index can also be determined in {@code O(log n)}. Implemented as an implicit
+ * treap.
+ * <p>
+ * Each node may also be marked, in which case the marked nodes form a subsequence, that also supports lookup by index
+ * in {@code O(log n)}.
+ */
+final class RankTree<E> {
+
+    @NonNull
+    private final Random mRandom = new Random();
+
+    @Nullable
+    private Node<E> mRoot;
+
+    /** Scratch space for the results of {@link #split(Node, int)}. */
+    @Nullable
+    private Node<E> mLeft;
+
+    @Nullable
+    private Node<E> mRight;
+
+    int size() {
+        return size(mRoot);
+    }
+
+    /** Returns the number of marked nodes. */
+    int markedSize() {
+        return marked(mRoot);
+    }
+
+    void clear() {
+        mRoot = null;
+    }
+
+    @NonNull
+    Node<E> insert(int index, @NonNull E value) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size());
+        }
+        Node<E> node = new Node<>(value, mRandom.nextInt());
+        split(mRoot, index);
+        Node<E> right = mRight;
+        setRoot(merge(merge(mLeft, node), right));
+        return node;
+    }
+
+    void remove(@NonNull Node<E> node) {
+        int index = rank(node);
+        split(mRoot, index);
+        Node<E> left = mLeft;
+        split(mRight, 1);
+        setRoot(merge(left, mRight));
+        node.left = null;
+        node.right = null;
+        node.parent = null;
+        node.size = 1;
+        node.markedCount = node.marked ? 1 : 0;
+    }
+
+    @NonNull
+    Node<E> select(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size());
+        }
+        Node<E> node = mRoot;
+        while (true) {
+            //noinspection ConstantConditions
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+    }
+
+    @NonNull
+    E get(int index) {
+        return select(index).value;
+    }
+
+    /** Returns the current index of the specified node. */
+    int rank(@NonNull Node<E> node) {
+        int rank = size(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) {
+                rank += size(node.parent.left) + 1;
+            }
+            node = node.parent;
+        }
+        return rank;
+    }
+
+    /** Marks or unmarks the specified node. */
+    void setMarked(@NonNull Node<E> node, boolean marked) {
+        if (node.marked != marked) {
+            node.marked = marked;
+            for (Node<E> n = node; n != null; n = n.parent) {
+                update(n);
+            }
+        }
+    }
+
+    /** Returns the number of marked nodes preceding the specified node. */
+    int markedRank(@NonNull Node<E> node) {
+        int rank = marked(node.left);
+        while (node.parent != null) {
+            if (node == node.parent.right) {
+                rank += marked(node.parent.left) + (node.parent.marked ? 1 : 0);
+            }
+            node = node.parent;
+        }
+        return rank;
+    }
+
+    /** Returns the marked node at the specified index of the marked subsequence. */
+    @NonNull
+    Node<E> selectMarked(int index) {
+        if (index < 0 || index >= markedSize()) {
+            throw new IndexOutOfBoundsException("Index " + index + ", marked size " + markedSize());
+        }
+        Node<E> node = mRoot;
+        while (true) {
+            //noinspection ConstantConditions
+            int leftMarked = marked(node.left);
+            if (index < leftMarked) {
+                node = node.left;
+            } else if (index == leftMarked && node.marked) {
+                return node;
+            } else {
+                index -= leftMarked + (node.marked ? 1 : 0);
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of leading values for which {@code predicate} returns {@code true}, which must be all values
+     * preceding some index, and none thereafter.
+     */
+    int countLeading(@NonNull Predicate<? super E> predicate) {
+        int count = 0;
+        Node<E> node = mRoot;
+        while (node != null) {
+            if (predicate.apply(node.value)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private void setRoot(@Nullable Node<E> root) {
+        mRoot = root;
+        if (root != null) {
+            root.parent = null;
+        }
+        mLeft = null;
+        mRight = null;
+    }
+
+    /** Splits into the first {@code count} nodes and the remainder, stored in {@link #mLeft} and {@link #mRight}. */
+    private void split(@Nullable Node<E> node, int count) {
+        if (node == null) {
+            mLeft = null;
+            mRight = null;
+            return;
+        }
+        if (size(node.left) >= count) {
+            split(node.left, count);
+            node.left = mRight;
+            if (node.left != null) {
+                node.left.parent = node;
+            }
+            update(node);
+            mRight = node;
+        } else {
+            split(node.right, count - size(node.left) - 1);
+            node.right = mLeft;
+            if (node.right != null) {
+                node.right.parent = node;
+            }
+            update(node);
+            mLeft = node;
+        }
+        node.parent = null;
+    }
+
+    @Nullable
+    private static <E> Node<E> merge(@Nullable Node<E> a, @Nullable Node<E> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            //noinspection ConstantConditions
+            a.right.parent = a;
+            update(a);
+            return a;
+        }
+        b.left = merge(a, b.left);
+        //noinspection ConstantConditions
+        b.left.parent = b;
+        update(b);
+        return b;
+    }
+
+    private static void update(@NonNull Node<?> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        node.markedCount = marked(node.left) + marked(node.right) + (node.marked ? 1 : 0);
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static int marked(@Nullable Node<?> node) {
+        return node != null ? node.markedCount : 0;
+    }
+
+    static final class Node<E> {
+
+        @NonNull
+        E value;
+
+        final int priority;
+
+        @Nullable
+        Node<E> left;
+
+        @Nullable
+        Node<E> right;
+
+        @Nullable
+        Node<E> parent;
+
+        int size = 1;
+
+        boolean marked;
+
+        /** The number of marked nodes in this subtree. */
+        int markedCount;
+
+        Node(@NonNull E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+    }
+}
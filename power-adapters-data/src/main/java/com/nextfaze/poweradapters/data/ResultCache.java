@@ -0,0 +1,221 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Math.max;
+
+/**
+ * Shares the loads of {@link ArrayData} instances that report equal {@linkplain ArrayData#getKey() keys}. Concurrent
+ * loads with the same key collapse into a single call, the result of which is delivered to every instance awaiting
+ * it. The most recent results are retained in least-recently-used order, so a new instance with a key that was
+ * recently loaded can present its elements without loading.
+ * <p>
+ * Keys must identify both the query and the type of the elements it produces. Elements of retained results may be
+ * presented by several instances at once, so should be immutable.
+ * <p>
+ * This class is not thread-safe, and must only be used from the UI thread.
+ */
+@UiThread
+public final class ResultCache {
+
+    private static final int DEFAULT_MAX_SIZE = 20;
+
+    @Nullable
+    private static ResultCache sDefault;
+
+    @NonNull
+    private final Map<Object, Flight> mFlights = new HashMap<>();
+
+    @NonNull
+    private final LinkedHashMap<Object, List<?>> mResults;
+
+    private final int mMaxSize;
+
+    /** Returns the cache shared by all {@link ArrayData} instances not constructed with their own. */
+    @NonNull
+    public static ResultCache getDefault() {
+        if (sDefault == null) {
+            sDefault = new ResultCache(DEFAULT_MAX_SIZE);
+        }
+        return sDefault;
+    }
+
+    /** Replaces the default cache. Only affects {@link ArrayData} instances created after this call. */
+    public static void setDefault(@NonNull ResultCache cache) {
+        sDefault = cache;
+    }
+
+    /**
+     * @param maxSize The maximum number of results to retain. A value of {@code 0} retains none, while still
+     * collapsing concurrent loads.
+     */
+    public ResultCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size must be >= 0");
+        }
+        mMaxSize = maxSize;
+        mResults = new LinkedHashMap<Object, List<?>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, List<?>> eldest) {
+                return size() > mMaxSize;
+            }
+        };
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /** Discards the retained result for the specified key, if any. Loads in progress are unaffected. */
+    public void invalidate(@NonNull Object key) {
+        mResults.remove(key);
+    }
+
+    /** Discards all retained results. Loads in progress are unaffected. */
+    public void clear() {
+        mResults.clear();
+    }
+
+    /** Returns the retained result for the specified key, or {@code null} if there is none. */
+    @Nullable
+    List<?> get(@NonNull Object key) {
+        return mResults.get(key);
+    }
+
+    /**
+     * Joins the load in progress for the specified key, or starts a new one using {@code loader}. The callback is
+     * invoked on the UI thread unless the returned request is canceled first.
+     */
+    @NonNull
+    Request load(@NonNull Object key,
+                 @NonNull Loader loader,
+                 @NonNull LoadScheduler scheduler,
+                 int priority,
+                 @NonNull Callback callback) {
+        Flight flight = mFlights.get(key);
+        boolean started = flight == null;
+        if (started) {
+            flight = new Flight(key, loader);
+            mFlights.put(key, flight);
+        }
+        Request request = new Request(flight, callback, priority);
+        flight.mRequests.add(request);
+        if (started) {
+            flight.execute(scheduler, priority);
+        } else {
+            flight.updatePriority();
+        }
+        return request;
+    }
+
+    interface Loader {
+        @NonNull
+        List<?> load() throws Throwable;
+    }
+
+    interface Callback {
+        void onSuccess(@NonNull List<?> result);
+
+        void onFailure(@NonNull Throwable e);
+    }
+
+    /** A single load, the result of which is delivered to each of its requests. */
+    private final class Flight extends Task<List<?>> {
+
+        @NonNull
+        final Object mKey;
+
+        @NonNull
+        final Loader mLoader;
+
+        @NonNull
+        final ArrayList<Request> mRequests = new ArrayList<>();
+
+        Flight(@NonNull Object key, @NonNull Loader loader) {
+            mKey = key;
+            mLoader = loader;
+        }
+
+        @Override
+        protected List<?> call() throws Throwable {
+            return mLoader.load();
+        }
+
+        @Override
+        protected void onSuccess(@NonNull List<?> result) throws Throwable {
+            if (mFlights.get(mKey) != this) {
+                return;
+            }
+            mFlights.remove(mKey);
+            mResults.put(mKey, result);
+            for (Request request : detachRequests()) {
+                request.mCallback.onSuccess(result);
+            }
+        }
+
+        @Override
+        protected void onFailure(@NonNull Throwable e) throws Throwable {
+            if (mFlights.get(mKey) != this) {
+                return;
+            }
+            mFlights.remove(mKey);
+            for (Request request : detachRequests()) {
+                request.mCallback.onFailure(e);
+            }
+        }
+
+        void updatePriority() {
+            int priority = LoadScheduler.PRIORITY_UNOBSERVED;
+            for (Request request : mRequests) {
+                priority = max(priority, request.mPriority);
+            }
+            setPriority(priority);
+        }
+
+        @NonNull
+        private List<Request> detachRequests() {
+            List<Request> requests = new ArrayList<>(mRequests);
+            mRequests.clear();
+            return requests;
+        }
+    }
+
+    /** A handle to a single instance's interest in a shared load. */
+    final class Request {
+
+        @NonNull
+        private final Flight mFlight;
+
+        @NonNull
+        private final Callback mCallback;
+
+        private int mPriority;
+
+        Request(@NonNull Flight flight, @NonNull Callback callback, int priority) {
+            mFlight = flight;
+            mCallback = callback;
+            mPriority = priority;
+        }
+
+        void setPriority(int priority) {
+            mPriority = priority;
+            mFlight.updatePriority();
+        }
+
+        /** Stops the callback being invoked, canceling the load if no other requests remain. */
+        void cancel() {
+            if (mFlight.mRequests.remove(this) && mFlight.mRequests.isEmpty()) {
+                mFlights.remove(mFlight.mKey);
+                mFlight.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static java.lang.Math.min;
+
+/**
+ * Presents the elements of the wrapped data whose text contains the current query, ignoring case. The text of each
+ * element is extracted by a function, and indexed by its substrings of up to {@value #GRAM_LENGTH} characters. The
+ * index is kept up to date with changes to the wrapped data.
+ * <p>
+ * Changing the query only visits candidate elements, so its cost is proportional to the number of matches rather than
+ * the number of elements. Candidates are elements containing the rarest gram of the query or, if the new query
+ * contains the previous one, the current matches.
+ */
+public final class SearchData<T> extends DataWrapper<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    @NonNull
+    private final Data<? extends T> mData;
+
+    @NonNull
+    private final Function<? super T, ? extends CharSequence> mTextFunction;
+
+    /** An entry for each inner element, in inner order. Matching entries are marked. */
+    @NonNull
+    private final RankTree<Entry> mEntries = new RankTree<>();
+
+    /** Entries containing each gram. */
+    @NonNull
+    private final HashMap<String, Set<Entry>> mPostings = new HashMap<>();
+
+    @NonNull
+    private HashSet<Entry> mMatches = new HashSet<>();
+
+    /** The normalized query. */
+    @NonNull
+    private String mQuery = "";
+
+    public SearchData(@NonNull Data<? extends T> data, @NonNull Function<? super T, ? extends CharSequence> textFunction) {
+        super(data);
+        mData = data;
+        mTextFunction = textFunction;
+    }
+
+    @NonNull
+    public String getQuery() {
+        return mQuery;
+    }
+
+    /** Sets the query, presenting only elements whose text contains it. An empty query matches all elements. */
+    public void setQuery(@NonNull String query) {
+        String normalized = normalize(query);
+        if (normalized.equals(mQuery)) {
+            return;
+        }
+        Collection<Entry> candidates = candidates(normalized);
+        boolean refinement = normalized.contains(mQuery);
+        if (refinement && mMatches.size() < candidates.size()) {
+            // Every match of a refined query is also a match of the current one.
+            candidates = mMatches;
+        }
+        mQuery = normalized;
+        HashSet<Entry> matches = new HashSet<>();
+        for (Entry entry : candidates) {
+            if (matches(entry)) {
+                matches.add(entry);
+            }
+        }
+        HashSet<Entry> previousMatches = mMatches;
+        mMatches = matches;
+        for (Entry entry : previousMatches) {
+            if (!matches.contains(entry)) {
+                hide(entry, true);
+            }
+        }
+        for (Entry entry : matches) {
+            if (!previousMatches.contains(entry)) {
+                present(entry, true);
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return mEntries.markedSize();
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        return mData.get(mEntries.rank(mEntries.selectMarked(position)), flags);
+    }
+
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        rebuild();
+        int itemCount = size();
+        if (itemCount > 0) {
+            notifyItemRangeInserted(0, itemCount);
+        }
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        clear();
+    }
+
+    @Override
+    protected void forwardChanged() {
+        rebuild();
+        notifyDataSetChanged();
+    }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
+            Entry entry = mEntries.get(innerPosition);
+            String text = text(innerPosition);
+            if (!text.equals(entry.text)) {
+                removePostings(entry);
+                entry.text = text;
+                addPostings(entry);
+            }
+            boolean matched = entry.node.marked;
+            boolean matches = matches(entry);
+            if (matched && matches) {
+                notifyItemChanged(mEntries.markedRank(entry.node), payload);
+            } else if (matched) {
+                mMatches.remove(entry);
+                hide(entry, true);
+            } else if (matches) {
+                mMatches.add(entry);
+                present(entry, true);
+            }
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
+        for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
+            insert(innerPosition, true);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeRemoved(int innerPositionStart, int innerItemCount) {
+        for (int i = 0; i < innerItemCount; i++) {
+            Entry entry = mEntries.get(innerPositionStart);
+            removePostings(entry);
+            if (mMatches.remove(entry)) {
+                hide(entry, true);
+            }
+            mEntries.remove(entry.node);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
+        forwardItemRangeRemoved(innerFromPosition, innerItemCount);
+        forwardItemRangeInserted(innerToPosition, innerItemCount);
+    }
+
+    private void rebuild() {
+        clear();
+        int size = mData.size();
+        for (int innerPosition = 0; innerPosition < size; innerPosition++) {
+            insert(innerPosition, false);
+        }
+    }
+
+    private void clear() {
+        mEntries.clear();
+        mPostings.clear();
+        mMatches.clear();
+    }
+
+    private void insert(int innerPosition, boolean notify) {
+        Entry entry = new Entry(text(innerPosition));
+        entry.node = mEntries.insert(innerPosition, entry);
+        addPostings(entry);
+        if (matches(entry)) {
+            mMatches.add(entry);
+            present(entry, notify);
+        }
+    }
+
+    private void present(@NonNull Entry entry, boolean notify) {
+        mEntries.setMarked(entry.node, true);
+        if (notify) {
+            notifyItemInserted(mEntries.markedRank(entry.node));
+        }
+    }
+
+    private void hide(@NonNull Entry entry, boolean notify) {
+        int outerPosition = mEntries.markedRank(entry.node);
+        mEntries.setMarked(entry.node, false);
+        if (notify) {
+            notifyItemRemoved(outerPosition);
+        }
+    }
+
+    /** Returns entries that may match the specified query, which includes all entries that do match. */
+    @NonNull
+    private Collection<Entry> candidates(@NonNull String query) {
+        if (query.isEmpty()) {
+            int size = mEntries.size();
+            List<Entry> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entries.add(mEntries.get(i));
+            }
+            return entries;
+        }
+        Set<Entry> rarest = null;
+        for (int i = 0; i + min(GRAM_LENGTH, query.length()) <= query.length(); i++) {
+            Set<Entry> posting = mPostings.get(query.substring(i, i + min(GRAM_LENGTH, query.length())));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (rarest == null || posting.size() < rarest.size()) {
+                rarest = posting;
+            }
+        }
+        return rarest;
+    }
+
+    private boolean matches(@NonNull Entry entry) {
+        return entry.text.contains(mQuery);
+    }
+
+    private void addPostings(@NonNull Entry entry) {
+        for (String gram : grams(entry.text)) {
+            Set<Entry> posting = mPostings.get(gram);
+            if (posting == null) {
+                posting = new HashSet<>();
+                mPostings.put(gram, posting);
+            }
+            posting.add(entry);
+        }
+    }
+
+    private void removePostings(@NonNull Entry entry) {
+        for (String gram : grams(entry.text)) {
+            Set<Entry> posting = mPostings.get(gram);
+            if (posting != null) {
+                posting.remove(entry);
+                if (posting.isEmpty()) {
+                    mPostings.remove(gram);
+                }
+            }
+        }
+    }
+
+    @NonNull
+    private String text(int innerPosition) {
+        return normalize(mTextFunction.apply(mData.get(innerPosition)));
+    }
+
+    /** Returns the distinct substrings of the text up to {@link #GRAM_LENGTH} characters long. */
+    @NonNull
+    private static Set<String> grams(@NonNull String text) {
+        HashSet<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            for (int length = 1; length <= GRAM_LENGTH && i + length <= text.length(); length++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    @NonNull
+    private static String normalize(@NonNull CharSequence text) {
+        return text.toString().toLowerCase(Locale.getDefault());
+    }
+
+    private static final class Entry {
+
+        /** The normalized text. */
+        @NonNull
+        String text;
+
+        RankTree.Node<Entry> node;
+
+        Entry(@NonNull String text) {
+            this.text = text;
+        }
+    }
+}
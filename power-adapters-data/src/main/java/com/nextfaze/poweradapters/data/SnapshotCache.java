@@ -0,0 +1,149 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import android.support.annotation.WorkerThread;
+import lombok.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persists a list of elements to a single local file, so the elements last loaded by a {@link Data} can be presented
+ * immediately in a later session. See {@link Data#cache(SnapshotCache)}.
+ * <p>
+ * The file begins with a short header and the element count, followed by each element as written by the
+ * {@link Codec}. Files with an unrecognized header are ignored. Writes replace the file atomically.
+ * <p>
+ * This class is thread-safe.
+ * @param <T> The type of element persisted.
+ */
+public final class SnapshotCache<T> {
+
+    private static final int MAGIC = 0x50415343;
+
+    private static final int VERSION = 1;
+
+    @NonNull
+    private final File mFile;
+
+    @NonNull
+    private final Codec<T> mCodec;
+
+    /**
+     * @param file The file in which elements are persisted. Should not be shared with any other cache.
+     * @param codec Used to read and write each element.
+     */
+    public SnapshotCache(@NonNull File file, @NonNull Codec<T> codec) {
+        mFile = file;
+        mCodec = codec;
+    }
+
+    @NonNull
+    public File getFile() {
+        return mFile;
+    }
+
+    /** Reads the persisted elements, or returns {@code null} if none have been persisted. */
+    @WorkerThread
+    @Nullable
+    public List<T> read() throws IOException {
+        synchronized (this) {
+            DataInputStream in;
+            try {
+                in = new DataInputStream(new BufferedInputStream(new FileInputStream(mFile)));
+            } catch (FileNotFoundException e) {
+                return null;
+            }
+            try {
+                if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                    return null;
+                }
+                int size = readVarInt(in);
+                ArrayList<T> elements = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    elements.add(mCodec.read(in));
+                }
+                return elements;
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /** Persists the specified elements, replacing those previously persisted. */
+    @WorkerThread
+    public void write(@NonNull List<? extends T> elements) throws IOException {
+        synchronized (this) {
+            File temp = new File(mFile.getPath() + ".tmp");
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                writeVarInt(out, elements.size());
+                for (T element : elements) {
+                    mCodec.write(out, element);
+                }
+            } finally {
+                out.close();
+            }
+            if (!temp.renameTo(mFile)) {
+                //noinspection ResultOfMethodCallIgnored
+                temp.delete();
+                throw new IOException("Failed to replace " + mFile);
+            }
+        }
+    }
+
+    /** Deletes any persisted elements. */
+    @WorkerThread
+    public void clear() {
+        synchronized (this) {
+            //noinspection ResultOfMethodCallIgnored
+            mFile.delete();
+        }
+    }
+
+    /** Writes an unsigned variable-length integer, using one byte for values below 128. */
+    public static void writeVarInt(@NonNull DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /** Reads an unsigned variable-length integer written by {@link #writeVarInt(DataOutput, int)}. */
+    public static int readVarInt(@NonNull DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /** Converts elements to and from their binary form. */
+    public interface Codec<T> {
+
+        @WorkerThread
+        void write(@NonNull DataOutput out, @NonNull T element) throws IOException;
+
+        @WorkerThread
+        @NonNull
+        T read(@NonNull DataInput in) throws IOException;
+    }
+}
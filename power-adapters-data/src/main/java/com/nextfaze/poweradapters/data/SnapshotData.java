@@ -0,0 +1,247 @@
+package com.nextfaze.poweradapters.data;
+
+import android.os.Handler;
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static android.os.Looper.getMainLooper;
+import static java.lang.Math.min;
+
+/**
+ * Presents the elements last persisted to a {@link SnapshotCache} while the wrapped data performs its first load, then
+ * notifies the difference between the snapshot and the loaded elements. Elements are persisted again whenever the
+ * wrapped data finishes loading. If the first load fails, the snapshot continues to be presented.
+ */
+final class SnapshotData<T> extends DataWrapper<T> {
+
+    @NonNull
+    private final Handler mHandler = new Handler(getMainLooper());
+
+    @NonNull
+    private final Data<T> mData;
+
+    @NonNull
+    private final SnapshotCache<T> mCache;
+
+    @NonNull
+    private final LoadingObserver mLoadingObserver = new LoadingObserver() {
+        @Override
+        public void onLoadingChange() {
+            if (mData.isLoading()) {
+                mFailed = false;
+            } else {
+                // Errors are dispatched after loading stops, so defer until they've been observed.
+                mHandler.post(mLoadCompleteRunnable);
+            }
+        }
+    };
+
+    @NonNull
+    private final ErrorObserver mErrorObserver = new ErrorObserver() {
+        @Override
+        public void onError(@NonNull Throwable e) {
+            mFailed = true;
+        }
+    };
+
+    @NonNull
+    private final Runnable mLoadCompleteRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (mFailed) {
+                mFailed = false;
+            } else if (!mData.isLoading()) {
+                revalidated();
+                write();
+            }
+        }
+    };
+
+    /** Elements read from the cache, presented until the wrapped data has loaded. */
+    @Nullable
+    private List<T> mSnapshot;
+
+    @Nullable
+    private Task<?> mWriteTask;
+
+    private boolean mSnapshotRequested;
+
+    /** Indicates the wrapped data has loaded since the snapshot was requested, making the snapshot obsolete. */
+    private boolean mRevalidated;
+
+    private boolean mWritePending;
+
+    private boolean mFailed;
+
+    SnapshotData(@NonNull Data<T> data, @NonNull SnapshotCache<T> cache) {
+        super(data);
+        mData = data;
+        mCache = cache;
+    }
+
+    @Override
+    public int size() {
+        return mSnapshot != null ? mSnapshot.size() : mData.size();
+    }
+
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        return mSnapshot != null ? mSnapshot.get(position) : mData.get(position, flags);
+    }
+
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        mData.registerLoadingObserver(mLoadingObserver);
+        mData.registerErrorObserver(mErrorObserver);
+        if (!mSnapshotRequested) {
+            mSnapshotRequested = true;
+            if (mData.size() == 0) {
+                readSnapshot();
+            } else {
+                mRevalidated = true;
+            }
+        }
+    }
+
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        mData.unregisterLoadingObserver(mLoadingObserver);
+        mData.unregisterErrorObserver(mErrorObserver);
+        mHandler.removeCallbacks(mLoadCompleteRunnable);
+        mFailed = false;
+    }
+
+    @Override
+    protected void forwardChanged() {
+        if (!revalidated()) {
+            super.forwardChanged();
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        if (!revalidated()) {
+            super.forwardItemRangeChanged(innerPositionStart, innerItemCount, payload);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
+        if (!revalidated()) {
+            super.forwardItemRangeInserted(innerPositionStart, innerItemCount);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeRemoved(int innerPositionStart, int innerItemCount) {
+        if (!revalidated()) {
+            super.forwardItemRangeRemoved(innerPositionStart, innerItemCount);
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
+        if (!revalidated()) {
+            super.forwardItemRangeMoved(innerFromPosition, innerToPosition, innerItemCount);
+        }
+    }
+
+    private void readSnapshot() {
+        new Task<List<T>>() {
+            @Override
+            protected List<T> call() throws Throwable {
+                return mCache.read();
+            }
+
+            @Override
+            protected void onSuccess(@Nullable List<T> snapshot) throws Throwable {
+                if (!mRevalidated && snapshot != null && !snapshot.isEmpty() && mData.size() == 0) {
+                    mSnapshot = snapshot;
+                    notifyItemRangeInserted(0, snapshot.size());
+                }
+            }
+        }.execute(LoadScheduler.getDefault(), LoadScheduler.PRIORITY_OBSERVED);
+    }
+
+    /**
+     * Stops presenting the snapshot, if any, notifying the difference between it and the wrapped data.
+     * @return {@code true} if the snapshot was replaced, in which case the current change needn't be forwarded.
+     */
+    private boolean revalidated() {
+        mRevalidated = true;
+        List<T> snapshot = mSnapshot;
+        if (snapshot == null) {
+            return false;
+        }
+        mSnapshot = null;
+        notifyDifference(snapshot);
+        return true;
+    }
+
+    /**
+     * Notifies the changes from the snapshot to the wrapped data, ignoring common leading and trailing elements. The
+     * presented elements are updated alongside each notification, so {@link #size()} remains consistent with them.
+     */
+    private void notifyDifference(@NonNull List<T> snapshot) {
+        int oldSize = snapshot.size();
+        int newSize = mData.size();
+        int start = 0;
+        while (start < oldSize && start < newSize && snapshot.get(start).equals(mData.get(start))) {
+            start++;
+        }
+        int end = 0;
+        while (end < oldSize - start && end < newSize - start &&
+                snapshot.get(oldSize - 1 - end).equals(mData.get(newSize - 1 - end))) {
+            end++;
+        }
+        int oldCount = oldSize - start - end;
+        int newCount = newSize - start - end;
+        int changed = min(oldCount, newCount);
+        List<T> presented = new ArrayList<>(snapshot);
+        mSnapshot = presented;
+        for (int i = start; i < start + changed; i++) {
+            presented.set(i, mData.get(i));
+        }
+        notifyItemRangeChanged(start, changed);
+        if (newCount > oldCount) {
+            presented.addAll(start + changed, mData.asList().subList(start + changed, start + newCount));
+            notifyItemRangeInserted(start + changed, newCount - oldCount);
+        } else if (oldCount > newCount) {
+            presented.subList(start + changed, start + oldCount).clear();
+            notifyItemRangeRemoved(start + changed, oldCount - newCount);
+        }
+        mSnapshot = null;
+    }
+
+    /** Persists the current elements of the wrapped data, coalescing with any write already in progress. */
+    private void write() {
+        if (mWriteTask != null) {
+            mWritePending = true;
+            return;
+        }
+        final List<T> elements = new ArrayList<>(mData.asList());
+        mWriteTask = new Task<Void>() {
+            @Override
+            protected Void call() throws Throwable {
+                mCache.write(elements);
+                return null;
+            }
+
+            @Override
+            protected void onFinally() throws Throwable {
+                mWriteTask = null;
+                if (mWritePending) {
+                    mWritePending = false;
+                    write();
+                }
+            }
+        };
+        mWriteTask.execute(LoadScheduler.getDefault(), LoadScheduler.PRIORITY_UNOBSERVED);
+    }
+}
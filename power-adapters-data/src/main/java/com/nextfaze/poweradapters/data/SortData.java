@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 import java.util.ArrayList;
@@ -56,7 +57,7 @@ final class SortData<T> extends DataWrapper<T> {
     }
 
     @Override
-    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount) {
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
         for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
             T t = mData.get(innerPosition);
             int oldOuterPosition = mIndex.remove(innerPosition);
@@ -1,6 +1,5 @@
 package com.nextfaze.poweradapters.data;
 
-import android.os.AsyncTask;
 import android.os.Handler;
 import android.os.Looper;
 import android.support.annotation.Nullable;
@@ -10,7 +9,6 @@ import lombok.NonNull;
 import java.io.InterruptedIOException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 
 import static android.os.Looper.getMainLooper;
@@ -23,9 +21,6 @@ abstract class Task<T> {
         void run() throws Throwable;
     }
 
-    @NonNull
-    private static Executor sExecutor = AsyncTask.THREAD_POOL_EXECUTOR;
-
     @NonNull
     private final Handler mHandler = new Handler(getMainLooper());
 
@@ -61,6 +56,9 @@ abstract class Task<T> {
     @Nullable
     private volatile Thread mExecutingThread;
 
+    @Nullable
+    private LoadScheduler.Job mJob;
+
     private boolean mCanceled;
     private volatile boolean mExecuted;
 
@@ -153,15 +151,22 @@ abstract class Task<T> {
     }
 
     @NonNull
-    Task<T> execute() {
+    Task<T> execute(@NonNull LoadScheduler scheduler, int priority) {
         synchronized (this) {
             mCanceled = false;
         }
         mExecuted = true;
-        sExecutor.execute(mFutureTask);
+        mJob = scheduler.schedule(mFutureTask, priority);
         return this;
     }
 
+    /** Changes the scheduling priority of this task, if it hasn't started yet. */
+    void setPriority(int priority) {
+        if (mJob != null) {
+            mJob.setPriority(priority);
+        }
+    }
+
     /**
      * Calls {@link #cancel(boolean)} with a value of <code>true</code>.
      * @return <code>true</code> if the task was canceled, otherwise <code>false</code>.
@@ -189,6 +194,10 @@ abstract class Task<T> {
             mCanceled = true;
         }
 
+        if (mJob != null) {
+            mJob.cancel();
+        }
+
         try {
             mFutureTask.cancel(mayInterruptIfRunning);
         } catch (Throwable e) {
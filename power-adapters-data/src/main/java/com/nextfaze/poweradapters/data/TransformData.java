@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 final class TransformData<F, T> extends DataWrapper<T> {
@@ -21,4 +22,9 @@ final class TransformData<F, T> extends DataWrapper<T> {
     public T get(int position, int flags) {
         return mFunction.apply(mData.get(position, flags));
     }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        notifyItemRangeChanged(innerToOuter(innerPositionStart), innerItemCount, payload);
+    }
 }
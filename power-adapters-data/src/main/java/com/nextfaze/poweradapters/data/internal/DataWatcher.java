@@ -1,16 +1,16 @@
 package com.nextfaze.poweradapters.data.internal;
 
+import android.support.annotation.Nullable;
 import android.util.Log;
-import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.SimpleDataObserver;
 import com.nextfaze.poweradapters.data.Data;
 import com.nextfaze.poweradapters.data.ErrorObserver;
 import com.nextfaze.poweradapters.data.LoadingObserver;
 import lombok.NonNull;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -19,40 +19,43 @@ import static java.util.Arrays.asList;
 /**
  * Convenience class for observing {@link Data} instances, and ensuring observers are correctly
  * registered/unregistered.
+ * <p>
+ * Callbacks are coalesced, and dispatched at most once per frame. The aggregate loading and empty state of the
+ * observed instances is maintained incrementally as notifications arrive, so evaluating it doesn't visit each
+ * instance.
  */
 public abstract class DataWatcher {
 
     private static final String TAG = DataWatcher.class.getSimpleName();
 
-    @NonNull
-    private final DataObserver mDataObserver = new SimpleDataObserver() {
-        @Override
-        public void onChanged() {
-            dispatchDataChange();
-        }
-    };
+    private static final int CHANGE_DATA = 1;
+    private static final int CHANGE_LOADING = 1 << 1;
 
     @NonNull
-    private final LoadingObserver mLoadingObserver = new LoadingObserver() {
-        @Override
-        public void onLoadingChange() {
-            dispatchDataLoadingChange();
-        }
-    };
+    private final Map<Data<?>, Watch> mWatches = new LinkedHashMap<>();
 
     @NonNull
-    private final ErrorObserver mErrorObserver = new ErrorObserver() {
+    private final FrameScheduler mFrameScheduler = new FrameScheduler(new Runnable() {
         @Override
-        public void onError(@NonNull Throwable e) {
-            dispatchDataError(e);
+        public void run() {
+            dispatchPending();
         }
-    };
+    });
 
-    @NonNull
-    private final Set<Data<?>> mDatas = new HashSet<>();
+    /** Number of registered watches whose data is loading. */
+    private int mLoadingCount;
 
-    @NonNull
-    private final Map<Data<?>, Boolean> mRegistered = new HashMap<>();
+    /** Number of registered watches whose data is empty. */
+    private int mEmptyCount;
+
+    /** Number of registered watches. */
+    private int mRegisteredCount;
+
+    private int mPendingChanges;
+
+    /** The most recent error since the last dispatch. */
+    @Nullable
+    private Throwable mPendingError;
 
     private boolean mEnabled;
 
@@ -69,30 +72,28 @@ public abstract class DataWatcher {
      * @see #setEnabled(boolean)
      */
     public final void setDatas(@NonNull Iterable<? extends Data<?>> datas) {
-        mDatas.clear();
-
+        Set<Data<?>> newDatas = new HashSet<>();
         for (Data<?> data : datas) {
-            mDatas.add(data);
-            // Add entry for each new data instance in our registration map.
-            if (!mRegistered.containsKey(data)) {
-                mRegistered.put(data, false);
-            }
+            newDatas.add(data);
         }
 
-        // Remove and unregister any entries in our registration map that aren't in the new set.
-        Iterator<Map.Entry<Data<?>, Boolean>> it = mRegistered.entrySet().iterator();
+        // Remove and unregister any watches that aren't in the new set.
+        Iterator<Watch> it = mWatches.values().iterator();
         while (it.hasNext()) {
-            Map.Entry<Data<?>, Boolean> entry = it.next();
-            Data<?> data = entry.getKey();
-            Boolean registered = entry.getValue();
-            if (!mDatas.contains(data) && registered) {
-                data.unregisterDataObserver(mDataObserver);
-                data.unregisterLoadingObserver(mLoadingObserver);
-                data.unregisterErrorObserver(mErrorObserver);
+            Watch watch = it.next();
+            if (!newDatas.contains(watch.data)) {
+                watch.unregister();
                 it.remove();
             }
         }
 
+        // Add a watch for each new data instance.
+        for (Data<?> data : newDatas) {
+            if (!mWatches.containsKey(data)) {
+                mWatches.put(data, new Watch(data));
+            }
+        }
+
         updateRegistration();
     }
 
@@ -118,24 +119,70 @@ public abstract class DataWatcher {
         return mEnabled;
     }
 
-    private void updateRegistration() {
-        for (Map.Entry<Data<?>, Boolean> entry : mRegistered.entrySet()) {
-            Data<?> data = entry.getKey();
-            Boolean registered = entry.getValue();
-            boolean shouldRegister = mEnabled && mDatas.contains(data);
-            if (registered && !shouldRegister) {
-                data.unregisterDataObserver(mDataObserver);
-                data.unregisterLoadingObserver(mLoadingObserver);
-                data.unregisterErrorObserver(mErrorObserver);
-                entry.setValue(false);
+    /** Returns if any of the assigned {@link Data} instances are loading. */
+    public final boolean isLoading() {
+        if (mRegisteredCount == mWatches.size()) {
+            return mLoadingCount > 0;
+        }
+        // Not observing, so the aggregate may be stale.
+        for (Data<?> data : mWatches.keySet()) {
+            if (data.isLoading()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns if all of the assigned {@link Data} instances are empty, or if none are assigned. */
+    public final boolean isEmpty() {
+        if (mRegisteredCount == mWatches.size()) {
+            return mEmptyCount == mRegisteredCount;
+        }
+        // Not observing, so the aggregate may be stale.
+        for (Data<?> data : mWatches.keySet()) {
+            if (!data.isEmpty()) {
+                return false;
             }
-            if (!registered && shouldRegister) {
-                data.registerDataObserver(mDataObserver);
-                data.registerLoadingObserver(mLoadingObserver);
-                data.registerErrorObserver(mErrorObserver);
-                entry.setValue(true);
+        }
+        return true;
+    }
+
+    private void updateRegistration() {
+        for (Watch watch : mWatches.values()) {
+            if (mEnabled) {
+                watch.register();
+            } else {
+                watch.unregister();
             }
         }
+        // Nothing is observed any more, so pending callbacks are no longer wanted.
+        if (mRegisteredCount == 0) {
+            mFrameScheduler.cancel();
+            mPendingChanges = 0;
+            mPendingError = null;
+        }
+    }
+
+    private void schedule(int changes) {
+        mPendingChanges |= changes;
+        mFrameScheduler.schedule();
+    }
+
+    private void dispatchPending() {
+        int changes = mPendingChanges;
+        Throwable error = mPendingError;
+        mPendingChanges = 0;
+        mPendingError = null;
+        // Errors are dispatched before loading changes, so a load that restarted after an error supersedes it.
+        if (error != null) {
+            dispatchDataError(error);
+        }
+        if ((changes & CHANGE_LOADING) != 0) {
+            dispatchDataLoadingChange();
+        }
+        if ((changes & CHANGE_DATA) != 0) {
+            dispatchDataChange();
+        }
     }
 
     private void dispatchDataChange() {
@@ -173,4 +220,83 @@ public abstract class DataWatcher {
     /** Called when the data dispatches an error. */
     protected void onDataError(@NonNull Throwable e) {
     }
+
+    /** Observes a single {@link Data} instance, tracking its contribution to the aggregate state. */
+    private final class Watch extends SimpleDataObserver implements LoadingObserver, ErrorObserver {
+
+        @NonNull
+        final Data<?> data;
+
+        private boolean mRegistered;
+        private boolean mLoading;
+        private boolean mEmpty;
+
+        Watch(@NonNull Data<?> data) {
+            this.data = data;
+        }
+
+        void register() {
+            if (!mRegistered) {
+                mRegistered = true;
+                // Counted before registering, since registering may invoke callbacks that update the counts.
+                mLoading = data.isLoading();
+                mEmpty = data.isEmpty();
+                mRegisteredCount++;
+                mLoadingCount += mLoading ? 1 : 0;
+                mEmptyCount += mEmpty ? 1 : 0;
+                data.registerDataObserver(this);
+                data.registerLoadingObserver(this);
+                data.registerErrorObserver(this);
+                // Data may change state upon being observed without notifying, so catch up with it.
+                updateEmpty();
+                updateLoading();
+            }
+        }
+
+        void unregister() {
+            if (mRegistered) {
+                mRegistered = false;
+                data.unregisterDataObserver(this);
+                data.unregisterLoadingObserver(this);
+                data.unregisterErrorObserver(this);
+                mRegisteredCount--;
+                mLoadingCount -= mLoading ? 1 : 0;
+                mEmptyCount -= mEmpty ? 1 : 0;
+            }
+        }
+
+        @Override
+        public void onChanged() {
+            updateEmpty();
+            schedule(CHANGE_DATA);
+        }
+
+        @Override
+        public void onLoadingChange() {
+            updateLoading();
+            schedule(CHANGE_LOADING);
+        }
+
+        @Override
+        public void onError(@NonNull Throwable e) {
+            mPendingError = e;
+            mFrameScheduler.schedule();
+        }
+
+        private void updateEmpty() {
+            boolean empty = data.isEmpty();
+            if (empty != mEmpty) {
+                mEmpty = empty;
+                mEmptyCount += empty ? 1 : -1;
+            }
+        }
+
+        private void updateLoading() {
+            boolean loading = data.isLoading();
+            if (loading != mLoading) {
+                mLoading = loading;
+                mLoadingCount += loading ? 1 : -1;
+            }
+        }
+    }
 }
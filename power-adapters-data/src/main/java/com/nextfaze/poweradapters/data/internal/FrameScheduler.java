@@ -0,0 +1,109 @@
+package com.nextfaze.poweradapters.data.internal;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static android.os.Build.VERSION_CODES.JELLY_BEAN;
+import static android.os.Looper.getMainLooper;
+
+/**
+ * Runs a {@link Runnable} on the main thread at most once per frame, however many times it's scheduled in between.
+ * Uses {@link Choreographer} where available, otherwise posts to the main looper. Thread-safe.
+ * @hide Not intended for public use.
+ */
+public final class FrameScheduler {
+
+    @NonNull
+    private static final Handler sHandler = new Handler(getMainLooper());
+
+    @NonNull
+    private final Runnable mRunnable;
+
+    @NonNull
+    private final AtomicBoolean mScheduled = new AtomicBoolean();
+
+    @NonNull
+    private final Runnable mDispatchRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (Build.VERSION.SDK_INT >= JELLY_BEAN) {
+                FrameCallbacks.post(FrameScheduler.this);
+            } else {
+                dispatch();
+            }
+        }
+    };
+
+    @SuppressWarnings("unused")
+    private Object mFrameCallback;
+
+    public FrameScheduler(@NonNull Runnable runnable) {
+        mRunnable = runnable;
+    }
+
+    /** Schedules the runnable to run at the start of the next frame, unless it's already scheduled. */
+    public void schedule() {
+        if (mScheduled.compareAndSet(false, true)) {
+            if (Looper.myLooper() == getMainLooper()) {
+                mDispatchRunnable.run();
+            } else {
+                // Choreographer instances are per-thread, so hop to the main thread first.
+                sHandler.post(mDispatchRunnable);
+            }
+        }
+    }
+
+    /** Unschedules the runnable. Must be called from the main thread. */
+    public void cancel() {
+        if (mScheduled.compareAndSet(true, false)) {
+            sHandler.removeCallbacks(mDispatchRunnable);
+            if (Build.VERSION.SDK_INT >= JELLY_BEAN) {
+                FrameCallbacks.remove(this);
+            }
+        }
+    }
+
+    /** Returns if the runnable is scheduled to run. */
+    public boolean isScheduled() {
+        return mScheduled.get();
+    }
+
+    private void dispatch() {
+        // Clear first, so the runnable can reschedule itself.
+        if (mScheduled.compareAndSet(true, false)) {
+            mRunnable.run();
+        }
+    }
+
+    /** Isolates references to {@link Choreographer}, which doesn't exist prior to Jelly Bean. */
+    @TargetApi(JELLY_BEAN)
+    private static final class FrameCallbacks {
+
+        static void post(@NonNull final FrameScheduler scheduler) {
+            Choreographer.FrameCallback callback = (Choreographer.FrameCallback) scheduler.mFrameCallback;
+            if (callback == null) {
+                callback = new Choreographer.FrameCallback() {
+                    @Override
+                    public void doFrame(long frameTimeNanos) {
+                        scheduler.dispatch();
+                    }
+                };
+                scheduler.mFrameCallback = callback;
+            }
+            Choreographer.getInstance().postFrameCallback(callback);
+        }
+
+        static void remove(@NonNull FrameScheduler scheduler) {
+            Choreographer.FrameCallback callback = (Choreographer.FrameCallback) scheduler.mFrameCallback;
+            if (callback != null) {
+                Choreographer.getInstance().removeFrameCallback(callback);
+            }
+        }
+    }
+}
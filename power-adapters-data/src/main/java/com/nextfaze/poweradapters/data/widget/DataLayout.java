@@ -18,7 +18,6 @@ import android.util.AttributeSet;
 import android.view.Display;
 import android.view.View;
 import android.view.ViewGroup;
-import android.view.ViewTreeObserver;
 import android.widget.AdapterView;
 import android.widget.RelativeLayout;
 import android.widget.TextView;
@@ -84,14 +83,6 @@ public class DataLayout extends RelativeLayout {
     @NonNull
     private final Rect mRect = new Rect();
 
-    @NonNull
-    private final ViewTreeObserver.OnScrollChangedListener mOnScrollChangedListener = new ViewTreeObserver.OnScrollChangedListener() {
-        @Override
-        public void onScrollChanged() {
-            updateVisible();
-        }
-    };
-
     @NonNull
     private final DataWatcher mDataWatcher = new DataWatcher() {
         @Override
@@ -317,7 +308,7 @@ public class DataLayout extends RelativeLayout {
     @Override
     protected void onAttachedToWindow() {
         super.onAttachedToWindow();
-        getViewTreeObserver().addOnScrollChangedListener(mOnScrollChangedListener);
+        VisibilityTracker.track(this);
         mAttachedToWindow = true;
         updateVisible();
     }
@@ -325,7 +316,7 @@ public class DataLayout extends RelativeLayout {
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
-        getViewTreeObserver().removeOnScrollChangedListener(mOnScrollChangedListener);
+        VisibilityTracker.untrack(this);
         mAttachedToWindow = false;
         updateVisible();
     }
@@ -596,28 +587,12 @@ public class DataLayout extends RelativeLayout {
 
     /** Returns if any of the observed {@link Data} instances are loading. */
     public final boolean isLoading() {
-        if (mDatas.isEmpty()) {
-            return false;
-        }
-        for (int i = 0; i < mDatas.size(); i++) {
-            if (mDatas.get(i).isLoading()) {
-                return true;
-            }
-        }
-        return false;
+        return mDataWatcher.isLoading();
     }
 
     /** Returns if all of the observed {@link Data} instances are empty, or if none are being observed. */
     public final boolean isEmpty() {
-        if (mDatas.isEmpty()) {
-            return true;
-        }
-        for (int i = 0; i < mDatas.size(); i++) {
-            if (!mDatas.get(i).isEmpty()) {
-                return false;
-            }
-        }
-        return true;
+        return mDataWatcher.isEmpty();
     }
 
     /** Re-assigns the component mapping by inspecting the {@link DataLayout.LayoutParams} of child views. */
@@ -667,7 +642,8 @@ public class DataLayout extends RelativeLayout {
         }
     }
 
-    private void updateVisible() {
+    /** Re-evaluates the visibility predicate. Also called by {@link VisibilityTracker} when this layout scrolls. */
+    void updateVisible() {
         boolean visible = mVisibilityPredicate.isVisible(this);
         mDataWatcher.setEnabled(visible);
         if (visible != mVisible) {
@@ -0,0 +1,162 @@
+package com.nextfaze.poweradapters.data.widget;
+
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewTreeObserver;
+import com.nextfaze.poweradapters.data.internal.FrameScheduler;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.WeakHashMap;
+
+/**
+ * Re-evaluates the visibility of the {@link DataLayout}s in a window when any of its views scroll, or after a layout
+ * pass. A single pair of listeners is shared by all layouts in the window, and evaluation is throttled to once per
+ * frame. Computing a layout's visible bounds walks up the view tree, so it's only done for layouts whose location
+ * within the window or size has changed, or for all layouts after a layout pass, since that's when ancestors can clip a
+ * layout differently without moving it. Layouts whose visible bounds are then unchanged are skipped, as are layouts
+ * that were not visible and are still entirely clipped, since their visibility can't have changed.
+ */
+final class VisibilityTracker implements ViewTreeObserver.OnScrollChangedListener,
+        ViewTreeObserver.OnGlobalLayoutListener {
+
+    /** Trackers keyed by the root view of their window. */
+    @NonNull
+    private static final WeakHashMap<View, VisibilityTracker> sTrackers = new WeakHashMap<>();
+
+    @NonNull
+    private final ArrayList<Entry> mEntries = new ArrayList<>();
+
+    @NonNull
+    private final Rect mRect = new Rect();
+
+    @NonNull
+    private final int[] mLocation = new int[2];
+
+    @NonNull
+    private final FrameScheduler mFrameScheduler = new FrameScheduler(new Runnable() {
+        @Override
+        public void run() {
+            evaluate();
+        }
+    });
+
+    private VisibilityTracker() {
+    }
+
+    /** Starts tracking the specified layout, which must be attached to a window. */
+    static void track(@NonNull DataLayout layout) {
+        View rootView = layout.getRootView();
+        VisibilityTracker tracker = sTrackers.get(rootView);
+        if (tracker == null) {
+            tracker = new VisibilityTracker();
+            sTrackers.put(rootView, tracker);
+            ViewTreeObserver observer = rootView.getViewTreeObserver();
+            observer.addOnScrollChangedListener(tracker);
+            observer.addOnGlobalLayoutListener(tracker);
+        }
+        tracker.mEntries.add(new Entry(layout));
+    }
+
+    /** Stops tracking the specified layout. Must be called before it's detached from its window. */
+    @SuppressWarnings("deprecation")
+    static void untrack(@NonNull DataLayout layout) {
+        View rootView = layout.getRootView();
+        VisibilityTracker tracker = sTrackers.get(rootView);
+        if (tracker == null) {
+            return;
+        }
+        for (int i = 0; i < tracker.mEntries.size(); i++) {
+            if (tracker.mEntries.get(i).layout == layout) {
+                tracker.mEntries.remove(i);
+                break;
+            }
+        }
+        if (tracker.mEntries.isEmpty()) {
+            sTrackers.remove(rootView);
+            ViewTreeObserver observer = rootView.getViewTreeObserver();
+            if (observer.isAlive()) {
+                observer.removeOnScrollChangedListener(tracker);
+                // The replacement for this method requires Jelly Bean.
+                observer.removeGlobalOnLayoutListener(tracker);
+            }
+            tracker.mFrameScheduler.cancel();
+        }
+    }
+
+    @Override
+    public void onScrollChanged() {
+        mFrameScheduler.schedule();
+    }
+
+    @Override
+    public void onGlobalLayout() {
+        for (Entry entry : mEntries) {
+            entry.dirty = true;
+        }
+        mFrameScheduler.schedule();
+    }
+
+    private void evaluate() {
+        // Evaluation may cause layouts to be untracked, so iterate over a copy.
+        for (Entry entry : new ArrayList<>(mEntries)) {
+            DataLayout layout = entry.layout;
+            layout.getLocationInWindow(mLocation);
+            if (!entry.moved(mLocation[0], mLocation[1], layout.getWidth(), layout.getHeight())) {
+                continue;
+            }
+            boolean clipped = !layout.getGlobalVisibleRect(mRect);
+            if (clipped) {
+                mRect.setEmpty();
+            }
+            if (entry.evaluated && mRect.equals(entry.bounds)) {
+                continue;
+            }
+            entry.evaluated = true;
+            entry.bounds.set(mRect);
+            if (clipped && !layout.isVisible()) {
+                continue;
+            }
+            layout.updateVisible();
+        }
+    }
+
+    private static final class Entry {
+
+        @NonNull
+        final DataLayout layout;
+
+        /** Whether the bounds have been recorded. */
+        boolean evaluated;
+
+        /** Whether the bounds must be computed again, even if the layout hasn't moved. */
+        boolean dirty = true;
+
+        /** The location within the window and size when last evaluated. */
+        int x;
+        int y;
+        int width;
+        int height;
+
+        /** The visible bounds within the window when last evaluated, or empty if entirely clipped. */
+        @NonNull
+        final Rect bounds = new Rect();
+
+        Entry(@NonNull DataLayout layout) {
+            this.layout = layout;
+        }
+
+        /** Records the specified location and size, returning whether they or the clipping may have changed. */
+        boolean moved(int x, int y, int width, int height) {
+            if (!dirty && this.x == x && this.y == y && this.width == width && this.height == height) {
+                return false;
+            }
+            dirty = false;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class CachingTransformDataTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private FakeData<String> mData;
+
+    private CountingFunction mFunction;
+
+    private CachingTransformData<String, Integer> mTransformData;
+
+    @Before
+    public void setUp() throws Exception {
+        mData = new FakeData<>();
+        mData.insert(0, "a", "bc", "def", "ghij", "klmno");
+        mFunction = new CountingFunction();
+        mTransformData = new CachingTransformData<>(mData, mFunction, 3);
+        mTransformData.registerDataObserver(new VerifyingDataObserver(mTransformData));
+        mTransformData.registerDataObserver(mock(DataObserver.class));
+    }
+
+    @Test
+    public void transform() {
+        assertThat(mTransformData).containsExactly(1, 2, 3, 4, 5).inOrder();
+    }
+
+    @Test
+    public void repeatedGetAppliesFunctionOnce() {
+        mTransformData.get(1);
+        mTransformData.get(1);
+        mTransformData.get(1);
+        assertThat(mFunction.mApplied).containsExactly("bc");
+    }
+
+    @Test
+    public void leastRecentlyUsedEvicted() {
+        mTransformData.get(0);
+        mTransformData.get(1);
+        mTransformData.get(2);
+        mTransformData.get(0);
+        mTransformData.get(3);
+        mFunction.mApplied.clear();
+        mTransformData.get(0);
+        mTransformData.get(1);
+        assertThat(mFunction.mApplied).containsExactly("bc");
+    }
+
+    @Test
+    public void changeInvalidatesChangedPosition() {
+        mTransformData.get(0);
+        mTransformData.get(1);
+        mData.change(1, "xyz");
+        mFunction.mApplied.clear();
+        assertThat(mTransformData.get(0)).isEqualTo(1);
+        assertThat(mTransformData.get(1)).isEqualTo(3);
+        assertThat(mFunction.mApplied).containsExactly("xyz");
+    }
+
+    @Test
+    public void insertShiftsCachedPositions() {
+        mTransformData.get(1);
+        mTransformData.get(2);
+        mData.insert(1, "zzzzzz");
+        mFunction.mApplied.clear();
+        assertThat(mTransformData.get(2)).isEqualTo(2);
+        assertThat(mTransformData.get(3)).isEqualTo(3);
+        assertThat(mFunction.mApplied).isEmpty();
+    }
+
+    @Test
+    public void removeShiftsCachedPositions() {
+        mTransformData.get(0);
+        mTransformData.get(3);
+        mTransformData.get(4);
+        mData.remove(1, 2);
+        mFunction.mApplied.clear();
+        assertThat(mTransformData).containsExactly(1, 4, 5).inOrder();
+        assertThat(mFunction.mApplied).isEmpty();
+    }
+
+    @Test
+    public void moveShiftsCachedPositions() {
+        mTransformData.get(0);
+        mTransformData.get(1);
+        mTransformData.get(4);
+        mData.move(0, 3, 2);
+        mFunction.mApplied.clear();
+        assertThat(mTransformData.get(3)).isEqualTo(1);
+        assertThat(mTransformData.get(4)).isEqualTo(2);
+        assertThat(mTransformData.get(2)).isEqualTo(5);
+        assertThat(mFunction.mApplied).isEmpty();
+    }
+
+    @Test
+    public void unobservedChangeNotReturnedStale() {
+        CachingTransformData<String, Integer> transformData = new CachingTransformData<>(mData, mFunction, 3);
+        transformData.get(0);
+        mData.change(0, "abcdef");
+        assertThat(transformData.get(0)).isEqualTo(6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveCacheSizeThrows() {
+        new CachingTransformData<>(mData, mFunction, 0);
+    }
+
+    private static final class CountingFunction implements Function<String, Integer> {
+
+        @NonNull
+        final List<String> mApplied = new ArrayList<>();
+
+        @NonNull
+        @Override
+        public Integer apply(@NonNull String s) {
+            mApplied.add(s);
+            return s.length();
+        }
+    }
+}
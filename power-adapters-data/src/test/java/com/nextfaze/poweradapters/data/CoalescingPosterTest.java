@@ -0,0 +1,195 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.CoalescingPoster.CHANGE_AVAILABLE;
+import static com.nextfaze.poweradapters.data.CoalescingPoster.CHANGE_ERROR;
+import static com.nextfaze.poweradapters.data.CoalescingPoster.CHANGE_LOADING;
+
+/**
+ * Races between posting threads and the flush are reproduced on the main thread, by posting from within a flush or by
+ * performing the individual writes of a post around one.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class CoalescingPosterTest {
+
+    @NonNull
+    private final List<String> mCalls = new ArrayList<>();
+
+    @Nullable
+    private Runnable mOnChanges;
+
+    private CoalescingPoster mPoster;
+
+    @Before
+    public void setUp() throws Exception {
+        // Hold posted flushes until the test runs them.
+        ShadowLooper.pauseMainLooper();
+        mPoster = new CoalescingPoster(new CoalescingPoster.Listener() {
+            @Override
+            public void onChanges(int changes, @Nullable Throwable error) {
+                mCalls.add("changes " + changes + (error != null ? " " + error.getMessage() : ""));
+                if (mOnChanges != null) {
+                    Runnable onChanges = mOnChanges;
+                    mOnChanges = null;
+                    onChanges.run();
+                }
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mPoster.dispose();
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test
+    public void changesCoalescedIntoSingleFlush() {
+        mPoster.postChanges(CHANGE_LOADING);
+        mPoster.postChanges(CHANGE_AVAILABLE);
+        mPoster.postChanges(CHANGE_LOADING);
+        assertThat(pendingFlushes()).isEqualTo(1);
+        assertThat(mCalls).isEmpty();
+        flush();
+        assertThat(mCalls).containsExactly("changes " + (CHANGE_LOADING | CHANGE_AVAILABLE));
+    }
+
+    @Test
+    public void flushClearsPostedBit() {
+        mPoster.postChanges(CHANGE_LOADING);
+        flush();
+        mPoster.postChanges(CHANGE_AVAILABLE);
+        assertThat(pendingFlushes()).isEqualTo(1);
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_LOADING, "changes " + CHANGE_AVAILABLE).inOrder();
+    }
+
+    @Test
+    public void changePostedDuringFlushDeliveredByNextFlush() {
+        mOnChanges = new Runnable() {
+            @Override
+            public void run() {
+                mPoster.postChanges(CHANGE_AVAILABLE);
+            }
+        };
+        mPoster.postChanges(CHANGE_LOADING);
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_LOADING, "changes " + CHANGE_AVAILABLE).inOrder();
+    }
+
+    @Test
+    public void latestErrorWins() {
+        mPoster.postError(new RuntimeException("a"));
+        mPoster.postError(new RuntimeException("b"));
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_ERROR + " b");
+    }
+
+    @Test
+    public void errorWhoseBitIsWrittenAfterFlushDeliveredByNextFlush() throws Exception {
+        mPoster.postChanges(CHANGE_LOADING);
+        // Another thread writes the error value, but the flush runs before it writes the change bit.
+        writeErrorValue(new RuntimeException("a"));
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_LOADING);
+        mPoster.postChanges(CHANGE_ERROR);
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_LOADING, "changes " + CHANGE_ERROR + " a").inOrder();
+    }
+
+    @Test
+    public void errorDeliveredEarlyByBitOfPreviousErrorNotDeliveredAgain() throws Exception {
+        mPoster.postError(new RuntimeException("a"));
+        // Another thread writes a newer error value, and the flush delivers it using the bit of the previous error.
+        writeErrorValue(new RuntimeException("b"));
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_ERROR + " b");
+        // The bit of the newer error arrives after it was delivered.
+        mPoster.postChanges(CHANGE_ERROR);
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_ERROR + " b");
+    }
+
+    @Test
+    public void errorBitWithOtherChangesKeepsOtherChanges() throws Exception {
+        mPoster.postError(new RuntimeException("a"));
+        flush();
+        // A stale error bit arrives along with another change.
+        mPoster.postChanges(CHANGE_ERROR | CHANGE_LOADING);
+        flush();
+        assertThat(mCalls).containsExactly("changes " + CHANGE_ERROR + " a", "changes " + CHANGE_LOADING).inOrder();
+    }
+
+    @Test
+    public void queuedRunnablesRunBeforeChanges() {
+        mPoster.postChanges(CHANGE_LOADING);
+        mPoster.post(new Runnable() {
+            @Override
+            public void run() {
+                mCalls.add("runnable 1");
+            }
+        });
+        mPoster.post(new Runnable() {
+            @Override
+            public void run() {
+                mCalls.add("runnable 2");
+            }
+        });
+        assertThat(pendingFlushes()).isEqualTo(1);
+        flush();
+        assertThat(mCalls).containsExactly("runnable 1", "runnable 2", "changes " + CHANGE_LOADING).inOrder();
+    }
+
+    @Test
+    public void runnableAloneDoesNotNotifyChanges() {
+        mPoster.post(new Runnable() {
+            @Override
+            public void run() {
+                mCalls.add("runnable");
+            }
+        });
+        flush();
+        assertThat(mCalls).containsExactly("runnable");
+    }
+
+    @Test
+    public void disposeDropsPendingFlush() {
+        mPoster.postChanges(CHANGE_LOADING);
+        mPoster.dispose();
+        flush();
+        assertThat(mCalls).isEmpty();
+    }
+
+    /** Performs the first of the two writes made by {@link CoalescingPoster#postError(Throwable)}. */
+    @SuppressWarnings("unchecked")
+    private void writeErrorValue(@NonNull Throwable error) throws Exception {
+        Field field = CoalescingPoster.class.getDeclaredField("mError");
+        field.setAccessible(true);
+        ((AtomicReference<Throwable>) field.get(mPoster)).set(error);
+    }
+
+    private static int pendingFlushes() {
+        return Robolectric.getForegroundThreadScheduler().size();
+    }
+
+    private static void flush() {
+        ShadowLooper.runUiThreadTasks();
+    }
+}
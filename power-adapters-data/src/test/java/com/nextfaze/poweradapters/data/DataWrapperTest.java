@@ -1,6 +1,7 @@
 package com.nextfaze.poweradapters.data;
 
 import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.SimpleDataObserver;
 import lombok.NonNull;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -105,6 +106,30 @@ public final class DataWrapperTest {
         verifyZeroInteractions(mWrapperDataObserver, mWrapperLoadingObserver, mWrapperAvailableObserver);
     }
 
+    @Test
+    public void payloadChangeForwardedWithoutPayloadByDefault() {
+        SimpleDataObserver observer = mock(SimpleDataObserver.class);
+        mDataWrapper.registerDataObserver(observer);
+        mData.changeWithPayload(1, 2, new Object());
+        verify(observer).onItemRangeChanged(1, 2);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void payloadChangeRemappedBySubclassOverridingOnlyPlainChange() {
+        Data<String> wrapper = new TestDataWrapper<String>(mData) {
+            @Override
+            protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount) {
+                notifyItemRangeChanged(innerPositionStart + 10, innerItemCount);
+            }
+        };
+        SimpleDataObserver observer = mock(SimpleDataObserver.class);
+        wrapper.registerDataObserver(observer);
+        mData.changeWithPayload(1, 2, new Object());
+        verify(observer).onItemRangeChanged(11, 2);
+        verifyNoMoreInteractions(observer);
+    }
+
     // TODO: Test the forward callbacks.
 
     @Ignore
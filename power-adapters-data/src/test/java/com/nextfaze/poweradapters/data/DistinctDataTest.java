@@ -0,0 +1,153 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class DistinctDataTest {
+
+    private static final Function<Integer, Integer> IDENTITY = new Function<Integer, Integer>() {
+        @NonNull
+        @Override
+        public Integer apply(@NonNull Integer i) {
+            return i;
+        }
+    };
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private FakeData<Integer> mFakeData;
+
+    private DistinctData<Integer> mDistinctData;
+
+    @Mock
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mFakeData = new FakeData<>();
+        mFakeData.insert(0, 1, 2, 3, 2, 4, 1);
+        mDistinctData = new DistinctData<>(mFakeData, IDENTITY);
+        mDistinctData.registerDataObserver(new VerifyingDataObserver(mDistinctData));
+    }
+
+    @Test
+    public void duplicatesOmitted() {
+        assertThat(mDistinctData).containsExactly(1, 2, 3, 4).inOrder();
+    }
+
+    @Test
+    public void appendDuplicateNotifiesNothing() {
+        mDistinctData.registerDataObserver(mObserver);
+        mFakeData.append(3, 4, 5);
+        assertThat(mDistinctData).containsExactly(1, 2, 3, 4, 5).inOrder();
+        verify(mObserver).onItemRangeInserted(4, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertBeforeFirstOccurrenceMovesOccurrence() {
+        mDistinctData.registerDataObserver(mObserver);
+        mFakeData.insert(0, 3);
+        assertThat(mDistinctData).containsExactly(3, 1, 2, 4).inOrder();
+        verify(mObserver).onItemRangeRemoved(2, 1);
+        verify(mObserver).onItemRangeInserted(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeFirstOccurrencePresentsNextOccurrence() {
+        mDistinctData.registerDataObserver(mObserver);
+        mFakeData.remove(1, 1);
+        assertThat(mDistinctData).containsExactly(1, 3, 2, 4).inOrder();
+        verify(mObserver).onItemRangeRemoved(1, 1);
+        verify(mObserver).onItemRangeInserted(2, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeDuplicateNotifiesNothing() {
+        mDistinctData.registerDataObserver(mObserver);
+        mFakeData.remove(5, 1);
+        assertThat(mDistinctData).containsExactly(1, 2, 3, 4).inOrder();
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeLastOccurrenceNotifiesRemoval() {
+        mDistinctData.registerDataObserver(mObserver);
+        mFakeData.remove(2, 1);
+        assertThat(mDistinctData).containsExactly(1, 2, 4).inOrder();
+        verify(mObserver).onItemRangeRemoved(2, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeToNewKeyPresentsElement() {
+        mFakeData.change(3, 7);
+        assertThat(mDistinctData).containsExactly(1, 2, 3, 7, 4).inOrder();
+    }
+
+    @Test
+    public void changeFirstOccurrenceToDuplicateKey() {
+        mFakeData.change(0, 4);
+        assertThat(mDistinctData).containsExactly(4, 2, 3, 1).inOrder();
+    }
+
+    @Test
+    public void keyFunctionDeterminesDuplicates() {
+        FakeData<String> fakeData = new FakeData<>();
+        fakeData.insert(0, "apple", "avocado", "banana", "blueberry", "cherry");
+        DistinctData<String> distinctData = new DistinctData<>(fakeData, new Function<String, Character>() {
+            @NonNull
+            @Override
+            public Character apply(@NonNull String s) {
+                return s.charAt(0);
+            }
+        });
+        distinctData.registerDataObserver(new VerifyingDataObserver(distinctData));
+        assertThat(distinctData).containsExactly("apple", "banana", "cherry").inOrder();
+    }
+
+    @Test
+    public void randomMutationsMatchFirstOccurrences() {
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            int op = random.nextInt(3);
+            int value = random.nextInt(20);
+            if (op == 0 && mFakeData.size() > 0) {
+                mFakeData.remove(random.nextInt(mFakeData.size()), 1);
+            } else if (op == 1 && mFakeData.size() > 0) {
+                mFakeData.change(random.nextInt(mFakeData.size()), value);
+            } else {
+                mFakeData.insert(random.nextInt(mFakeData.size() + 1), value);
+            }
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (Integer value : mFakeData.asList()) {
+            if (!expected.contains(value)) {
+                expected.add(value);
+            }
+        }
+        assertThat(mDistinctData).containsExactlyElementsIn(expected).inOrder();
+    }
+}
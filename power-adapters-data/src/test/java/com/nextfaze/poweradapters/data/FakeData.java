@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import android.support.annotation.Nullable;
 import com.nextfaze.poweradapters.internal.NotificationType;
 import com.nextfaze.poweradapters.internal.NotifyingArrayList;
 import lombok.NonNull;
@@ -111,6 +112,11 @@ public class FakeData<T> extends Data<T> {
         mData.setAll(index, Arrays.asList(items));
     }
 
+    /** Notifies a change of the elements in the specified range, without changing them. */
+    public void changeWithPayload(int positionStart, int itemCount, @Nullable Object payload) {
+        notifyItemRangeChanged(positionStart, itemCount, payload);
+    }
+
     public void remove(int index, int count) {
         mData.remove(index, count);
     }
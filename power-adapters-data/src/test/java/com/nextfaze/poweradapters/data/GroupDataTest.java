@@ -0,0 +1,198 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class GroupDataTest {
+
+    private static final Function<String, Character> FIRST_LETTER = new Function<String, Character>() {
+        @NonNull
+        @Override
+        public Character apply(@NonNull String s) {
+            return s.charAt(0);
+        }
+    };
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private FakeData<String> mFakeData;
+
+    private GroupData<String, Character> mGroupData;
+
+    @Mock
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mFakeData = new FakeData<>();
+        mFakeData.insert(0, "a1", "a2", "b1", "c1", "c2");
+        mGroupData = new GroupData<>(mFakeData, FIRST_LETTER);
+        mGroupData.registerDataObserver(new VerifyingDataObserver(mGroupData));
+    }
+
+    @Test
+    public void headersPrecedeGroups() {
+        assertRows("#a", "a1", "a2", "#b", "b1", "#c", "c1", "c2");
+        assertThat(mGroupData.get(0)).isInstanceOf(GroupHeader.class);
+        assertThat(((GroupHeader<?>) mGroupData.get(3)).getKey()).isEqualTo('b');
+    }
+
+    @Test
+    public void insertIntoGroupNotifiesSingleInsertion() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.insert(1, "a3");
+        assertRows("#a", "a1", "a3", "a2", "#b", "b1", "#c", "c1", "c2");
+        verify(mObserver).onItemRangeInserted(2, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertAtGroupBoundaryJoinsPrecedingGroup() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.insert(2, "a3");
+        assertRows("#a", "a1", "a2", "a3", "#b", "b1", "#c", "c1", "c2");
+        verify(mObserver).onItemRangeInserted(3, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertAtGroupBoundaryJoinsFollowingGroup() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.insert(2, "b0");
+        assertRows("#a", "a1", "a2", "#b", "b0", "b1", "#c", "c1", "c2");
+        verify(mObserver).onItemRangeInserted(4, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertNewKeyAtBoundaryInsertsGroup() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.append("d1");
+        assertRows("#a", "a1", "a2", "#b", "b1", "#c", "c1", "c2", "#d", "d1");
+        verify(mObserver).onItemRangeInserted(8, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertNewKeyWithinGroupSplitsGroup() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.insert(4, "x1");
+        assertRows("#a", "a1", "a2", "#b", "b1", "#c", "c1", "#x", "x1", "#c", "c2");
+        verify(mObserver).onItemRangeInserted(7, 3);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeFromGroupNotifiesSingleRemoval() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.remove(3, 1);
+        assertRows("#a", "a1", "a2", "#b", "b1", "#c", "c2");
+        verify(mObserver).onItemRangeRemoved(6, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeLastElementOfGroupRemovesHeader() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.remove(2, 1);
+        assertRows("#a", "a1", "a2", "#c", "c1", "c2");
+        verify(mObserver).onItemRangeRemoved(3, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeSeparatingGroupJoinsNeighbours() {
+        mFakeData.insert(3, "a3");
+        assertRows("#a", "a1", "a2", "#b", "b1", "#a", "a3", "#c", "c1", "c2");
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.remove(2, 1);
+        assertRows("#a", "a1", "a2", "a3", "#c", "c1", "c2");
+        verify(mObserver).onItemRangeRemoved(3, 2);
+        verify(mObserver).onItemRangeRemoved(3, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeWithinGroupNotifiesChange() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.change(4, "c3");
+        assertRows("#a", "a1", "a2", "#b", "b1", "#c", "c1", "c3");
+        verify(mObserver).onItemRangeChanged(7, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeKeyOfSingletonGroupChangesHeader() {
+        mGroupData.registerDataObserver(mObserver);
+        mFakeData.change(2, "x1");
+        assertRows("#a", "a1", "a2", "#x", "x1", "#c", "c1", "c2");
+        verify(mObserver).onItemRangeChanged(3, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void moveRegroups() {
+        mFakeData.move(0, 4, 1);
+        assertRows("#a", "a2", "#b", "b1", "#c", "c1", "c2", "#a", "a1");
+    }
+
+    @Test
+    public void randomMutationsMatchRebuild() {
+        Random random = new Random(0);
+        for (int i = 0; i < 500; i++) {
+            int op = random.nextInt(3);
+            String value = String.valueOf((char) ('a' + random.nextInt(3))) + i;
+            if (op == 0 && mFakeData.size() > 0) {
+                mFakeData.remove(random.nextInt(mFakeData.size()), 1);
+            } else if (op == 1 && mFakeData.size() > 0) {
+                mFakeData.change(random.nextInt(mFakeData.size()), value);
+            } else {
+                mFakeData.insert(random.nextInt(mFakeData.size() + 1), value);
+            }
+        }
+        List<String> expected = new ArrayList<>();
+        Character key = null;
+        for (String s : mFakeData.asList()) {
+            if (!FIRST_LETTER.apply(s).equals(key)) {
+                key = FIRST_LETTER.apply(s);
+                expected.add("#" + key);
+            }
+            expected.add(s);
+        }
+        assertThat(rows()).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    private void assertRows(@NonNull String... rows) {
+        assertThat(rows()).containsExactly((Object[]) rows).inOrder();
+    }
+
+    @NonNull
+    private List<String> rows() {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < mGroupData.size(); i++) {
+            Object row = mGroupData.get(i);
+            rows.add(row instanceof GroupHeader ? "#" + ((GroupHeader<?>) row).getKey() : (String) row);
+        }
+        return rows;
+    }
+}
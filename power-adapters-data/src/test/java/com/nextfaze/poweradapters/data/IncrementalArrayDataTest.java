@@ -0,0 +1,215 @@
+package com.nextfaze.poweradapters.data;
+
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.Data.FLAG_PRESENTATION;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class IncrementalArrayDataTest {
+
+    private static final int INCREMENT_SIZE = 10;
+
+    private TestLoads<IncrementalArrayData.Result<String>> mLoads;
+    private TestIncrementalArrayData mData;
+
+    @Before
+    public void setUp() throws Exception {
+        mLoads = new TestLoads<>(3);
+        mData = new TestIncrementalArrayData();
+        mData.registerDataObserver(new VerifyingDataObserver(mData));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mData.close();
+    }
+
+    @Test
+    public void firstIncrementLoadedWhenObserved() throws Exception {
+        TestLoads<IncrementalArrayData.Result<String>>.Load load = mLoads.next();
+        assertThat(load.offset).isEqualTo(0);
+        assertThat(mData.isLoading()).isTrue();
+        load.succeed(increment(0));
+        assertThat(mData.asList()).isEqualTo(items(0));
+        assertThat(mData.isLoading()).isFalse();
+    }
+
+    @Test
+    public void presentingWithinLookAheadLoadsNextIncrement() throws Exception {
+        mData.setAdaptiveLookAhead(false);
+        mLoads.next().succeed(increment(0));
+        mData.get(3, FLAG_PRESENTATION);
+        assertThat(mData.isLoading()).isFalse();
+        mData.get(4, FLAG_PRESENTATION);
+        assertThat(mData.isLoading()).isTrue();
+        TestLoads<IncrementalArrayData.Result<String>>.Load load = mLoads.next();
+        assertThat(load.offset).isEqualTo(1);
+        load.succeed(increment(1));
+        assertThat(mData.size()).isEqualTo(2 * INCREMENT_SIZE);
+    }
+
+    @Test
+    public void adaptiveLookAheadLoadsSoonerWhenPresentingQuickly() throws Exception {
+        TestLoads<IncrementalArrayData.Result<String>>.Load load = mLoads.next();
+        // Loads that take a while, combined with rapid presentation, should extend the look-ahead.
+        Thread.sleep(50);
+        load.succeed(increment(0));
+        mData.get(0, FLAG_PRESENTATION);
+        mData.get(1, FLAG_PRESENTATION);
+        assertThat(mData.isLoading()).isTrue();
+    }
+
+    @Test
+    public void nonAdaptiveLookAheadIgnoresPresentationRate() throws Exception {
+        mData.setAdaptiveLookAhead(false);
+        TestLoads<IncrementalArrayData.Result<String>>.Load load = mLoads.next();
+        Thread.sleep(50);
+        load.succeed(increment(0));
+        mData.get(0, FLAG_PRESENTATION);
+        mData.get(1, FLAG_PRESENTATION);
+        assertThat(mData.isLoading()).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxLoadsInFlightMustBePositive() {
+        mData.setMaxLoadsInFlight(0);
+    }
+
+    @Test
+    public void maxLoadsInFlightLoadsIncrementsConcurrently() throws Exception {
+        mData.setAdaptiveLookAhead(false);
+        mData.setMaxLoadsInFlight(3);
+        mData.setLookAheadRowCount(3 * INCREMENT_SIZE);
+        mLoads.next().succeed(increment(0));
+        mData.get(INCREMENT_SIZE - 1, FLAG_PRESENTATION);
+        List<Integer> increments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            increments.add(mLoads.next().offset);
+        }
+        assertThat(increments).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void incrementsAppliedInOrder() throws Exception {
+        mData.setAdaptiveLookAhead(false);
+        mData.setMaxLoadsInFlight(3);
+        mData.setLookAheadRowCount(3 * INCREMENT_SIZE);
+        mLoads.next().succeed(increment(0));
+        mData.get(INCREMENT_SIZE - 1, FLAG_PRESENTATION);
+        List<TestLoads<IncrementalArrayData.Result<String>>.Load> loads = nextLoads(3);
+        loads.get(2).succeed(increment(3));
+        assertThat(mData.size()).isEqualTo(INCREMENT_SIZE);
+        loads.get(0).succeed(increment(1));
+        assertThat(mData.size()).isEqualTo(2 * INCREMENT_SIZE);
+        loads.get(1).succeed(increment(2));
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            expected.addAll(items(i));
+        }
+        assertThat(mData.asList()).isEqualTo(expected);
+    }
+
+    @Test
+    public void finalIncrementCancelsSpeculativeIncrements() throws Exception {
+        mData.setAdaptiveLookAhead(false);
+        mData.setMaxLoadsInFlight(3);
+        mData.setLookAheadRowCount(3 * INCREMENT_SIZE);
+        mLoads.next().succeed(increment(0));
+        mData.get(INCREMENT_SIZE - 1, FLAG_PRESENTATION);
+        List<TestLoads<IncrementalArrayData.Result<String>>.Load> loads = nextLoads(3);
+        loads.get(0).succeed(new IncrementalArrayData.Result<>(items(1), 0));
+        assertThat(mData.size()).isEqualTo(2 * INCREMENT_SIZE);
+        assertThat(mData.isLoading()).isFalse();
+        assertThat(mData.available()).isEqualTo(0);
+    }
+
+    @Test
+    public void failureDiscardsLaterIncrementsAndResumesFromFailedIncrement() throws Exception {
+        mData.setAdaptiveLookAhead(false);
+        mData.setMaxLoadsInFlight(2);
+        mData.setLookAheadRowCount(3 * INCREMENT_SIZE);
+        mLoads.next().succeed(increment(0));
+        mData.get(INCREMENT_SIZE - 1, FLAG_PRESENTATION);
+        List<TestLoads<IncrementalArrayData.Result<String>>.Load> loads = nextLoads(2);
+        loads.get(0).fail(new RuntimeException());
+        assertThat(mData.isLoading()).isFalse();
+        assertThat(mData.size()).isEqualTo(INCREMENT_SIZE);
+        mData.loadNext();
+        assertThat(mLoads.next().offset).isEqualTo(1);
+    }
+
+    @Test
+    public void resultPostedBeforeRefreshIgnored() throws Exception {
+        TestLoads<IncrementalArrayData.Result<String>>.Load load = mLoads.next();
+        load.succeedLater(increment(0));
+        load.awaitCallback();
+        mData.refresh();
+        // Runs the success callback of the increment canceled by the refresh.
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mData.size()).isEqualTo(0);
+        assertThat(mData.isLoading()).isTrue();
+        TestLoads<IncrementalArrayData.Result<String>>.Load reload = mLoads.next();
+        assertThat(reload.offset).isEqualTo(0);
+        reload.succeed(increment(5));
+        assertThat(mData.asList()).isEqualTo(items(5));
+    }
+
+    /** Returns the next {@code count} loads, ordered by increment. */
+    @NonNull
+    private List<TestLoads<IncrementalArrayData.Result<String>>.Load> nextLoads(int count) throws Exception {
+        List<TestLoads<IncrementalArrayData.Result<String>>.Load> loads = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TestLoads<IncrementalArrayData.Result<String>>.Load load = mLoads.next();
+            int index = 0;
+            while (index < loads.size() && loads.get(index).offset < load.offset) {
+                index++;
+            }
+            loads.add(index, load);
+        }
+        return loads;
+    }
+
+    @NonNull
+    private static IncrementalArrayData.Result<String> increment(int index) {
+        return IncrementalArrayData.Result.moreRemaining(items(index));
+    }
+
+    @NonNull
+    private static List<String> items(int increment) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < INCREMENT_SIZE; i++) {
+            items.add("item " + (increment * INCREMENT_SIZE + i));
+        }
+        return items;
+    }
+
+    private final class TestIncrementalArrayData extends IncrementalArrayData<String> {
+
+        TestIncrementalArrayData() {
+            super(mLoads.scheduler);
+        }
+
+        @Override
+        protected Result<? extends String> load() throws Throwable {
+            throw new AssertionError();
+        }
+
+        /** Passes the increment index to the test as the load offset. */
+        @Override
+        protected Result<? extends String> load(int increment) throws Throwable {
+            return mLoads.load(increment, 0);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.nextfaze.poweradapters.data;
+
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.LoadScheduler.PRIORITY_OBSERVED;
+import static com.nextfaze.poweradapters.data.LoadScheduler.PRIORITY_UNOBSERVED;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class LoadSchedulerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @NonNull
+    private final List<String> mRun = Collections.synchronizedList(new ArrayList<String>());
+
+    @NonNull
+    private final CountingThreadFactory mThreadFactory = new CountingThreadFactory();
+
+    /** Released at the end of every test, so no worker is left blocked. */
+    @NonNull
+    private final CountDownLatch mRelease = new CountDownLatch(1);
+
+    @After
+    public void tearDown() throws Exception {
+        mRelease.countDown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxConcurrencyMustBePositive() {
+        new LoadScheduler(0, mThreadFactory);
+    }
+
+    @Test
+    public void higherPriorityRunsFirst() throws Exception {
+        LoadScheduler scheduler = new LoadScheduler(1, mThreadFactory);
+        CountDownLatch blocked = block(scheduler);
+        CountDownLatch done = new CountDownLatch(2);
+        scheduler.schedule(record("unobserved", done), PRIORITY_UNOBSERVED);
+        scheduler.schedule(record("observed", done), PRIORITY_OBSERVED);
+        blocked.countDown();
+        await(done);
+        assertThat(mRun).containsExactly("observed", "unobserved").inOrder();
+    }
+
+    @Test
+    public void samePriorityRunsInSubmissionOrder() throws Exception {
+        LoadScheduler scheduler = new LoadScheduler(1, mThreadFactory);
+        CountDownLatch blocked = block(scheduler);
+        CountDownLatch done = new CountDownLatch(4);
+        scheduler.schedule(record("a", done), PRIORITY_UNOBSERVED);
+        scheduler.schedule(record("b", done), PRIORITY_OBSERVED);
+        scheduler.schedule(record("c", done), PRIORITY_UNOBSERVED);
+        scheduler.schedule(record("d", done), PRIORITY_OBSERVED);
+        blocked.countDown();
+        await(done);
+        assertThat(mRun).containsExactly("b", "d", "a", "c").inOrder();
+    }
+
+    @Test
+    public void priorityChangeReordersPendingJob() throws Exception {
+        LoadScheduler scheduler = new LoadScheduler(1, mThreadFactory);
+        CountDownLatch blocked = block(scheduler);
+        CountDownLatch done = new CountDownLatch(2);
+        scheduler.schedule(record("a", done), PRIORITY_UNOBSERVED);
+        LoadScheduler.Job job = scheduler.schedule(record("b", done), PRIORITY_UNOBSERVED);
+        job.setPriority(PRIORITY_OBSERVED);
+        blocked.countDown();
+        await(done);
+        assertThat(mRun).containsExactly("b", "a").inOrder();
+    }
+
+    @Test
+    public void canceledJobNotRun() throws Exception {
+        LoadScheduler scheduler = new LoadScheduler(1, mThreadFactory);
+        CountDownLatch blocked = block(scheduler);
+        CountDownLatch done = new CountDownLatch(1);
+        LoadScheduler.Job job = scheduler.schedule(record("canceled", new CountDownLatch(1)), PRIORITY_OBSERVED);
+        scheduler.schedule(record("a", done), PRIORITY_UNOBSERVED);
+        job.cancel();
+        blocked.countDown();
+        await(done);
+        assertThat(mRun).containsExactly("a");
+    }
+
+    @Test
+    public void concurrencyCappedAtMaxConcurrency() throws Exception {
+        LoadScheduler scheduler = new LoadScheduler(2, mThreadFactory);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch done = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    int r = running.incrementAndGet();
+                    synchronized (maxRunning) {
+                        maxRunning.set(Math.max(maxRunning.get(), r));
+                    }
+                    started.countDown();
+                    awaitUninterruptibly(mRelease);
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            }, PRIORITY_OBSERVED);
+        }
+        await(started);
+        // Give a third worker, if one were wrongly created, the chance to start too.
+        Thread.sleep(50);
+        assertThat(running.get()).isEqualTo(2);
+        mRelease.countDown();
+        await(done);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(mThreadFactory.mCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void idleWorkerReused() throws Exception {
+        LoadScheduler scheduler = new LoadScheduler(2, mThreadFactory);
+        CountDownLatch first = new CountDownLatch(1);
+        scheduler.schedule(record("a", first), PRIORITY_OBSERVED);
+        await(first);
+        // Wait for the worker to become idle.
+        Thread.sleep(50);
+        CountDownLatch second = new CountDownLatch(1);
+        scheduler.schedule(record("b", second), PRIORITY_OBSERVED);
+        await(second);
+        assertThat(mThreadFactory.mCount.get()).isEqualTo(1);
+    }
+
+    /** Schedules a job that occupies a worker until the returned latch is released. */
+    @NonNull
+    private CountDownLatch block(@NonNull LoadScheduler scheduler) throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                awaitUninterruptibly(blocked);
+            }
+        }, PRIORITY_OBSERVED);
+        await(started);
+        return blocked;
+    }
+
+    @NonNull
+    private Runnable record(@NonNull final String name, @NonNull final CountDownLatch done) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                mRun.add(name);
+                done.countDown();
+            }
+        };
+    }
+
+    private static void await(@NonNull CountDownLatch latch) throws InterruptedException {
+        assertThat(latch.await(TIMEOUT_SECONDS, SECONDS)).isTrue();
+    }
+
+    private static void awaitUninterruptibly(@NonNull CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException e) {
+                // Keep waiting.
+            }
+        }
+    }
+
+    /** Creates daemon threads, counting each one. */
+    private static final class CountingThreadFactory implements ThreadFactory {
+
+        @NonNull
+        final AtomicInteger mCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            mCount.incrementAndGet();
+            Thread thread = new Thread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static java.util.Collections.sort;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class MergeSortedDataTest {
+
+    private static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override
+        public int compare(Integer a, Integer b) {
+            return a.compareTo(b);
+        }
+    };
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private FakeData<Integer> mData1;
+    private FakeData<Integer> mData2;
+    private FakeData<Integer> mData3;
+
+    private MergeSortedData<Integer> mMergedData;
+
+    @Mock
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mData1 = new FakeData<>();
+        mData1.insert(0, 1, 4, 7);
+        mData2 = new FakeData<>();
+        mData2.insert(0, 2, 5, 8);
+        mData3 = new FakeData<>();
+        mData3.insert(0, 3, 6, 9);
+        mMergedData = new MergeSortedData<>(NATURAL, asList(mData1, mData2, mData3));
+        mMergedData.registerDataObserver(new VerifyingDataObserver(mMergedData));
+    }
+
+    @Test
+    public void elementsMerged() {
+        assertThat(mMergedData).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9).inOrder();
+    }
+
+    @Test
+    public void insertNotifiesSingleOuterInsertion() {
+        mMergedData.registerDataObserver(mObserver);
+        mData2.insert(1, 4);
+        assertThat(mMergedData).containsExactly(1, 2, 3, 4, 4, 5, 6, 7, 8, 9).inOrder();
+        // Equal elements are ordered by source.
+        verify(mObserver).onItemRangeInserted(4, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertRangeNotifiesEachInsertion() {
+        mMergedData.registerDataObserver(mObserver);
+        mData3.append(10, 11);
+        assertThat(mMergedData).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11).inOrder();
+        verify(mObserver).onItemRangeInserted(9, 1);
+        verify(mObserver).onItemRangeInserted(10, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeNotifiesOuterRemoval() {
+        mMergedData.registerDataObserver(mObserver);
+        mData1.remove(1, 1);
+        assertThat(mMergedData).containsExactly(1, 2, 3, 5, 6, 7, 8, 9).inOrder();
+        verify(mObserver).onItemRangeRemoved(3, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeInPlaceNotifiesChange() {
+        mMergedData.registerDataObserver(mObserver);
+        mData1.change(1, 4);
+        verify(mObserver).onItemRangeChanged(3, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeReordersElement() {
+        mData1.change(0, 5);
+        assertThat(mMergedData).containsExactly(2, 3, 4, 5, 5, 6, 7, 8, 9).inOrder();
+    }
+
+    @Test
+    public void dataSetChangeRebuilds() {
+        mData1.clear();
+        mData1.insert(0, 0, 10);
+        assertThat(mMergedData).containsExactly(0, 2, 3, 5, 6, 8, 9, 10).inOrder();
+    }
+
+    @Test
+    public void randomMutationsRemainSorted() {
+        Random random = new Random(0);
+        List<FakeData<Integer>> sources = asList(mData1, mData2, mData3);
+        for (int i = 0; i < 500; i++) {
+            FakeData<Integer> source = sources.get(random.nextInt(sources.size()));
+            if (source.size() > 0 && random.nextInt(3) == 0) {
+                source.remove(random.nextInt(source.size()), 1);
+            } else {
+                int value = random.nextInt(100);
+                int position = 0;
+                while (position < source.size() && source.get(position) <= value) {
+                    position++;
+                }
+                source.insert(position, value);
+            }
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (FakeData<Integer> source : sources) {
+            expected.addAll(source.asList());
+        }
+        sort(expected);
+        assertThat(mMergedData).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    @Test
+    public void loadingAggregated() {
+        LoadingObserver observer = new LoadingObserver() {
+            @Override
+            public void onLoadingChange() {
+            }
+        };
+        mMergedData.registerLoadingObserver(observer);
+        assertThat(mMergedData.isLoading()).isFalse();
+        mData2.setLoading(true);
+        assertThat(mMergedData.isLoading()).isTrue();
+    }
+
+    @Test
+    public void availableSummed() {
+        mData1.setAvailable(1);
+        mData2.setAvailable(2);
+        mData3.setAvailable(3);
+        assertThat(mMergedData.available()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,162 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class MutableDataTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private MutableData<String> mData;
+
+    @Mock
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mData = new MutableData<>(asList("a", "b", "c"));
+        mData.registerDataObserver(new VerifyingDataObserver(mData));
+        mData.registerDataObserver(mObserver);
+    }
+
+    @Test
+    public void mutationsNotAppliedUntilFlushed() {
+        mData.add("d");
+        assertThat(mData).containsExactly("a", "b", "c").inOrder();
+        verifyZeroInteractions(mObserver);
+    }
+
+    @Test
+    public void adjacentAppendsMerged() {
+        mData.add("d");
+        mData.add("e");
+        mData.addAll(asList("f", "g"));
+        mData.flush();
+        assertThat(mData).containsExactly("a", "b", "c", "d", "e", "f", "g").inOrder();
+        verify(mObserver).onItemRangeInserted(3, 4);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void adjacentRemovesMerged() {
+        mData.remove(1);
+        mData.remove(1);
+        mData.remove(0);
+        mData.flush();
+        assertThat(mData).isEmpty();
+        verify(mObserver).onItemRangeRemoved(0, 3);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void adjacentSetsMerged() {
+        mData.set(0, "x");
+        mData.set(1, "y");
+        mData.set(0, "z");
+        mData.flush();
+        assertThat(mData).containsExactly("z", "y", "c").inOrder();
+        verify(mObserver).onItemRangeChanged(0, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void setOfInsertedElementMergedIntoInsert() {
+        mData.add(1, "x");
+        mData.set(1, "y");
+        mData.flush();
+        assertThat(mData).containsExactly("a", "y", "b", "c").inOrder();
+        verify(mObserver).onItemRangeInserted(1, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeOfInsertedElementsCancelsInsert() {
+        mData.add("d");
+        mData.remove(3);
+        mData.flush();
+        assertThat(mData).containsExactly("a", "b", "c").inOrder();
+        verifyZeroInteractions(mObserver);
+    }
+
+    @Test
+    public void nonAdjacentMutationsNotifiedSeparately() {
+        mData.add(0, "x");
+        mData.remove(3);
+        mData.flush();
+        assertThat(mData).containsExactly("x", "a", "b").inOrder();
+        verify(mObserver).onItemRangeInserted(0, 1);
+        verify(mObserver).onItemRangeRemoved(3, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void move() {
+        mData.move(0, 1, 2);
+        mData.flush();
+        assertThat(mData).containsExactly("c", "a", "b").inOrder();
+        verify(mObserver).onItemRangeMoved(0, 1, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeElement() {
+        mData.remove("b");
+        mData.remove("z");
+        mData.flush();
+        assertThat(mData).containsExactly("a", "c").inOrder();
+        verify(mObserver).onItemRangeRemoved(1, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void clear() {
+        mData.add("d");
+        mData.clear();
+        mData.flush();
+        assertThat(mData).isEmpty();
+        verify(mObserver).onItemRangeInserted(3, 1);
+        verify(mObserver).onItemRangeRemoved(0, 4);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void mutationsFromOtherThreadApplied() throws Exception {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 100; i++) {
+                    mData.add(String.valueOf(i));
+                }
+            }
+        });
+        thread.start();
+        thread.join();
+        mData.flush();
+        assertThat(mData).hasSize(103);
+        verify(mObserver).onItemRangeInserted(3, 100);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBoundsThrowsWhenApplied() {
+        mData.remove(3);
+        mData.flush();
+    }
+}
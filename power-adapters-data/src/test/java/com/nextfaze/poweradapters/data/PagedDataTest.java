@@ -0,0 +1,215 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.data.Data.FLAG_PRESENTATION;
+import static java.lang.Math.min;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class PagedDataTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_PAGE_COUNT = 2;
+    private static final int TOTAL_SIZE = 100;
+
+    private TestLoads<PagedData.Result<String>> mLoads;
+    private TestPagedData mData;
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mLoads = new TestLoads<>(1);
+        mData = new TestPagedData();
+        mData.registerDataObserver(new VerifyingDataObserver(mData));
+        mObserver = mock(DataObserver.class);
+        mData.registerDataObserver(mObserver);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mData.close();
+    }
+
+    @Test
+    public void sizeReportedAfterFirstPageLoads() throws Exception {
+        TestLoads<PagedData.Result<String>>.Load load = mLoads.next();
+        assertThat(load.offset).isEqualTo(0);
+        assertThat(load.count).isEqualTo(PAGE_SIZE);
+        assertThat(mData.size()).isEqualTo(0);
+        assertThat(mData.isLoading()).isTrue();
+        load.succeed(page(0));
+        assertThat(mData.size()).isEqualTo(TOTAL_SIZE);
+        assertThat(mData.isLoading()).isFalse();
+        verify(mObserver).onItemRangeInserted(0, TOTAL_SIZE);
+    }
+
+    @Test
+    public void unloadedPositionsArePlaceholders() throws Exception {
+        mLoads.next().succeed(page(0));
+        assertThat(mData.isPlaceholder(9)).isFalse();
+        assertThat(mData.get(9)).isEqualTo("item 9");
+        assertThat(mData.isPlaceholder(10)).isTrue();
+        assertThat(mData.get(10)).isEqualTo("placeholder 10");
+        assertThat(mData.get(TOTAL_SIZE - 1)).isEqualTo("placeholder 99");
+    }
+
+    @Test
+    public void presentingPlaceholderLoadsItsPage() throws Exception {
+        mLoads.next().succeed(page(0));
+        assertThat(mData.get(55, FLAG_PRESENTATION)).isEqualTo("placeholder 55");
+        TestLoads<PagedData.Result<String>>.Load load = mLoads.next();
+        assertThat(load.offset).isEqualTo(50);
+        load.succeed(page(50));
+        assertThat(mData.isPlaceholder(55)).isFalse();
+        assertThat(mData.get(55)).isEqualTo("item 55");
+        verify(mObserver).onItemRangeChanged(50, PAGE_SIZE);
+    }
+
+    @Test
+    public void presentingNearPageEndPrefetchesNextPage() throws Exception {
+        mLoads.next().succeed(page(0));
+        mData.get(9, FLAG_PRESENTATION);
+        assertThat(mLoads.next().offset).isEqualTo(10);
+    }
+
+    @Test
+    public void furthestPageEvictedWhenMaxPageCountExceeded() throws Exception {
+        mLoads.next().succeed(page(0));
+        mData.get(55, FLAG_PRESENTATION);
+        mLoads.next().succeed(page(50));
+        mData.get(95, FLAG_PRESENTATION);
+        mLoads.next().succeed(page(90));
+        assertThat(mData.isPlaceholder(5)).isTrue();
+        assertThat(mData.get(5)).isEqualTo("placeholder 5");
+        assertThat(mData.isPlaceholder(55)).isFalse();
+        assertThat(mData.isPlaceholder(95)).isFalse();
+        verify(mObserver).onItemRangeChanged(0, PAGE_SIZE);
+    }
+
+    @Test
+    public void evictedPageReloadedWhenPresentedAgain() throws Exception {
+        mLoads.next().succeed(page(0));
+        mData.get(55, FLAG_PRESENTATION);
+        mLoads.next().succeed(page(50));
+        mData.get(95, FLAG_PRESENTATION);
+        mLoads.next().succeed(page(90));
+        mData.get(5, FLAG_PRESENTATION);
+        TestLoads<PagedData.Result<String>>.Load load = mLoads.next();
+        assertThat(load.offset).isEqualTo(0);
+        load.succeed(page(0));
+        assertThat(mData.get(5)).isEqualTo("item 5");
+        // Page 9 is now furthest from the presented page.
+        assertThat(mData.isPlaceholder(95)).isTrue();
+    }
+
+    @Test
+    public void reducingMaxPageCountEvicts() throws Exception {
+        mLoads.next().succeed(page(0));
+        mData.get(55, FLAG_PRESENTATION);
+        mLoads.next().succeed(page(50));
+        mData.setMaxPageCount(1);
+        assertThat(mData.isPlaceholder(5)).isTrue();
+        assertThat(mData.isPlaceholder(55)).isFalse();
+    }
+
+    @Test
+    public void resultPostedBeforeRefreshIgnored() throws Exception {
+        TestLoads<PagedData.Result<String>>.Load load = mLoads.next();
+        load.succeedLater(page(0));
+        load.awaitCallback();
+        mData.refresh();
+        // Runs the success callback of the load superseded by the refresh.
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mData.size()).isEqualTo(0);
+        assertThat(mData.isLoading()).isTrue();
+        TestLoads<PagedData.Result<String>>.Load reload = mLoads.next();
+        assertThat(reload.offset).isEqualTo(0);
+        reload.succeed(new PagedData.Result<>(items(0, PAGE_SIZE), 50));
+        assertThat(mData.size()).isEqualTo(50);
+        assertThat(mData.isLoading()).isFalse();
+    }
+
+    @Test
+    public void resultPostedBeforeInvalidateIgnored() throws Exception {
+        TestLoads<PagedData.Result<String>>.Load load = mLoads.next();
+        load.succeedLater(page(0));
+        load.awaitCallback();
+        mData.invalidate();
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mData.size()).isEqualTo(0);
+        assertThat(mData.isLoading()).isFalse();
+    }
+
+    @Test
+    public void invalidatedPagesReloadedWhenPresented() throws Exception {
+        mLoads.next().succeed(page(0));
+        mData.get(55, FLAG_PRESENTATION);
+        mLoads.next().succeed(page(50));
+        mData.refresh();
+        // The presented page is reloaded first, and its old elements are shown until then.
+        TestLoads<PagedData.Result<String>>.Load load = mLoads.next();
+        assertThat(load.offset).isEqualTo(50);
+        assertThat(mData.get(55)).isEqualTo("item 55");
+        load.succeed(page(50));
+        mData.get(5, FLAG_PRESENTATION);
+        assertThat(mLoads.next().offset).isEqualTo(0);
+    }
+
+    @Test
+    public void failedPageNotRetriedWhilePresented() throws Exception {
+        mLoads.next().succeed(page(0));
+        mData.get(55, FLAG_PRESENTATION);
+        mLoads.next().fail(new RuntimeException());
+        assertThat(mData.isLoading()).isFalse();
+        assertThat(mData.get(55, FLAG_PRESENTATION)).isEqualTo("placeholder 55");
+        assertThat(mLoads.hasNext()).isFalse();
+    }
+
+    @NonNull
+    private static PagedData.Result<String> page(int offset) {
+        return new PagedData.Result<>(items(offset, min(PAGE_SIZE, TOTAL_SIZE - offset)), TOTAL_SIZE);
+    }
+
+    @NonNull
+    private static List<String> items(int offset, int count) {
+        List<String> items = new ArrayList<>();
+        for (int i = offset; i < offset + count; i++) {
+            items.add("item " + i);
+        }
+        return items;
+    }
+
+    private final class TestPagedData extends PagedData<String> {
+
+        TestPagedData() {
+            super(PAGE_SIZE, MAX_PAGE_COUNT, mLoads.scheduler);
+        }
+
+        @NonNull
+        @Override
+        protected Result<? extends String> load(int offset, int count) throws Throwable {
+            return mLoads.load(offset, count);
+        }
+
+        @NonNull
+        @Override
+        protected String getPlaceholder(int position) {
+            return "placeholder " + position;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ResultCacheTest {
+
+    private static final String KEY = "key";
+
+    @NonNull
+    private final List<TestArrayData> mDatas = new ArrayList<>();
+
+    private TestLoads<List<String>> mLoads;
+    private ResultCache mCache;
+
+    @Before
+    public void setUp() throws Exception {
+        mLoads = new TestLoads<>(2);
+        mCache = new ResultCache(2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (TestArrayData data : mDatas) {
+            data.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxSizeThrows() {
+        new ResultCache(-1);
+    }
+
+    @Test
+    public void sameKeySharesOneLoad() throws Exception {
+        TestArrayData a = observed(KEY);
+        TestArrayData b = observed(KEY);
+        mLoads.next().succeed(asList("a", "b"));
+        assertThat(mLoads.hasNext()).isFalse();
+        assertThat(a.asList()).containsExactly("a", "b").inOrder();
+        assertThat(b.asList()).containsExactly("a", "b").inOrder();
+        assertThat(a.isLoading()).isFalse();
+        assertThat(b.isLoading()).isFalse();
+    }
+
+    @Test
+    public void differentKeysLoadSeparately() throws Exception {
+        TestArrayData a = observed("a");
+        TestArrayData b = observed("b");
+        TestLoads<List<String>>.Load first = mLoads.next();
+        TestLoads<List<String>>.Load second = mLoads.next();
+        // Loads run concurrently, so may be requested in either order.
+        first.succeed(asList("result " + first.offset));
+        second.succeed(asList("result " + second.offset));
+        assertThat(a.asList()).containsExactly("result 0");
+        assertThat(b.asList()).containsExactly("result 1");
+    }
+
+    @Test
+    public void nullKeyNotShared() throws Exception {
+        observed(null);
+        observed(null);
+        mLoads.next().succeed(asList("a"));
+        mLoads.next().succeed(asList("a"));
+    }
+
+    @Test
+    public void cachedResultServedWithoutReload() throws Exception {
+        observed(KEY);
+        mLoads.next().succeed(asList("a", "b"));
+        TestArrayData data = observed(KEY);
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mLoads.hasNext()).isFalse();
+        assertThat(data.isLoading()).isFalse();
+        assertThat(data.asList()).containsExactly("a", "b").inOrder();
+    }
+
+    @Test
+    public void refreshLoadsDespiteCachedResult() throws Exception {
+        TestArrayData data = observed(KEY);
+        mLoads.next().succeed(asList("a"));
+        data.refresh();
+        mLoads.next().succeed(asList("b"));
+        assertThat(data.asList()).containsExactly("b");
+        // The fresher result is retained for new instances.
+        assertThat(observed(KEY).asList()).containsExactly("b");
+    }
+
+    @Test
+    public void invalidatedResultLoadedAgain() throws Exception {
+        observed(KEY);
+        mLoads.next().succeed(asList("a"));
+        mCache.invalidate(KEY);
+        TestArrayData data = observed(KEY);
+        assertThat(data.isLoading()).isTrue();
+        mLoads.next().succeed(asList("b"));
+        assertThat(data.asList()).containsExactly("b");
+    }
+
+    @Test
+    public void leastRecentlyUsedResultEvicted() throws Exception {
+        observed("a");
+        mLoads.next().succeed(asList("a"));
+        observed("b");
+        mLoads.next().succeed(asList("b"));
+        // Using "a" makes "b" the eldest.
+        observed("a");
+        observed("c");
+        mLoads.next().succeed(asList("c"));
+        assertThat(observed("a").isLoading()).isFalse();
+        assertThat(observed("b").isLoading()).isTrue();
+    }
+
+    @Test
+    public void zeroMaxSizeStillSharesConcurrentLoads() throws Exception {
+        mCache = new ResultCache(0);
+        TestArrayData a = observed(KEY);
+        TestArrayData b = observed(KEY);
+        mLoads.next().succeed(asList("a"));
+        assertThat(a.asList()).containsExactly("a");
+        assertThat(b.asList()).containsExactly("a");
+        assertThat(observed(KEY).isLoading()).isTrue();
+    }
+
+    @Test
+    public void failurePropagatesToAllWaiters() throws Exception {
+        List<Throwable> errors = new ArrayList<>();
+        TestArrayData a = observed(KEY);
+        TestArrayData b = observed(KEY);
+        a.registerErrorObserver(record(errors));
+        b.registerErrorObserver(record(errors));
+        RuntimeException error = new RuntimeException();
+        mLoads.next().fail(error);
+        assertThat(errors).containsExactly(error, error);
+        assertThat(a.isLoading()).isFalse();
+        assertThat(b.isLoading()).isFalse();
+        // Failures aren't retained.
+        assertThat(observed(KEY).isLoading()).isTrue();
+    }
+
+    @Test
+    public void cancelingOneWaiterDoesNotCancelOthers() throws Exception {
+        TestArrayData a = observed(KEY);
+        TestArrayData b = observed(KEY);
+        TestLoads<List<String>>.Load load = mLoads.next();
+        a.invalidate();
+        assertThat(a.isLoading()).isFalse();
+        load.succeed(asList("a"));
+        assertThat(b.asList()).containsExactly("a");
+        assertThat(a.asList()).isEmpty();
+    }
+
+    @Test
+    public void cancelingLastWaiterCancelsLoad() throws Exception {
+        TestArrayData a = observed(KEY);
+        TestArrayData b = observed(KEY);
+        mLoads.next();
+        a.invalidate();
+        b.invalidate();
+        // The canceled load no longer collapses new requests, so a new instance starts another.
+        TestArrayData c = observed(KEY);
+        mLoads.next().succeed(asList("c"));
+        assertThat(c.asList()).containsExactly("c");
+        assertThat(a.asList()).isEmpty();
+        assertThat(b.asList()).isEmpty();
+    }
+
+    @NonNull
+    private TestArrayData observed(@Nullable Object key) {
+        TestArrayData data = new TestArrayData(key);
+        mDatas.add(data);
+        data.registerDataObserver(new VerifyingDataObserver(data));
+        return data;
+    }
+
+    @NonNull
+    private static ErrorObserver record(@NonNull final List<Throwable> errors) {
+        return new ErrorObserver() {
+            @Override
+            public void onError(@NonNull Throwable e) {
+                errors.add(e);
+            }
+        };
+    }
+
+    private final class TestArrayData extends ArrayData<String> {
+
+        @Nullable
+        private final Object mKey;
+
+        /** Passed as the offset of each load, identifying which instance requested it. */
+        private final int mIndex = mDatas.size();
+
+        TestArrayData(@Nullable Object key) {
+            super(mLoads.scheduler, mCache);
+            mKey = key;
+        }
+
+        @NonNull
+        @Override
+        protected List<? extends String> load() throws Throwable {
+            return mLoads.load(mIndex, 0);
+        }
+
+        @Nullable
+        @Override
+        protected Object getKey() {
+            return mKey;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class SearchDataTest {
+
+    private static final Function<String, String> IDENTITY = new Function<String, String>() {
+        @NonNull
+        @Override
+        public String apply(@NonNull String s) {
+            return s;
+        }
+    };
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private FakeData<String> mFakeData;
+
+    private SearchData<String> mSearchData;
+
+    @Mock
+    private DataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mFakeData = new FakeData<>();
+        mFakeData.insert(0, "Alice", "Bob", "Carol", "Dave", "Caroline");
+        mSearchData = new SearchData<>(mFakeData, IDENTITY);
+        mSearchData.registerDataObserver(new VerifyingDataObserver(mSearchData));
+    }
+
+    @Test
+    public void emptyQueryMatchesAll() {
+        assertThat(mSearchData).containsExactly("Alice", "Bob", "Carol", "Dave", "Caroline").inOrder();
+    }
+
+    @Test
+    public void shortQueryMatchesIgnoringCase() {
+        mSearchData.setQuery("A");
+        assertThat(mSearchData).containsExactly("Alice", "Carol", "Dave", "Caroline").inOrder();
+    }
+
+    @Test
+    public void longQueryMatchesSubstring() {
+        mSearchData.setQuery("roli");
+        assertThat(mSearchData).containsExactly("Caroline");
+    }
+
+    @Test
+    public void longQueryWithSharedGramsDoesNotMatch() {
+        // Contains the grams "car" and "aro", but not the whole query.
+        mSearchData.setQuery("carx");
+        assertThat(mSearchData).isEmpty();
+    }
+
+    @Test
+    public void refiningQueryNotifiesRemovals() {
+        mSearchData.setQuery("car");
+        mSearchData.registerDataObserver(mObserver);
+        mSearchData.setQuery("caroli");
+        assertThat(mSearchData).containsExactly("Caroline");
+        verify(mObserver).onItemRangeRemoved(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void broadeningQueryNotifiesInsertions() {
+        mSearchData.setQuery("caroli");
+        mSearchData.registerDataObserver(mObserver);
+        mSearchData.setQuery("car");
+        assertThat(mSearchData).containsExactly("Carol", "Caroline").inOrder();
+        verify(mObserver).onItemRangeInserted(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertMatchingElementNotifiesInsertion() {
+        mSearchData.setQuery("ve");
+        mSearchData.registerDataObserver(mObserver);
+        mFakeData.insert(0, "Steve", "Bill");
+        assertThat(mSearchData).containsExactly("Steve", "Dave").inOrder();
+        verify(mObserver).onItemRangeInserted(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeMatchingElementNotifiesRemoval() {
+        mSearchData.setQuery("carol");
+        mSearchData.registerDataObserver(mObserver);
+        mFakeData.remove(2, 1);
+        assertThat(mSearchData).containsExactly("Caroline");
+        verify(mObserver).onItemRangeRemoved(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeReindexesElement() {
+        mSearchData.setQuery("bo");
+        mSearchData.registerDataObserver(mObserver);
+        mFakeData.change(1, "Eve");
+        mFakeData.change(3, "Bobby");
+        assertThat(mSearchData).containsExactly("Bobby");
+        verify(mObserver).onItemRangeRemoved(0, 1);
+        verify(mObserver).onItemRangeInserted(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void queryAppliedWhenObservationStarts() {
+        SearchData<String> searchData = new SearchData<>(mFakeData, IDENTITY);
+        searchData.setQuery("bob");
+        searchData.registerDataObserver(new VerifyingDataObserver(searchData));
+        assertThat(searchData).containsExactly("Bob");
+    }
+
+    @Test
+    public void randomMutationsAndQueriesMatchScan() {
+        Random random = new Random(0);
+        String[] queries = { "", "a", "ab", "abc", "b", "bca", "ca", "c" };
+        for (int i = 0; i < 500; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = random.nextInt(6); j >= 0; j--) {
+                text.append((char) ('a' + random.nextInt(3)));
+            }
+            switch (random.nextInt(4)) {
+                case 0:
+                    if (mFakeData.size() > 0) {
+                        mFakeData.remove(random.nextInt(mFakeData.size()), 1);
+                    }
+                    break;
+                case 1:
+                    if (mFakeData.size() > 0) {
+                        mFakeData.change(random.nextInt(mFakeData.size()), text.toString());
+                    }
+                    break;
+                case 2:
+                    mSearchData.setQuery(queries[random.nextInt(queries.length)]);
+                    break;
+                default:
+                    mFakeData.insert(random.nextInt(mFakeData.size() + 1), text.toString());
+                    break;
+            }
+        }
+        List<String> expected = new ArrayList<>();
+        for (String s : mFakeData.asList()) {
+            if (s.toLowerCase().contains(mSearchData.getQuery())) {
+                expected.add(s);
+            }
+        }
+        assertThat(mSearchData).containsExactlyElementsIn(expected).inOrder();
+    }
+}
@@ -0,0 +1,103 @@
+package com.nextfaze.poweradapters.data;
+
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class SnapshotCacheTest {
+
+    private File mFile;
+
+    private SnapshotCache<String> mCache;
+
+    @Before
+    public void setUp() throws Exception {
+        mFile = File.createTempFile("snapshot", null);
+        //noinspection ResultOfMethodCallIgnored
+        mFile.delete();
+        mCache = new SnapshotCache<>(mFile, new StringCodec());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mCache.clear();
+    }
+
+    @Test
+    public void readAbsentReturnsNull() throws Exception {
+        assertThat(mCache.read()).isNull();
+    }
+
+    @Test
+    public void writeThenRead() throws Exception {
+        mCache.write(Arrays.asList("a", "bc", "def"));
+        assertThat(mCache.read()).containsExactly("a", "bc", "def").inOrder();
+    }
+
+    @Test
+    public void writeReplacesPrevious() throws Exception {
+        mCache.write(Arrays.asList("a", "b"));
+        mCache.write(Collections.singletonList("c"));
+        assertThat(mCache.read()).containsExactly("c");
+    }
+
+    @Test
+    public void writeEmpty() throws Exception {
+        mCache.write(Collections.<String>emptyList());
+        assertThat(mCache.read()).isEmpty();
+    }
+
+    @Test
+    public void writeManyElements() throws Exception {
+        String[] elements = new String[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = String.valueOf(i);
+        }
+        mCache.write(Arrays.asList(elements));
+        assertThat(mCache.read()).containsExactly((Object[]) elements).inOrder();
+    }
+
+    @Test
+    public void unrecognizedFileReturnsNull() throws Exception {
+        FileOutputStream out = new FileOutputStream(mFile);
+        out.write(new byte[] { 1, 2, 3, 4, 5, 6 });
+        out.close();
+        assertThat(mCache.read()).isNull();
+    }
+
+    @Test
+    public void clearDeletesElements() throws Exception {
+        mCache.write(Collections.singletonList("a"));
+        mCache.clear();
+        assertThat(mCache.read()).isNull();
+    }
+
+    private static final class StringCodec implements SnapshotCache.Codec<String> {
+        @Override
+        public void write(@NonNull DataOutput out, @NonNull String element) throws IOException {
+            out.writeUTF(element);
+        }
+
+        @NonNull
+        @Override
+        public String read(@NonNull DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    }
+}
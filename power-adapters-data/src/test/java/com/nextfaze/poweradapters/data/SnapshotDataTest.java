@@ -0,0 +1,286 @@
+package com.nextfaze.poweradapters.data;
+
+import android.support.annotation.Nullable;
+import com.nextfaze.poweradapters.DataObserver;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Arrays.asList;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class SnapshotDataTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @NonNull
+    private final List<String> mNotifications = new ArrayList<>();
+
+    /** Holds reads of the snapshot until the test opens it. */
+    @NonNull
+    private final CountDownLatch mReadGate = new CountDownLatch(1);
+
+    /** The worker thread that read the snapshot, if any. */
+    @Nullable
+    private volatile Thread mReaderThread;
+
+    private TestLoads<List<String>> mLoads;
+    private LoadScheduler mDefaultScheduler;
+    private File mFile;
+    private SnapshotCache<String> mCache;
+
+    /** Accesses the same file as {@link #mCache}, without holding reads or recording the reader. */
+    private SnapshotCache<String> mStore;
+
+    private Data<String> mData;
+
+    @Before
+    public void setUp() throws Exception {
+        mLoads = new TestLoads<>(1);
+        // Snapshots are read and written on the default scheduler. Replace it with one whose workers don't outlive the
+        // test, and which the held loads can't occupy.
+        mDefaultScheduler = LoadScheduler.getDefault();
+        LoadScheduler.setDefault(new LoadScheduler(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            }
+        }));
+        mFile = File.createTempFile("snapshot", null);
+        //noinspection ResultOfMethodCallIgnored
+        mFile.delete();
+        mCache = new SnapshotCache<>(mFile, new GatedStringCodec());
+        mStore = new SnapshotCache<>(mFile, new StringCodec());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mReadGate.countDown();
+        LoadScheduler.setDefault(mDefaultScheduler);
+        mCache.clear();
+    }
+
+    @Test
+    public void snapshotRestoredIntoNewInstance() throws Exception {
+        mReadGate.countDown();
+        observed();
+        mLoads.next().succeed(asList("a", "b"));
+        awaitPersisted(asList("a", "b"));
+
+        mNotifications.clear();
+        mData = observed();
+        awaitRead();
+        assertThat(mData.isLoading()).isTrue();
+        assertThat(mData.asList()).containsExactly("a", "b").inOrder();
+        assertThat(mNotifications).containsExactly("insert 0 2");
+    }
+
+    @Test
+    public void snapshotReplacedByLoadedElements() throws Exception {
+        mReadGate.countDown();
+        mStore.write(asList("a", "b"));
+        mData = observed();
+        awaitRead();
+        mNotifications.clear();
+        mLoads.next().succeed(asList("a", "c", "d"));
+        assertThat(mData.isLoading()).isFalse();
+        assertThat(mData.asList()).containsExactly("a", "c", "d").inOrder();
+        // Only the difference is notified, so the unchanged first element isn't rebound.
+        assertThat(mNotifications).containsExactly("change 1 1", "insert 2 1").inOrder();
+    }
+
+    @Test
+    public void loadedElementsReplacePersistedSnapshot() throws Exception {
+        mReadGate.countDown();
+        mStore.write(asList("a", "b"));
+        mData = observed();
+        awaitRead();
+        mLoads.next().succeed(asList("c"));
+        awaitPersisted(asList("c"));
+    }
+
+    @Test
+    public void snapshotReadAfterLoadIsDiscarded() throws Exception {
+        mStore.write(asList("x", "y"));
+        mData = observed();
+        awaitReadStarted();
+        mLoads.next().succeed(asList("a"));
+        // The stale snapshot arrives after the loaded elements, and must not replace them.
+        mReadGate.countDown();
+        awaitRead();
+        assertThat(mData.asList()).containsExactly("a");
+        assertThat(mNotifications).containsExactly("insert 0 1");
+        awaitPersisted(asList("a"));
+    }
+
+    @Test
+    public void snapshotPresentedAfterFailedLoad() throws Exception {
+        mReadGate.countDown();
+        mStore.write(asList("a", "b"));
+        mData = observed();
+        awaitRead();
+        mLoads.next().fail(new RuntimeException());
+        assertThat(mData.isLoading()).isFalse();
+        assertThat(mData.asList()).containsExactly("a", "b").inOrder();
+        assertThat(mStore.read()).containsExactly("a", "b").inOrder();
+
+        mNotifications.clear();
+        mData.refresh();
+        mLoads.next().succeed(asList("c"));
+        assertThat(mData.asList()).containsExactly("c");
+        assertThat(mNotifications).containsExactly("change 0 1", "remove 1 1").inOrder();
+    }
+
+    @Test
+    public void snapshotNotReadWhenElementsAlreadyLoaded() throws Exception {
+        mReadGate.countDown();
+        mStore.write(asList("x"));
+        TestArrayData inner = new TestArrayData();
+        inner.registerDataObserver(new VerifyingDataObserver(inner));
+        mLoads.next().succeed(asList("a"));
+        mData = inner.cache(mCache);
+        mData.registerDataObserver(new VerifyingDataObserver(mData));
+        mData.registerDataObserver(new RecordingDataObserver());
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mReaderThread).isNull();
+        assertThat(mData.asList()).containsExactly("a");
+        assertThat(mNotifications).isEmpty();
+    }
+
+    @NonNull
+    private Data<String> observed() {
+        Data<String> data = new TestArrayData().cache(mCache);
+        data.registerDataObserver(new VerifyingDataObserver(data));
+        data.registerDataObserver(new RecordingDataObserver());
+        return data;
+    }
+
+    /** Runs main thread callbacks until the snapshot has begun to be read. */
+    private void awaitReadStarted() throws InterruptedException {
+        long deadline = currentTimeMillis() + TIMEOUT_MILLIS;
+        while (mReaderThread == null) {
+            if (currentTimeMillis() >= deadline) {
+                throw new AssertionError("Snapshot not read");
+            }
+            ShadowLooper.runUiThreadTasks();
+            Thread.sleep(1);
+        }
+    }
+
+    /** Runs main thread callbacks until the snapshot has been read and its result delivered. */
+    private void awaitRead() throws InterruptedException {
+        awaitReadStarted();
+        long deadline = currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            ShadowLooper.runUiThreadTasks();
+            Thread.State state = mReaderThread.getState();
+            // Workers only wait with a timeout while waiting for their next job.
+            if (state == Thread.State.TIMED_WAITING || state == Thread.State.TERMINATED) {
+                ShadowLooper.runUiThreadTasks();
+                return;
+            }
+            if (currentTimeMillis() >= deadline) {
+                throw new AssertionError("Snapshot read didn't finish");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    /** Runs main thread callbacks until the cache holds the specified elements. */
+    private void awaitPersisted(@NonNull List<String> expected) throws Exception {
+        long deadline = currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!expected.equals(mStore.read())) {
+            if (currentTimeMillis() >= deadline) {
+                throw new AssertionError("Expected " + expected + " to be persisted, but was " + mStore.read());
+            }
+            ShadowLooper.runUiThreadTasks();
+            Thread.sleep(1);
+        }
+    }
+
+    private final class TestArrayData extends ArrayData<String> {
+
+        TestArrayData() {
+            super(mLoads.scheduler);
+        }
+
+        @NonNull
+        @Override
+        protected List<? extends String> load() throws Throwable {
+            return mLoads.load();
+        }
+    }
+
+    private static class StringCodec implements SnapshotCache.Codec<String> {
+        @Override
+        public void write(@NonNull DataOutput out, @NonNull String element) throws IOException {
+            out.writeUTF(element);
+        }
+
+        @NonNull
+        @Override
+        public String read(@NonNull DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    }
+
+    private final class GatedStringCodec extends StringCodec {
+        @NonNull
+        @Override
+        public String read(@NonNull DataInput in) throws IOException {
+            mReaderThread = Thread.currentThread();
+            try {
+                mReadGate.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return super.read(in);
+        }
+    }
+
+    private final class RecordingDataObserver implements DataObserver {
+        @Override
+        public void onChanged() {
+            mNotifications.add("changed");
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            mNotifications.add("change " + positionStart + " " + itemCount);
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            mNotifications.add("insert " + positionStart + " " + itemCount);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            mNotifications.add("remove " + positionStart + " " + itemCount);
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            mNotifications.add("move " + fromPosition + " " + toPosition + " " + itemCount);
+        }
+    }
+}
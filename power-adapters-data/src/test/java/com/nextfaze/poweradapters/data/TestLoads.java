@@ -0,0 +1,166 @@
+package com.nextfaze.poweradapters.data;
+
+import lombok.NonNull;
+import org.robolectric.Robolectric;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Holds the background loads of a {@link Data} under test until the test completes them. While the test thread waits
+ * for loads to progress it runs the callbacks they post to the main thread, so the loads and their callbacks execute
+ * in a deterministic order.
+ * @param <R> The type returned by the load.
+ */
+final class TestLoads<R> {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @NonNull
+    private final BlockingQueue<Load> mRequested = new LinkedBlockingQueue<>();
+
+    @NonNull
+    final LoadScheduler scheduler;
+
+    TestLoads(int maxConcurrency) {
+        scheduler = new LoadScheduler(maxConcurrency, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+                // Idle workers linger for the keep-alive, which mustn't hold up the test process exiting.
+                Thread thread = new Thread(runnable);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        // Callbacks posted from worker threads must be queued for the test thread, rather than run by the poster.
+        ShadowLooper.pauseMainLooper();
+    }
+
+    /** Called from a worker thread to perform a load, blocking until the test completes it. */
+    @NonNull
+    R load() throws Throwable {
+        return load(0, 0);
+    }
+
+    /** Called from a worker thread to perform a load, blocking until the test completes it. */
+    @NonNull
+    R load(int offset, int count) throws Throwable {
+        Load load = new Load(offset, count);
+        mRequested.add(load);
+        return load.await();
+    }
+
+    /** Returns the next load to be requested, running main thread callbacks until it is. */
+    @NonNull
+    Load next() throws InterruptedException {
+        long deadline = currentTimeMillis() + TIMEOUT_MILLIS;
+        while (currentTimeMillis() < deadline) {
+            ShadowLooper.runUiThreadTasks();
+            Load load = mRequested.poll(1, MILLISECONDS);
+            if (load != null) {
+                return load;
+            }
+        }
+        throw new AssertionError("No load requested");
+    }
+
+    /** Returns {@code true} if a load has been requested but not yet returned by {@link #next()}. */
+    boolean hasNext() {
+        return !mRequested.isEmpty();
+    }
+
+    final class Load {
+
+        final int offset;
+        final int count;
+
+        @NonNull
+        private final CountDownLatch mLatch = new CountDownLatch(1);
+
+        @NonNull
+        private final Thread mThread = Thread.currentThread();
+
+        private R mResult;
+        private Throwable mError;
+
+        Load(int offset, int count) {
+            this.offset = offset;
+            this.count = count;
+        }
+
+        /** Completes this load with a result, then runs the callbacks it posts to the main thread. */
+        void succeed(@NonNull R result) throws InterruptedException {
+            succeedLater(result);
+            awaitIdle();
+        }
+
+        /** Fails this load, then runs the callbacks it posts to the main thread. */
+        void fail(@NonNull Throwable e) throws InterruptedException {
+            mError = e;
+            mLatch.countDown();
+            awaitIdle();
+        }
+
+        /** Completes this load with a result, without running the callbacks it posts to the main thread. */
+        void succeedLater(@NonNull R result) {
+            mResult = result;
+            mLatch.countDown();
+        }
+
+        /** Blocks until this load has posted a callback to the main thread, without running it. */
+        void awaitCallback() throws InterruptedException {
+            long deadline = currentTimeMillis() + TIMEOUT_MILLIS;
+            while (Robolectric.getForegroundThreadScheduler().size() == 0) {
+                if (currentTimeMillis() >= deadline) {
+                    throw new AssertionError("No callback posted");
+                }
+                Thread.sleep(1);
+            }
+        }
+
+        /**
+         * Runs main thread callbacks until the worker thread that performed this load is finished with it: waiting
+         * for another job, or blocked in another load.
+         */
+        void awaitIdle() throws InterruptedException {
+            long deadline = currentTimeMillis() + TIMEOUT_MILLIS;
+            while (currentTimeMillis() < deadline) {
+                ShadowLooper.runUiThreadTasks();
+                if (isWorkerIdle()) {
+                    return;
+                }
+                Thread.sleep(1);
+            }
+            throw new AssertionError("Load didn't finish");
+        }
+
+        private boolean isWorkerIdle() {
+            Thread.State state = mThread.getState();
+            // Workers only wait with a timeout while waiting for their next job.
+            if (state == Thread.State.TIMED_WAITING || state == Thread.State.TERMINATED) {
+                return true;
+            }
+            for (Load load : mRequested) {
+                if (load.mThread == mThread) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @NonNull
+        private R await() throws Throwable {
+            mLatch.await();
+            if (mError != null) {
+                throw mError;
+            }
+            return mResult;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import com.nextfaze.poweradapters.SimpleDataObserver;
 import lombok.NonNull;
 import org.junit.Before;
 import org.junit.Rule;
@@ -11,6 +12,7 @@ import org.robolectric.RobolectricGradleTestRunner;
 import org.robolectric.annotation.Config;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.*;
 
 @RunWith(RobolectricGradleTestRunner.class)
 @Config(constants = BuildConfig.class, sdk = 21)
@@ -29,13 +31,28 @@ public final class TransformDataTest {
 
     @Test
     public void transform() {
-        Data<Integer> transformed = new TransformData<>(mData, new Function<String, Integer>() {
+        assertThat(lengths()).containsExactly(1, 2, 3, 4, 5, 6, 7).inOrder();
+    }
+
+    @Test
+    public void payloadChangeForwarded() {
+        Data<Integer> transformed = lengths();
+        SimpleDataObserver observer = mock(SimpleDataObserver.class);
+        transformed.registerDataObserver(observer);
+        Object payload = new Object();
+        mData.changeWithPayload(2, 3, payload);
+        verify(observer).onItemRangeChanged(2, 3, payload);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @NonNull
+    private Data<Integer> lengths() {
+        return new TransformData<>(mData, new Function<String, Integer>() {
             @NonNull
             @Override
             public Integer apply(@NonNull String s) {
                 return s.length();
             }
         });
-        assertThat(transformed).containsExactly(1, 2, 3, 4, 5, 6, 7).inOrder();
     }
 }
@@ -0,0 +1,180 @@
+package com.nextfaze.poweradapters.data.internal;
+
+import com.nextfaze.poweradapters.data.BuildConfig;
+import com.nextfaze.poweradapters.data.FakeData;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class DataWatcherTest {
+
+    private final List<String> mCallbacks = new ArrayList<>();
+
+    private ObservingData mData;
+    private ObservingData mData2;
+    private DataWatcher mWatcher;
+
+    @Before
+    public void setUp() throws Exception {
+        mData = new ObservingData();
+        mData2 = new ObservingData();
+        mWatcher = new DataWatcher() {
+            @Override
+            protected void onDataChange() {
+                mCallbacks.add("change");
+            }
+
+            @Override
+            protected void onDataLoadingChange() {
+                mCallbacks.add("loading");
+            }
+
+            @Override
+            protected void onDataError(@NonNull Throwable e) {
+                mCallbacks.add("error " + e.getMessage());
+            }
+        };
+        mWatcher.setDatas(mData, mData2);
+    }
+
+    @Test
+    public void emptyWhenAllDatasEmpty() {
+        mWatcher.setEnabled(true);
+        assertThat(mWatcher.isEmpty()).isTrue();
+        mData2.append("a");
+        assertThat(mWatcher.isEmpty()).isFalse();
+        mData2.clear();
+        assertThat(mWatcher.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void loadingWhenAnyDataLoading() {
+        mWatcher.setEnabled(true);
+        assertThat(mWatcher.isLoading()).isFalse();
+        mData.setLoading(true);
+        mData2.setLoading(true);
+        mData.setLoading(false);
+        assertThat(mWatcher.isLoading()).isTrue();
+        mData2.setLoading(false);
+        assertThat(mWatcher.isLoading()).isFalse();
+    }
+
+    @Test
+    public void changeDuringRegistrationNotCountedTwice() {
+        mData.append("a");
+        mWatcher.setEnabled(true);
+        mWatcher.setEnabled(false);
+        // Empties itself in response to being observed again, notifying the watcher as it registers.
+        mData.mClearOnObserve = true;
+        mWatcher.setEnabled(true);
+        assertThat(mWatcher.isEmpty()).isTrue();
+        mData2.append("b");
+        mData2.clear();
+        assertThat(mWatcher.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void loadingStartedDuringRegistrationCounted() {
+        mData.mLoadOnObserve = true;
+        mWatcher.setEnabled(true);
+        assertThat(mWatcher.isLoading()).isTrue();
+        mData.setLoading(false);
+        assertThat(mWatcher.isLoading()).isFalse();
+    }
+
+    @Test
+    public void aggregateStateCorrectWhileDisabled() {
+        mData.setLoading(true);
+        assertThat(mWatcher.isLoading()).isTrue();
+        mData2.append("a");
+        assertThat(mWatcher.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void callbacksCoalescedPerFrame() {
+        mWatcher.setEnabled(true);
+        ShadowLooper.pauseMainLooper();
+        mData.append("a");
+        mData2.append("b");
+        mData.setLoading(true);
+        mData.setLoading(false);
+        assertThat(mCallbacks).isEmpty();
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mCallbacks).containsExactly("loading", "change").inOrder();
+    }
+
+    @Test
+    public void latestErrorDispatched() {
+        mWatcher.setEnabled(true);
+        ShadowLooper.pauseMainLooper();
+        mData.fail("first");
+        mData2.fail("second");
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mCallbacks).containsExactly("error second");
+    }
+
+    @Test
+    public void disablingCancelsPendingCallbacks() {
+        mWatcher.setEnabled(true);
+        ShadowLooper.pauseMainLooper();
+        mData.append("a");
+        mData.fail("error");
+        mWatcher.setEnabled(false);
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mCallbacks).isEmpty();
+    }
+
+    @Test
+    public void removingAllDatasCancelsPendingCallbacks() {
+        mWatcher.setEnabled(true);
+        ShadowLooper.pauseMainLooper();
+        mData.append("a");
+        mWatcher.setDatas();
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mCallbacks).isEmpty();
+    }
+
+    @Test
+    public void disablingUnregistersObservers() {
+        mWatcher.setEnabled(true);
+        assertThat(mData.getObserverCount()).isEqualTo(1);
+        mWatcher.setEnabled(false);
+        assertThat(mData.getObserverCount()).isEqualTo(0);
+    }
+
+    private static final class ObservingData extends FakeData<String> {
+
+        boolean mClearOnObserve;
+        boolean mLoadOnObserve;
+
+        @Override
+        protected void onFirstDataObserverRegistered() {
+            super.onFirstDataObserverRegistered();
+            if (mClearOnObserve) {
+                clear();
+            }
+            if (mLoadOnObserve) {
+                setLoading(true);
+            }
+        }
+
+        int getObserverCount() {
+            return getDataObserverCount();
+        }
+
+        void fail(@NonNull String message) {
+            notifyError(new RuntimeException(message));
+        }
+    }
+}
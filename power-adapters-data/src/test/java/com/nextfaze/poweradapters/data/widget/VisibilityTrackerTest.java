@@ -0,0 +1,297 @@
+package com.nextfaze.poweradapters.data.widget;
+
+import android.content.Context;
+import android.graphics.Point;
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.view.ViewTreeObserver;
+import com.nextfaze.poweradapters.data.BuildConfig;
+import lombok.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class VisibilityTrackerTest {
+
+    private static final int SIZE = 100;
+    private static final int LAYOUT_HEIGHT = 50;
+
+    @NonNull
+    private final List<TestDataLayout> mLayouts = new ArrayList<>();
+
+    private TestViewGroup mRoot;
+    private TestViewGroup mContainer;
+
+    @Before
+    public void setUp() throws Exception {
+        // Evaluation is deferred to a frame callback, which only runs when the main looper is pumped.
+        ShadowLooper.pauseMainLooper();
+        mRoot = new TestViewGroup(RuntimeEnvironment.application);
+        mRoot.layout(0, 0, SIZE, SIZE);
+        mContainer = new TestViewGroup(RuntimeEnvironment.application);
+        mRoot.addView(mContainer);
+        mContainer.layout(0, 0, SIZE, SIZE);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (TestDataLayout layout : mLayouts) {
+            VisibilityTracker.untrack(layout);
+        }
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test
+    public void oneListenerPerRoot() throws Exception {
+        tracked(mContainer, 0);
+        tracked(mContainer, 20);
+        assertThat(scrollListenerCount(mRoot)).isEqualTo(1);
+        TestViewGroup otherRoot = new TestViewGroup(RuntimeEnvironment.application);
+        otherRoot.layout(0, 0, SIZE, SIZE);
+        tracked(otherRoot, 0);
+        assertThat(scrollListenerCount(otherRoot)).isEqualTo(1);
+        assertThat(scrollListenerCount(mRoot)).isEqualTo(1);
+    }
+
+    @Test
+    public void listenerRemovedWhenLastLayoutUntracked() throws Exception {
+        TestDataLayout a = tracked(mContainer, 0);
+        TestDataLayout b = tracked(mContainer, 20);
+        VisibilityTracker.untrack(a);
+        assertThat(scrollListenerCount(mRoot)).isEqualTo(1);
+        VisibilityTracker.untrack(b);
+        assertThat(scrollListenerCount(mRoot)).isEqualTo(0);
+    }
+
+    @Test
+    public void untrackedLayoutNotEvaluated() throws Exception {
+        TestDataLayout a = tracked(mContainer, 0);
+        TestDataLayout b = tracked(mContainer, 20);
+        VisibilityTracker.untrack(a);
+        scroll();
+        frame();
+        assertThat(a.mUpdates).isEqualTo(0);
+        assertThat(b.mUpdates).isEqualTo(1);
+    }
+
+    @Test
+    public void evaluationThrottledToOncePerFrame() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 0);
+        scroll();
+        scroll();
+        scroll();
+        assertThat(layout.mUpdates).isEqualTo(0);
+        frame();
+        assertThat(layout.mUpdates).isEqualTo(1);
+        frame();
+        assertThat(layout.mUpdates).isEqualTo(1);
+    }
+
+    @Test
+    public void unmovedLayoutSkipped() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 0);
+        scroll();
+        frame();
+        scroll();
+        frame();
+        assertThat(layout.mUpdates).isEqualTo(1);
+    }
+
+    @Test
+    public void unmovedLayoutBoundsNotComputed() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 0);
+        scroll();
+        frame();
+        layout.mBoundsQueries = 0;
+        scroll();
+        frame();
+        assertThat(layout.mBoundsQueries).isEqualTo(0);
+    }
+
+    @Test
+    public void movedLayoutEvaluated() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 0);
+        scroll();
+        frame();
+        layout.offsetTopAndBottom(10);
+        scroll();
+        frame();
+        assertThat(layout.mUpdates).isEqualTo(2);
+    }
+
+    @Test
+    public void layoutScrolledOutOfWindowBecomesInvisible() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 0);
+        assertThat(layout.isVisible()).isTrue();
+        layout.offsetTopAndBottom(SIZE);
+        scroll();
+        frame();
+        assertThat(layout.isVisible()).isFalse();
+    }
+
+    @Test
+    public void invisibleLayoutOutsideWindowSkipped() throws Exception {
+        TestDataLayout layout = tracked(mContainer, SIZE);
+        assertThat(layout.isVisible()).isFalse();
+        scroll();
+        frame();
+        layout.offsetTopAndBottom(SIZE);
+        scroll();
+        frame();
+        assertThat(layout.mUpdates).isEqualTo(0);
+    }
+
+    @Test
+    public void unmovedLayoutClippedByAncestorBecomesInvisible() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 60);
+        scroll();
+        frame();
+        assertThat(layout.isVisible()).isTrue();
+        // The layout keeps its location in the window, but is now clipped entirely by its parent.
+        mContainer.layout(0, 0, SIZE, 60);
+        layoutPass();
+        scroll();
+        frame();
+        assertThat(layout.isVisible()).isFalse();
+    }
+
+    @Test
+    public void unmovedLayoutRevealedByAncestorBecomesVisible() throws Exception {
+        mContainer.layout(0, 0, SIZE, 60);
+        TestDataLayout layout = tracked(mContainer, 60);
+        scroll();
+        frame();
+        assertThat(layout.isVisible()).isFalse();
+        mContainer.layout(0, 0, SIZE, SIZE);
+        layoutPass();
+        scroll();
+        frame();
+        assertThat(layout.isVisible()).isTrue();
+    }
+
+    @Test
+    public void layoutPassEvaluatesWithoutScroll() throws Exception {
+        TestDataLayout layout = tracked(mContainer, 60);
+        scroll();
+        frame();
+        assertThat(layout.isVisible()).isTrue();
+        mContainer.layout(0, 0, SIZE, 60);
+        layoutPass();
+        frame();
+        assertThat(layout.isVisible()).isFalse();
+    }
+
+    /** Returns a new layout positioned within {@code parent} and tracked, with its update count reset. */
+    @NonNull
+    private TestDataLayout tracked(@NonNull ViewGroup parent, int top) {
+        TestDataLayout layout = new TestDataLayout(RuntimeEnvironment.application);
+        parent.addView(layout);
+        layout.layout(0, top, SIZE, top + LAYOUT_HEIGHT);
+        // Layouts aren't attached to a window here, so use a predicate that only considers clipping.
+        layout.setVisibilityPredicate(new DataLayout.VisibilityPredicate() {
+            @Override
+            public boolean isVisible(@NonNull DataLayout dataLayout) {
+                return dataLayout.getVisibleAreaFactor() > 0f;
+            }
+        });
+        VisibilityTracker.track(layout);
+        layout.mUpdates = 0;
+        mLayouts.add(layout);
+        return layout;
+    }
+
+    /** Dispatches a scroll to the root's tree observer, as the framework does when any view in the window scrolls. */
+    private void scroll() throws Exception {
+        Method method = ViewTreeObserver.class.getDeclaredMethod("dispatchOnScrollChanged");
+        method.setAccessible(true);
+        method.invoke(mRoot.getViewTreeObserver());
+    }
+
+    /** Dispatches a global layout to the root's tree observer, as the framework does after each layout pass. */
+    private void layoutPass() {
+        mRoot.getViewTreeObserver().dispatchOnGlobalLayout();
+    }
+
+    private static void frame() {
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    }
+
+    /** Returns the number of scroll listeners registered with the root's tree observer, which the SDK hides. */
+    private static int scrollListenerCount(@NonNull View root) throws Exception {
+        Field field = ViewTreeObserver.class.getDeclaredField("mOnScrollChangedListeners");
+        field.setAccessible(true);
+        Object listeners = field.get(root.getViewTreeObserver());
+        if (listeners == null) {
+            return 0;
+        }
+        Method size = listeners.getClass().getDeclaredMethod("size");
+        size.setAccessible(true);
+        return (Integer) size.invoke(listeners);
+    }
+
+    private static final class TestDataLayout extends DataLayout {
+
+        int mUpdates;
+
+        /** The number of times the visible bounds have been computed. */
+        int mBoundsQueries;
+
+        TestDataLayout(@NonNull Context context) {
+            super(context);
+        }
+
+        @Override
+        void updateVisible() {
+            mUpdates++;
+            super.updateVisible();
+        }
+
+        @Override
+        public boolean getGlobalVisibleRect(Rect r, Point globalOffset) {
+            mBoundsQueries++;
+            return super.getGlobalVisibleRect(r, globalOffset);
+        }
+
+        /** Layouts aren't attached to a window here, so compute the location the framework would report. */
+        @Override
+        public void getLocationInWindow(int[] location) {
+            int x = getLeft();
+            int y = getTop();
+            for (ViewParent parent = getParent(); parent instanceof View; parent = parent.getParent()) {
+                View view = (View) parent;
+                x += view.getLeft() - view.getScrollX();
+                y += view.getTop() - view.getScrollY();
+            }
+            location[0] = x;
+            location[1] = y;
+        }
+    }
+
+    /** Leaves children where the test lays them out, rather than positioning them itself. */
+    private static final class TestViewGroup extends ViewGroup {
+
+        TestViewGroup(@NonNull Context context) {
+            super(context);
+        }
+
+        @Override
+        protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        }
+    }
+}
@@ -1,19 +1,30 @@
 package com.nextfaze.poweradapters.recyclerview;
 
+import android.support.annotation.Nullable;
 import android.support.v4.util.ArrayMap;
 import android.support.v7.widget.RecyclerView;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.PowerAdapter;
+import com.nextfaze.poweradapters.SimpleDataObserver;
 import lombok.NonNull;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static android.support.v7.widget.RecyclerView.NO_POSITION;
+import static android.support.v7.widget.RecyclerView.SCROLL_STATE_IDLE;
+import static android.support.v7.widget.RecyclerView.SCROLL_STATE_SETTLING;
+
 final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConverterAdapter.Holder> {
 
+    /** Time a minimally bound row must remain bound before it's fully bound, even if still flinging. */
+    static final long FULL_BIND_DELAY = 300;
+
     @NonNull
     private final Set<RecyclerView.AdapterDataObserver> mAdapterDataObservers = new HashSet<>();
 
@@ -21,7 +32,7 @@ final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConver
     private final PowerAdapter mPowerAdapter;
 
     @NonNull
-    private final DataObserver mDataSetObserver = new DataObserver() {
+    private final DataObserver mDataSetObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
             mShadowItemCount = mPowerAdapter.getItemCount();
@@ -34,6 +45,12 @@ final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConver
             notifyItemRangeChanged(positionStart, itemCount);
         }
 
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            validateItemCount();
+            notifyItemRangeChanged(positionStart, itemCount, payload);
+        }
+
         @Override
         public void onItemRangeInserted(int positionStart, int itemCount) {
             mShadowItemCount += itemCount;
@@ -60,6 +77,29 @@ final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConver
         }
     };
 
+    /** Attached recycler views that are currently flinging. */
+    @NonNull
+    private final Set<RecyclerView> mFlingingRecyclerViews = new HashSet<>();
+
+    @NonNull
+    private final RecyclerView.OnScrollListener mScrollListener = new RecyclerView.OnScrollListener() {
+        @Override
+        public void onScrollStateChanged(RecyclerView recyclerView, int newState) {
+            if (newState == SCROLL_STATE_SETTLING) {
+                mFlingingRecyclerViews.add(recyclerView);
+            } else {
+                mFlingingRecyclerViews.remove(recyclerView);
+                if (newState == SCROLL_STATE_IDLE) {
+                    completeDeferredBinds();
+                }
+            }
+        }
+    };
+
+    /** Holders that were minimally bound, and are awaiting a full bind. */
+    @NonNull
+    private final Set<Holder> mDeferredBinds = new HashSet<>();
+
     @NonNull
     private final Map<Object, Integer> mViewTypeObjectToInt = new ArrayMap<>();
 
@@ -105,7 +145,49 @@ final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConver
 
     @Override
     public void onBindViewHolder(Holder holder, int position) {
-        mPowerAdapter.bindView(holder.itemView, holder.holder);
+        cancelDeferredBind(holder);
+        if (mFlingingRecyclerViews.isEmpty()) {
+            mPowerAdapter.bindView(holder.itemView, holder.holder);
+        } else if (mPowerAdapter.bindViewMinimal(holder.itemView, holder.holder)) {
+            // Rows bound while flinging are likely to be visible only briefly, so the full bind is deferred.
+            mDeferredBinds.add(holder);
+            holder.itemView.postDelayed(holder.mFullBind, FULL_BIND_DELAY);
+        }
+    }
+
+    @Override
+    public void onBindViewHolder(Holder holder, int position, List<Object> payloads) {
+        // An empty payload list means a full bind is required.
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+        } else if (mDeferredBinds.contains(holder)) {
+            // Not fully bound yet, so the full bind covers the change.
+            completeDeferredBind(holder);
+        } else {
+            mPowerAdapter.bindView(holder.itemView, holder.holder, payloads);
+        }
+    }
+
+    @Override
+    public void onViewRecycled(Holder holder) {
+        super.onViewRecycled(holder);
+        cancelDeferredBind(holder);
+    }
+
+    @Override
+    public void onAttachedToRecyclerView(RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        recyclerView.addOnScrollListener(mScrollListener);
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        recyclerView.removeOnScrollListener(mScrollListener);
+        mFlingingRecyclerViews.remove(recyclerView);
+        if (mFlingingRecyclerViews.isEmpty()) {
+            completeDeferredBinds();
+        }
     }
 
     @Override
@@ -130,6 +212,26 @@ final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConver
         return mAdapterDataObservers.size();
     }
 
+    private void completeDeferredBinds() {
+        for (Holder holder : new ArrayList<>(mDeferredBinds)) {
+            completeDeferredBind(holder);
+        }
+    }
+
+    private void completeDeferredBind(@NonNull Holder holder) {
+        cancelDeferredBind(holder);
+        // The holder may have been removed since it was bound, in which case it will be rebound or recycled anyway.
+        if (holder.getAdapterPosition() != NO_POSITION) {
+            mPowerAdapter.bindView(holder.itemView, holder.holder);
+        }
+    }
+
+    private void cancelDeferredBind(@NonNull Holder holder) {
+        if (mDeferredBinds.remove(holder)) {
+            holder.itemView.removeCallbacks(holder.mFullBind);
+        }
+    }
+
     /**
      * Check the item count by comparing with our shadow count. If they don't match, there's a good chance {@link
      * RecyclerView} will crash later on. By doing it aggressively ourselves, we can catch a poorly-behaved {@link
@@ -143,7 +245,15 @@ final class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConver
         }
     }
 
-    static final class Holder extends RecyclerView.ViewHolder {
+    final class Holder extends RecyclerView.ViewHolder {
+
+        @NonNull
+        final Runnable mFullBind = new Runnable() {
+            @Override
+            public void run() {
+                completeDeferredBind(Holder.this);
+            }
+        };
 
         @NonNull
         private final com.nextfaze.poweradapters.Holder holder = new com.nextfaze.poweradapters.Holder() {
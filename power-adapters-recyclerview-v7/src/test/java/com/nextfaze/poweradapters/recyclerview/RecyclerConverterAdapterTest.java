@@ -0,0 +1,174 @@
+package com.nextfaze.poweradapters.recyclerview;
+
+import android.content.Context;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.PowerAdapter;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static android.support.v7.widget.RecyclerView.SCROLL_STATE_IDLE;
+import static android.support.v7.widget.RecyclerView.SCROLL_STATE_SETTLING;
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.recyclerview.RecyclerConverterAdapter.FULL_BIND_DELAY;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class RecyclerConverterAdapterTest {
+
+    private static final int ITEM_HEIGHT = 100;
+    private static final int VISIBLE_ITEM_COUNT = 3;
+
+    private final List<String> mBinds = new ArrayList<>();
+
+    private TestRecyclerView mRecyclerView;
+    private TestAdapter mPowerAdapter;
+    private RecyclerConverterAdapter mConverterAdapter;
+
+    @Before
+    public void setUp() throws Exception {
+        mPowerAdapter = new TestAdapter();
+        mConverterAdapter = new RecyclerConverterAdapter(mPowerAdapter);
+        mRecyclerView = new TestRecyclerView(RuntimeEnvironment.application);
+        mRecyclerView.setLayoutManager(new LinearLayoutManager(RuntimeEnvironment.application));
+        mRecyclerView.setAdapter(mConverterAdapter);
+    }
+
+    @Test
+    public void bindsFullyWhenNotFlinging() {
+        layout();
+        assertThat(mBinds).containsExactly("full 0", "full 1", "full 2").inOrder();
+    }
+
+    @Test
+    public void bindsMinimallyWhileFlinging() {
+        fling();
+        layout();
+        assertThat(mBinds).containsExactly("minimal 0", "minimal 1", "minimal 2").inOrder();
+    }
+
+    @Test
+    public void deferredBindsCompleteWhenIdle() {
+        fling();
+        layout();
+        mBinds.clear();
+        scrollStateChanged(SCROLL_STATE_IDLE);
+        assertThat(mBinds).containsExactly("full 0", "full 1", "full 2");
+    }
+
+    @Test
+    public void deferredBindsCompleteAfterDelayWhileStillFlinging() {
+        fling();
+        layout();
+        mBinds.clear();
+        ShadowLooper.idleMainLooper(FULL_BIND_DELAY);
+        assertThat(mBinds).containsExactly("full 0", "full 1", "full 2");
+    }
+
+    @Test
+    public void recycleCancelsDeferredBind() {
+        fling();
+        layout();
+        mBinds.clear();
+        mConverterAdapter.onViewRecycled(holder(0));
+        scrollStateChanged(SCROLL_STATE_IDLE);
+        ShadowLooper.idleMainLooper(FULL_BIND_DELAY);
+        assertThat(mBinds).containsExactly("full 1", "full 2");
+    }
+
+    @Test
+    public void fullBindNotDeferredIfBindWasntMinimal() {
+        mPowerAdapter.mMinimal = false;
+        fling();
+        layout();
+        mBinds.clear();
+        scrollStateChanged(SCROLL_STATE_IDLE);
+        ShadowLooper.idleMainLooper(FULL_BIND_DELAY);
+        assertThat(mBinds).isEmpty();
+    }
+
+    private void fling() {
+        scrollStateChanged(SCROLL_STATE_SETTLING);
+    }
+
+    private void scrollStateChanged(int newState) {
+        for (RecyclerView.OnScrollListener listener : mRecyclerView.mOnScrollListeners) {
+            listener.onScrollStateChanged(mRecyclerView, newState);
+        }
+    }
+
+    private void layout() {
+        mRecyclerView.measure(makeMeasureSpec(ITEM_HEIGHT, EXACTLY),
+                makeMeasureSpec(ITEM_HEIGHT * VISIBLE_ITEM_COUNT, EXACTLY));
+        mRecyclerView.layout(0, 0, ITEM_HEIGHT, ITEM_HEIGHT * VISIBLE_ITEM_COUNT);
+    }
+
+    @NonNull
+    private RecyclerConverterAdapter.Holder holder(int position) {
+        return (RecyclerConverterAdapter.Holder) mRecyclerView.findViewHolderForAdapterPosition(position);
+    }
+
+    private static final class TestRecyclerView extends RecyclerView {
+
+        final List<OnScrollListener> mOnScrollListeners = new ArrayList<>();
+
+        TestRecyclerView(Context context) {
+            super(context);
+        }
+
+        @Override
+        public void addOnScrollListener(OnScrollListener listener) {
+            super.addOnScrollListener(listener);
+            mOnScrollListeners.add(listener);
+        }
+
+        @Override
+        public void removeOnScrollListener(OnScrollListener listener) {
+            super.removeOnScrollListener(listener);
+            mOnScrollListeners.remove(listener);
+        }
+    }
+
+    private final class TestAdapter extends PowerAdapter {
+
+        boolean mMinimal = true;
+
+        @Override
+        public int getItemCount() {
+            return 10;
+        }
+
+        @NonNull
+        @Override
+        public View newView(@NonNull ViewGroup parent, @NonNull Object viewType) {
+            View v = new View(parent.getContext());
+            v.setMinimumHeight(ITEM_HEIGHT);
+            return v;
+        }
+
+        @Override
+        public void bindView(@NonNull View view, @NonNull Holder holder) {
+            mBinds.add("full " + holder.getPosition());
+        }
+
+        @Override
+        public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+            mBinds.add("minimal " + holder.getPosition());
+            return mMinimal;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.nextfaze.poweradapters;
+
+import android.os.Handler;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import android.support.annotation.WorkerThread;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Executor;
+
+import static android.os.Looper.getMainLooper;
+import static com.nextfaze.poweradapters.PowerAdapter.asAdapter;
+
+/**
+ * A {@link TreeAdapter.ChildAdapterSupplier} that loads children on a background {@link Executor}, so expansion
+ * doesn't block the UI thread. An expanded item immediately shows a placeholder row, which is replaced with the
+ * child adapter once its children are loaded, or with an error adapter if loading fails. Failed loads aren't retained,
+ * so expanding the item again retries. Optionally, children of the root items adjacent to an expanded item
+ * are prefetched, so expanding them shows their children straight away.
+ * @param <K> The type of key identifying the children of a root item.
+ * @param <T> The type of loaded children.
+ */
+public final class AsyncChildAdapterSupplier<K, T> implements TreeAdapter.ChildAdapterSupplier {
+
+    /** Maximum number of completed loads retained. */
+    private static final int MAX_COMPLETED = 16;
+
+    @NonNull
+    private final Handler mHandler = new Handler(getMainLooper());
+
+    /**
+     * Loads in order of least recent use, either in progress or complete. Completed loads are retained so adjacent
+     * items aren't prefetched again.
+     */
+    @NonNull
+    private final LinkedHashMap<K, Load> mLoads = new LinkedHashMap<>(16, 0.75f, true);
+
+    @NonNull
+    private final PowerAdapter mRootAdapter;
+
+    @NonNull
+    private final ChildLoader<K, T> mLoader;
+
+    @NonNull
+    private final ViewFactory mPlaceholderView;
+
+    @NonNull
+    private final Executor mExecutor;
+
+    private int mPrefetchDistance;
+
+    /**
+     * @param rootAdapter The root adapter of the {@link TreeAdapter} this supplies, used to bound prefetching.
+     * @param loader Loads the children of root items.
+     * @param placeholderView Creates the placeholder row shown while children are loading.
+     * @param executor Executes {@link ChildLoader#load(Object)}.
+     */
+    public AsyncChildAdapterSupplier(@NonNull PowerAdapter rootAdapter,
+                                     @NonNull ChildLoader<K, T> loader,
+                                     @NonNull ViewFactory placeholderView,
+                                     @NonNull Executor executor) {
+        mRootAdapter = rootAdapter;
+        mLoader = loader;
+        mPlaceholderView = placeholderView;
+        mExecutor = executor;
+    }
+
+    public int getPrefetchDistance() {
+        return mPrefetchDistance;
+    }
+
+    /**
+     * Sets the number of root items either side of an expanded item whose children are prefetched. Defaults to
+     * {@code 0}, meaning nothing is prefetched.
+     */
+    public void setPrefetchDistance(int prefetchDistance) {
+        if (prefetchDistance < 0) {
+            throw new IllegalArgumentException("prefetchDistance < 0");
+        }
+        mPrefetchDistance = prefetchDistance;
+    }
+
+    @UiThread
+    @NonNull
+    @Override
+    public PowerAdapter get(int position) {
+        K key = mLoader.getKey(position);
+        PowerAdapter adapter;
+        Load load = mLoads.get(key);
+        if (load != null && load.mComplete && !load.mConsumed) {
+            // Prefetched, so present it straight away.
+            load.mConsumed = true;
+            adapter = load.createAdapter();
+        } else {
+            // Children already presented are reloaded, since they may have changed.
+            if (load == null || load.mConsumed) {
+                load = startLoad(key);
+            }
+            DelegateAdapter delegateAdapter = new DelegateAdapter(asAdapter(mPlaceholderView));
+            load.mWaiting.add(delegateAdapter);
+            adapter = delegateAdapter;
+        }
+        prefetch(position);
+        return adapter;
+    }
+
+    private void prefetch(int position) {
+        int itemCount = mRootAdapter.getItemCount();
+        for (int distance = 1; distance <= mPrefetchDistance; distance++) {
+            prefetchAt(position - distance, itemCount);
+            prefetchAt(position + distance, itemCount);
+        }
+        trimCompleted();
+    }
+
+    private void prefetchAt(int position, int itemCount) {
+        if (position >= 0 && position < itemCount) {
+            K key = mLoader.getKey(position);
+            if (!mLoads.containsKey(key)) {
+                startLoad(key);
+            }
+        }
+    }
+
+    /** Discards the least recently used completed loads beyond the maximum. */
+    private void trimCompleted() {
+        int excess = mLoads.size() - MAX_COMPLETED;
+        for (Iterator<Load> it = mLoads.values().iterator(); excess > 0 && it.hasNext(); ) {
+            Load load = it.next();
+            if (load.mComplete) {
+                it.remove();
+                excess--;
+            }
+        }
+    }
+
+    @NonNull
+    private Load startLoad(@NonNull K key) {
+        Load load = new Load(key);
+        mLoads.put(key, load);
+        mExecutor.execute(load);
+        return load;
+    }
+
+    /** Loads the children of a root item. */
+    public interface ChildLoader<K, T> {
+
+        /**
+         * Returns the key identifying the children of the root item at the specified position. Must implement
+         * {@link Object#equals(Object)} and {@link Object#hashCode()}.
+         */
+        @UiThread
+        @NonNull
+        K getKey(int position);
+
+        /** Loads the children identified by the specified key. Invoked on the executor. */
+        @WorkerThread
+        @NonNull
+        T load(@NonNull K key) throws Exception;
+
+        /** Creates the adapter presenting the loaded children. */
+        @UiThread
+        @NonNull
+        PowerAdapter createAdapter(@NonNull K key, @NonNull T children);
+
+        /** Creates the adapter presented in place of the children if loading them failed. */
+        @UiThread
+        @NonNull
+        PowerAdapter createErrorAdapter(@NonNull K key, @NonNull Exception error);
+    }
+
+    private final class Load implements Runnable {
+
+        @NonNull
+        final K mKey;
+
+        /** Placeholder adapters awaiting the result. */
+        @NonNull
+        final ArrayList<DelegateAdapter> mWaiting = new ArrayList<>();
+
+        @Nullable
+        T mChildren;
+
+        boolean mComplete;
+
+        /** Whether the result has been presented. */
+        boolean mConsumed;
+
+        Load(@NonNull K key) {
+            mKey = key;
+        }
+
+        @WorkerThread
+        @Override
+        public void run() {
+            T children = null;
+            Exception error = null;
+            try {
+                children = mLoader.load(mKey);
+            } catch (Exception e) {
+                error = e;
+            }
+            final T finalChildren = children;
+            final Exception finalError = error;
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    complete(finalChildren, finalError);
+                }
+            });
+        }
+
+        @UiThread
+        void complete(@Nullable T children, @Nullable Exception error) {
+            if (error != null) {
+                // Discard the failed load, so the next expansion retries instead of presenting it.
+                if (mLoads.get(mKey) == this) {
+                    mLoads.remove(mKey);
+                }
+                for (DelegateAdapter delegateAdapter : mWaiting) {
+                    delegateAdapter.setDelegate(mLoader.createErrorAdapter(mKey, error));
+                }
+                mWaiting.clear();
+                return;
+            }
+            mChildren = children;
+            mComplete = true;
+            if (!mWaiting.isEmpty()) {
+                mConsumed = true;
+                for (DelegateAdapter delegateAdapter : mWaiting) {
+                    delegateAdapter.setDelegate(createAdapter());
+                }
+                mWaiting.clear();
+            }
+        }
+
+        @NonNull
+        PowerAdapter createAdapter() {
+            //noinspection ConstantConditions
+            return mLoader.createAdapter(mKey, mChildren);
+        }
+    }
+}
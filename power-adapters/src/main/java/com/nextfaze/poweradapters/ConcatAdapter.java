@@ -1,6 +1,7 @@
 package com.nextfaze.poweradapters;
 
 import android.support.annotation.CallSuper;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import lombok.NonNull;
@@ -111,6 +112,16 @@ final class ConcatAdapter extends PowerAdapter {
         outerToAdapter(holder.getPosition()).bindView(view, holder);
     }
 
+    @Override
+    public void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        outerToAdapter(holder.getPosition()).bindView(view, holder, payloads);
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        return outerToAdapter(holder.getPosition()).bindViewMinimal(view, holder);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
@@ -152,7 +163,7 @@ final class ConcatAdapter extends PowerAdapter {
     private final class Entry {
 
         @NonNull
-        private final DataObserver mDataObserver = new DataObserver() {
+        private final DataObserver mDataObserver = new SimpleDataObserver() {
             @Override
             public void onChanged() {
                 mShadowItemCount = mAdapter.getItemCount();
@@ -165,6 +176,11 @@ final class ConcatAdapter extends PowerAdapter {
                 notifyItemRangeChanged(positionStart, itemCount);
             }
 
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+                notifyItemRangeChanged(positionStart, itemCount, payload);
+            }
+
             @Override
             public void onItemRangeInserted(int positionStart, int itemCount) {
                 mShadowItemCount += itemCount;
@@ -1,14 +1,17 @@
 package com.nextfaze.poweradapters;
 
 import android.support.annotation.CallSuper;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import lombok.NonNull;
 
+import java.util.List;
+
 final class ConditionalAdapter extends PowerAdapter {
 
     @NonNull
-    private final DataObserver mDataObserver = new DataObserver() {
+    private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
             notifyDataSetChanged();
@@ -19,6 +22,11 @@ final class ConditionalAdapter extends PowerAdapter {
             notifyItemRangeChanged(positionStart, itemCount);
         }
 
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            notifyItemRangeChanged(positionStart, itemCount, payload);
+        }
+
         @Override
         public void onItemRangeInserted(int positionStart, int itemCount) {
             notifyItemRangeInserted(positionStart, itemCount);
@@ -103,6 +111,16 @@ final class ConditionalAdapter extends PowerAdapter {
         adapter().bindView(v, holder);
     }
 
+    @Override
+    public void bindView(@NonNull View v, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        adapter().bindView(v, holder, payloads);
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View v, @NonNull Holder holder) {
+        return adapter().bindViewMinimal(v, holder);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
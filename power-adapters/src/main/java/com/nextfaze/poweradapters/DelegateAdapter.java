@@ -6,11 +6,13 @@ import android.view.View;
 import android.view.ViewGroup;
 import lombok.NonNull;
 
+import java.util.List;
+
 /** Wraps another {@link PowerAdapter} optionally, delegating work to it. The wrapped adapter can be reassigned freely. */
 public final class DelegateAdapter extends PowerAdapter {
 
     @NonNull
-    private final DataObserver mDataObserver = new DataObserver() {
+    private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
             notifyDataSetChanged();
@@ -21,6 +23,11 @@ public final class DelegateAdapter extends PowerAdapter {
             notifyItemRangeChanged(positionStart, itemCount);
         }
 
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            notifyItemRangeChanged(positionStart, itemCount, payload);
+        }
+
         @Override
         public void onItemRangeInserted(int positionStart, int itemCount) {
             notifyItemRangeInserted(positionStart, itemCount);
@@ -107,6 +114,16 @@ public final class DelegateAdapter extends PowerAdapter {
         delegateOrThrow().bindView(v, holder);
     }
 
+    @Override
+    public void bindView(@NonNull View v, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        delegateOrThrow().bindView(v, holder, payloads);
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View v, @NonNull Holder holder) {
+        return delegateOrThrow().bindViewMinimal(v, holder);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
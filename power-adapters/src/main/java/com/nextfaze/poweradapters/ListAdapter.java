@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters;
 
+import com.nextfaze.poweradapters.internal.NotificationType;
 import com.nextfaze.poweradapters.internal.NotifyingArrayList;
 import lombok.NonNull;
 
@@ -161,4 +162,39 @@ public abstract class ListAdapter<E> extends PowerAdapter implements List<E> {
     public <T> T[] toArray(T[] array) {
         return mData.toArray(array);
     }
+
+    /**
+     * Sets whether notifications adapt to the volume of changes. When enabled, fine-grained notifications are issued
+     * until a limit is exceeded within a single turn of the main looper, after which the rest of that turn's changes
+     * are notified with {@link #notifyDataSetChanged()}. This avoids the cost of many scattered notifications arriving
+     * in one burst, at the expense of animations for those changes. Disabled by default.
+     * @see #setAdaptiveNotificationLimits(int, int)
+     */
+    public void setAdaptiveNotificationsEnabled(boolean enabled) {
+        mData.setNotificationType(enabled ? NotificationType.ADAPTIVE : NotificationType.FINE);
+    }
+
+    public boolean isAdaptiveNotificationsEnabled() {
+        return mData.getNotificationType() == NotificationType.ADAPTIVE;
+    }
+
+    /**
+     * Sets the limits of adaptive notification, applied within each turn of the main looper.
+     * @param maxNotifications The maximum number of fine-grained notifications.
+     * @param maxItems The maximum total number of items covered by fine-grained notifications.
+     * @see #setAdaptiveNotificationsEnabled(boolean)
+     */
+    public void setAdaptiveNotificationLimits(int maxNotifications, int maxItems) {
+        mData.setAdaptiveLimits(maxNotifications, maxItems);
+    }
+
+    /** Returns the number of main looper turns in which adaptive notification degraded to coarse notifications. */
+    public int getDegradedTurnCount() {
+        return mData.getDegradedTurnCount();
+    }
+
+    /** Returns the number of fine-grained notifications that adaptive notification replaced with coarse ones. */
+    public int getCoarseNotificationCount() {
+        return mData.getCoarseNotificationCount();
+    }
 }
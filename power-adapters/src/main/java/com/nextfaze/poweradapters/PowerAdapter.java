@@ -4,12 +4,14 @@ import android.annotation.SuppressLint;
 import android.support.annotation.CallSuper;
 import android.support.annotation.CheckResult;
 import android.support.annotation.LayoutRes;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.internal.DataObservable;
 import lombok.NonNull;
 
 import java.util.Collection;
+import java.util.List;
 
 import static com.nextfaze.poweradapters.ItemAdapter.toItems;
 import static java.util.Arrays.asList;
@@ -147,6 +149,34 @@ public abstract class PowerAdapter {
      */
     public abstract void bindView(@NonNull View view, @NonNull Holder holder);
 
+    /**
+     * Partially rebinds the data associated with {@link Holder#getPosition()} to the specified view, which is
+     * already bound to the same item. By default, performs a full bind using {@link #bindView(View, Holder)}.
+     * Adapters that wrap other adapters must forward this call.
+     * @param view The view to bind.
+     * @param holder The holder object representing this binding to the view.
+     * @param payloads The payloads of the change notifications received since the view was last bound, in order.
+     * Never empty; a full bind is requested using {@link #bindView(View, Holder)} instead.
+     * @see #notifyItemRangeChanged(int, int, Object)
+     */
+    public void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        bindView(view, holder);
+    }
+
+    /**
+     * Binds only what's essential for the item associated with {@link Holder#getPosition()} to be recognizable, such
+     * as while flinging, when rows may only be visible for a few milliseconds. By default, performs a full bind using
+     * {@link #bindView(View, Holder)}. Adapters that wrap other adapters must forward this call.
+     * @param view The view to bind.
+     * @param holder The holder object representing this binding to the view.
+     * @return {@code true} if the bind was minimal, in which case the caller is responsible for requesting a full bind
+     * using {@link #bindView(View, Holder)} once the view has settled.
+     */
+    public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        bindView(view, holder);
+        return false;
+    }
+
     /**
      * Registers an observer with this adapter, to be notified of data set changes.
      * <p>
@@ -253,6 +283,29 @@ public abstract class PowerAdapter {
         mDataObservable.notifyItemRangeChanged(positionStart, itemCount);
     }
 
+    /**
+     * Notify any registered observers that the item at <code>position</code> has changed, with a payload describing
+     * the change.
+     * @see #notifyItemRangeChanged(int, int, Object)
+     */
+    protected final void notifyItemChanged(int position, @Nullable Object payload) {
+        mDataObservable.notifyItemChanged(position, payload);
+    }
+
+    /**
+     * Notify any registered observers that the <code>itemCount</code> items starting at
+     * position <code>positionStart</code> have changed, with a payload describing the change. Observers that support
+     * payloads can then partially rebind the items using {@link #bindView(View, Holder, List)}.
+     * <p>
+     * Equivalent to {@link #notifyItemRangeChanged(int, int)} if {@code payload} is {@code null}.
+     * @param positionStart Position of the first item that has changed
+     * @param itemCount Number of items that have changed
+     * @param payload Describes what changed, or {@code null} to indicate a full rebind is required.
+     */
+    protected final void notifyItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+        mDataObservable.notifyItemRangeChanged(positionStart, itemCount, payload);
+    }
+
     /**
      * Notify any registered observers that the item reflected at <code>position</code>
      * has been newly inserted. The item previously at <code>position</code> is now at
@@ -1,10 +1,12 @@
 package com.nextfaze.poweradapters;
 
 import android.support.annotation.CallSuper;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import lombok.NonNull;
 
+import java.util.List;
 import java.util.WeakHashMap;
 
 public class PowerAdapterWrapper extends PowerAdapter {
@@ -16,7 +18,7 @@ public class PowerAdapterWrapper extends PowerAdapter {
     private final PowerAdapter mAdapter;
 
     @NonNull
-    private final DataObserver mDataSetObserver = new DataObserver() {
+    private final DataObserver mDataSetObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
             forwardChanged();
@@ -24,7 +26,12 @@ public class PowerAdapterWrapper extends PowerAdapter {
 
         @Override
         public void onItemRangeChanged(int positionStart, int itemCount) {
-            forwardItemRangeChanged(positionStart, itemCount);
+            forwardItemRangeChanged(positionStart, itemCount, null);
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            forwardItemRangeChanged(positionStart, itemCount, payload);
         }
 
         @Override
@@ -101,6 +108,21 @@ public class PowerAdapterWrapper extends PowerAdapter {
 
     @Override
     public void bindView(@NonNull View view, @NonNull Holder holder) {
+        mAdapter.bindView(view, wrapHolder(holder));
+    }
+
+    @Override
+    public void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        mAdapter.bindView(view, wrapHolder(holder), payloads);
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        return mAdapter.bindViewMinimal(view, wrapHolder(holder));
+    }
+
+    @NonNull
+    private Holder wrapHolder(@NonNull Holder holder) {
         HolderWrapper holderWrapper = mHolders.get(holder);
         if (holderWrapper == null) {
             holderWrapper = new HolderWrapper(holder) {
@@ -111,7 +133,7 @@ public class PowerAdapterWrapper extends PowerAdapter {
             };
             mHolders.put(holder, holderWrapper);
         }
-        mAdapter.bindView(view, holderWrapper);
+        return holderWrapper;
     }
 
     /**
@@ -160,6 +182,16 @@ public class PowerAdapterWrapper extends PowerAdapter {
         notifyItemRangeChanged(innerToOuter(innerPositionStart), innerItemCount);
     }
 
+    /**
+     * Forwards a change accompanied by a payload. By default, discards the payload and delegates to {@link
+     * #forwardItemRangeChanged(int, int)}, so subclasses overriding only that method still see every change. Override
+     * this method to forward payloads.
+     * @param payload The payload of the change, or {@code null} if none was supplied.
+     */
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        forwardItemRangeChanged(innerPositionStart, innerItemCount);
+    }
+
     protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
         notifyItemRangeInserted(innerToOuter(innerPositionStart), innerItemCount);
     }
@@ -1,5 +1,7 @@
 package com.nextfaze.poweradapters;
 
+import android.support.annotation.Nullable;
+
 /** Forwards fine-grained calls to {@link DataObserver#onChanged()} by default. */
 public abstract class SimpleDataObserver implements DataObserver {
     @Override
@@ -10,6 +12,16 @@ public abstract class SimpleDataObserver implements DataObserver {
         onChanged();
     }
 
+    /**
+     * Called instead of {@link #onItemRangeChanged(int, int)} when the change is accompanied by a payload, which
+     * describes what changed about the items so they can be partially rebound. Only observers extending this class
+     * receive payloads; plain {@link DataObserver} implementations receive {@link #onItemRangeChanged(int, int)}.
+     * By default, ignores the payload, forwarding to {@link #onItemRangeChanged(int, int)}.
+     */
+    public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+        onItemRangeChanged(positionStart, itemCount);
+    }
+
     @Override
     public void onItemRangeInserted(int positionStart, int itemCount) {
         onChanged();
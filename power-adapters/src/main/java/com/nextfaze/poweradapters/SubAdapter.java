@@ -1,8 +1,10 @@
 package com.nextfaze.poweradapters;
 
+import android.support.annotation.Nullable;
 import android.view.View;
 import lombok.NonNull;
 
+import java.util.List;
 import java.util.WeakHashMap;
 
 class SubAdapter extends PowerAdapterWrapper {
@@ -48,14 +50,34 @@ class SubAdapter extends PowerAdapterWrapper {
         return mOffset + innerPosition;
     }
 
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        notifyItemRangeChanged(innerToOuter(innerPositionStart), innerItemCount, payload);
+    }
+
     @Override
     public void bindView(@NonNull View view, @NonNull Holder holder) {
+        getAdapter().bindView(view, wrapHolder(holder));
+    }
+
+    @Override
+    public void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        getAdapter().bindView(view, wrapHolder(holder), payloads);
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        return getAdapter().bindViewMinimal(view, wrapHolder(holder));
+    }
+
+    @NonNull
+    private HolderWrapperImpl wrapHolder(@NonNull Holder holder) {
         HolderWrapperImpl holderWrapper = mHolders.get(holder);
         if (holderWrapper == null) {
             holderWrapper = new HolderWrapperImpl(holder);
             mHolders.put(holder, holderWrapper);
         }
-        getAdapter().bindView(view, holderWrapper);
+        return holderWrapper;
     }
 
     private final class HolderWrapperImpl extends HolderWrapper {
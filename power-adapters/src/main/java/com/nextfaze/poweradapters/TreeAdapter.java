@@ -6,10 +6,11 @@ import android.support.annotation.CallSuper;
 import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
+import com.nextfaze.poweradapters.internal.LongHashSet;
 import lombok.NonNull;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.List;
 import java.util.WeakHashMap;
 
 import static java.util.Collections.swap;
@@ -22,7 +23,7 @@ public final class TreeAdapter extends PowerAdapter {
         @Override
         public void onChanged() {
             rebuildAllEntriesAndRangeTable();
-            updateEntryAdapters();
+            updateEntryAdapters(0, mEntries.size());
             notifyDataSetChanged();
         }
 
@@ -31,20 +32,25 @@ public final class TreeAdapter extends PowerAdapter {
             for (int i = positionStart; i < positionStart + itemCount; i++) {
                 notifyItemChanged(rootToOuter(i));
                 Entry entry = mEntries.get(i);
-                entry.setAdapter(entry.getAdapter() != null ? getChildAdapter(i) : null);
+                entry.setAdapter(entry.isExpanded() ? getChildAdapter(i) : null);
             }
         }
 
         @Override
-        public void onItemRangeInserted(int positionStart, int itemCount) {
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            // A partial change doesn't affect the children, so they're retained.
             for (int i = positionStart; i < positionStart + itemCount; i++) {
-                addEntry(i);
+                notifyItemChanged(rootToOuter(i), payload);
             }
-            rebuildRangeTable();
-            notifyItemRangeInserted(rootToOuter(positionStart), itemCount);
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
             for (int i = positionStart; i < positionStart + itemCount; i++) {
-                mEntries.get(i).setAdapter(shouldExpand(i) ? getChildAdapter(i) : null);
+                addEntry(i);
             }
+            int insertCount = updateEntryAdapters(positionStart, itemCount);
+            notifyItemRangeInserted(rootToOuter(positionStart), insertCount);
         }
 
         @Override
@@ -113,6 +119,12 @@ public final class TreeAdapter extends PowerAdapter {
 
     private boolean mAutoExpand;
 
+    /**
+     * Whether entries are accumulating changes to their item counts, instead of rebuilding the range table and
+     * notifying for each change.
+     */
+    private boolean mBatching;
+
     public TreeAdapter(@NonNull PowerAdapter rootAdapter, @NonNull ChildAdapterSupplier childAdapterSupplier) {
         mRootAdapter = rootAdapter;
         mRootSubAdapter = new SubAdapter(rootAdapter, new SubAdapter.HolderTransform() {
@@ -137,7 +149,10 @@ public final class TreeAdapter extends PowerAdapter {
     public void restoreInstanceState(@Nullable Parcelable parcelable) {
         mState = parcelable instanceof TreeState ? (TreeState) parcelable : new TreeState();
         rebuildAllEntriesAndRangeTable();
-        updateEntryAdapters();
+        updateEntryAdapters(0, mEntries.size());
+        if (getObserverCount() > 0) {
+            notifyDataSetChanged();
+        }
     }
 
     public boolean isAutoExpand() {
@@ -153,21 +168,11 @@ public final class TreeAdapter extends PowerAdapter {
             return mState.isExpanded(mRootAdapter.getItemId(position));
         }
         Entry entry = mEntries.get(position);
-        return entry != null && entry.getAdapter() != null;
+        return entry != null && entry.isExpanded();
     }
 
     public void setExpanded(int position, boolean expanded) {
-        if (mRootAdapter.hasStableIds()) {
-            long itemId = mRootAdapter.getItemId(position);
-            mState.setExpanded(itemId, expanded);
-        }
-        if (position < mEntries.size()) {
-            Entry entry = mEntries.get(position);
-            boolean alreadyExpanded = entry.getAdapter() != null;
-            if (expanded != alreadyExpanded) {
-                entry.setAdapter(expanded ? getChildAdapter(position) : null);
-            }
-        }
+        setRangeExpanded(position, 1, expanded, false);
     }
 
     public boolean toggleExpanded(int position) {
@@ -177,8 +182,102 @@ public final class TreeAdapter extends PowerAdapter {
     }
 
     public void setAllExpanded(boolean expanded) {
-        for (int i = 0; i < mRootAdapter.getItemCount(); i++) {
-            setExpanded(i, expanded);
+        setAllExpanded(expanded, false);
+    }
+
+    /**
+     * Expands or collapses all root items.
+     * @param recursive If {@code true}, also applies to all descendants of child adapters that are themselves
+     * {@link TreeAdapter}s.
+     * @see #setRangeExpanded(int, int, boolean, boolean)
+     */
+    public void setAllExpanded(boolean expanded, boolean recursive) {
+        setRangeExpanded(0, mRootAdapter.getItemCount(), expanded, recursive);
+    }
+
+    /**
+     * Expands or collapses a range of root items in a single pass, rebuilding the index once. Observers receive at
+     * most one change and one insertion or removal, spanning the affected items. Child adapters aren't requested
+     * while this adapter has no observers; they're requested once it's observed.
+     * @param recursive If {@code true}, also applies to all descendants of child adapters that are themselves
+     * {@link TreeAdapter}s.
+     */
+    public void setRangeExpanded(int positionStart, int itemCount, boolean expanded, boolean recursive) {
+        boolean stableIds = mRootAdapter.hasStableIds();
+        boolean observed = getObserverCount() > 0;
+        // The first entry whose item count changed, and the total item counts from it until the last such entry.
+        int changeStart = -1;
+        int oldCount = 0;
+        int newCount = 0;
+        int oldRunningCount = 0;
+        int newRunningCount = 0;
+        mBatching = true;
+        try {
+            for (int i = positionStart; i < positionStart + itemCount; i++) {
+                if (stableIds) {
+                    mState.setExpanded(mRootAdapter.getItemId(i), expanded);
+                }
+                if (i >= mEntries.size()) {
+                    continue;
+                }
+                Entry entry = mEntries.get(i);
+                int oldEntryCount = entry.getItemCount();
+                // Collapse descendants first, so their state is recorded before they're discarded.
+                if (recursive && !expanded) {
+                    setDescendantsExpanded(entry, false);
+                }
+                if (expanded != entry.isExpanded()) {
+                    entry.setExpanded(expanded);
+                    entry.setAdapter(expanded && observed ? getChildAdapter(i) : null);
+                }
+                if (recursive && expanded) {
+                    setDescendantsExpanded(entry, true);
+                }
+                int newEntryCount = entry.getItemCount();
+                if (changeStart < 0 && oldEntryCount != newEntryCount) {
+                    changeStart = i;
+                }
+                if (changeStart >= 0) {
+                    oldRunningCount += oldEntryCount;
+                    newRunningCount += newEntryCount;
+                    if (oldEntryCount != newEntryCount) {
+                        oldCount = oldRunningCount;
+                        newCount = newRunningCount;
+                    }
+                }
+            }
+        } finally {
+            mBatching = false;
+        }
+        if (changeStart >= 0) {
+            // Offsets up to and including the first changed entry are unaffected.
+            int outerStart = rootToOuter(changeStart);
+            rebuildRangeTable();
+            notifyRangeReplaced(outerStart, oldCount, newCount);
+        }
+    }
+
+    private static void setDescendantsExpanded(@NonNull Entry entry, boolean expanded) {
+        PowerAdapter adapter = entry.getAdapter();
+        if (adapter instanceof TreeAdapter) {
+            ((TreeAdapter) adapter).setAllExpanded(expanded, true);
+        }
+    }
+
+    /**
+     * Notifies that {@code oldCount} items starting at {@code outerStart} were replaced with {@code newCount} items.
+     * The first item, being a root item, is retained.
+     */
+    private void notifyRangeReplaced(int outerStart, int oldCount, int newCount) {
+        int commonCount = Math.min(oldCount, newCount);
+        // Structural change first, so the item count is consistent by the time of the change notification.
+        if (newCount > oldCount) {
+            notifyItemRangeInserted(outerStart + commonCount, newCount - oldCount);
+        } else if (oldCount > newCount) {
+            notifyItemRangeRemoved(outerStart + commonCount, oldCount - newCount);
+        }
+        if (commonCount > 1) {
+            notifyItemRangeChanged(outerStart + 1, commonCount - 1);
         }
     }
 
@@ -235,17 +334,26 @@ public final class TreeAdapter extends PowerAdapter {
         outerToAdapter(holder.getPosition()).bindView(view, holder);
     }
 
+    @Override
+    public void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        outerToAdapter(holder.getPosition()).bindView(view, holder, payloads);
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        return outerToAdapter(holder.getPosition()).bindViewMinimal(view, holder);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
         super.onFirstObserverRegistered();
-        int insertCount = mRootAdapter.getItemCount();
         mRootAdapter.registerDataObserver(mRootDataObserver);
         rebuildAllEntriesAndRangeTable();
+        int insertCount = updateEntryAdapters(0, mEntries.size());
         if (insertCount > 0) {
             notifyItemRangeInserted(0, insertCount);
         }
-        updateEntryAdapters();
         updateEntryObservers();
     }
 
@@ -301,10 +409,28 @@ public final class TreeAdapter extends PowerAdapter {
         mRangeTable.rebuild(mShadowRangeClient);
     }
 
-    private void updateEntryAdapters() {
-        for (int i = 0; i < mEntries.size(); i++) {
-            mEntries.get(i).setAdapter(shouldExpand(i) ? getChildAdapter(i) : null);
+    /**
+     * Assigns the child adapters of a range of entries according to their expansion state, without notifying, then
+     * rebuilds the range table.
+     * @return The total item count of the entries.
+     */
+    private int updateEntryAdapters(int positionStart, int itemCount) {
+        boolean observed = getObserverCount() > 0;
+        int totalCount = 0;
+        mBatching = true;
+        try {
+            for (int i = positionStart; i < positionStart + itemCount; i++) {
+                Entry entry = mEntries.get(i);
+                boolean expanded = shouldExpand(i);
+                entry.setExpanded(expanded);
+                entry.setAdapter(expanded && observed ? getChildAdapter(i) : null);
+                totalCount += entry.getItemCount();
+            }
+        } finally {
+            mBatching = false;
         }
+        rebuildRangeTable();
+        return totalCount;
     }
 
     private void updateEntryObservers() {
@@ -355,36 +481,53 @@ public final class TreeAdapter extends PowerAdapter {
     private final class Entry {
 
         @NonNull
-        private final DataObserver mDataObserver = new DataObserver() {
+        private final DataObserver mDataObserver = new SimpleDataObserver() {
             @Override
             public void onChanged() {
                 mShadowItemCount = mAdapter.getItemCount();
-                rebuildRangeTable();
-                notifyDataSetChanged();
+                if (!mBatching) {
+                    rebuildRangeTable();
+                    notifyDataSetChanged();
+                }
             }
 
             @Override
             public void onItemRangeChanged(int positionStart, int itemCount) {
-                notifyItemRangeChanged(positionStart, itemCount);
+                if (!mBatching) {
+                    notifyItemRangeChanged(positionStart, itemCount);
+                }
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+                if (!mBatching) {
+                    notifyItemRangeChanged(positionStart, itemCount, payload);
+                }
             }
 
             @Override
             public void onItemRangeInserted(int positionStart, int itemCount) {
                 mShadowItemCount += itemCount;
-                rebuildRangeTable();
-                notifyItemRangeInserted(positionStart, itemCount);
+                if (!mBatching) {
+                    rebuildRangeTable();
+                    notifyItemRangeInserted(positionStart, itemCount);
+                }
             }
 
             @Override
             public void onItemRangeRemoved(int positionStart, int itemCount) {
                 mShadowItemCount -= itemCount;
-                rebuildRangeTable();
-                notifyItemRangeRemoved(positionStart, itemCount);
+                if (!mBatching) {
+                    rebuildRangeTable();
+                    notifyItemRangeRemoved(positionStart, itemCount);
+                }
             }
 
             @Override
             public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
-                notifyItemRangeMoved(fromPosition, toPosition, itemCount);
+                if (!mBatching) {
+                    notifyItemRangeMoved(fromPosition, toPosition, itemCount);
+                }
             }
         };
 
@@ -396,6 +539,9 @@ public final class TreeAdapter extends PowerAdapter {
 
         private boolean mObserving;
 
+        /** Whether expanded, even if the child adapter hasn't yet been requested. */
+        private boolean mExpanded;
+
         private int mShadowItemCount;
 
         private int mOffset;
@@ -415,6 +561,14 @@ public final class TreeAdapter extends PowerAdapter {
             return mDelegateAdapter.getDelegate();
         }
 
+        boolean isExpanded() {
+            return mExpanded;
+        }
+
+        void setExpanded(boolean expanded) {
+            mExpanded = expanded;
+        }
+
         int getOffset() {
             return mOffset;
         }
@@ -476,15 +630,14 @@ public final class TreeAdapter extends PowerAdapter {
         };
 
         @NonNull
-        private final HashSet<Long> mExpanded;
+        private final LongHashSet mExpanded;
 
         TreeState(@NonNull Parcel parcel) {
-            //noinspection unchecked
-            mExpanded = (HashSet<Long>) parcel.readSerializable();
+            mExpanded = LongHashSet.fromCompressedBytes(parcel.createByteArray());
         }
 
         TreeState() {
-            mExpanded = new HashSet<>();
+            mExpanded = new LongHashSet();
         }
 
         void setExpanded(long itemId, boolean expanded) {
@@ -520,7 +673,8 @@ public final class TreeAdapter extends PowerAdapter {
 
         @Override
         public void writeToParcel(@NonNull Parcel parcel, int flags) {
-            parcel.writeSerializable(mExpanded);
+            // Sorted and delta encoded, which is far more compact than serialization for large trees.
+            parcel.writeByteArray(mExpanded.toCompressedBytes());
         }
     }
 
@@ -5,6 +5,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import lombok.NonNull;
 
+import java.util.List;
 import java.util.WeakHashMap;
 
 import static android.view.View.GONE;
@@ -111,15 +112,38 @@ final class WrappingDividerAdapter extends PowerAdapterWrapper {
 
     @Override
     public void bindView(@NonNull View view, @NonNull Holder holder) {
+        View childView = bindDividers(view, holder);
+        if (childView != null) {
+            super.bindView(childView, holder);
+        }
+    }
+
+    @Override
+    public void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        View childView = bindDividers(view, holder);
+        if (childView != null) {
+            super.bindView(childView, holder, payloads);
+        }
+    }
+
+    @Override
+    public boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        View childView = bindDividers(view, holder);
+        return childView != null && super.bindViewMinimal(childView, holder);
+    }
+
+    /** Updates the dividers of the wrapping view, returning the wrapped item view, or {@code null} if none. */
+    @Nullable
+    private View bindDividers(@NonNull View view, @NonNull Holder holder) {
         int position = holder.getPosition();
         int innerItemCount = super.getItemCount();
         if (innerItemCount == 0 && (isLeadingVisible(innerItemCount) || isTrailingVisible(innerItemCount))) {
-            return;
+            return null;
         }
         ViewGroup viewGroup = (ViewGroup) view;
         DividerViewHolder dividerViewHolder = mViewMetadata.get(viewGroup);
         dividerViewHolder.updateDividers(position);
-        super.bindView(dividerViewHolder.mChildView, holder);
+        return dividerViewHolder.mChildView;
     }
 
     @Override
@@ -182,6 +206,11 @@ final class WrappingDividerAdapter extends PowerAdapterWrapper {
         notifyDataSetChanged();
     }
 
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        notifyItemRangeChanged(innerToOuter(innerPositionStart), innerItemCount, payload);
+    }
+
     @Override
     protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
         final int innerTotalCountAfter = super.getItemCount();
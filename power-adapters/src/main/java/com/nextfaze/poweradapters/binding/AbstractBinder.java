@@ -1,12 +1,18 @@
 package com.nextfaze.poweradapters.binding;
 
 import android.support.annotation.LayoutRes;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import android.support.annotation.WorkerThread;
 import android.view.View;
 import android.view.ViewGroup;
+import com.nextfaze.poweradapters.Holder;
 import com.nextfaze.poweradapters.PowerAdapter;
 import com.nextfaze.poweradapters.ViewFactory;
 import lombok.NonNull;
 
+import java.util.List;
+
 import static com.nextfaze.poweradapters.ViewFactories.asViewFactory;
 
 public abstract class AbstractBinder<T, V extends View> implements Binder<T, V> {
@@ -28,6 +34,62 @@ public abstract class AbstractBinder<T, V extends View> implements Binder<T, V>
         return mViewFactory.create(parent);
     }
 
+    /**
+     * Partially rebinds the specified object to the specified {@link View}, which is already bound to the same object.
+     * By default, performs a full bind using {@link #bindView(Object, View, Holder)}.
+     * @param payloads The payloads of the change notifications received since the view was last bound. Never empty.
+     * @see PowerAdapter#bindView(View, Holder, List)
+     */
+    public void bindView(@NonNull T t, @NonNull V v, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        bindView(t, v, holder);
+    }
+
+    /**
+     * Binds only what's essential for the object to be recognizable, such as while flinging. By default, performs a
+     * full bind using {@link #bindView(Object, View, Holder)}.
+     * @return {@code true} if the bind was minimal, in which case a full bind follows once the view settles.
+     * @see PowerAdapter#bindViewMinimal(View, Holder)
+     */
+    protected boolean bindViewMinimal(@NonNull T t, @NonNull V v, @NonNull Holder holder) {
+        bindView(t, v, holder);
+        return false;
+    }
+
+    /**
+     * Performs the expensive work of binding the specified object that doesn't involve a view, such as formatting or
+     * text layout. May be invoked on a background thread ahead of binding, so must not access views or any state
+     * that isn't thread-safe. By default, returns {@code null}, meaning items aren't prepared.
+     * @param t The item object to be prepared.
+     * @return The prepared result, which is later passed to {@link #bindPrepared(Object, View, Holder, Object)}, or
+     * {@code null} if this binder doesn't prepare items.
+     */
+    @WorkerThread
+    @Nullable
+    public Object prepare(@NonNull T t) {
+        return null;
+    }
+
+    /**
+     * Returns a key representing the state of the specified object that {@link #prepare(Object)} depends on. A
+     * prepared result is only reused while the item is equal to the one prepared, and its key is equal to the key it
+     * had when prepared. Override this if items are mutated in place, such as by returning a version number or
+     * modification time, as equality alone can't detect those changes. By default, returns {@code null}.
+     */
+    @UiThread
+    @Nullable
+    public Object getPrepareKey(@NonNull T t) {
+        return null;
+    }
+
+    /**
+     * Bind the specified object to the specified {@link View}, using the result of {@link #prepare(Object)}. By
+     * default, performs a full bind using {@link #bindView(Object, View, Holder)}.
+     * @param prepared The non-null result of preparing an item equal to {@code t}.
+     */
+    public void bindPrepared(@NonNull T t, @NonNull V v, @NonNull Holder holder, @NonNull Object prepared) {
+        bindView(t, v, holder);
+    }
+
     @Override
     public boolean isEnabled(@NonNull T t, int position) {
         return true;
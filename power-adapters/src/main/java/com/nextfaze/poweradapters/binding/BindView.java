@@ -0,0 +1,25 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.support.annotation.IdRes;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Binds a field of a {@link ViewHolder} subclass to the view with the specified id. The {@code power-adapters-compiler}
+ * annotation processor generates a subclass named {@code <ViewHolder>_ViewHolder} that assigns the annotated fields
+ * when constructed, so {@link ViewHolderBinder#newViewHolder(android.view.View)} can simply instantiate it.
+ * <p>
+ * Annotated fields must not be {@code private} or {@code static}. The annotated class must not be {@code private} or
+ * {@code final}, and must have a non-private constructor accepting a single {@link android.view.View}.
+ */
+@Retention(CLASS)
+@Target(FIELD)
+public @interface BindView {
+    /** The id of the view. Must be a constant, so ids from library projects can't be used. */
+    @IdRes
+    int value();
+}
@@ -1,14 +1,22 @@
 package com.nextfaze.poweradapters.binding;
 
 import android.support.annotation.LayoutRes;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.ViewFactory;
 import lombok.NonNull;
 
+import java.util.List;
+
 import static com.nextfaze.poweradapters.internal.AdapterUtils.layoutInflater;
 
-public abstract class BinderWrapper<T, V extends View> implements Binder<T, V> {
+/**
+ * Forwards all calls to a wrapped {@link Binder}. Extends {@link AbstractBinder} so the methods it adds to {@link
+ * Binder} are forwarded too.
+ */
+public abstract class BinderWrapper<T, V extends View> extends AbstractBinder<T, V> {
 
     @NonNull
     private final Binder<? super T, ? super V> mBinder;
@@ -28,7 +36,14 @@ public abstract class BinderWrapper<T, V extends View> implements Binder<T, V> {
         };
     }
 
-    protected BinderWrapper(@NonNull Binder<? super T, ? super V> binder) {
+    protected BinderWrapper(@NonNull final Binder<? super T, ? super V> binder) {
+        super(new ViewFactory() {
+            @NonNull
+            @Override
+            public View create(@NonNull ViewGroup parent) {
+                return binder.newView(parent);
+            }
+        });
         mBinder = binder;
     }
 
@@ -43,6 +58,33 @@ public abstract class BinderWrapper<T, V extends View> implements Binder<T, V> {
         mBinder.bindView(t, v, holder);
     }
 
+    @Override
+    public void bindView(@NonNull T t, @NonNull V v, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        Binders.bindView(mBinder, t, v, holder, payloads);
+    }
+
+    @Override
+    protected boolean bindViewMinimal(@NonNull T t, @NonNull V v, @NonNull Holder holder) {
+        return Binders.bindViewMinimal(mBinder, t, v, holder);
+    }
+
+    @Nullable
+    @Override
+    public Object prepare(@NonNull T t) {
+        return Binders.prepare(mBinder, t);
+    }
+
+    @Nullable
+    @Override
+    public Object getPrepareKey(@NonNull T t) {
+        return Binders.getPrepareKey(mBinder, t);
+    }
+
+    @Override
+    public void bindPrepared(@NonNull T t, @NonNull V v, @NonNull Holder holder, @NonNull Object prepared) {
+        Binders.bindPrepared(mBinder, t, v, holder, prepared);
+    }
+
     @Override
     public boolean isEnabled(@NonNull T t, int position) {
         return mBinder.isEnabled(t, position);
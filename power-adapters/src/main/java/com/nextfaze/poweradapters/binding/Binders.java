@@ -0,0 +1,71 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.support.annotation.Nullable;
+import android.view.View;
+import com.nextfaze.poweradapters.Holder;
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Invokes the binding methods {@link AbstractBinder} adds to {@link Binder}, falling back to their default behavior for
+ * binders that implement the interface directly.
+ */
+final class Binders {
+
+    private Binders() {
+        throw new AssertionError();
+    }
+
+    static <T, V extends View> void bindView(@NonNull Binder<? super T, ? super V> binder,
+                                             @NonNull T t,
+                                             @NonNull V v,
+                                             @NonNull Holder holder,
+                                             @NonNull List<Object> payloads) {
+        if (binder instanceof AbstractBinder) {
+            ((AbstractBinder<? super T, ? super V>) binder).bindView(t, v, holder, payloads);
+        } else {
+            binder.bindView(t, v, holder);
+        }
+    }
+
+    /** Returns {@code true} if the bind was minimal. */
+    static <T, V extends View> boolean bindViewMinimal(@NonNull Binder<? super T, ? super V> binder,
+                                                       @NonNull T t,
+                                                       @NonNull V v,
+                                                       @NonNull Holder holder) {
+        if (binder instanceof AbstractBinder) {
+            return ((AbstractBinder<? super T, ? super V>) binder).bindViewMinimal(t, v, holder);
+        }
+        binder.bindView(t, v, holder);
+        return false;
+    }
+
+    @Nullable
+    static <T> Object prepare(@NonNull Binder<? super T, ?> binder, @NonNull T t) {
+        if (binder instanceof AbstractBinder) {
+            return ((AbstractBinder<? super T, ?>) binder).prepare(t);
+        }
+        return null;
+    }
+
+    @Nullable
+    static <T> Object getPrepareKey(@NonNull Binder<? super T, ?> binder, @NonNull T t) {
+        if (binder instanceof AbstractBinder) {
+            return ((AbstractBinder<? super T, ?>) binder).getPrepareKey(t);
+        }
+        return null;
+    }
+
+    static <T, V extends View> void bindPrepared(@NonNull Binder<? super T, ? super V> binder,
+                                                 @NonNull T t,
+                                                 @NonNull V v,
+                                                 @NonNull Holder holder,
+                                                 @NonNull Object prepared) {
+        if (binder instanceof AbstractBinder) {
+            ((AbstractBinder<? super T, ? super V>) binder).bindPrepared(t, v, holder, prepared);
+        } else {
+            binder.bindView(t, v, holder);
+        }
+    }
+}
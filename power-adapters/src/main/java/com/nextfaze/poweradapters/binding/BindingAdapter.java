@@ -1,11 +1,15 @@
 package com.nextfaze.poweradapters.binding;
 
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.Holder;
 import com.nextfaze.poweradapters.PowerAdapter;
 import lombok.NonNull;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 public abstract class BindingAdapter extends PowerAdapter {
 
     @NonNull
@@ -18,6 +22,11 @@ public abstract class BindingAdapter extends PowerAdapter {
             public Object get(int position) {
                 return getItem(position);
             }
+
+            @Override
+            public int size() {
+                return getItemCount();
+            }
         });
     }
 
@@ -35,6 +44,16 @@ public abstract class BindingAdapter extends PowerAdapter {
         mEngine.bindView(view, holder);
     }
 
+    @Override
+    public final void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        mEngine.bindView(view, holder, payloads);
+    }
+
+    @Override
+    public final boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        return mEngine.bindViewMinimal(view, holder);
+    }
+
     @NonNull
     @Override
     public final Object getItemViewType(int position) {
@@ -55,4 +74,28 @@ public abstract class BindingAdapter extends PowerAdapter {
     public final boolean hasStableIds() {
         return mEngine.hasStableIds();
     }
+
+    /**
+     * Sets the executor on which items are prepared using {@link AbstractBinder#prepare(Object)} ahead of being
+     * bound, for items about to be bound in the direction of scrolling. Only items with stable ids are prepared ahead
+     * of time, and their results are cached by id. If {@code null}, the default, items are prepared inline as
+     * they're bound.
+     */
+    public final void setPrepareExecutor(@Nullable Executor prepareExecutor) {
+        mEngine.setPrepareExecutor(prepareExecutor);
+    }
+
+    public final int getPrepareDistance() {
+        return mEngine.getPrepareDistance();
+    }
+
+    /** Sets the number of items ahead of the bound item that are prepared. Defaults to {@code 5}. */
+    public final void setPrepareDistance(int prepareDistance) {
+        mEngine.setPrepareDistance(prepareDistance);
+    }
+
+    /** Sets the maximum number of prepared results retained. Defaults to {@code 64}. */
+    public final void setPreparedCacheSize(int preparedCacheSize) {
+        mEngine.setPreparedCacheSize(preparedCacheSize);
+    }
 }
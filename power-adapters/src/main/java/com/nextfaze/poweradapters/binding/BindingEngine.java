@@ -1,14 +1,33 @@
 package com.nextfaze.poweradapters.binding;
 
+import android.os.Handler;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.internal.LongHashSet;
 import lombok.NonNull;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+
+import static android.os.Looper.getMainLooper;
+import static com.nextfaze.poweradapters.PowerAdapter.NO_ID;
 
 final class BindingEngine {
 
+    private static final String TAG = BindingEngine.class.getSimpleName();
+
+    private static final int DEFAULT_PREPARE_DISTANCE = 5;
+    private static final int DEFAULT_PREPARED_CACHE_SIZE = 64;
+
     @NonNull
     private final WeakHashMap<Object, Binder<?, ?>> mBinders = new WeakHashMap<>();
 
@@ -18,6 +37,32 @@ final class BindingEngine {
     @NonNull
     private final ItemAccessor mItemAccessor;
 
+    @NonNull
+    private final Handler mHandler = new Handler(getMainLooper());
+
+    /** Prepared results keyed by item id, in order of least recent use. */
+    @NonNull
+    private final LinkedHashMap<Long, Prepared> mPrepared = new LinkedHashMap<Long, Prepared>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Prepared> eldest) {
+            return size() > mPreparedCacheSize;
+        }
+    };
+
+    /** Ids of items currently being prepared on the executor. */
+    @NonNull
+    private final LongHashSet mPreparing = new LongHashSet();
+
+    @Nullable
+    private Executor mPrepareExecutor;
+
+    private int mPrepareDistance = DEFAULT_PREPARE_DISTANCE;
+
+    private int mPreparedCacheSize = DEFAULT_PREPARED_CACHE_SIZE;
+
+    /** Position most recently bound, used to determine which direction to prepare ahead in. */
+    private int mLastBoundPosition = -1;
+
     BindingEngine(@NonNull Mapper mapper, @NonNull ItemAccessor itemAccessor) {
         mMapper = mapper;
         mItemAccessor = itemAccessor;
@@ -41,7 +86,49 @@ final class BindingEngine {
     void bindView(@NonNull View view, @NonNull Holder holder) {
         int position = holder.getPosition();
         Object item = getItem(position);
-        binderOrThrow(item, position).bindView(item, view, holder);
+        Binder<Object, View> binder = binderOrThrow(item, position);
+        Object prepared = prepared(binder, item, binder.getItemId(item, position));
+        if (prepared != null) {
+            Binders.bindPrepared(binder, item, view, holder, prepared);
+        } else {
+            binder.bindView(item, view, holder);
+        }
+        prepareAhead(position);
+    }
+
+    void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        int position = holder.getPosition();
+        Object item = getItem(position);
+        Binder<Object, View> binder = binderOrThrow(item, position);
+        Prepared prepared = cachedPrepared(binder, item, binder.getItemId(item, position));
+        if (prepared != null && prepared.mResult != null) {
+            // Avoid preparing inline again, which a full bind of a preparing binder would do.
+            Binders.bindPrepared(binder, item, view, holder, prepared.mResult);
+        } else {
+            Binders.bindView(binder, item, view, holder, payloads);
+        }
+    }
+
+    boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        int position = holder.getPosition();
+        Object item = getItem(position);
+        Binder<Object, View> binder = binderOrThrow(item, position);
+        long itemId = binder.getItemId(item, position);
+        boolean minimal;
+        Prepared prepared = cachedPrepared(binder, item, itemId);
+        if (prepared != null && prepared.mResult != null) {
+            // The expensive work is already done, so there's nothing to gain from a minimal bind.
+            Binders.bindPrepared(binder, item, view, holder, prepared.mResult);
+            minimal = false;
+        } else {
+            minimal = Binders.bindViewMinimal(binder, item, view, holder);
+            if (minimal && prepared == null) {
+                // Prepare in the background, so the full bind that follows doesn't have to.
+                prepareAsync(binder, item, itemId);
+            }
+        }
+        prepareAhead(position);
+        return minimal;
     }
 
     @NonNull
@@ -67,6 +154,99 @@ final class BindingEngine {
         return mMapper.hasStableIds();
     }
 
+    void setPrepareExecutor(@Nullable Executor prepareExecutor) {
+        mPrepareExecutor = prepareExecutor;
+    }
+
+    int getPrepareDistance() {
+        return mPrepareDistance;
+    }
+
+    void setPrepareDistance(int prepareDistance) {
+        if (prepareDistance < 0) {
+            throw new IllegalArgumentException("prepareDistance < 0");
+        }
+        mPrepareDistance = prepareDistance;
+    }
+
+    void setPreparedCacheSize(int preparedCacheSize) {
+        if (preparedCacheSize < 0) {
+            throw new IllegalArgumentException("preparedCacheSize < 0");
+        }
+        mPreparedCacheSize = preparedCacheSize;
+        trimPrepared();
+    }
+
+    /** Returns the prepared result for the item, preparing it inline if a result isn't already cached. */
+    @Nullable
+    private Object prepared(@NonNull Binder<Object, View> binder, @NonNull Object item, long itemId) {
+        if (itemId == NO_ID) {
+            return Binders.prepare(binder, item);
+        }
+        Prepared prepared = cachedPrepared(binder, item, itemId);
+        if (prepared != null) {
+            return prepared.mResult;
+        }
+        Object key = Binders.getPrepareKey(binder, item);
+        Object result = Binders.prepare(binder, item);
+        // Without an executor, there's no preparing ahead to avoid, so only non-null results are worth caching.
+        if (result != null || mPrepareExecutor != null) {
+            mPrepared.put(itemId, new Prepared(binder, item, key, result));
+        }
+        return result;
+    }
+
+    /** Returns the cached prepared result for the item, or {@code null} if there isn't one. */
+    @Nullable
+    private Prepared cachedPrepared(@NonNull Binder<Object, View> binder, @NonNull Object item, long itemId) {
+        if (itemId == NO_ID) {
+            return null;
+        }
+        Prepared prepared = mPrepared.get(itemId);
+        return prepared != null && prepared.isFor(binder, item, Binders.getPrepareKey(binder, item)) ? prepared : null;
+    }
+
+    /** Schedules preparation of the items ahead of the specified position, in the direction binding is moving. */
+    private void prepareAhead(int position) {
+        int direction = position >= mLastBoundPosition ? 1 : -1;
+        mLastBoundPosition = position;
+        if (mPrepareExecutor == null) {
+            return;
+        }
+        int itemCount = mItemAccessor.size();
+        for (int distance = 1; distance <= mPrepareDistance; distance++) {
+            int aheadPosition = position + distance * direction;
+            if (aheadPosition < 0 || aheadPosition >= itemCount) {
+                break;
+            }
+            Object item = getItem(aheadPosition);
+            //noinspection unchecked
+            Binder<Object, View> binder = (Binder<Object, View>) mMapper.getBinder(item, aheadPosition);
+            if (binder != null) {
+                prepareAsync(binder, item, binder.getItemId(item, aheadPosition));
+            }
+        }
+    }
+
+    /** Schedules preparation of the item on the executor, unless it's already prepared or being prepared. */
+    private void prepareAsync(@NonNull Binder<Object, View> binder, @NonNull Object item, long itemId) {
+        Executor executor = mPrepareExecutor;
+        if (executor == null || itemId == NO_ID || mPreparing.contains(itemId) ||
+                cachedPrepared(binder, item, itemId) != null) {
+            return;
+        }
+        mPreparing.add(itemId);
+        executor.execute(new PrepareTask(binder, item, Binders.getPrepareKey(binder, item), itemId));
+    }
+
+    private void trimPrepared() {
+        int excess = mPrepared.size() - mPreparedCacheSize;
+        for (Iterator<Prepared> it = mPrepared.values().iterator(); excess > 0 && it.hasNext(); excess--) {
+            it.next();
+            it.remove();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @NonNull
     private Binder<Object, View> binderOrThrow(@NonNull Object item, int position) {
@@ -76,4 +256,86 @@ final class BindingEngine {
         }
         return binder;
     }
+
+    private static final class Prepared {
+
+        @NonNull
+        final Binder<?, ?> mBinder;
+
+        @NonNull
+        final Object mItem;
+
+        @Nullable
+        final Object mKey;
+
+        @Nullable
+        final Object mResult;
+
+        Prepared(@NonNull Binder<?, ?> binder, @NonNull Object item, @Nullable Object key, @Nullable Object result) {
+            mBinder = binder;
+            mItem = item;
+            mKey = key;
+            mResult = result;
+        }
+
+        /**
+         * Results are reused only while the item is unchanged, since the id alone doesn't reflect modifications. The
+         * key detects modifications made in place, which leave the item equal to itself.
+         */
+        boolean isFor(@NonNull Binder<?, ?> binder, @NonNull Object item, @Nullable Object key) {
+            return mBinder == binder && mItem.equals(item) && (mKey == null ? key == null : mKey.equals(key));
+        }
+    }
+
+    private final class PrepareTask implements Runnable {
+
+        @NonNull
+        private final Binder<Object, View> mBinder;
+
+        @NonNull
+        private final Object mItem;
+
+        /** Captured when scheduled, since the item may be modified while it's being prepared. */
+        @Nullable
+        private final Object mKey;
+
+        private final long mItemId;
+
+        PrepareTask(@NonNull Binder<Object, View> binder, @NonNull Object item, @Nullable Object key, long itemId) {
+            mBinder = binder;
+            mItem = item;
+            mKey = key;
+            mItemId = itemId;
+        }
+
+        @WorkerThread
+        @Override
+        public void run() {
+            Object result = null;
+            boolean success = false;
+            try {
+                result = Binders.prepare(mBinder, mItem);
+                success = true;
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Error preparing " + mItem, e);
+            }
+            final Object finalResult = result;
+            final boolean finalSuccess = success;
+            mHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    complete(finalResult, finalSuccess);
+                }
+            });
+        }
+
+        @UiThread
+        void complete(@Nullable Object result, boolean success) {
+            mPreparing.remove(mItemId);
+            // On failure, the item is prepared inline when bound instead.
+            if (success) {
+                mPrepared.put(mItemId, new Prepared(mBinder, mItem, mKey, result));
+            }
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package com.nextfaze.poweradapters.binding;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Generates a {@link Mapper} that dispatches to the specified binders based on the item type of each. The {@code
+ * power-adapters-compiler} annotation processor generates a class named {@code <AnnotatedType>_Mapper}, whose
+ * constructor accepts an instance of each binder, in the order specified. Unlike {@link MapperBuilder}, the
+ * dispatch is resolved at compile time into a sequence of {@code instanceof} checks.
+ * <p>
+ * Each binder class must not be generic, and must specify the item type argument of {@link Binder}. Binders are
+ * checked in order, so a binder whose item type is a subtype of an earlier binder's is reported as an error.
+ */
+@Retention(CLASS)
+@Target(TYPE)
+public @interface GenerateMapper {
+    /** The binder classes, in order of precedence. */
+    Class<? extends Binder<?, ?>>[] value();
+}
@@ -5,4 +5,6 @@ import lombok.NonNull;
 interface ItemAccessor {
     @NonNull
     Object get(int position);
+
+    int size();
 }
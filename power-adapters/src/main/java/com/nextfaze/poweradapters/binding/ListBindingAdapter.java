@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.binding;
 
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.Holder;
@@ -8,6 +9,7 @@ import lombok.NonNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static com.nextfaze.poweradapters.binding.Mappers.singletonMapper;
 
@@ -41,6 +43,11 @@ public final class ListBindingAdapter<E> extends ListAdapter<E> {
             public Object get(int position) {
                 return ListBindingAdapter.this.get(position);
             }
+
+            @Override
+            public int size() {
+                return ListBindingAdapter.this.size();
+            }
         };
         mEngine = new BindingEngine(mapper, itemAccessor);
     }
@@ -56,6 +63,16 @@ public final class ListBindingAdapter<E> extends ListAdapter<E> {
         mEngine.bindView(view, holder);
     }
 
+    @Override
+    public final void bindView(@NonNull View view, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        mEngine.bindView(view, holder, payloads);
+    }
+
+    @Override
+    public final boolean bindViewMinimal(@NonNull View view, @NonNull Holder holder) {
+        return mEngine.bindViewMinimal(view, holder);
+    }
+
     @NonNull
     @Override
     public final Object getItemViewType(int position) {
@@ -76,4 +93,28 @@ public final class ListBindingAdapter<E> extends ListAdapter<E> {
     public final boolean hasStableIds() {
         return mEngine.hasStableIds();
     }
+
+    /**
+     * Sets the executor on which items are prepared using {@link AbstractBinder#prepare(Object)} ahead of being
+     * bound, for items about to be bound in the direction of scrolling. Only items with stable ids are prepared ahead
+     * of time, and their results are cached by id. If {@code null}, the default, items are prepared inline as
+     * they're bound.
+     */
+    public final void setPrepareExecutor(@Nullable Executor prepareExecutor) {
+        mEngine.setPrepareExecutor(prepareExecutor);
+    }
+
+    public final int getPrepareDistance() {
+        return mEngine.getPrepareDistance();
+    }
+
+    /** Sets the number of items ahead of the bound item that are prepared. Defaults to {@code 5}. */
+    public final void setPrepareDistance(int prepareDistance) {
+        mEngine.setPrepareDistance(prepareDistance);
+    }
+
+    /** Sets the maximum number of prepared results retained. Defaults to {@code 64}. */
+    public final void setPreparedCacheSize(int preparedCacheSize) {
+        mEngine.setPreparedCacheSize(preparedCacheSize);
+    }
 }
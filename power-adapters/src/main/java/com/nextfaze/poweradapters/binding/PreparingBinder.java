@@ -0,0 +1,49 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.support.annotation.LayoutRes;
+import android.support.annotation.WorkerThread;
+import android.view.View;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.ViewFactory;
+import lombok.NonNull;
+
+/**
+ * A binder that splits binding into a {@link #prepare(Object)} stage, which computes a result without touching any
+ * views, and a {@link #bindPreparedView(Object, View, Holder, Object)} stage that applies it. Binding adapters can
+ * then prepare items ahead of time on a background thread.
+ * @param <P> The type of prepared result.
+ * @see BindingAdapter#setPrepareExecutor(java.util.concurrent.Executor)
+ */
+public abstract class PreparingBinder<T, V extends View, P> extends AbstractBinder<T, V> {
+
+    protected PreparingBinder(@LayoutRes int layoutResource) {
+        super(layoutResource);
+    }
+
+    protected PreparingBinder(@NonNull ViewFactory viewFactory) {
+        super(viewFactory);
+    }
+
+    @WorkerThread
+    @NonNull
+    @Override
+    public abstract P prepare(@NonNull T t);
+
+    /** Prepares the item inline, since no prepared result was available. */
+    @Override
+    public final void bindView(@NonNull T t, @NonNull V v, @NonNull Holder holder) {
+        bindPreparedView(t, v, holder, prepare(t));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final void bindPrepared(@NonNull T t, @NonNull V v, @NonNull Holder holder, @NonNull Object prepared) {
+        bindPreparedView(t, v, holder, (P) prepared);
+    }
+
+    /**
+     * Bind the specified object to the specified {@link View}, using the result of {@link #prepare(Object)}.
+     * @see Binder#bindView(Object, View, Holder)
+     */
+    protected abstract void bindPreparedView(@NonNull T t, @NonNull V v, @NonNull Holder holder, @NonNull P prepared);
+}
@@ -7,6 +7,8 @@ import com.nextfaze.poweradapters.ViewFactory;
 import com.nextfaze.poweradapters.internal.WeakMap;
 import lombok.NonNull;
 
+import java.util.List;
+
 import static com.nextfaze.poweradapters.ViewFactories.asViewFactory;
 
 public abstract class ViewHolderBinder<T, H extends ViewHolder> extends AbstractBinder<T, View> {
@@ -35,13 +37,28 @@ public abstract class ViewHolderBinder<T, H extends ViewHolder> extends Abstract
 
     @Override
     public final void bindView(@NonNull T t, @NonNull View v, @NonNull Holder holder) {
+        //noinspection unchecked
+        bindViewHolder(t, viewHolder(v), holder);
+    }
+
+    @Override
+    public final void bindView(@NonNull T t, @NonNull View v, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        bindViewHolder(t, viewHolder(v), holder, payloads);
+    }
+
+    @Override
+    protected final boolean bindViewMinimal(@NonNull T t, @NonNull View v, @NonNull Holder holder) {
+        return bindViewHolderMinimal(t, viewHolder(v), holder);
+    }
+
+    @NonNull
+    private H viewHolder(@NonNull View v) {
         H h = mViewHolders.get(v);
         if (h == null) {
             h = newViewHolder(v);
             mViewHolders.put(v, h);
         }
-        //noinspection unchecked
-        bindViewHolder(t, h, holder);
+        return h;
     }
 
     @Override
@@ -53,4 +70,23 @@ public abstract class ViewHolderBinder<T, H extends ViewHolder> extends Abstract
     protected abstract H newViewHolder(@NonNull View v);
 
     protected abstract void bindViewHolder(@NonNull T t, @NonNull H h, @NonNull Holder holder);
+
+    /**
+     * Partially rebinds the view holder, which is already bound to the same item. By default, performs a full bind
+     * using {@link #bindViewHolder(Object, ViewHolder, Holder)}.
+     * @param payloads The payloads of the change notifications received since the view was last bound. Never empty.
+     */
+    protected void bindViewHolder(@NonNull T t, @NonNull H h, @NonNull Holder holder, @NonNull List<Object> payloads) {
+        bindViewHolder(t, h, holder);
+    }
+
+    /**
+     * Binds only what's essential for the item to be recognizable, such as while flinging. For example, text but not
+     * images. By default, performs a full bind using {@link #bindViewHolder(Object, ViewHolder, Holder)}.
+     * @return {@code true} if the bind was minimal, in which case a full bind follows once the view settles.
+     */
+    protected boolean bindViewHolderMinimal(@NonNull T t, @NonNull H h, @NonNull Holder holder) {
+        bindViewHolder(t, h, holder);
+        return false;
+    }
 }
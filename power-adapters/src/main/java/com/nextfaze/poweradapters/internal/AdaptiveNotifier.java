@@ -0,0 +1,103 @@
+package com.nextfaze.poweradapters.internal;
+
+import android.os.Handler;
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import lombok.NonNull;
+
+import static android.os.Looper.getMainLooper;
+import static com.nextfaze.poweradapters.internal.NotificationType.COARSE;
+import static com.nextfaze.poweradapters.internal.NotificationType.FINE;
+
+/**
+ * Chooses the notification type for each notification issued within the current turn of the main looper. Fine-grained
+ * notifications are used until the number issued, or the number of items they cover, exceeds a limit. Every
+ * notification after that in the same turn is coarse, and the limits apply afresh from the next turn.
+ */
+final class AdaptiveNotifier {
+
+    static final int DEFAULT_MAX_NOTIFICATIONS = 64;
+    static final int DEFAULT_MAX_ITEMS = 10000;
+
+    @NonNull
+    private final Runnable mEndTurnRunnable = new Runnable() {
+        @Override
+        public void run() {
+            endTurn();
+        }
+    };
+
+    @Nullable
+    private Handler mHandler;
+
+    private int mMaxNotifications = DEFAULT_MAX_NOTIFICATIONS;
+    private int mMaxItems = DEFAULT_MAX_ITEMS;
+
+    /** Whether a notification has been issued in the current turn. */
+    private boolean mInTurn;
+
+    private int mNotifications;
+    private long mItems;
+    private boolean mDegraded;
+
+    private int mDegradedTurnCount;
+    private int mCoarseNotificationCount;
+
+    /** Returns the type to use for a notification covering the specified number of items. */
+    @UiThread
+    @NonNull
+    NotificationType next(int itemCount) {
+        if (!mInTurn) {
+            mInTurn = true;
+            if (mHandler == null) {
+                mHandler = new Handler(getMainLooper());
+            }
+            mHandler.post(mEndTurnRunnable);
+        }
+        if (!mDegraded) {
+            mNotifications++;
+            mItems += itemCount;
+            if (mNotifications <= mMaxNotifications && mItems <= mMaxItems) {
+                return FINE;
+            }
+            mDegraded = true;
+            mDegradedTurnCount++;
+        }
+        mCoarseNotificationCount++;
+        return COARSE;
+    }
+
+    void setLimits(int maxNotifications, int maxItems) {
+        if (maxNotifications < 0) {
+            throw new IllegalArgumentException("maxNotifications < 0");
+        }
+        if (maxItems < 0) {
+            throw new IllegalArgumentException("maxItems < 0");
+        }
+        mMaxNotifications = maxNotifications;
+        mMaxItems = maxItems;
+    }
+
+    int getMaxNotifications() {
+        return mMaxNotifications;
+    }
+
+    int getMaxItems() {
+        return mMaxItems;
+    }
+
+    int getDegradedTurnCount() {
+        return mDegradedTurnCount;
+    }
+
+    int getCoarseNotificationCount() {
+        return mCoarseNotificationCount;
+    }
+
+    private void endTurn() {
+        mInTurn = false;
+        mNotifications = 0;
+        mItems = 0;
+        mDegraded = false;
+    }
+}
@@ -1,6 +1,8 @@
 package com.nextfaze.poweradapters.internal;
 
+import android.support.annotation.Nullable;
 import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.SimpleDataObserver;
 import lombok.NonNull;
 
 import java.util.ArrayList;
@@ -48,6 +50,29 @@ public final class DataObservable {
         }
     }
 
+    public void notifyItemChanged(int position, @Nullable Object payload) {
+        notifyItemRangeChanged(position, 1, payload);
+    }
+
+    /**
+     * Dispatches {@link SimpleDataObserver#onItemRangeChanged(int, int, Object)} to observers that accept payloads, and
+     * {@link DataObserver#onItemRangeChanged(int, int)} to all others, or if {@code payload} is {@code null}.
+     */
+    public void notifyItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+        if (payload == null) {
+            notifyItemRangeChanged(positionStart, itemCount);
+        } else if (itemCount > 0) {
+            for (int i = mObservers.size() - 1; i >= 0; i--) {
+                DataObserver observer = mObservers.get(i);
+                if (observer instanceof SimpleDataObserver) {
+                    ((SimpleDataObserver) observer).onItemRangeChanged(positionStart, itemCount, payload);
+                } else {
+                    observer.onItemRangeChanged(positionStart, itemCount);
+                }
+            }
+        }
+    }
+
     public void notifyItemInserted(int position) {
         notifyItemRangeInserted(position, 1);
     }
@@ -0,0 +1,243 @@
+package com.nextfaze.poweradapters.internal;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive longs, using open addressing with linear probing to avoid boxing. Can be converted to and from a
+ * compact byte representation, consisting of the sorted elements delta encoded as variable length integers.
+ * @hide Not intended for public use.
+ */
+public final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    /** Slots of the table, where {@code 0} denotes an empty slot. Length is always a power of two. */
+    @NonNull
+    private long[] mKeys;
+
+    /** Whether {@code 0} is a member, since it can't be stored in {@link #mKeys}. */
+    private boolean mContainsZero;
+
+    /** Number of occupied slots in {@link #mKeys}. */
+    private int mUsed;
+
+    public LongHashSet() {
+        this(0);
+    }
+
+    public LongHashSet(int expectedSize) {
+        mKeys = new long[capacityFor(expectedSize)];
+    }
+
+    public int size() {
+        return mUsed + (mContainsZero ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) {
+            return mContainsZero;
+        }
+        long[] keys = mKeys;
+        int mask = keys.length - 1;
+        for (int i = hash(value) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Adds the value, returning {@code true} if it wasn't already present. */
+    public boolean add(long value) {
+        if (value == 0) {
+            boolean added = !mContainsZero;
+            mContainsZero = true;
+            return added;
+        }
+        long[] keys = mKeys;
+        int mask = keys.length - 1;
+        int i = hash(value) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == value) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = value;
+        if (++mUsed > maxUsed(keys.length)) {
+            rehash(keys.length * 2);
+        }
+        return true;
+    }
+
+    /** Removes the value, returning {@code true} if it was present. */
+    public boolean remove(long value) {
+        if (value == 0) {
+            boolean removed = mContainsZero;
+            mContainsZero = false;
+            return removed;
+        }
+        long[] keys = mKeys;
+        int mask = keys.length - 1;
+        int i = hash(value) & mask;
+        while (keys[i] != value) {
+            if (keys[i] == 0) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        // Shift subsequent keys of the probe sequence back into the vacated slot, so lookups needn't skip tombstones.
+        int gap = i;
+        for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            boolean movable = gap <= j ? home <= gap || home > j : home <= gap && home > j;
+            if (movable) {
+                keys[gap] = keys[j];
+                gap = j;
+            }
+        }
+        keys[gap] = 0;
+        mUsed--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(mKeys, 0);
+        mUsed = 0;
+        mContainsZero = false;
+    }
+
+    /** Returns the elements in ascending order. */
+    @NonNull
+    public long[] toSortedArray() {
+        long[] values = new long[size()];
+        int size = 0;
+        if (mContainsZero) {
+            values[size++] = 0;
+        }
+        for (long key : mKeys) {
+            if (key != 0) {
+                values[size++] = key;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * Returns a compact representation of the set: the element count, followed by the difference between each
+     * element in ascending order and its predecessor, all as unsigned variable length integers.
+     * @see #fromCompressedBytes(byte[])
+     */
+    @NonNull
+    public byte[] toCompressedBytes() {
+        long[] values = toSortedArray();
+        // At most 10 bytes for each 64-bit varint.
+        byte[] bytes = new byte[(values.length + 1) * 10];
+        int size = writeVarint(bytes, 0, values.length);
+        long previous = 0;
+        for (long value : values) {
+            // Ascending, so the difference is correct when treated as unsigned, even if it overflows.
+            size = writeVarint(bytes, size, value - previous);
+            previous = value;
+        }
+        return Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Reconstructs a set from the representation returned by {@link #toCompressedBytes()}.
+     * @throws IllegalArgumentException If the bytes are malformed.
+     */
+    @NonNull
+    public static LongHashSet fromCompressedBytes(@NonNull byte[] bytes) {
+        Reader reader = new Reader(bytes);
+        long count = reader.readVarint();
+        if (count < 0 || count > bytes.length) {
+            throw new IllegalArgumentException("Invalid count: " + count);
+        }
+        LongHashSet set = new LongHashSet((int) count);
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value += reader.readVarint();
+            set.add(value);
+        }
+        return set;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = mKeys;
+        long[] keys = new long[capacity];
+        int mask = capacity - 1;
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int i = hash(key) & mask;
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+        mKeys = keys;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (maxUsed(capacity) < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    /** Maximum occupied slots before the table grows, giving a load factor of 0.75. */
+    private static int maxUsed(int capacity) {
+        return capacity - (capacity >>> 2);
+    }
+
+    private static int hash(long value) {
+        // Ids are frequently sequential, so scramble bits before masking.
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int writeVarint(@NonNull byte[] bytes, int offset, long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[offset++] = (byte) value;
+        return offset;
+    }
+
+    private static final class Reader {
+
+        @NonNull
+        private final byte[] mBytes;
+
+        private int mOffset;
+
+        Reader(@NonNull byte[] bytes) {
+            mBytes = bytes;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (mOffset >= mBytes.length) {
+                    throw new IllegalArgumentException("Truncated varint");
+                }
+                byte b = mBytes[mOffset++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+    }
+}
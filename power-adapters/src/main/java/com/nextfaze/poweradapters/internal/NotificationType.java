@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.internal;
 
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 /** @hide Not for public use. */
@@ -16,6 +17,14 @@ public enum NotificationType {
             notifyDataSetChanged(observable);
         }
 
+        @Override
+        public void notifyItemRangeChanged(@NonNull DataObservable observable,
+                                           int positionStart,
+                                           int itemCount,
+                                           @Nullable Object payload) {
+            notifyDataSetChanged(observable);
+        }
+
         @Override
         public void notifyItemInserted(@NonNull DataObservable observable, int position) {
             notifyDataSetChanged(observable);
@@ -50,7 +59,14 @@ public enum NotificationType {
         }
     },
     /** Use all fine-grained notification methods on {@link DataObservable}. */
-    FINE;
+    FINE,
+    /**
+     * Use fine-grained notifications, until too many are issued within a single turn of the main looper, then use
+     * {@link DataObservable#notifyDataSetChanged()} for the rest of that turn. The per-turn state is kept by {@link
+     * NotifyingArrayList}, so when used on its own this behaves the same as {@link #FINE}.
+     * @see NotifyingArrayList#setAdaptiveLimits(int, int)
+     */
+    ADAPTIVE;
 
     public void notifyDataSetChanged(@NonNull DataObservable observable) {
         observable.notifyDataSetChanged();
@@ -64,6 +80,13 @@ public enum NotificationType {
         observable.notifyItemRangeChanged(positionStart, itemCount);
     }
 
+    public void notifyItemRangeChanged(@NonNull DataObservable observable,
+                                       int positionStart,
+                                       int itemCount,
+                                       @Nullable Object payload) {
+        observable.notifyItemRangeChanged(positionStart, itemCount, payload);
+    }
+
     public void notifyItemInserted(@NonNull DataObservable observable, int position) {
         observable.notifyItemInserted(position);
     }
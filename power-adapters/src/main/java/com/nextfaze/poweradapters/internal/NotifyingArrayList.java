@@ -1,13 +1,16 @@
 package com.nextfaze.poweradapters.internal;
 
+import android.support.annotation.Nullable;
 import lombok.NonNull;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static java.lang.Math.min;
 import static java.util.Collections.swap;
+import static java.util.Collections.unmodifiableList;
 
 /** @hide Not intended for public use. */
 public final class NotifyingArrayList<E> extends AbstractList<E> {
@@ -15,12 +18,21 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     @NonNull
     private final DataObservable mDataObservable;
 
+    /** Never mutated while shared with {@link #mSnapshot}. */
     @NonNull
-    private final ArrayList<E> mArray = new ArrayList<>();
+    private ArrayList<E> mArray = new ArrayList<>();
+
+    /** The snapshot of {@link #mArray}, if one has been taken since it was last mutated. */
+    @Nullable
+    private List<E> mSnapshot;
 
     @NonNull
     private NotificationType mNotificationType = NotificationType.FINE;
 
+    /** Tracks notifications per turn while {@link #mNotificationType} is {@link NotificationType#ADAPTIVE}. */
+    @NonNull
+    private final AdaptiveNotifier mAdaptiveNotifier = new AdaptiveNotifier();
+
     public NotifyingArrayList(@NonNull DataObservable dataObservable) {
         mDataObservable = dataObservable;
     }
@@ -37,15 +49,17 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public E set(int index, @NonNull E object) {
+        prepareMutation();
         E e = mArray.set(index, object);
-        mNotificationType.notifyItemChanged(mDataObservable, index);
+        type(1).notifyItemChanged(mDataObservable, index);
         return e;
     }
 
     @Override
     public boolean add(@NonNull E e) {
+        prepareMutation();
         if (mArray.add(e)) {
-            mNotificationType.notifyItemInserted(mDataObservable, mArray.size() - 1);
+            type(1).notifyItemInserted(mDataObservable, mArray.size() - 1);
             return true;
         }
         return false;
@@ -53,18 +67,20 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public void add(int index, @NonNull E object) {
+        prepareMutation();
         mArray.add(index, object);
-        mNotificationType.notifyItemInserted(mDataObservable, index);
+        type(1).notifyItemInserted(mDataObservable, index);
     }
 
     @Override
     public boolean addAll(@NonNull Collection<? extends E> collection) {
+        prepareMutation();
         int oldSize = mArray.size();
         mArray.addAll(collection);
         int newSize = mArray.size();
         if (newSize != oldSize) {
             int count = mArray.size() - oldSize;
-            mNotificationType.notifyItemRangeInserted(mDataObservable, oldSize, count);
+            type(count).notifyItemRangeInserted(mDataObservable, oldSize, count);
             return true;
         }
         return false;
@@ -72,12 +88,13 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public boolean addAll(int index, @NonNull Collection<? extends E> collection) {
+        prepareMutation();
         int oldSize = mArray.size();
         mArray.addAll(index, collection);
         int newSize = mArray.size();
         if (newSize != oldSize) {
             int count = mArray.size() - oldSize;
-            mNotificationType.notifyItemRangeInserted(mDataObservable, index, count);
+            type(count).notifyItemRangeInserted(mDataObservable, index, count);
             return true;
         }
         return false;
@@ -85,8 +102,9 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public E remove(int index) {
+        prepareMutation();
         E removed = mArray.remove(index);
-        mNotificationType.notifyItemRemoved(mDataObservable, index);
+        type(1).notifyItemRemoved(mDataObservable, index);
         return removed;
     }
 
@@ -95,8 +113,9 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public boolean remove(@NonNull Object obj) {
         int index = mArray.indexOf(obj);
         if (index != -1) {
+            prepareMutation();
             mArray.remove(index);
-            mNotificationType.notifyItemRemoved(mDataObservable, index);
+            type(1).notifyItemRemoved(mDataObservable, index);
             return true;
         }
         return false;
@@ -106,8 +125,8 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public void clear() {
         int size = mArray.size();
         if (size > 0) {
-            mArray.clear();
-            mNotificationType.notifyItemRangeRemoved(mDataObservable, 0, size);
+            clearArray();
+            type(size).notifyItemRangeRemoved(mDataObservable, 0, size);
         }
     }
 
@@ -115,7 +134,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
         int oldSize = mArray.size();
         int newSize = collection.size();
         int deltaSize = newSize - oldSize;
-        mArray.clear();
+        clearArray();
         for (E e : collection) {
             if (e != null) {
                 mArray.add(e);
@@ -123,35 +142,38 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
         }
         int changed = min(oldSize, newSize);
         if (changed > 0) {
-            mNotificationType.notifyItemRangeChanged(mDataObservable, 0, changed);
+            type(changed).notifyItemRangeChanged(mDataObservable, 0, changed);
         }
         if (deltaSize < 0) {
-            mNotificationType.notifyItemRangeRemoved(mDataObservable, oldSize + deltaSize, -deltaSize);
+            type(-deltaSize).notifyItemRangeRemoved(mDataObservable, oldSize + deltaSize, -deltaSize);
         } else if (deltaSize > 0) {
-            mNotificationType.notifyItemRangeInserted(mDataObservable, oldSize, deltaSize);
+            type(deltaSize).notifyItemRangeInserted(mDataObservable, oldSize, deltaSize);
         }
     }
 
     public void setAll(int index, @NonNull Collection<? extends E> collection) {
+        prepareMutation();
         int i = 0;
         for (E e : collection) {
             mArray.set(index + i, e);
             i++;
         }
-        mNotificationType.notifyItemRangeChanged(mDataObservable, index, collection.size());
+        type(collection.size()).notifyItemRangeChanged(mDataObservable, index, collection.size());
     }
 
     public void remove(int index, int count) {
+        prepareMutation();
         for (int i = 0; i < count; i++) {
             mArray.remove(index);
         }
-        mNotificationType.notifyItemRangeRemoved(mDataObservable, index, count);
+        type(count).notifyItemRangeRemoved(mDataObservable, index, count);
     }
 
     public void move(int fromPosition, int toPosition, int itemCount) {
         if (itemCount <= 0) {
             throw new IllegalArgumentException("count <= 0");
         }
+        prepareMutation();
         if (fromPosition < toPosition) {
             for (int j = itemCount - 1; j >= 0; j--) {
                 for (int i = fromPosition + j; i < toPosition + j; i++) {
@@ -165,17 +187,59 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
                 }
             }
         }
-        mNotificationType.notifyItemRangeMoved(mDataObservable, fromPosition, toPosition, itemCount);
+        type(itemCount).notifyItemRangeMoved(mDataObservable, fromPosition, toPosition, itemCount);
     }
 
     public void trimToSize() {
+        prepareMutation();
         mArray.trimToSize();
     }
 
     public void ensureCapacity(int minimumCapacity) {
+        prepareMutation();
         mArray.ensureCapacity(minimumCapacity);
     }
 
+    /**
+     * Returns an immutable snapshot of the current elements, which may be read from any thread. Taking a snapshot is
+     * {@code O(1)}: the elements are copied by the next mutation of this list instead, and only if a snapshot is still
+     * outstanding.
+     */
+    @NonNull
+    public List<E> snapshot() {
+        if (mSnapshot == null) {
+            mSnapshot = unmodifiableList(mArray);
+        }
+        return mSnapshot;
+    }
+
+    /** Returns the type to use for a notification covering the specified number of items. */
+    @NonNull
+    private NotificationType type(int itemCount) {
+        if (mNotificationType == NotificationType.ADAPTIVE) {
+            return mAdaptiveNotifier.next(itemCount);
+        }
+        return mNotificationType;
+    }
+
+    /** Copies {@link #mArray} if it's shared with a snapshot, so it can be mutated. */
+    private void prepareMutation() {
+        if (mSnapshot != null) {
+            mArray = new ArrayList<>(mArray);
+            mSnapshot = null;
+        }
+    }
+
+    /** Removes all elements, without copying them first if they're shared with a snapshot. */
+    private void clearArray() {
+        if (mSnapshot != null) {
+            mArray = new ArrayList<>();
+            mSnapshot = null;
+        } else {
+            mArray.clear();
+        }
+    }
+
     @NonNull
     public NotificationType getNotificationType() {
         return mNotificationType;
@@ -184,4 +248,31 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public void setNotificationType(@NonNull NotificationType notificationType) {
         mNotificationType = notificationType;
     }
+
+    /**
+     * Sets the limits applied within each turn of the main looper while the notification type is {@link
+     * NotificationType#ADAPTIVE}. Once more than {@code maxNotifications} have been issued, or they cover more than
+     * {@code maxItems} items, the rest of the turn's notifications are coarse.
+     */
+    public void setAdaptiveLimits(int maxNotifications, int maxItems) {
+        mAdaptiveNotifier.setLimits(maxNotifications, maxItems);
+    }
+
+    public int getAdaptiveMaxNotifications() {
+        return mAdaptiveNotifier.getMaxNotifications();
+    }
+
+    public int getAdaptiveMaxItems() {
+        return mAdaptiveNotifier.getMaxItems();
+    }
+
+    /** Returns the number of turns in which adaptive notifications degraded to coarse notifications. */
+    public int getDegradedTurnCount() {
+        return mAdaptiveNotifier.getDegradedTurnCount();
+    }
+
+    /** Returns the number of coarse notifications issued in place of fine-grained ones by adaptive notification. */
+    public int getCoarseNotificationCount() {
+        return mAdaptiveNotifier.getCoarseNotificationCount();
+    }
 }
@@ -0,0 +1,96 @@
+package com.nextfaze.poweradapters.internal;
+
+import android.support.annotation.Nullable;
+import android.support.annotation.UiThread;
+import android.view.View;
+import android.view.ViewGroup;
+import lombok.NonNull;
+
+/**
+ * Finds the views with a fixed set of ids within view hierarchies. The child indices leading to each view are recorded
+ * when it's first found, so that later lookups in hierarchies with the same structure, such as those inflated from
+ * the same layout, descend directly to the view instead of searching the whole tree.
+ * @hide Used by generated code. Not intended for public use.
+ */
+public final class ViewLookup {
+
+    @NonNull
+    private final int[] mIds;
+
+    /** Child indices leading from the root to the view of each id, or {@code null} if not yet found. */
+    @NonNull
+    private final int[][] mPaths;
+
+    public ViewLookup(@NonNull int... ids) {
+        mIds = ids;
+        mPaths = new int[ids.length][];
+    }
+
+    /**
+     * Returns the view of each id within the specified hierarchy, in order.
+     * @throws IllegalStateException If a view isn't found.
+     */
+    @UiThread
+    @NonNull
+    public View[] find(@NonNull View root) {
+        View[] views = new View[mIds.length];
+        for (int i = 0; i < mIds.length; i++) {
+            View view = find(root, i);
+            if (view == null) {
+                throw new IllegalStateException("No view with ID 0x" + Integer.toHexString(mIds[i]) + " found");
+            }
+            views[i] = view;
+        }
+        return views;
+    }
+
+    @Nullable
+    private View find(@NonNull View root, int index) {
+        int id = mIds[index];
+        int[] path = mPaths[index];
+        if (path != null) {
+            View view = descend(root, path);
+            if (view != null && view.getId() == id) {
+                return view;
+            }
+        }
+        // Not found before, or this hierarchy is structured differently, so search it and remember the new path.
+        View view = root.findViewById(id);
+        if (view != null) {
+            mPaths[index] = pathTo(root, view);
+        }
+        return view;
+    }
+
+    @Nullable
+    private static View descend(@NonNull View root, @NonNull int[] path) {
+        View view = root;
+        for (int childIndex : path) {
+            if (!(view instanceof ViewGroup)) {
+                return null;
+            }
+            ViewGroup viewGroup = (ViewGroup) view;
+            if (childIndex >= viewGroup.getChildCount()) {
+                return null;
+            }
+            view = viewGroup.getChildAt(childIndex);
+        }
+        return view;
+    }
+
+    @NonNull
+    private static int[] pathTo(@NonNull View root, @NonNull View view) {
+        int depth = 0;
+        for (View v = view; v != root; v = (View) v.getParent()) {
+            depth++;
+        }
+        int[] path = new int[depth];
+        View v = view;
+        for (int i = depth - 1; i >= 0; i--) {
+            ViewGroup parent = (ViewGroup) v.getParent();
+            path[i] = parent.indexOfChild(v);
+            v = parent;
+        }
+        return path;
+    }
+}
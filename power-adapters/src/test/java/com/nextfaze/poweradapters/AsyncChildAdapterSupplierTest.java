@@ -0,0 +1,182 @@
+package com.nextfaze.poweradapters;
+
+import android.view.View;
+import android.view.ViewGroup;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class AsyncChildAdapterSupplierTest {
+
+    private final List<Runnable> mTasks = new ArrayList<>();
+    private final List<Integer> mLoadedKeys = new ArrayList<>();
+    private final List<Integer> mErrorKeys = new ArrayList<>();
+    private final Set<Integer> mFailingKeys = new HashSet<>(Collections.singleton(4));
+
+    private FakeAdapter mRootAdapter;
+    private AsyncChildAdapterSupplier<Integer, Integer> mSupplier;
+
+    @Before
+    public void setUp() throws Exception {
+        mRootAdapter = new FakeAdapter(5);
+        AsyncChildAdapterSupplier.ChildLoader<Integer, Integer> loader =
+                new AsyncChildAdapterSupplier.ChildLoader<Integer, Integer>() {
+                    @NonNull
+                    @Override
+                    public Integer getKey(int position) {
+                        return position;
+                    }
+
+                    @NonNull
+                    @Override
+                    public Integer load(@NonNull Integer key) throws Exception {
+                        mLoadedKeys.add(key);
+                        if (mFailingKeys.contains(key)) {
+                            throw new Exception("Failed to load " + key);
+                        }
+                        return key + 1;
+                    }
+
+                    @NonNull
+                    @Override
+                    public PowerAdapter createAdapter(@NonNull Integer key, @NonNull Integer children) {
+                        return new FakeAdapter(children);
+                    }
+
+                    @NonNull
+                    @Override
+                    public PowerAdapter createErrorAdapter(@NonNull Integer key, @NonNull Exception error) {
+                        mErrorKeys.add(key);
+                        return new FakeAdapter(0);
+                    }
+                };
+        ViewFactory placeholderView = new ViewFactory() {
+            @NonNull
+            @Override
+            public View create(@NonNull ViewGroup parent) {
+                return new View(parent.getContext());
+            }
+        };
+        Executor executor = new Executor() {
+            @Override
+            public void execute(@NonNull Runnable command) {
+                mTasks.add(command);
+            }
+        };
+        mSupplier = new AsyncChildAdapterSupplier<>(mRootAdapter, loader, placeholderView, executor);
+    }
+
+    @Test
+    public void getPresentsPlaceholderWhileLoading() {
+        PowerAdapter adapter = mSupplier.get(2);
+        assertThat(adapter.getItemCount()).isEqualTo(1);
+        assertThat(mLoadedKeys).isEmpty();
+    }
+
+    @Test
+    public void getPresentsChildrenOnceLoaded() {
+        PowerAdapter adapter = mSupplier.get(2);
+        runTasks();
+        assertThat(adapter.getItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void getPresentsErrorAdapterIfLoadFails() {
+        PowerAdapter adapter = mSupplier.get(4);
+        runTasks();
+        assertThat(mErrorKeys).containsExactly(4);
+        assertThat(adapter.getItemCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void failedLoadRetriedOnNextGet() {
+        mSupplier.get(4);
+        runTasks();
+        mFailingKeys.clear();
+        PowerAdapter adapter = mSupplier.get(4);
+        runTasks();
+        assertThat(mLoadedKeys).containsExactly(4, 4);
+        assertThat(adapter.getItemCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void failedPrefetchRetriedOnExpand() {
+        mSupplier.setPrefetchDistance(1);
+        mSupplier.get(3);
+        runTasks();
+        assertThat(mLoadedKeys).containsExactly(3, 2, 4);
+        // Nothing was waiting on the failed prefetch, so the failure isn't presented.
+        assertThat(mErrorKeys).isEmpty();
+        mFailingKeys.clear();
+        mLoadedKeys.clear();
+        PowerAdapter adapter = mSupplier.get(4);
+        // The failure wasn't retained, so the item shows a placeholder while loading again.
+        assertThat(adapter.getItemCount()).isEqualTo(1);
+        runTasks();
+        assertThat(mLoadedKeys).containsExactly(4);
+        assertThat(adapter.getItemCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void concurrentGetsShareLoad() {
+        PowerAdapter adapter1 = mSupplier.get(1);
+        PowerAdapter adapter2 = mSupplier.get(1);
+        runTasks();
+        assertThat(mLoadedKeys).containsExactly(1);
+        assertThat(adapter1.getItemCount()).isEqualTo(2);
+        assertThat(adapter2.getItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void nothingIsPrefetchedByDefault() {
+        mSupplier.get(2);
+        runTasks();
+        assertThat(mLoadedKeys).containsExactly(2);
+    }
+
+    @Test
+    public void adjacentItemsArePrefetched() {
+        mSupplier.setPrefetchDistance(1);
+        mSupplier.get(0);
+        runTasks();
+        assertThat(mLoadedKeys).containsExactly(0, 1);
+    }
+
+    @Test
+    public void prefetchedChildrenArePresentedImmediately() {
+        mSupplier.setPrefetchDistance(1);
+        mSupplier.get(2);
+        runTasks();
+        mLoadedKeys.clear();
+        PowerAdapter adapter = mSupplier.get(3);
+        assertThat(adapter.getItemCount()).isEqualTo(4);
+        runTasks();
+        // Only the newly adjacent item is loaded.
+        assertThat(mLoadedKeys).containsExactly(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePrefetchDistanceThrows() {
+        mSupplier.setPrefetchDistance(-1);
+    }
+
+    private void runTasks() {
+        while (!mTasks.isEmpty()) {
+            mTasks.remove(0).run();
+        }
+    }
+}
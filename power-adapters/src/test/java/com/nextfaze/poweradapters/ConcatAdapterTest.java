@@ -172,6 +172,16 @@ public final class ConcatAdapterTest {
         verifyNoMoreInteractions(observer);
     }
 
+    @Test
+    public void childChangeWithPayload() {
+        SimpleDataObserver observer = mock(SimpleDataObserver.class);
+        mConcatAdapter.registerDataObserver(observer);
+        Object payload = new Object();
+        mChildAdapters.get(1).change(1, 3, payload);
+        verify(observer).onItemRangeChanged(4, 3, payload);
+        verifyNoMoreInteractions(observer);
+    }
+
     @Test
     public void childInsert() {
         DataObserver observer = registerMockDataObserver();
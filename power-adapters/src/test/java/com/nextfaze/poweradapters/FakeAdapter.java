@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters;
 
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.view.ViewGroup;
 import com.nextfaze.poweradapters.internal.NotificationType;
@@ -77,6 +78,10 @@ public class FakeAdapter extends PowerAdapter {
         mNotificationType.notifyItemRangeChanged(mDataObservable, positionStart, itemCount);
     }
 
+    public void change(int positionStart, int itemCount, @Nullable Object payload) {
+        mNotificationType.notifyItemRangeChanged(mDataObservable, positionStart, itemCount, payload);
+    }
+
     public void move(int fromPosition, int toPosition, int itemCount) {
         mNotificationType.notifyItemRangeMoved(mDataObservable, fromPosition, toPosition, itemCount);
     }
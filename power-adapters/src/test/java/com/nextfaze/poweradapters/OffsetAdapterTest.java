@@ -21,7 +21,7 @@ public class OffsetAdapterTest {
     public MockitoRule mMockito = MockitoJUnit.rule();
 
     @Mock
-    private DataObserver mObserver;
+    private SimpleDataObserver mObserver;
 
     private FakeAdapter mFakeAdapter;
     private OffsetAdapter mOffsetAdapter;
@@ -84,6 +84,15 @@ public class OffsetAdapterTest {
         verifyZeroInteractions(mObserver);
     }
 
+    @Test
+    public void changeWithPayloadWithinBounds() {
+        Object payload = new Object();
+        mFakeAdapter.change(6, 3, payload);
+        verifyState(5, 5);
+        verify(mObserver).onItemRangeChanged(1, 3, payload);
+        verifyNoMoreInteractions(mObserver);
+    }
+
     @Test
     public void changeBoundaryStraddling() {
         mFakeAdapter.change(3, 3);
@@ -102,6 +102,34 @@ public final class PowerAdapterTest {
         verifyNoMoreInteractions(observer);
     }
 
+    @Test
+    public void notifyChangeWithPayloadInvokesObservers() {
+        SimpleDataObserver observer = mock(SimpleDataObserver.class);
+        mAdapter.registerDataObserver(observer);
+        Object payload = new Object();
+        mAdapter.notifyItemRangeChanged(3, 5, payload);
+        verify(observer).onItemRangeChanged(3, 5, payload);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void notifyChangeWithPayloadInvokesPlainObserversWithoutPayload() {
+        DataObserver observer = mock(DataObserver.class);
+        mAdapter.registerDataObserver(observer);
+        mAdapter.notifyItemRangeChanged(3, 5, new Object());
+        verify(observer).onItemRangeChanged(3, 5);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void notifyChangeWithNullPayloadInvokesObserversWithoutPayload() {
+        DataObserver observer = mock(DataObserver.class);
+        mAdapter.registerDataObserver(observer);
+        mAdapter.notifyItemRangeChanged(3, 5, null);
+        verify(observer).onItemRangeChanged(3, 5);
+        verifyNoMoreInteractions(observer);
+    }
+
     @Test
     public void notifyInsertInvokesObservers() {
         DataObserver observer = mock(DataObserver.class);
@@ -0,0 +1,45 @@
+package com.nextfaze.poweradapters;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.mockito.Mockito.*;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class PowerAdapterWrapperTest {
+
+    private FakeAdapter mFakeAdapter;
+    private SimpleDataObserver mObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mFakeAdapter = new FakeAdapter(10);
+        mObserver = mock(SimpleDataObserver.class);
+    }
+
+    @Test
+    public void changeWithPayloadForwardedWithoutPayloadByDefault() {
+        new PowerAdapterWrapper(mFakeAdapter).registerDataObserver(mObserver);
+        mFakeAdapter.change(2, 3, new Object());
+        verify(mObserver).onItemRangeChanged(2, 3);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeWithPayloadRemappedBySubclassOverridingOnlyPlainChange() {
+        PowerAdapter wrapper = new PowerAdapterWrapper(mFakeAdapter) {
+            @Override
+            protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount) {
+                notifyItemRangeChanged(innerPositionStart + 10, innerItemCount);
+            }
+        };
+        wrapper.registerDataObserver(mObserver);
+        mFakeAdapter.change(2, 3, new Object());
+        verify(mObserver).onItemRangeChanged(12, 3);
+        verifyNoMoreInteractions(mObserver);
+    }
+}
@@ -193,6 +193,77 @@ public final class TreeAdapterTest {
         verifyNoMoreInteractions(observer);
     }
 
+    @Test
+    public void collapseAllCoalescesNotifications() {
+        DataObserver observer = registerMockDataObserver();
+        mTreeAdapter.setAllExpanded(false);
+        verify(observer).onItemRangeRemoved(3, 9);
+        verify(observer).onItemRangeChanged(1, 2);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void expandAllCoalescesNotifications() {
+        mTreeAdapter.setAllExpanded(false);
+        DataObserver observer = registerMockDataObserver();
+        mTreeAdapter.setAllExpanded(true);
+        verify(observer).onItemRangeInserted(3, 9);
+        verify(observer).onItemRangeChanged(1, 2);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void expandRangeOnlyNotifiesAffectedItems() {
+        mTreeAdapter.setAllExpanded(false);
+        mTreeAdapter.setExpanded(1, true);
+        DataObserver observer = registerMockDataObserver();
+        mTreeAdapter.setRangeExpanded(1, 2, true, false);
+        verify(observer).onItemRangeInserted(6, 3);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(9);
+    }
+
+    @Test
+    public void expandAllWhileNotObservedDoesNotInvokeGetChildAdapter() {
+        FakeLongAdapter rootAdapter = new FakeLongAdapter();
+        Collections.addAll(rootAdapter, 1L, 3L, 5L);
+        TreeAdapter treeAdapter = new TreeAdapter(rootAdapter, mChildAdapterSupplier);
+        reset(mChildAdapterSupplier);
+        treeAdapter.setAllExpanded(true);
+        verifyZeroInteractions(mChildAdapterSupplier);
+        treeAdapter.registerDataObserver(new VerifyingAdapterObserver(treeAdapter));
+        assertThat(treeAdapter.getItemCount()).isEqualTo(12);
+    }
+
+    @Test
+    public void expandAllRecursiveExpandsChildTrees() {
+        FakeLongAdapter rootAdapter = new FakeLongAdapter();
+        Collections.addAll(rootAdapter, 1L, 3L);
+        TreeAdapter treeAdapter = new TreeAdapter(rootAdapter, new ChildAdapterSupplier() {
+            @NonNull
+            @Override
+            public PowerAdapter get(int position) {
+                FakeLongAdapter childRootAdapter = new FakeLongAdapter();
+                Collections.addAll(childRootAdapter, 10L, 11L);
+                return new TreeAdapter(childRootAdapter, new ChildAdapterSupplier() {
+                    @NonNull
+                    @Override
+                    public PowerAdapter get(int position) {
+                        return new FakeAdapter(4);
+                    }
+                });
+            }
+        });
+        treeAdapter.registerDataObserver(new VerifyingAdapterObserver(treeAdapter));
+        DataObserver observer = mock(DataObserver.class);
+        treeAdapter.registerDataObserver(observer);
+        treeAdapter.setAllExpanded(true, true);
+        assertThat(treeAdapter.getItemCount()).isEqualTo(22);
+        verify(observer).onItemRangeInserted(2, 20);
+        verify(observer).onItemRangeChanged(1, 1);
+        verifyNoMoreInteractions(observer);
+    }
+
     @Test
     public void collapseStateIsCorrect0() {
         mTreeAdapter.setExpanded(0, false);
@@ -15,6 +15,7 @@ import org.robolectric.annotation.Config;
 import static com.google.common.truth.Truth.assertThat;
 import static com.nextfaze.poweradapters.DividerAdapterBuilder.EmptyPolicy.*;
 import static com.nextfaze.poweradapters.internal.NotificationType.COARSE;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -234,6 +235,17 @@ public final class WrappingDividerAdapterTest {
         verifyNoMoreInteractions(mObserver);
     }
 
+    @Test
+    public void changeWithPayloadForwarded() {
+        configure(10);
+        SimpleDataObserver observer = mock(SimpleDataObserver.class);
+        mDividerAdapter.registerDataObserver(observer);
+        Object payload = new Object();
+        mFakeAdapter.change(3, 4, payload);
+        verify(observer).onItemRangeChanged(3, 4, payload);
+        verifyNoMoreInteractions(observer);
+    }
+
     @Test
     public void itemCountIsConsistentWhenChildIssuesInsertionUponRegisterObserverShowLeading() {
         PowerAdapter adapter = new FakeAdapter(5).append(new FakeAdapter(5));
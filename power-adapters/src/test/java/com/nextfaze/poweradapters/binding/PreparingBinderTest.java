@@ -0,0 +1,278 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.view.View;
+import android.view.ViewGroup;
+import com.nextfaze.poweradapters.BuildConfig;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.ViewFactory;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.PowerAdapter.NO_ID;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class PreparingBinderTest {
+
+    private final List<String> mPrepared = new ArrayList<>();
+    private final List<String> mBound = new ArrayList<>();
+    private final List<Runnable> mTasks = new ArrayList<>();
+
+    private PreparingBinder<String, View, String> mBinder;
+    private ListBindingAdapter<String> mAdapter;
+    private View mView;
+    private boolean mStableIds = true;
+    private int mVersion;
+
+    @Before
+    public void setUp() throws Exception {
+        mBinder = new PreparingBinder<String, View, String>(new ViewFactory() {
+            @NonNull
+            @Override
+            public View create(@NonNull ViewGroup parent) {
+                return new View(parent.getContext());
+            }
+        }) {
+            @NonNull
+            @Override
+            public String prepare(@NonNull String s) {
+                mPrepared.add(s);
+                return s.toUpperCase();
+            }
+
+            @Override
+            protected void bindPreparedView(@NonNull String s,
+                                            @NonNull View v,
+                                            @NonNull Holder holder,
+                                            @NonNull String prepared) {
+                mBound.add(prepared);
+            }
+
+            @Override
+            protected boolean bindViewMinimal(@NonNull String s, @NonNull View v, @NonNull Holder holder) {
+                mBound.add("minimal " + s);
+                return true;
+            }
+
+            @Override
+            public Object getPrepareKey(@NonNull String s) {
+                return mVersion;
+            }
+
+            @Override
+            public long getItemId(@NonNull String s, int position) {
+                return mStableIds ? s.charAt(0) : NO_ID;
+            }
+        };
+        mAdapter = new ListBindingAdapter<>(mBinder, Arrays.asList("a", "b", "c", "d", "e"));
+        mView = new View(RuntimeEnvironment.application);
+    }
+
+    @Test
+    public void itemPreparedInlineWithoutExecutor() {
+        bind(0);
+        assertThat(mPrepared).containsExactly("a");
+        assertThat(mBound).containsExactly("A");
+    }
+
+    @Test
+    public void preparedResultReusedForUnchangedItem() {
+        bind(1);
+        bind(1);
+        assertThat(mPrepared).containsExactly("b");
+        assertThat(mBound).containsExactly("B", "B");
+    }
+
+    @Test
+    public void preparedResultReusedForPayloadBind() {
+        bind(1);
+        bindWithPayload(1);
+        assertThat(mPrepared).containsExactly("b");
+        assertThat(mBound).containsExactly("B", "B");
+    }
+
+    @Test
+    public void changedItemPreparedAgain() {
+        bind(0);
+        mAdapter.set(0, "ab");
+        bind(0);
+        assertThat(mPrepared).containsExactly("a", "ab");
+        assertThat(mBound).containsExactly("A", "AB");
+    }
+
+    @Test
+    public void itemModifiedInPlacePreparedAgain() {
+        bind(0);
+        mVersion++;
+        bind(0);
+        assertThat(mPrepared).containsExactly("a", "a");
+    }
+
+    @Test
+    public void itemModifiedInPlacePreparedAgainWithLayoutOverride() {
+        useLayoutOverride();
+        bind(0);
+        mVersion++;
+        bind(0);
+        assertThat(mPrepared).containsExactly("a", "a");
+        assertThat(mBound).containsExactly("A", "A");
+    }
+
+    @Test
+    public void itemModifiedWhilePreparingAheadPreparedAgain() {
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        mAdapter.setPrepareDistance(1);
+        bind(0);
+        mVersion++;
+        runTasks();
+        bind(1);
+        assertThat(mPrepared).containsExactly("a", "b", "b");
+    }
+
+    @Test
+    public void itemsAheadPreparedOnExecutor() {
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        mAdapter.setPrepareDistance(2);
+        bind(0);
+        assertThat(mTasks).hasSize(2);
+        runTasks();
+        assertThat(mPrepared).containsExactly("a", "b", "c");
+        bind(1);
+        bind(2);
+        // Already prepared, so not prepared again.
+        assertThat(mPrepared).containsExactly("a", "b", "c");
+        assertThat(mBound).containsExactly("A", "B", "C");
+        runTasks();
+        assertThat(mPrepared).containsExactly("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    public void itemsAheadPreparedInDirectionOfBinding() {
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        mAdapter.setPrepareDistance(1);
+        bind(4);
+        bind(3);
+        runTasks();
+        assertThat(mPrepared).containsExactly("e", "d", "c");
+    }
+
+    @Test
+    public void itemsWithoutIdsNotPreparedAhead() {
+        mStableIds = false;
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        bind(0);
+        assertThat(mTasks).isEmpty();
+    }
+
+    @Test
+    public void minimalBindUsesPreparedResultIfAvailable() {
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        mAdapter.setPrepareDistance(1);
+        bind(0);
+        runTasks();
+        assertThat(bindMinimal(1)).isFalse();
+        assertThat(mBound).containsExactly("A", "B");
+    }
+
+    @Test
+    public void minimalBindPreparesItemOnExecutor() {
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        mAdapter.setPrepareDistance(0);
+        assertThat(bindMinimal(0)).isTrue();
+        assertThat(mPrepared).isEmpty();
+        runTasks();
+        assertThat(mPrepared).containsExactly("a");
+        bind(0);
+        assertThat(mPrepared).containsExactly("a");
+        assertThat(mBound).containsExactly("minimal a", "A");
+    }
+
+    @Test
+    public void minimalBindPreparesItemsAhead() {
+        mAdapter.setPrepareExecutor(new QueueExecutor());
+        mAdapter.setPrepareDistance(2);
+        bindMinimal(0);
+        runTasks();
+        assertThat(mPrepared).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void minimalBindWithoutExecutorDoesNotPrepare() {
+        assertThat(bindMinimal(0)).isTrue();
+        assertThat(mPrepared).isEmpty();
+        assertThat(mBound).containsExactly("minimal a");
+    }
+
+    @Test
+    public void minimalBindWithLayoutOverride() {
+        useLayoutOverride();
+        assertThat(bindMinimal(0)).isTrue();
+        assertThat(mPrepared).isEmpty();
+        assertThat(mBound).containsExactly("minimal a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePrepareDistanceThrows() {
+        mAdapter.setPrepareDistance(-1);
+    }
+
+    /** Binds through {@link MapperBuilder}, which wraps binders whose layout is overridden. */
+    private void useLayoutOverride() {
+        Mapper mapper = new MapperBuilder()
+                .bind(String.class, android.R.layout.simple_list_item_1, mBinder)
+                .build();
+        mAdapter = new ListBindingAdapter<>(mapper, Arrays.asList("a", "b", "c", "d", "e"));
+    }
+
+    private void bind(final int position) {
+        mAdapter.bindView(mView, new Holder() {
+            @Override
+            public int getPosition() {
+                return position;
+            }
+        });
+    }
+
+    private void bindWithPayload(final int position) {
+        mAdapter.bindView(mView, new Holder() {
+            @Override
+            public int getPosition() {
+                return position;
+            }
+        }, Collections.<Object>singletonList("payload"));
+    }
+
+    private boolean bindMinimal(final int position) {
+        return mAdapter.bindViewMinimal(mView, new Holder() {
+            @Override
+            public int getPosition() {
+                return position;
+            }
+        });
+    }
+
+    private void runTasks() {
+        while (!mTasks.isEmpty()) {
+            mTasks.remove(0).run();
+        }
+    }
+
+    private final class QueueExecutor implements Executor {
+        @Override
+        public void execute(@NonNull Runnable command) {
+            mTasks.add(command);
+        }
+    }
+}
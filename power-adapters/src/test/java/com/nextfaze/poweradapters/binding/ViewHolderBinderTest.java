@@ -0,0 +1,102 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.view.View;
+import android.view.ViewGroup;
+import com.nextfaze.poweradapters.BuildConfig;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.ViewFactory;
+import lombok.NonNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ViewHolderBinderTest {
+
+    private static final ViewFactory VIEW_FACTORY = new ViewFactory() {
+        @NonNull
+        @Override
+        public View create(@NonNull ViewGroup parent) {
+            return new View(parent.getContext());
+        }
+    };
+
+    private static final Holder HOLDER = new Holder() {
+        @Override
+        public int getPosition() {
+            return 0;
+        }
+    };
+
+    private final List<String> mBinds = new ArrayList<>();
+
+    private View mView;
+
+    @Before
+    public void setUp() throws Exception {
+        mView = new View(RuntimeEnvironment.application);
+    }
+
+    @Test
+    public void minimalBindOnlyBindsMinimallyWhenSupported() {
+        ViewHolderBinder<String, ViewHolder> binder = new TestBinder() {
+            @Override
+            protected boolean bindViewHolderMinimal(@NonNull String s,
+                                                    @NonNull ViewHolder viewHolder,
+                                                    @NonNull Holder holder) {
+                mBinds.add("minimal " + s);
+                return true;
+            }
+        };
+        assertThat(binder.bindViewMinimal("a", mView, HOLDER)).isTrue();
+        assertThat(mBinds).containsExactly("minimal a");
+    }
+
+    @Test
+    public void minimalBindFallsBackToFullBind() {
+        assertThat(new TestBinder().bindViewMinimal("a", mView, HOLDER)).isFalse();
+        assertThat(mBinds).containsExactly("full a");
+    }
+
+    @Test
+    public void otherPayloadsPartiallyBind() {
+        new TestBinder().bindView("a", mView, HOLDER, Collections.<Object>singletonList("payload"));
+        assertThat(mBinds).containsExactly("partial a");
+    }
+
+    private class TestBinder extends ViewHolderBinder<String, ViewHolder> {
+
+        TestBinder() {
+            super(VIEW_FACTORY);
+        }
+
+        @NonNull
+        @Override
+        protected ViewHolder newViewHolder(@NonNull View v) {
+            return new ViewHolder(v);
+        }
+
+        @Override
+        protected void bindViewHolder(@NonNull String s, @NonNull ViewHolder viewHolder, @NonNull Holder holder) {
+            mBinds.add("full " + s);
+        }
+
+        @Override
+        protected void bindViewHolder(@NonNull String s,
+                                      @NonNull ViewHolder viewHolder,
+                                      @NonNull Holder holder,
+                                      @NonNull List<Object> payloads) {
+            mBinds.add("partial " + s);
+        }
+    }
+}
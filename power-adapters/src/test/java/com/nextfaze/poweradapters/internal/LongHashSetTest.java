@@ -0,0 +1,122 @@
+package com.nextfaze.poweradapters.internal;
+
+import com.nextfaze.poweradapters.BuildConfig;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class LongHashSetTest {
+
+    @Test
+    public void addReturnsWhetherAdded() {
+        LongHashSet set = new LongHashSet();
+        assertThat(set.add(5)).isTrue();
+        assertThat(set.add(5)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void containsZeroAndNegativeValues() {
+        LongHashSet set = new LongHashSet();
+        set.add(0);
+        set.add(-1);
+        set.add(Long.MIN_VALUE);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(-1)).isTrue();
+        assertThat(set.contains(Long.MIN_VALUE)).isTrue();
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void removeReturnsWhetherRemoved() {
+        LongHashSet set = new LongHashSet();
+        set.add(0);
+        set.add(7);
+        assertThat(set.remove(7)).isTrue();
+        assertThat(set.remove(7)).isFalse();
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void clearRemovesAll() {
+        LongHashSet set = new LongHashSet();
+        for (long i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        set.clear();
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(50)).isFalse();
+    }
+
+    @Test
+    public void randomOperationsMatchHashSet() {
+        Random random = new Random(1);
+        LongHashSet set = new LongHashSet();
+        HashSet<Long> expected = new HashSet<>();
+        for (int i = 0; i < 20000; i++) {
+            long value = random.nextInt(2000) - 1000;
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = -1000; value < 1000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+
+    @Test
+    public void toSortedArrayReturnsAscendingElements() {
+        LongHashSet set = new LongHashSet();
+        set.add(30);
+        set.add(-2);
+        set.add(0);
+        set.add(7);
+        assertThat(Arrays.toString(set.toSortedArray())).isEqualTo("[-2, 0, 7, 30]");
+    }
+
+    @Test
+    public void compressedBytesRoundTrip() {
+        LongHashSet set = new LongHashSet();
+        set.add(Long.MIN_VALUE);
+        set.add(-1);
+        set.add(0);
+        set.add(1);
+        set.add(Long.MAX_VALUE);
+        LongHashSet restored = LongHashSet.fromCompressedBytes(set.toCompressedBytes());
+        assertThat(Arrays.toString(restored.toSortedArray())).isEqualTo(Arrays.toString(set.toSortedArray()));
+    }
+
+    @Test
+    public void compressedBytesOfSequentialIdsAreCompact() {
+        LongHashSet set = new LongHashSet();
+        for (long i = 0; i < 50000; i++) {
+            set.add(1000 + i * 3);
+        }
+        byte[] bytes = set.toCompressedBytes();
+        // Count, first element, then a single byte per subsequent delta.
+        assertThat(bytes.length).isEqualTo(3 + 2 + 49999);
+        assertThat(LongHashSet.fromCompressedBytes(bytes).size()).isEqualTo(50000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromTruncatedCompressedBytesThrows() {
+        LongHashSet set = new LongHashSet();
+        set.add(1000);
+        byte[] bytes = set.toCompressedBytes();
+        LongHashSet.fromCompressedBytes(Arrays.copyOf(bytes, bytes.length - 1));
+    }
+}
@@ -0,0 +1,151 @@
+package com.nextfaze.poweradapters.internal;
+
+import com.nextfaze.poweradapters.BuildConfig;
+import com.nextfaze.poweradapters.DataObserver;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class NotifyingArrayListTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private DataObserver mObserver;
+
+    private NotifyingArrayList<String> mList;
+
+    @Before
+    public void setUp() throws Exception {
+        DataObservable dataObservable = new DataObservable();
+        dataObservable.registerObserver(mObserver);
+        mList = new NotifyingArrayList<>(dataObservable);
+        mList.addAll(asList("a", "b", "c"));
+    }
+
+    @Test
+    public void snapshotContainsCurrentElements() {
+        assertThat(mList.snapshot()).containsExactly("a", "b", "c").inOrder();
+    }
+
+    @Test
+    public void snapshotUnaffectedByMutations() {
+        List<String> snapshot = mList.snapshot();
+        mList.add("d");
+        mList.set(0, "z");
+        mList.remove(1, 1);
+        mList.move(0, 1, 1);
+        assertThat(snapshot).containsExactly("a", "b", "c").inOrder();
+        assertThat(mList).containsExactly("c", "z", "d").inOrder();
+    }
+
+    @Test
+    public void snapshotUnaffectedByClear() {
+        List<String> snapshot = mList.snapshot();
+        mList.clear();
+        assertThat(snapshot).containsExactly("a", "b", "c").inOrder();
+        assertThat(mList).isEmpty();
+        verify(mObserver).onItemRangeRemoved(0, 3);
+    }
+
+    @Test
+    public void snapshotUnaffectedByReplaceAll() {
+        List<String> snapshot = mList.snapshot();
+        mList.replaceAll(asList("x", "y"));
+        assertThat(snapshot).containsExactly("a", "b", "c").inOrder();
+        assertThat(mList).containsExactly("x", "y").inOrder();
+    }
+
+    @Test
+    public void snapshotReusedUntilMutation() {
+        List<String> snapshot = mList.snapshot();
+        assertThat(mList.snapshot()).isSameAs(snapshot);
+        mList.add("d");
+        assertThat(mList.snapshot()).isNotSameAs(snapshot);
+        assertThat(mList.snapshot()).containsExactly("a", "b", "c", "d").inOrder();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void snapshotImmutable() {
+        mList.snapshot().add("d");
+    }
+
+    @Test
+    public void adaptiveNotificationsFineWithinLimits() {
+        ShadowLooper.pauseMainLooper();
+        mList.setNotificationType(NotificationType.ADAPTIVE);
+        mList.setAdaptiveLimits(2, 10);
+        mList.set(0, "x");
+        mList.set(2, "z");
+        verify(mObserver).onItemRangeChanged(0, 1);
+        verify(mObserver).onItemRangeChanged(2, 1);
+        verify(mObserver, never()).onChanged();
+        assertThat(mList.getDegradedTurnCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void adaptiveNotificationsCoarseForRestOfTurnOnceNotificationLimitExceeded() {
+        ShadowLooper.pauseMainLooper();
+        mList.setNotificationType(NotificationType.ADAPTIVE);
+        mList.setAdaptiveLimits(2, 10);
+        mList.set(0, "x");
+        mList.set(1, "y");
+        mList.set(2, "z");
+        mList.remove(0);
+        verify(mObserver).onItemRangeChanged(0, 1);
+        verify(mObserver).onItemRangeChanged(1, 1);
+        verify(mObserver, never()).onItemRangeChanged(2, 1);
+        verify(mObserver, never()).onItemRangeRemoved(0, 1);
+        verify(mObserver, times(2)).onChanged();
+        assertThat(mList.getDegradedTurnCount()).isEqualTo(1);
+        assertThat(mList.getCoarseNotificationCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void adaptiveNotificationsCoarseOnceItemLimitExceeded() {
+        ShadowLooper.pauseMainLooper();
+        mList.setNotificationType(NotificationType.ADAPTIVE);
+        mList.setAdaptiveLimits(10, 2);
+        mList.addAll(asList("d", "e", "f"));
+        verify(mObserver, never()).onItemRangeInserted(3, 3);
+        verify(mObserver).onChanged();
+        assertThat(mList.getDegradedTurnCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void adaptiveNotificationsFineAgainInNextTurn() {
+        ShadowLooper.pauseMainLooper();
+        mList.setNotificationType(NotificationType.ADAPTIVE);
+        mList.setAdaptiveLimits(1, 10);
+        mList.set(0, "x");
+        mList.set(1, "y");
+        ShadowLooper.runUiThreadTasks();
+        mList.set(2, "z");
+        verify(mObserver).onItemRangeChanged(2, 1);
+        verify(mObserver).onChanged();
+        assertThat(mList.getDegradedTurnCount()).isEqualTo(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeAdaptiveLimitThrows() {
+        mList.setAdaptiveLimits(-1, 10);
+    }
+}
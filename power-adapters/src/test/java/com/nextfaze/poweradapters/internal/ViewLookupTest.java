@@ -0,0 +1,72 @@
+package com.nextfaze.poweradapters.internal;
+
+import android.view.View;
+import android.widget.FrameLayout;
+import com.nextfaze.poweradapters.BuildConfig;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public final class ViewLookupTest {
+
+    private static final int ID_TITLE = 1;
+    private static final int ID_ICON = 2;
+
+    private final ViewLookup mLookup = new ViewLookup(ID_TITLE, ID_ICON);
+
+    @Test
+    public void findsViewsInOrder() {
+        View title = view(ID_TITLE);
+        View icon = view(ID_ICON);
+        FrameLayout root = frame(frame(icon), title);
+        assertThat(asList(mLookup.find(root))).containsExactly(title, icon).inOrder();
+    }
+
+    @Test
+    public void findsViewsInSecondHierarchyWithSameStructure() {
+        mLookup.find(frame(frame(view(ID_ICON)), view(ID_TITLE)));
+        View title = view(ID_TITLE);
+        View icon = view(ID_ICON);
+        assertThat(asList(mLookup.find(frame(frame(icon), title)))).containsExactly(title, icon).inOrder();
+    }
+
+    @Test
+    public void findsViewsInSecondHierarchyWithDifferentStructure() {
+        mLookup.find(frame(frame(view(ID_ICON)), view(ID_TITLE)));
+        View title = view(ID_TITLE);
+        View icon = view(ID_ICON);
+        assertThat(asList(mLookup.find(frame(title, view(0), icon)))).containsExactly(title, icon).inOrder();
+    }
+
+    @Test
+    public void findsRoot() {
+        View root = view(ID_TITLE);
+        assertThat(asList(new ViewLookup(ID_TITLE).find(root))).containsExactly(root);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void missingViewThrows() {
+        mLookup.find(frame(view(ID_TITLE)));
+    }
+
+    private static View view(int id) {
+        View v = new View(RuntimeEnvironment.application);
+        v.setId(id);
+        return v;
+    }
+
+    private static FrameLayout frame(View... children) {
+        FrameLayout frameLayout = new FrameLayout(RuntimeEnvironment.application);
+        for (View child : children) {
+            frameLayout.addView(child);
+        }
+        return frameLayout;
+    }
+}